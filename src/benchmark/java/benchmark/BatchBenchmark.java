@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import benchmark.fakeserver.FakeMysqlServer;
+import benchmark.fakeserver.FakeResult;
+
+/**
+ * Measures {@link java.sql.Statement#executeBatch()} of client-side and server-side prepared statements, sent one statement per round trip, rewritten into
+ * multi-values statements or pipelined.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BatchBenchmark {
+    @Param({ "useServerPrepStmts=false", "useServerPrepStmts=false&rewriteBatchedStatements=true", "useServerPrepStmts=true",
+            "useServerPrepStmts=true&pipelineBatchedStatements=true&continueBatchOnError=true&jdbcCompliantTruncation=false" })
+    public String connectionProperties;
+
+    @Param({ "100", "1000" })
+    public int batchSize;
+
+    private FakeMysqlServer server;
+    private Connection connection;
+    private PreparedStatement statement;
+
+    @Setup
+    public void setUp() throws Exception {
+        this.server = new FakeMysqlServer().respondToPrefix("INSERT", FakeResult.ok(1, 0));
+
+        Class.forName("com.mysql.cj.jdbc.Driver");
+        this.connection = DriverManager.getConnection(this.server.getUrl() + "&" + this.connectionProperties);
+        this.statement = this.connection.prepareStatement("INSERT INTO bench_rows (id, name, score) VALUES (?, ?, ?)");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        this.connection.close();
+        this.server.close();
+    }
+
+    @Benchmark
+    public long[] executeBatch() throws SQLException {
+        for (int i = 0; i < this.batchSize; i++) {
+            this.statement.setLong(1, i);
+            this.statement.setString(2, "name-" + i);
+            this.statement.setDouble(3, i * 0.25);
+            this.statement.addBatch();
+        }
+        return this.statement.executeLargeBatch();
+    }
+}
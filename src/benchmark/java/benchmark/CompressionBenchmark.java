@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package benchmark;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mysql.cj.protocol.a.CompressedPacketSender;
+import com.mysql.cj.protocol.a.PacketCompressor;
+import com.mysql.cj.protocol.a.ZlibPacketCompressor;
+import com.mysql.cj.protocol.a.ZstdPacketCompressor;
+
+/**
+ * Compares sending packets with the zlib and the zstd compression of the classic protocol. Running the "zstd" cases requires the classes named by the
+ * 'zstdStreams' parameter, by default those of zstd-jni, in the benchmark class path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CompressionBenchmark {
+    @Param({ "zlib", "zstd" })
+    public String algorithm;
+
+    /** Same format as the connection property 'zstdCompressionStreams'. */
+    @Param({ "com.github.luben.zstd.ZstdInputStream:com.github.luben.zstd.ZstdOutputStream" })
+    public String zstdStreams;
+
+    @Param({ "3" })
+    public int zstdLevel;
+
+    @Param({ "1024", "65536", "1048576" })
+    public int packetSize;
+
+    private CompressedPacketSender sender;
+    private byte[] packet;
+
+    @Setup
+    public void setUp() {
+        PacketCompressor compressor;
+        if ("zstd".equals(this.algorithm)) {
+            String[] streamClasses = this.zstdStreams.split(":");
+            compressor = new ZstdPacketCompressor(streamClasses[0], streamClasses[1], this.zstdLevel);
+        } else {
+            compressor = new ZlibPacketCompressor();
+        }
+        this.sender = new CompressedPacketSender(new BufferedOutputStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        }, 16384), compressor);
+
+        // a multi-row insert, compressible like typical query traffic
+        StringBuilder sql = new StringBuilder("INSERT INTO bench_rows (id, name, score, created) VALUES ");
+        for (int i = 0; sql.length() < this.packetSize; i++) {
+            sql.append(i == 0 ? "" : ",").append('(').append(1_000_000 + i).append(",'name-").append(i).append("',").append(i * 0.25)
+                    .append(",'2022-06-01 12:30:15')");
+        }
+        this.packet = new byte[this.packetSize];
+        this.packet[0] = 0x03; // COM_QUERY
+        byte[] sqlBytes = sql.toString().getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(sqlBytes, 0, this.packet, 1, this.packetSize - 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.sender.stop();
+    }
+
+    @Benchmark
+    public void send() throws IOException {
+        this.sender.send(this.packet, this.packet.length, (byte) 0);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import benchmark.fakeserver.FakeMysqlServer;
+import benchmark.fakeserver.FakeResult;
+import benchmark.fakeserver.FakeResult.Column;
+import benchmark.fakeserver.FakeResult.ColumnType;
+
+/**
+ * Measures reading a result set through a server-side cursor ("useCursorFetch"), with and without "prefetchCursorRows", from a server with a simulated round
+ * trip time. Each row is given some processing work, which the round trips of the prefetched blocks can overlap with.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CursorFetchBenchmark {
+    private static final String QUERY = "SELECT id, name FROM bench_rows";
+    private static final int ROWS = 10000;
+    private static final int FETCH_SIZE = 100;
+
+    @Param({ "false", "true" })
+    public boolean prefetchCursorRows;
+
+    /** Simulated round trip time, in microseconds. */
+    @Param({ "0", "500" })
+    public int roundTripMicros;
+
+    /** Work done by the application for each row, in {@link Blackhole#consumeCPU(long)} tokens. */
+    @Param({ "0", "1000" })
+    public int workPerRow;
+
+    private FakeMysqlServer server;
+    private Connection connection;
+    private PreparedStatement statement;
+
+    @Setup
+    public void setUp() throws Exception {
+        Object[][] data = new Object[ROWS][];
+        for (int i = 0; i < ROWS; i++) {
+            data[i] = new Object[] { 1_000_000L + i, "name-" + i };
+        }
+        this.server = new FakeMysqlServer()
+                .respond(QUERY, FakeResult.resultSet(new Column[] { new Column("id", ColumnType.BIGINT), new Column("name", ColumnType.VARCHAR) }, data))
+                .setResponseDelay(this.roundTripMicros, TimeUnit.MICROSECONDS);
+
+        Class.forName("com.mysql.cj.jdbc.Driver");
+        this.connection = DriverManager.getConnection(this.server.getUrl() + "&useCursorFetch=true&prefetchCursorRows=" + this.prefetchCursorRows);
+        this.statement = this.connection.prepareStatement(QUERY);
+        this.statement.setFetchSize(FETCH_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        this.connection.close();
+        this.server.close();
+    }
+
+    @Benchmark
+    public void readAllRows(Blackhole bh) throws SQLException {
+        try (ResultSet rs = this.statement.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(rs.getLong(1));
+                bh.consume(rs.getString(2));
+                Blackhole.consumeCPU(this.workPerRow);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package benchmark;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.mysql.cj.xdevapi.DbDoc;
+import com.mysql.cj.xdevapi.JsonParser;
+
+/**
+ * Measures creating a {@link DbDoc} from the bytes of a 40 fields document and reading some of its fields, decoding the bytes to a string and parsing it
+ * with {@link JsonParser#parseDoc(StringReader)} or parsing the bytes lazily with {@link JsonParser#parseDoc(byte[], int, int)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DbDocBenchmark {
+    private static final int FIELD_COUNT = 40;
+
+    @Param({ "3", "40" })
+    public int fieldsRead;
+
+    private byte[] document;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        StringBuilder sb = new StringBuilder("{");
+        this.keys = new String[FIELD_COUNT];
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            this.keys[i] = "field_" + i;
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append('"').append(this.keys[i]).append("\": ");
+            switch (i % 4) {
+                case 0:
+                    sb.append('"').append("value of field ").append(i).append(" with some text, élan").append('"');
+                    break;
+                case 1:
+                    sb.append(i * 1234.5);
+                    break;
+                case 2:
+                    sb.append("{\"nested\": [1, 2, 3, \"four\"], \"flag\": true}");
+                    break;
+                default:
+                    sb.append(i % 2 == 0 ? "null" : "false");
+            }
+        }
+        this.document = sb.append('}').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void parseString(Blackhole bh) throws IOException {
+        readFields(JsonParser.parseDoc(new StringReader(new String(this.document, StandardCharsets.UTF_8))), bh);
+    }
+
+    @Benchmark
+    public void parseBytes(Blackhole bh) {
+        readFields(JsonParser.parseDoc(this.document, 0, this.document.length), bh);
+    }
+
+    private void readFields(DbDoc doc, Blackhole bh) {
+        for (int i = 0; i < this.fieldsRead; i++) {
+            bh.consume(doc.get(this.keys[i]));
+        }
+    }
+}
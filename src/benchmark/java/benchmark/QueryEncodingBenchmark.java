@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mysql.cj.protocol.a.NativeConstants.StringSelfDataType;
+import com.mysql.cj.protocol.a.NativePacketPayload;
+import com.mysql.cj.util.StringUtils;
+
+/**
+ * Compares the two ways NativeProtocol writes query text into a COM_QUERY packet: encoding it into an intermediate byte array first, as done for
+ * non-UTF-8 connection charsets, or encoding UTF-8 straight into the packet.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class QueryEncodingBenchmark {
+    @Param({ "100", "10000", "200000" })
+    public int queryLength;
+
+    /** Whether the query text has non-ASCII characters. */
+    @Param({ "false", "true" })
+    public boolean multiByte;
+
+    private String query;
+    private NativePacketPayload packet;
+
+    @Setup
+    public void setUp() {
+        StringBuilder sql = new StringBuilder("INSERT INTO bench_rows (id, name) VALUES ");
+        for (int i = 0; sql.length() < this.queryLength; i++) {
+            sql.append(i == 0 ? "" : ",").append('(').append(i).append(this.multiByte ? ",'näme-€-" : ",'name-").append(i).append("')");
+        }
+        this.query = sql.substring(0, this.queryLength);
+        this.packet = new NativePacketPayload(this.queryLength * 4 + 1);
+    }
+
+    @Benchmark
+    public NativePacketPayload encodeThenCopy() {
+        this.packet.setPosition(0);
+        byte[] queryBytes = StringUtils.getBytes(this.query, "UTF-8");
+        this.packet.writeBytes(StringSelfDataType.STRING_EOF, queryBytes);
+        return this.packet;
+    }
+
+    @Benchmark
+    public NativePacketPayload encodeIntoPacket() {
+        this.packet.setPosition(0);
+        this.packet.writeUtf8String(this.query);
+        return this.packet;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import benchmark.fakeserver.FakeMysqlServer;
+import benchmark.fakeserver.FakeResult;
+import benchmark.fakeserver.FakeResult.Column;
+import benchmark.fakeserver.FakeResult.ColumnType;
+
+/**
+ * Measures reading result sets end to end, from the socket through NativeProtocol and the text or binary result set readers to the JDBC getters.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ResultSetBenchmark {
+    private static final String QUERY = "SELECT id, name, score, created FROM bench_rows";
+
+    /** "text" reads rows of COM_QUERY responses, "binary" rows of COM_STMT_EXECUTE responses. */
+    @Param({ "text", "binary" })
+    public String protocol;
+
+    @Param({ "10", "1000" })
+    public int rows;
+
+    private FakeMysqlServer server;
+    private Connection connection;
+    private PreparedStatement statement;
+
+    @Setup
+    public void setUp() throws Exception {
+        Object[][] data = new Object[this.rows][];
+        for (int i = 0; i < this.rows; i++) {
+            data[i] = new Object[] { 1_000_000L + i, "name-" + i, i * 0.25, LocalDateTime.of(2022, 6, 1, 12, 30, 15).plusSeconds(i) };
+        }
+        this.server = new FakeMysqlServer().respond(QUERY, FakeResult.resultSet(new Column[] { new Column("id", ColumnType.BIGINT),
+                new Column("name", ColumnType.VARCHAR), new Column("score", ColumnType.DOUBLE), new Column("created", ColumnType.DATETIME) }, data));
+
+        Class.forName("com.mysql.cj.jdbc.Driver");
+        this.connection = DriverManager.getConnection(this.server.getUrl() + "&useServerPrepStmts=" + "binary".equals(this.protocol));
+        this.statement = this.connection.prepareStatement(QUERY);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        this.connection.close();
+        this.server.close();
+    }
+
+    @Benchmark
+    public void readAllColumns(Blackhole bh) throws SQLException {
+        try (ResultSet rs = this.statement.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(rs.getLong(1));
+                bh.consume(rs.getString(2));
+                bh.consume(rs.getDouble(3));
+                bh.consume(rs.getTimestamp(4));
+            }
+        }
+    }
+
+    @Benchmark
+    public void readPrimitiveColumns(Blackhole bh) throws SQLException {
+        try (ResultSet rs = this.statement.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(rs.getLong(1));
+                bh.consume(rs.getDouble(3));
+            }
+        }
+    }
+}
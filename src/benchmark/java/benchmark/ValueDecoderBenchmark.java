@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.protobuf.CodedOutputStream;
+import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.protocol.ValueDecoder;
+import com.mysql.cj.protocol.a.MysqlTextValueDecoder;
+import com.mysql.cj.protocol.x.XProtocolDecoder;
+import com.mysql.cj.result.DoubleValueFactory;
+import com.mysql.cj.result.LocalDateTimeValueFactory;
+import com.mysql.cj.result.LongValueFactory;
+
+/**
+ * Measures decoding single column values of the classic protocol text encoding ({@link MysqlTextValueDecoder}) and of the X Protocol encoding
+ * ({@link XProtocolDecoder}) into Java values.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ValueDecoderBenchmark {
+    private static final long LONG_VALUE = 9_876_543_210L;
+    private static final double DOUBLE_VALUE = 12345.6789;
+    private static final LocalDateTime DATETIME_VALUE = LocalDateTime.of(2022, 6, 1, 12, 30, 15);
+
+    private final ValueDecoder textDecoder = new MysqlTextValueDecoder();
+    private final ValueDecoder xDecoder = XProtocolDecoder.instance;
+
+    private LongValueFactory longFactory;
+    private DoubleValueFactory doubleFactory;
+    private LocalDateTimeValueFactory localDateTimeFactory;
+
+    private byte[] textLong;
+    private byte[] textDouble;
+    private byte[] textDatetime;
+    private byte[] xLong;
+    private byte[] xDouble;
+    private byte[] xDatetime;
+
+    @Setup
+    public void setUp() throws IOException {
+        DefaultPropertySet propertySet = new DefaultPropertySet();
+        this.longFactory = new LongValueFactory(propertySet);
+        this.doubleFactory = new DoubleValueFactory(propertySet);
+        this.localDateTimeFactory = new LocalDateTimeValueFactory(propertySet);
+
+        this.textLong = String.valueOf(LONG_VALUE).getBytes();
+        this.textDouble = String.valueOf(DOUBLE_VALUE).getBytes();
+        this.textDatetime = "2022-06-01 12:30:15".getBytes();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        out.writeSInt64NoTag(LONG_VALUE);
+        out.flush();
+        this.xLong = bytes.toByteArray();
+
+        bytes.reset();
+        out.writeDoubleNoTag(DOUBLE_VALUE);
+        out.flush();
+        this.xDouble = bytes.toByteArray();
+
+        bytes.reset();
+        out.writeUInt64NoTag(DATETIME_VALUE.getYear());
+        out.writeUInt64NoTag(DATETIME_VALUE.getMonthValue());
+        out.writeUInt64NoTag(DATETIME_VALUE.getDayOfMonth());
+        out.writeUInt64NoTag(DATETIME_VALUE.getHour());
+        out.writeUInt64NoTag(DATETIME_VALUE.getMinute());
+        out.writeUInt64NoTag(DATETIME_VALUE.getSecond());
+        out.flush();
+        this.xDatetime = bytes.toByteArray();
+    }
+
+    @Benchmark
+    public Long textLong() {
+        return this.textDecoder.decodeInt8(this.textLong, 0, this.textLong.length, this.longFactory);
+    }
+
+    @Benchmark
+    public Long xLong() {
+        return this.xDecoder.decodeInt8(this.xLong, 0, this.xLong.length, this.longFactory);
+    }
+
+    @Benchmark
+    public Double textDouble() {
+        return this.textDecoder.decodeDouble(this.textDouble, 0, this.textDouble.length, this.doubleFactory);
+    }
+
+    @Benchmark
+    public Double xDouble() {
+        return this.xDecoder.decodeDouble(this.xDouble, 0, this.xDouble.length, this.doubleFactory);
+    }
+
+    @Benchmark
+    public LocalDateTime textDatetime() {
+        return this.textDecoder.decodeTimestamp(this.textDatetime, 0, this.textDatetime.length, 0, this.localDateTimeFactory);
+    }
+
+    @Benchmark
+    public LocalDateTime xDatetime() {
+        return this.xDecoder.decodeTimestamp(this.xDatetime, 0, this.xDatetime.length, 0, this.localDateTimeFactory);
+    }
+}
@@ -0,0 +1,456 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package benchmark.fakeserver;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import benchmark.fakeserver.FakeResult.Column;
+import benchmark.fakeserver.FakeResult.ColumnType;
+
+/**
+ * An in-process stand-in for a MySQL server, speaking just enough of the classic protocol for Connector/J to connect and run statements, so that the
+ * driver's own code paths can be benchmarked without a database.
+ * 
+ * The server accepts any user and password, answers the queries Connector/J issues while connecting, and replies to other statements with the
+ * {@link FakeResult}s registered for them, matched by exact SQL text first and by SQL prefix next. Both text protocol queries and server-side prepared
+ * statements, with or without cursors, are supported. A response delay can be set to simulate the round trip time of a remote server.
+ */
+public class FakeMysqlServer implements Closeable {
+    static final int SERVER_STATUS_AUTOCOMMIT = 0x0002;
+    static final int SERVER_STATUS_CURSOR_EXISTS = 0x0040;
+    static final int SERVER_STATUS_LAST_ROW_SENT = 0x0080;
+
+    private static final int COM_QUIT = 0x01;
+    private static final int COM_INIT_DB = 0x02;
+    private static final int COM_QUERY = 0x03;
+    private static final int COM_PING = 0x0e;
+    private static final int COM_STMT_PREPARE = 0x16;
+    private static final int COM_STMT_EXECUTE = 0x17;
+    private static final int COM_STMT_SEND_LONG_DATA = 0x18;
+    private static final int COM_STMT_CLOSE = 0x19;
+    private static final int COM_STMT_RESET = 0x1a;
+    private static final int COM_SET_OPTION = 0x1b;
+    private static final int COM_STMT_FETCH = 0x1c;
+    private static final int COM_RESET_CONNECTION = 0x1f;
+
+    private static final int CURSOR_TYPE_READ_ONLY = 0x01;
+
+    private static final int CAPABILITIES = 0x00000001 /* CLIENT_LONG_PASSWORD */ | 0x00000002 /* CLIENT_FOUND_ROWS */ | 0x00000004 /* CLIENT_LONG_FLAG */
+            | 0x00000008 /* CLIENT_CONNECT_WITH_DB */ | 0x00000200 /* CLIENT_PROTOCOL_41 */ | 0x00002000 /* CLIENT_TRANSACTIONS */
+            | 0x00008000 /* CLIENT_SECURE_CONNECTION */ | 0x00010000 /* CLIENT_MULTI_STATEMENTS */ | 0x00020000 /* CLIENT_MULTI_RESULTS */
+            | 0x00040000 /* CLIENT_PS_MULTI_RESULTS */ | 0x00080000 /* CLIENT_PLUGIN_AUTH */ | 0x00200000 /* CLIENT_PLUGIN_AUTH_LENENC_CLIENT_DATA */;
+
+    private static final Pattern LEADING_COMMENTS = Pattern.compile("^(\\s*/\\*.*?\\*/)*\\s*", Pattern.DOTALL);
+    private static final Pattern SYSTEM_VARIABLE = Pattern.compile("@@(?:session\\.|global\\.)?(\\w+)(?:\\s+AS\\s+(\\w+))?", Pattern.CASE_INSENSITIVE);
+
+    private static final Map<String, String> SYSTEM_VARIABLES = new HashMap<>();
+    static {
+        SYSTEM_VARIABLES.put("auto_increment_increment", "1");
+        SYSTEM_VARIABLES.put("character_set_client", "utf8mb4");
+        SYSTEM_VARIABLES.put("character_set_connection", "utf8mb4");
+        SYSTEM_VARIABLES.put("character_set_server", "utf8mb4");
+        SYSTEM_VARIABLES.put("collation_server", "utf8mb4_0900_ai_ci");
+        SYSTEM_VARIABLES.put("collation_connection", "utf8mb4_0900_ai_ci");
+        SYSTEM_VARIABLES.put("init_connect", "");
+        SYSTEM_VARIABLES.put("interactive_timeout", "28800");
+        SYSTEM_VARIABLES.put("license", "GPL");
+        SYSTEM_VARIABLES.put("lower_case_table_names", "0");
+        SYSTEM_VARIABLES.put("max_allowed_packet", "67108864");
+        SYSTEM_VARIABLES.put("net_write_timeout", "60");
+        SYSTEM_VARIABLES.put("performance_schema", "0");
+        SYSTEM_VARIABLES.put("sql_mode", "ONLY_FULL_GROUP_BY,STRICT_TRANS_TABLES,NO_ZERO_IN_DATE,NO_ZERO_DATE,ERROR_FOR_DIVISION_BY_ZERO,NO_ENGINE_SUBSTITUTION");
+        SYSTEM_VARIABLES.put("system_time_zone", "UTC");
+        SYSTEM_VARIABLES.put("time_zone", "SYSTEM");
+        SYSTEM_VARIABLES.put("transaction_isolation", "REPEATABLE-READ");
+        SYSTEM_VARIABLES.put("tx_isolation", "REPEATABLE-READ");
+        SYSTEM_VARIABLES.put("wait_timeout", "28800");
+    }
+
+    private final ServerSocket serverSocket;
+    private final Map<String, FakeResult> responsesBySql = new ConcurrentHashMap<>();
+    private final List<Map.Entry<String, FakeResult>> responsesByPrefix = new CopyOnWriteArrayList<>();
+    private final Map<String, FakeResult> generatedResponses = new ConcurrentHashMap<>();
+    private final List<Socket> clients = new CopyOnWriteArrayList<>();
+    private volatile boolean closed = false;
+    private volatile long responseDelayNanos = 0;
+
+    /**
+     * Starts a server listening on an ephemeral port of the loopback interface.
+     * 
+     * @throws IOException
+     *             if the server socket cannot be opened
+     */
+    public FakeMysqlServer() throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::acceptConnections, "FakeMysqlServer-" + getPort());
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public int getPort() {
+        return this.serverSocket.getLocalPort();
+    }
+
+    /**
+     * Returns a connection string for this server, to which connection properties can be appended.
+     * 
+     * @return a JDBC URL
+     */
+    public String getUrl() {
+        return "jdbc:mysql://" + this.serverSocket.getInetAddress().getHostAddress() + ":" + getPort() + "/bench?user=bench&sslMode=DISABLED";
+    }
+
+    /**
+     * Registers the response to a statement.
+     * 
+     * @param sql
+     *            the exact SQL text of the statement
+     * @param result
+     *            the response
+     * @return this server
+     */
+    public FakeMysqlServer respond(String sql, FakeResult result) {
+        this.responsesBySql.put(sql, result);
+        return this;
+    }
+
+    /**
+     * Registers the response to all statements starting with the given text, ignoring case, and that have no response registered by exact SQL text.
+     * 
+     * @param sqlPrefix
+     *            the beginning of the SQL text of the statements
+     * @param result
+     *            the response
+     * @return this server
+     */
+    public FakeMysqlServer respondToPrefix(String sqlPrefix, FakeResult result) {
+        this.responsesByPrefix.add(new AbstractMap.SimpleImmutableEntry<>(sqlPrefix.toUpperCase(Locale.ROOT), result));
+        return this;
+    }
+
+    /**
+     * Delays every response by the given time, measured from the moment the command was read, to simulate the round trip to a remote server.
+     * 
+     * @param delay
+     *            the delay
+     * @param unit
+     *            the unit of the delay
+     * @return this server
+     */
+    public FakeMysqlServer setResponseDelay(long delay, TimeUnit unit) {
+        this.responseDelayNanos = unit.toNanos(delay);
+        return this;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.closed = true;
+        this.serverSocket.close();
+        for (Socket s : this.clients) {
+            s.close();
+        }
+    }
+
+    private void acceptConnections() {
+        while (!this.closed) {
+            try {
+                Socket socket = this.serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                this.clients.add(socket);
+                Thread worker = new Thread(() -> serve(socket), "FakeMysqlServer-" + getPort() + "-" + socket.getPort());
+                worker.setDaemon(true);
+                worker.start();
+            } catch (IOException e) {
+                // closed
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (Socket s = socket) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream(), 65536));
+            OutputStream out = new BufferedOutputStream(s.getOutputStream(), 65536);
+            Map<Long, String> statements = new HashMap<>();
+            Map<Long, int[]> cursorPositions = new HashMap<>();
+            long lastStatementId = 0;
+
+            out.write(handshake());
+            out.flush();
+            readPacket(in); // HandshakeResponse41, any credentials are accepted
+            out.write(new WireBuffer().writeOkPacket(2, 0, 0).toByteArray());
+            out.flush();
+
+            while (true) {
+                byte[] packet = readPacket(in);
+                long receivedAt = System.nanoTime();
+                int command = packet[0] & 0xff;
+                if (this.responseDelayNanos > 0 && command != COM_STMT_CLOSE && command != COM_STMT_SEND_LONG_DATA) {
+                    out.flush();
+                    long wait;
+                    while ((wait = receivedAt + this.responseDelayNanos - System.nanoTime()) > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                }
+                switch (command) {
+                    case COM_QUIT:
+                        return;
+
+                    case COM_QUERY:
+                        out.write(resolve(new String(packet, 1, packet.length - 1, StandardCharsets.UTF_8)).getTextResponse());
+                        break;
+
+                    case COM_STMT_PREPARE:
+                        String sql = new String(packet, 1, packet.length - 1, StandardCharsets.UTF_8);
+                        statements.put(++lastStatementId, sql);
+                        out.write(prepareResponse(lastStatementId, sql));
+                        break;
+
+                    case COM_STMT_EXECUTE:
+                        long statementId = readInt4(packet, 1);
+                        String stmtSql = statements.get(statementId);
+                        if (stmtSql == null) {
+                            out.write(new WireBuffer().writeErrorPacket(1, 1243, "HY000", "Unknown prepared statement handler").toByteArray());
+                        } else if ((packet[5] & CURSOR_TYPE_READ_ONLY) != 0) {
+                            cursorPositions.put(statementId, new int[1]);
+                            out.write(resolve(stmtSql).getCursorResponse());
+                        } else {
+                            out.write(resolve(stmtSql).getBinaryResponse());
+                        }
+                        break;
+
+                    case COM_STMT_FETCH:
+                        long fetchStatementId = readInt4(packet, 1);
+                        int[] position = cursorPositions.get(fetchStatementId);
+                        if (position == null) {
+                            out.write(new WireBuffer().writeErrorPacket(1, 1421, "HY000", "The statement has no open cursor").toByteArray());
+                        } else {
+                            int numRows = (int) readInt4(packet, 5);
+                            out.write(resolve(statements.get(fetchStatementId)).getFetchResponse(position[0], numRows));
+                            position[0] += numRows;
+                        }
+                        break;
+
+                    case COM_STMT_CLOSE:
+                        statements.remove(readInt4(packet, 1));
+                        cursorPositions.remove(readInt4(packet, 1));
+                        continue; // no response
+
+                    case COM_STMT_SEND_LONG_DATA:
+                        continue; // no response
+
+                    case COM_INIT_DB:
+                    case COM_PING:
+                    case COM_STMT_RESET:
+                    case COM_SET_OPTION:
+                    case COM_RESET_CONNECTION:
+                        out.write(new WireBuffer().writeOkPacket(1, 0, 0).toByteArray());
+                        break;
+
+                    default:
+                        out.write(new WireBuffer().writeErrorPacket(1, 1047, "08S01", "Unknown command " + command).toByteArray());
+                }
+
+                // flush only once all pipelined commands already received are answered
+                if (in.available() == 0) {
+                    out.flush();
+                }
+            }
+        } catch (IOException e) {
+            // client went away
+        } finally {
+            this.clients.remove(socket);
+        }
+    }
+
+    private static long readInt4(byte[] packet, int offset) {
+        return (packet[offset] & 0xffL) | (packet[offset + 1] & 0xffL) << 8 | (packet[offset + 2] & 0xffL) << 16 | (packet[offset + 3] & 0xffL) << 24;
+    }
+
+    private static byte[] readPacket(DataInputStream in) throws IOException {
+        ByteArrayOutputStream multiPacket = null;
+        while (true) {
+            int b0 = in.read();
+            if (b0 < 0) {
+                throw new EOFException();
+            }
+            int length = b0 | in.readUnsignedByte() << 8 | in.readUnsignedByte() << 16;
+            in.readUnsignedByte(); // sequence id
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            if (length < 0xffffff && multiPacket == null) {
+                return payload;
+            }
+            if (multiPacket == null) {
+                multiPacket = new ByteArrayOutputStream(length * 2);
+            }
+            multiPacket.write(payload);
+            if (length < 0xffffff) {
+                return multiPacket.toByteArray();
+            }
+        }
+    }
+
+    private static byte[] handshake() {
+        WireBuffer buf = new WireBuffer().beginPacket(0);
+        buf.writeInt1(10); // protocol version
+        buf.writeNullTerminatedString("8.0.31-fake");
+        buf.writeInt4(1); // thread id
+        buf.writeBytes("abcdefgh".getBytes(StandardCharsets.US_ASCII)); // auth-plugin-data-part-1
+        buf.writeInt1(0);
+        buf.writeInt2(CAPABILITIES & 0xffff);
+        buf.writeInt1(255); // utf8mb4_0900_ai_ci
+        buf.writeInt2(SERVER_STATUS_AUTOCOMMIT);
+        buf.writeInt2(CAPABILITIES >>> 16);
+        buf.writeInt1(21); // auth-plugin-data length
+        buf.writeBytes(new byte[10]);
+        buf.writeBytes("ijklmnopqrst".getBytes(StandardCharsets.US_ASCII)); // auth-plugin-data-part-2
+        buf.writeInt1(0);
+        buf.writeNullTerminatedString("mysql_native_password");
+        return buf.endPacket().toByteArray();
+    }
+
+    private byte[] prepareResponse(long statementId, String sql) {
+        FakeResult result = resolve(sql);
+        int paramCount = countParameters(sql);
+
+        WireBuffer buf = new WireBuffer().beginPacket(1);
+        buf.writeInt1(0x00);
+        buf.writeInt4(statementId);
+        buf.writeInt2(result.getColumnCount());
+        buf.writeInt2(paramCount);
+        buf.writeInt1(0);
+        buf.writeInt2(0); // warnings
+        buf.endPacket();
+
+        int seq = 2;
+        if (paramCount > 0) {
+            for (int i = 0; i < paramCount; i++) {
+                FakeResult.writeColumnDefinition(buf, seq++, "?", ColumnType.VARCHAR);
+            }
+            buf.writeEofPacket(seq++);
+        }
+        result.writeColumnDefinitions(buf, seq);
+        return buf.toByteArray();
+    }
+
+    private FakeResult resolve(String sql) {
+        FakeResult result = this.responsesBySql.get(sql);
+        if (result != null) {
+            return result;
+        }
+
+        String statement = LEADING_COMMENTS.matcher(sql).replaceFirst("");
+        String upperCaseStatement = statement.toUpperCase(Locale.ROOT);
+        for (Map.Entry<String, FakeResult> e : this.responsesByPrefix) {
+            if (upperCaseStatement.startsWith(e.getKey())) {
+                return e.getValue();
+            }
+        }
+
+        result = this.generatedResponses.get(sql);
+        if (result == null) {
+            result = generateResponse(statement, upperCaseStatement);
+            this.generatedResponses.put(sql, result);
+        }
+        return result;
+    }
+
+    /**
+     * Answers the statements Connector/J issues on its own, such as reading system variables or setting session state.
+     */
+    private static FakeResult generateResponse(String statement, String upperCaseStatement) {
+        if (upperCaseStatement.startsWith("SELECT") && upperCaseStatement.contains("@@")) {
+            List<Column> columns = new ArrayList<>();
+            List<Object> values = new ArrayList<>();
+            Matcher m = SYSTEM_VARIABLE.matcher(statement);
+            while (m.find()) {
+                String variable = m.group(1).toLowerCase(Locale.ROOT);
+                columns.add(new Column(m.group(2) != null ? m.group(2) : m.group(0), ColumnType.VARCHAR));
+                values.add(SYSTEM_VARIABLES.get(variable));
+            }
+            return FakeResult.resultSet(columns.toArray(new Column[0]), new Object[][] { values.toArray() });
+        }
+
+        if (upperCaseStatement.startsWith("SHOW WARNINGS")) {
+            return FakeResult.resultSet(new Column[] { new Column("Level", ColumnType.VARCHAR), new Column("Code", ColumnType.BIGINT),
+                    new Column("Message", ColumnType.VARCHAR) }, new Object[0][]);
+        }
+
+        if (upperCaseStatement.startsWith("SET") || upperCaseStatement.startsWith("USE") || upperCaseStatement.startsWith("COMMIT")
+                || upperCaseStatement.startsWith("ROLLBACK") || upperCaseStatement.startsWith("START") || upperCaseStatement.startsWith("BEGIN")) {
+            return FakeResult.ok(0, 0);
+        }
+
+        return FakeResult.capture(new WireBuffer().writeErrorPacket(1, 1235, "42000", "No fake response registered for: " + statement).toByteArray());
+    }
+
+    private static int countParameters(String sql) {
+        int count = 0;
+        char quote = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (quote != 0) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"' || c == '`') {
+                quote = c;
+            } else if (c == '?') {
+                count++;
+            }
+        }
+        return count;
+    }
+}
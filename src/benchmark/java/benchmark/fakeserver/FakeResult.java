@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package benchmark.fakeserver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A response of {@link FakeMysqlServer}: an OK packet, a result set, or a recorded capture that is replayed verbatim.
+ * 
+ * Result sets are described by their columns and rows and are encoded, once, both for the text protocol (COM_QUERY) and for the binary protocol
+ * (COM_STMT_EXECUTE). Supported column values are {@link Long}, {@link String}, {@link Double}, {@link LocalDateTime} and null.
+ */
+public final class FakeResult {
+    /**
+     * Column types supported in result sets built by {@link FakeResult#resultSet(Column[], Object[][])}.
+     */
+    public enum ColumnType {
+        BIGINT(0x08, 63, 20, 0x80, 0), VARCHAR(0xfd, 255, 1020, 0, 0), DOUBLE(0x05, 63, 22, 0x80, 31), DATETIME(0x0c, 63, 19, 0x80, 0);
+
+        final int mysqlType;
+        final int collationIndex;
+        final int length;
+        final int flags;
+        final int decimals;
+
+        private ColumnType(int mysqlType, int collationIndex, int length, int flags, int decimals) {
+            this.mysqlType = mysqlType;
+            this.collationIndex = collationIndex;
+            this.length = length;
+            this.flags = flags;
+            this.decimals = decimals;
+        }
+    }
+
+    /**
+     * A result set column.
+     */
+    public static final class Column {
+        final String name;
+        final ColumnType type;
+
+        public Column(String name, ColumnType type) {
+            this.name = name;
+            this.type = type;
+        }
+    }
+
+    private static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Column[] columns;
+    private final byte[] textResponse;
+    private final byte[] binaryResponse;
+    private final List<byte[]> binaryRows;
+
+    private FakeResult(Column[] columns, byte[] textResponse, byte[] binaryResponse, List<byte[]> binaryRows) {
+        this.columns = columns;
+        this.textResponse = textResponse;
+        this.binaryResponse = binaryResponse;
+        this.binaryRows = binaryRows;
+    }
+
+    /**
+     * Creates an OK response.
+     * 
+     * @param affectedRows
+     *            the affected rows count
+     * @param lastInsertId
+     *            the last insert id
+     * @return the response
+     */
+    public static FakeResult ok(long affectedRows, long lastInsertId) {
+        byte[] response = new WireBuffer().writeOkPacket(1, affectedRows, lastInsertId).toByteArray();
+        return new FakeResult(new Column[0], response, response, null);
+    }
+
+    /**
+     * Creates a result set response.
+     * 
+     * @param columns
+     *            the columns
+     * @param rows
+     *            the rows, each one with a value per column
+     * @return the response
+     */
+    public static FakeResult resultSet(Column[] columns, Object[][] rows) {
+        WireBuffer text = new WireBuffer();
+        int seq = writeColumns(text, columns, 1);
+        for (Object[] row : rows) {
+            text.beginPacket(seq++);
+            for (Object value : row) {
+                if (value == null) {
+                    text.writeInt1(0xfb);
+                } else if (value instanceof LocalDateTime) {
+                    text.writeLenencString(((LocalDateTime) value).format(DATETIME_FORMAT));
+                } else {
+                    text.writeLenencString(value.toString());
+                }
+            }
+            text.endPacket();
+        }
+        text.writeEofPacket(seq);
+
+        WireBuffer binary = new WireBuffer();
+        List<byte[]> binaryRows = new ArrayList<>(rows.length);
+        seq = writeColumns(binary, columns, 1);
+        for (Object[] row : rows) {
+            int rowStart = binary.size();
+            binary.beginPacket(seq++);
+            binary.writeInt1(0x00);
+            byte[] nullBitmap = new byte[(columns.length + 7 + 2) / 8];
+            for (int i = 0; i < row.length; i++) {
+                if (row[i] == null) {
+                    nullBitmap[(i + 2) / 8] |= 1 << ((i + 2) % 8);
+                }
+            }
+            binary.writeBytes(nullBitmap);
+            for (int i = 0; i < row.length; i++) {
+                Object value = row[i];
+                if (value == null) {
+                    continue;
+                }
+                switch (columns[i].type) {
+                    case BIGINT:
+                        binary.writeInt8((Long) value);
+                        break;
+                    case DOUBLE:
+                        binary.writeInt8(Double.doubleToLongBits((Double) value));
+                        break;
+                    case DATETIME:
+                        LocalDateTime dt = (LocalDateTime) value;
+                        binary.writeInt1(7).writeInt2(dt.getYear()).writeInt1(dt.getMonthValue()).writeInt1(dt.getDayOfMonth()).writeInt1(dt.getHour())
+                                .writeInt1(dt.getMinute()).writeInt1(dt.getSecond());
+                        break;
+                    default:
+                        binary.writeLenencString(value.toString());
+                }
+            }
+            binary.endPacket();
+            binaryRows.add(binary.copyOfRange(rowStart + 4, binary.size()));
+        }
+        binary.writeEofPacket(seq);
+
+        return new FakeResult(columns, text.toByteArray(), binary.toByteArray(), binaryRows);
+    }
+
+    /**
+     * Creates a response that replays a recorded capture, i.e., the raw bytes a server sent in response to a text protocol command, packet headers
+     * included. Captured responses can only answer COM_QUERY commands.
+     * 
+     * @param wireBytes
+     *            the recorded bytes
+     * @return the response
+     */
+    public static FakeResult capture(byte[] wireBytes) {
+        return new FakeResult(null, wireBytes, null, null);
+    }
+
+    /**
+     * Reads a recorded capture from a file.
+     * 
+     * @param file
+     *            file containing the raw bytes of a response
+     * @return the response
+     * @throws IOException
+     *             if the file cannot be read
+     * @see #capture(byte[])
+     */
+    public static FakeResult capture(Path file) throws IOException {
+        return capture(Files.readAllBytes(file));
+    }
+
+    byte[] getTextResponse() {
+        return this.textResponse;
+    }
+
+    byte[] getBinaryResponse() {
+        if (this.binaryResponse == null) {
+            throw new IllegalStateException("Recorded captures cannot answer binary protocol commands.");
+        }
+        return this.binaryResponse;
+    }
+
+    /**
+     * Returns the response to a COM_STMT_EXECUTE that opens a cursor: the column definitions only, the rows being sent in response to COM_STMT_FETCH.
+     * 
+     * @return the response
+     */
+    byte[] getCursorResponse() {
+        if (this.binaryRows == null || this.columns.length == 0) {
+            return getBinaryResponse();
+        }
+        WireBuffer buf = new WireBuffer();
+        writeColumns(buf, this.columns, 1, FakeMysqlServer.SERVER_STATUS_AUTOCOMMIT | FakeMysqlServer.SERVER_STATUS_CURSOR_EXISTS);
+        return buf.toByteArray();
+    }
+
+    /**
+     * Returns the response to a COM_STMT_FETCH of the cursor opened by {@link #getCursorResponse()}.
+     * 
+     * @param firstRow
+     *            the index of the first row to send
+     * @param numRows
+     *            the number of rows requested
+     * @return the response
+     */
+    byte[] getFetchResponse(int firstRow, int numRows) {
+        WireBuffer buf = new WireBuffer();
+        int seq = 1;
+        int end = Math.min(this.binaryRows.size(), firstRow + numRows);
+        for (int i = firstRow; i < end; i++) {
+            buf.beginPacket(seq++).writeBytes(this.binaryRows.get(i)).endPacket();
+        }
+        int status = FakeMysqlServer.SERVER_STATUS_AUTOCOMMIT | FakeMysqlServer.SERVER_STATUS_CURSOR_EXISTS;
+        buf.writeEofPacket(seq, end == this.binaryRows.size() ? status | FakeMysqlServer.SERVER_STATUS_LAST_ROW_SENT : status);
+        return buf.toByteArray();
+    }
+
+    /**
+     * Writes the column definitions, followed by an EOF packet, as sent in the COM_STMT_PREPARE response.
+     * 
+     * @param buf
+     *            the buffer to write to
+     * @param sequenceId
+     *            the sequence id of the first packet
+     * @return the next sequence id
+     */
+    int writeColumnDefinitions(WireBuffer buf, int sequenceId) {
+        if (this.columns == null || this.columns.length == 0) {
+            return sequenceId;
+        }
+        for (Column c : this.columns) {
+            writeColumnDefinition(buf, sequenceId++, c.name, c.type);
+        }
+        buf.writeEofPacket(sequenceId++);
+        return sequenceId;
+    }
+
+    int getColumnCount() {
+        return this.columns == null ? 0 : this.columns.length;
+    }
+
+    private static int writeColumns(WireBuffer buf, Column[] columns, int sequenceId) {
+        return writeColumns(buf, columns, sequenceId, FakeMysqlServer.SERVER_STATUS_AUTOCOMMIT);
+    }
+
+    private static int writeColumns(WireBuffer buf, Column[] columns, int sequenceId, int statusFlags) {
+        buf.beginPacket(sequenceId++).writeLenencInt(columns.length).endPacket();
+        for (Column c : columns) {
+            writeColumnDefinition(buf, sequenceId++, c.name, c.type);
+        }
+        buf.writeEofPacket(sequenceId++, statusFlags);
+        return sequenceId;
+    }
+
+    static void writeColumnDefinition(WireBuffer buf, int sequenceId, String name, ColumnType type) {
+        buf.beginPacket(sequenceId);
+        buf.writeLenencString("def");
+        buf.writeLenencString("bench");
+        buf.writeLenencString("t");
+        buf.writeLenencString("t");
+        buf.writeLenencString(name);
+        buf.writeLenencString(name);
+        buf.writeLenencInt(0x0c);
+        buf.writeInt2(type.collationIndex);
+        buf.writeInt4(type.length);
+        buf.writeInt1(type.mysqlType);
+        buf.writeInt2(type.flags);
+        buf.writeInt1(type.decimals);
+        buf.writeInt2(0);
+        buf.endPacket();
+    }
+}
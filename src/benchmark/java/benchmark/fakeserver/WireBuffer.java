@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package benchmark.fakeserver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable buffer used to build MySQL classic protocol packets, headers included.
+ */
+class WireBuffer {
+    private byte[] bytes = new byte[256];
+    private int length = 0;
+    private int packetStart = -1;
+
+    /**
+     * Starts a new packet, reserving room for its header.
+     * 
+     * @param sequenceId
+     *            the packet sequence id
+     * @return this buffer
+     */
+    WireBuffer beginPacket(int sequenceId) {
+        this.packetStart = this.length;
+        writeInt3(0);
+        writeInt1(sequenceId);
+        return this;
+    }
+
+    /**
+     * Completes the packet started with {@link #beginPacket(int)} by filling in its payload length.
+     * 
+     * @return this buffer
+     */
+    WireBuffer endPacket() {
+        int payloadLength = this.length - this.packetStart - 4;
+        this.bytes[this.packetStart] = (byte) payloadLength;
+        this.bytes[this.packetStart + 1] = (byte) (payloadLength >>> 8);
+        this.bytes[this.packetStart + 2] = (byte) (payloadLength >>> 16);
+        this.packetStart = -1;
+        return this;
+    }
+
+    WireBuffer writeInt1(int value) {
+        ensureCapacity(1);
+        this.bytes[this.length++] = (byte) value;
+        return this;
+    }
+
+    WireBuffer writeInt2(int value) {
+        ensureCapacity(2);
+        this.bytes[this.length++] = (byte) value;
+        this.bytes[this.length++] = (byte) (value >>> 8);
+        return this;
+    }
+
+    WireBuffer writeInt3(int value) {
+        ensureCapacity(3);
+        this.bytes[this.length++] = (byte) value;
+        this.bytes[this.length++] = (byte) (value >>> 8);
+        this.bytes[this.length++] = (byte) (value >>> 16);
+        return this;
+    }
+
+    WireBuffer writeInt4(long value) {
+        writeInt2((int) value);
+        writeInt2((int) (value >>> 16));
+        return this;
+    }
+
+    WireBuffer writeInt8(long value) {
+        writeInt4(value);
+        writeInt4(value >>> 32);
+        return this;
+    }
+
+    WireBuffer writeLenencInt(long value) {
+        if (value < 251) {
+            writeInt1((int) value);
+        } else if (value < 0x10000) {
+            writeInt1(0xfc);
+            writeInt2((int) value);
+        } else if (value < 0x1000000) {
+            writeInt1(0xfd);
+            writeInt3((int) value);
+        } else {
+            writeInt1(0xfe);
+            writeInt8(value);
+        }
+        return this;
+    }
+
+    WireBuffer writeBytes(byte[] value) {
+        ensureCapacity(value.length);
+        System.arraycopy(value, 0, this.bytes, this.length, value.length);
+        this.length += value.length;
+        return this;
+    }
+
+    WireBuffer writeLenencString(String value) {
+        byte[] b = value.getBytes(StandardCharsets.UTF_8);
+        writeLenencInt(b.length);
+        return writeBytes(b);
+    }
+
+    WireBuffer writeNullTerminatedString(String value) {
+        writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        return writeInt1(0);
+    }
+
+    WireBuffer writeOkPacket(int sequenceId, long affectedRows, long lastInsertId) {
+        beginPacket(sequenceId);
+        writeInt1(0x00);
+        writeLenencInt(affectedRows);
+        writeLenencInt(lastInsertId);
+        writeInt2(FakeMysqlServer.SERVER_STATUS_AUTOCOMMIT);
+        writeInt2(0); // warnings
+        return endPacket();
+    }
+
+    WireBuffer writeEofPacket(int sequenceId) {
+        return writeEofPacket(sequenceId, FakeMysqlServer.SERVER_STATUS_AUTOCOMMIT);
+    }
+
+    WireBuffer writeEofPacket(int sequenceId, int statusFlags) {
+        beginPacket(sequenceId);
+        writeInt1(0xfe);
+        writeInt2(0); // warnings
+        writeInt2(statusFlags);
+        return endPacket();
+    }
+
+    WireBuffer writeErrorPacket(int sequenceId, int errorCode, String sqlState, String message) {
+        beginPacket(sequenceId);
+        writeInt1(0xff);
+        writeInt2(errorCode);
+        writeInt1('#');
+        writeBytes(sqlState.getBytes(StandardCharsets.US_ASCII));
+        writeBytes(message.getBytes(StandardCharsets.UTF_8));
+        return endPacket();
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(this.bytes, this.length);
+    }
+
+    byte[] copyOfRange(int from, int to) {
+        return Arrays.copyOfRange(this.bytes, from, to);
+    }
+
+    int size() {
+        return this.length;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (this.length + additional > this.bytes.length) {
+            this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length * 2, this.length + additional));
+        }
+    }
+}
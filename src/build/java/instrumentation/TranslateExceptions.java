@@ -57,6 +57,7 @@ import com.mysql.cj.jdbc.MysqlConnectionPoolDataSource;
 import com.mysql.cj.jdbc.MysqlDataSource;
 import com.mysql.cj.jdbc.MysqlParameterMetadata;
 import com.mysql.cj.jdbc.MysqlPooledConnection;
+import com.mysql.cj.jdbc.MysqlPoolingDataSource;
 import com.mysql.cj.jdbc.MysqlSQLXML;
 import com.mysql.cj.jdbc.MysqlSavepoint;
 import com.mysql.cj.jdbc.MysqlXAConnection;
@@ -454,6 +455,11 @@ public class TranslateExceptions {
         catchRuntimeException(clazz, clazz.getDeclaredMethod("setEnumRuntimeProperty", new CtClass[] { ctString, ctString }), null);
         clazz.writeFile(args[0]);
 
+        // com.mysql.cj.jdbc.MysqlPoolingDataSource extends MysqlDataSource implements AutoCloseable
+        clazz = pool.get(MysqlPoolingDataSource.class.getName());
+        instrumentJdbcMethods(clazz, javax.sql.DataSource.class);
+        clazz.writeFile(args[0]);
+
         /*
          * javax.sql.PooledConnection
          */
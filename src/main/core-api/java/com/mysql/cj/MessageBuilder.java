@@ -31,6 +31,8 @@ package com.mysql.cj;
 
 import java.util.List;
 
+import com.mysql.cj.exceptions.CJOperationNotSupportedException;
+import com.mysql.cj.exceptions.ExceptionFactory;
 import com.mysql.cj.protocol.Message;
 
 public interface MessageBuilder<M extends Message> {
@@ -42,4 +44,29 @@ public interface MessageBuilder<M extends Message> {
     M buildClose();
 
     M buildComQuery(M sharedPacket, Session sess, PreparedQuery preparedQuery, QueryBindings bindings, String characterEncoding);
+
+    /**
+     * Writes a multi-values clause INSERT/REPLACE query into the given packet, taking the parameter sets directly from the batched arguments, starting at the
+     * given index and for as long as the resulting message fits in the given size. At least one parameter set is always written.
+     * 
+     * @param packet
+     *            the message to write into
+     * @param sess
+     *            the session
+     * @param preparedQuery
+     *            the prepared query; its query info must be rewritable with a multi-values clause
+     * @param batchedArgs
+     *            the batched {@link QueryBindings}
+     * @param fromIndex
+     *            index of the first parameter set to write
+     * @param maxMessageSize
+     *            the maximum message size
+     * @param characterEncoding
+     *            the characters encoding
+     * @return the number of parameter sets written
+     */
+    default int buildComQueryForBatch(M packet, Session sess, PreparedQuery preparedQuery, List<Object> batchedArgs, int fromIndex, int maxMessageSize,
+            String characterEncoding) {
+        throw ExceptionFactory.createException(CJOperationNotSupportedException.class, "Not supported");
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj;
+
+import java.util.Set;
+
+import com.mysql.cj.util.ConcurrentLFUCache;
+
+/**
+ * {@link CacheAdapterFactory} that creates a separate {@link QueryInfo} cache for each connection, backed by a {@link ConcurrentLFUCache}, so that lookups need
+ * no locking.
+ */
+public class PerConnectionLFUFactory implements CacheAdapterFactory<String, QueryInfo> {
+
+    public CacheAdapter<String, QueryInfo> getInstance(Object syncMutex, String url, int cacheMaxSize, int maxKeySize) {
+        return new ConcurrentLFUCacheAdapter(cacheMaxSize, maxKeySize);
+    }
+
+    static class ConcurrentLFUCacheAdapter implements CacheAdapter<String, QueryInfo> {
+        private final int cacheSqlLimit;
+        private final ConcurrentLFUCache<String, QueryInfo> cache;
+
+        ConcurrentLFUCacheAdapter(int cacheMaxSize, int maxKeySize) {
+            this.cacheSqlLimit = maxKeySize;
+            this.cache = new ConcurrentLFUCache<>(cacheMaxSize);
+        }
+
+        public QueryInfo get(String key) {
+            if (key == null || key.length() > this.cacheSqlLimit) {
+                return null;
+            }
+            return this.cache.get(key);
+        }
+
+        public void put(String key, QueryInfo value) {
+            if (key == null || key.length() > this.cacheSqlLimit) {
+                return;
+            }
+            this.cache.put(key, value);
+        }
+
+        public void invalidate(String key) {
+            this.cache.remove(key);
+        }
+
+        public void invalidateAll(Set<String> keys) {
+            for (String key : keys) {
+                this.cache.remove(key);
+            }
+        }
+
+        public void invalidateAll() {
+            this.cache.clear();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj;
+
+import java.util.Collections;
+import java.util.Map;
+
+import com.mysql.cj.PerConnectionLFUFactory.ConcurrentLFUCacheAdapter;
+import com.mysql.cj.util.LRUCache;
+
+/**
+ * {@link CacheAdapterFactory} that shares one {@link QueryInfo} cache among all connections in the JVM that were created from the same URL, so that each
+ * distinct statement is parsed once per JVM instead of once per connection. The size limits of the first connection created for a URL apply to the shared
+ * cache. Only the caches of the most recently used URLs are kept; connections already holding an evicted cache keep using it.
+ */
+public class PerVmQueryInfoCacheFactory implements CacheAdapterFactory<String, QueryInfo> {
+    /** Maximum number of connection URLs whose cache is shared. */
+    private static final int MAX_CACHED_URLS = 16;
+    static final Map<String, CacheAdapter<String, QueryInfo>> queryInfoCachesByUrl = Collections.synchronizedMap(new LRUCache<>(MAX_CACHED_URLS));
+
+    public CacheAdapter<String, QueryInfo> getInstance(Object syncMutex, String url, int cacheMaxSize, int maxKeySize) {
+        return queryInfoCachesByUrl.computeIfAbsent(url, u -> new ConcurrentLFUCacheAdapter(cacheMaxSize, maxKeySize));
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj;
+
+import com.mysql.cj.util.ConcurrentLFUCache;
+
+/**
+ * Classification of a query text as needed by plain statements before executing it: the statement keyword, the expected return type, whether it is safe to
+ * run in a read-only session, whether it contains JDBC escape sequences and whether it holds more than one query.
+ * 
+ * Everything but the context of WITH statements is collected in a single pass over the query that skips quoted text and comments the same way
+ * {@link QueryInfo#indexOfStatementKeyword(String, boolean)} does. Descriptors are immutable and shared by all connections in the JVM through a bounded
+ * cache keyed by the query text, so statements that are executed repeatedly are classified only once.
+ */
+public final class QueryDescriptor {
+    private static final int CACHE_MAX_SIZE = 1024;
+    private static final int CACHE_MAX_SQL_LENGTH = 2048;
+
+    private static final ConcurrentLFUCache<String, QueryDescriptor> BACKSLASH_ESCAPES_CACHE = new ConcurrentLFUCache<>(CACHE_MAX_SIZE);
+    private static final ConcurrentLFUCache<String, QueryDescriptor> NO_BACKSLASH_ESCAPES_CACHE = new ConcurrentLFUCache<>(CACHE_MAX_SIZE);
+
+    private static final int CODE = 0;
+    private static final int QUOTED = 1;
+    private static final int LINE_COMMENT = 2;
+    private static final int BLOCK_COMMENT = 3;
+
+    private static final int MYSQL_VERSION_REF_LENGTH = 5;
+
+    private final int statementKeywordPos;
+    private final char firstStmtChar;
+    private final QueryReturnType queryReturnType;
+    private final boolean readOnlySafe;
+    private final boolean containsEscapes;
+    private final boolean multiStatement;
+
+    /**
+     * Returns the descriptor of the given query, either from the cache or by classifying it.
+     * 
+     * @param sql
+     *            the query to classify
+     * @param noBackslashEscapes
+     *            whether backslash escapes are disabled or not
+     * @return the {@link QueryDescriptor} of the given query
+     */
+    public static QueryDescriptor forSql(String sql, boolean noBackslashEscapes) {
+        if (sql.length() > CACHE_MAX_SQL_LENGTH) {
+            return new QueryDescriptor(sql, noBackslashEscapes);
+        }
+        ConcurrentLFUCache<String, QueryDescriptor> cache = noBackslashEscapes ? NO_BACKSLASH_ESCAPES_CACHE : BACKSLASH_ESCAPES_CACHE;
+        QueryDescriptor descriptor = cache.get(sql);
+        if (descriptor == null) {
+            descriptor = new QueryDescriptor(sql, noBackslashEscapes);
+            cache.put(sql, descriptor);
+        }
+        return descriptor;
+    }
+
+    QueryDescriptor(String sql, boolean noBackslashEscapes) {
+        int len = sql.length();
+        int keywordPos = -1;
+        int openingBracePos = -1;
+        boolean escapeFound = false;
+        boolean delimiterFound = false;
+        boolean moreQueries = false;
+        boolean inMysqlBlock = false;
+        boolean escaped = false;
+        int state = CODE;
+        char quoteChar = 0;
+
+        for (int i = 0; i < len; i++) {
+            char c = sql.charAt(i);
+
+            // Same test as the short circuit in EscapeProcessor, which doesn't skip quoted text or comments.
+            if (c == '{') {
+                if (openingBracePos == -1) {
+                    openingBracePos = i;
+                }
+            } else if (c == '}' && openingBracePos != -1) {
+                escapeFound = true;
+            }
+
+            switch (state) {
+                case QUOTED:
+                    if (escaped) {
+                        escaped = false;
+                    } else if (c == '\\' && !noBackslashEscapes) {
+                        escaped = true;
+                    } else if (c == quoteChar) {
+                        state = CODE;
+                    }
+                    break;
+
+                case LINE_COMMENT:
+                    if (c == '\n' || c == '\r') {
+                        state = CODE;
+                    }
+                    break;
+
+                case BLOCK_COMMENT:
+                    if (c == '*' && i + 1 < len && sql.charAt(i + 1) == '/') {
+                        i++;
+                        state = CODE;
+                    }
+                    break;
+
+                default:
+                    char c1 = i + 1 < len ? sql.charAt(i + 1) : Character.MIN_VALUE;
+                    char c2 = i + 2 < len ? sql.charAt(i + 2) : Character.MIN_VALUE;
+
+                    if (escaped) {
+                        escaped = false;
+                    } else if (c == '\\' && !noBackslashEscapes) {
+                        escaped = true;
+                        moreQueries |= delimiterFound;
+                        continue;
+                    } else if (c == '\'' || c == '"' || c == '`') {
+                        state = QUOTED;
+                        quoteChar = c;
+                        moreQueries |= delimiterFound;
+                        continue;
+                    } else if (c == '/' && c1 == '*' && c2 == '!') {
+                        // Contents of MySQL specific blocks ("/*![12345] ... */") are part of the query.
+                        i += 2;
+                        int digits = 0;
+                        while (digits < MYSQL_VERSION_REF_LENGTH && i + 1 + digits < len && Character.isDigit(sql.charAt(i + 1 + digits))) {
+                            digits++;
+                        }
+                        if (digits == MYSQL_VERSION_REF_LENGTH) {
+                            i += MYSQL_VERSION_REF_LENGTH;
+                        }
+                        inMysqlBlock = true;
+                        continue;
+                    } else if (c == '/' && c1 == '*') {
+                        // Comments and hints blocks.
+                        i++;
+                        state = BLOCK_COMMENT;
+                        continue;
+                    } else if (inMysqlBlock && c == '*' && c1 == '/') {
+                        i++;
+                        inMysqlBlock = false;
+                        continue;
+                    } else if (c == '#' || (c == '-' && c1 == '-' && (Character.isWhitespace(c2) || c2 == ';' || c2 == Character.MIN_VALUE))) {
+                        if (c == '-' && c2 == ';') {
+                            i++; // Comment closed immediately by the query delimiter.
+                        } else {
+                            state = LINE_COMMENT;
+                        }
+                        continue;
+                    } else if (Character.isWhitespace(c)) {
+                        continue;
+                    } else if (c == ';') {
+                        moreQueries |= delimiterFound;
+                        delimiterFound = true;
+                        continue;
+                    }
+
+                    moreQueries |= delimiterFound;
+                    if (keywordPos == -1 && Character.isLetterOrDigit(c)) {
+                        keywordPos = i;
+                    }
+            }
+        }
+
+        this.statementKeywordPos = keywordPos;
+        this.firstStmtChar = keywordPos == -1 ? Character.MIN_VALUE : Character.toUpperCase(sql.charAt(keywordPos));
+        this.queryReturnType = QueryInfo.getQueryReturnType(sql, keywordPos, noBackslashEscapes);
+        this.readOnlySafe = QueryInfo.isReadOnlySafeQuery(sql, keywordPos, noBackslashEscapes);
+        this.containsEscapes = escapeFound;
+        this.multiStatement = moreQueries;
+    }
+
+    /**
+     * Returns the position of the first character of the statement keyword, skipping comments and quoted text.
+     * 
+     * @return the position of the statement keyword, or -1 if the query has none
+     */
+    public int getStatementKeywordPos() {
+        return this.statementKeywordPos;
+    }
+
+    /**
+     * Returns the first character of the statement keyword, in upper case.
+     * 
+     * @return the first character of the statement keyword, or {@link Character#MIN_VALUE} if the query has none
+     */
+    public char getFirstStmtChar() {
+        return this.firstStmtChar;
+    }
+
+    /**
+     * Returns the type of return that can be expected from executing the query. Only the first query is taken into consideration.
+     * 
+     * @return one of the elements of {@link QueryReturnType}
+     */
+    public QueryReturnType getQueryReturnType() {
+        return this.queryReturnType;
+    }
+
+    /**
+     * Checks whether the query is safe to run in a read-only session. Only the first query is taken into consideration.
+     * 
+     * @return <code>true</code> if the query is read-only safe, <code>false</code> otherwise
+     */
+    public boolean isReadOnlySafe() {
+        return this.readOnlySafe;
+    }
+
+    /**
+     * Checks whether the query may contain JDBC escape sequences, i.e., whether escape processing may change it.
+     * 
+     * @return <code>false</code> if escape processing would return the query unchanged, <code>true</code> otherwise
+     */
+    public boolean containsEscapes() {
+        return this.containsEscapes;
+    }
+
+    /**
+     * Checks whether the query text holds more than one query separated by ';'.
+     * 
+     * @return <code>true</code> if there is anything but comments after a query delimiter, <code>false</code> otherwise
+     */
+    public boolean isMultiStatement() {
+        return this.multiStatement;
+    }
+}
@@ -59,6 +59,9 @@ public class QueryInfo {
 
     private String sql;
     private String encoding;
+    private boolean noBackslashEscapes = false;
+    private boolean rewriteBatchedStatements = false;
+    private boolean dontCheckOnDuplicateKeyUpdateInSQL = false;
     private QueryReturnType queryReturnType = null;
     private int queryLength = 0;
     private int queryStartPos = 0;
@@ -71,6 +74,7 @@ public class QueryInfo {
     private int valuesClauseLength = -1;
     private ArrayList<Integer> valuesEndpoints = new ArrayList<>();
     private byte[][] staticSqlParts = null;
+    private byte[] valuesBindingSegment = null;
 
     /**
      * Constructs a {@link QueryInfo} object for the given query or multi-query. The parsed result of this query allows to determine the location of the
@@ -96,6 +100,9 @@ public class QueryInfo {
         boolean noBackslashEscapes = session.getServerSession().isNoBackslashEscapesSet();
         boolean rewriteBatchedStatements = session.getPropertySet().getBooleanProperty(PropertyKey.rewriteBatchedStatements).getValue();
         boolean dontCheckOnDuplicateKeyUpdateInSQL = session.getPropertySet().getBooleanProperty(PropertyKey.dontCheckOnDuplicateKeyUpdateInSQL).getValue();
+        this.noBackslashEscapes = noBackslashEscapes;
+        this.rewriteBatchedStatements = rewriteBatchedStatements;
+        this.dontCheckOnDuplicateKeyUpdateInSQL = dontCheckOnDuplicateKeyUpdateInSQL;
 
         this.queryReturnType = getQueryReturnType(this.sql, noBackslashEscapes);
         this.queryLength = this.sql.length();
@@ -277,6 +284,19 @@ public class QueryInfo {
             int length = end - begin;
             this.staticSqlParts[i] = StringUtils.getBytes(this.sql, begin, length, this.encoding);
         }
+
+        if (this.isRewritableWithMultiValuesClause && this.numberOfPlaceholders > 0) {
+            // Build the values binding segment: [values_end][comma][values_begin], e.g., "),(".
+            int begin = this.valuesEndpoints.get(this.valuesEndpoints.size() - 2);
+            int end = this.valuesEndpoints.get(this.valuesEndpoints.size() - 1);
+            byte[] valuesEndSegment = StringUtils.getBytes(this.sql, begin, end - begin, this.encoding);
+            byte[] delimiter = StringUtils.getBytes(",", this.encoding);
+            begin = this.valuesEndpoints.get(0);
+            end = this.valuesEndpoints.get(1);
+            byte[] valuesBeginSegment = StringUtils.getBytes(this.sql, begin, end - begin, this.encoding);
+            this.valuesBindingSegment = ByteBuffer.allocate(valuesEndSegment.length + delimiter.length + valuesBeginSegment.length).put(valuesEndSegment)
+                    .put(delimiter).put(valuesBeginSegment).array();
+        }
     }
 
     /**
@@ -293,6 +313,9 @@ public class QueryInfo {
 
         this.sql = null;
         this.encoding = this.baseQueryInfo.encoding;
+        this.noBackslashEscapes = this.baseQueryInfo.noBackslashEscapes;
+        this.rewriteBatchedStatements = this.baseQueryInfo.rewriteBatchedStatements;
+        this.dontCheckOnDuplicateKeyUpdateInSQL = this.baseQueryInfo.dontCheckOnDuplicateKeyUpdateInSQL;
         this.queryReturnType = this.baseQueryInfo.queryReturnType;
         this.queryLength = 0;
         this.queryStartPos = this.baseQueryInfo.queryStartPos;
@@ -337,19 +360,7 @@ public class QueryInfo {
         } else {
             this.staticSqlParts = new byte[this.numberOfPlaceholders + 1][];
 
-            // Build the values binding segment: [values_end][comma][values_begin], e.g., "),(".
-            int begin = this.baseQueryInfo.valuesEndpoints.get(this.baseQueryInfo.valuesEndpoints.size() - 2);
-            int end = this.baseQueryInfo.valuesEndpoints.get(this.baseQueryInfo.valuesEndpoints.size() - 1);
-            int length = end - begin;
-            byte[] valuesEndSegment = StringUtils.getBytes(this.baseQueryInfo.sql, begin, length, this.encoding);
-            byte[] delimiter = StringUtils.getBytes(",", this.encoding);
-            begin = this.baseQueryInfo.valuesEndpoints.get(0);
-            end = this.baseQueryInfo.valuesEndpoints.get(1);
-            length = end - begin;
-            byte[] valuesBeginSegment = StringUtils.getBytes(this.baseQueryInfo.sql, begin, length, this.encoding);
-            ByteBuffer bindingSegmentByteBuffer = ByteBuffer.allocate(valuesEndSegment.length + delimiter.length + valuesBeginSegment.length);
-            bindingSegmentByteBuffer.put(valuesEndSegment).put(delimiter).put(valuesBeginSegment);
-            byte[] bindingSegment = bindingSegmentByteBuffer.array();
+            byte[] bindingSegment = this.baseQueryInfo.valuesBindingSegment;
 
             // Head section: same as in the original query.
             this.staticSqlParts[0] = this.baseQueryInfo.staticSqlParts[0];
@@ -368,6 +379,17 @@ public class QueryInfo {
         }
     }
 
+    /**
+     * Returns the static section that binds two consecutive VALUES tuples in a multi-values clause rewrite, e.g., "),(", or null if this query is not
+     * rewritable or has no placeholders. Together with {@link #getStaticSqlParts()} of the base query info, this allows writing any number of parameter sets
+     * without building a dedicated {@link QueryInfo} for each batch size.
+     * 
+     * @return the values binding segment, as a byte array
+     */
+    public byte[] getValuesBindingSegment() {
+        return this.baseQueryInfo.valuesBindingSegment;
+    }
+
     /**
      * Returns the number of queries identified in the original SQL string. Different queries are identified by the presence of the query delimiter character,
      * i.e., a semicolon.
@@ -439,6 +461,24 @@ public class QueryInfo {
         return this.isRewritableWithMultiValuesClause;
     }
 
+    /**
+     * Checks whether this {@link QueryInfo} was built under the same conditions that the given session and encoding would produce, and thus can be reused by
+     * a statement created in that session. Needed when parsed queries are shared among connections.
+     * 
+     * @param session
+     *            the {@link Session} that is about to reuse this query info
+     * @param encoding
+     *            the characters encoding the session would use to extract the query static parts
+     * @return true if this query info can be reused as is
+     */
+    public boolean isCompatibleWith(Session session, String encoding) {
+        return (this.encoding == null ? encoding == null : this.encoding.equals(encoding))
+                && this.noBackslashEscapes == session.getServerSession().isNoBackslashEscapesSet()
+                && this.rewriteBatchedStatements == session.getPropertySet().getBooleanProperty(PropertyKey.rewriteBatchedStatements).getValue()
+                && this.dontCheckOnDuplicateKeyUpdateInSQL == session.getPropertySet().getBooleanProperty(PropertyKey.dontCheckOnDuplicateKeyUpdateInSQL)
+                        .getValue();
+    }
+
     /**
      * Returns a {@link QueryInfo} for a multi-values INSERT/REPLACE assembled for the specified batch count, without re-parsing.
      * 
@@ -545,7 +585,21 @@ public class QueryInfo {
          * - LOCK; PREPARE; PURGE; RELEASE; RESIGNAL; ROLLBACK; SAVEPOINT; SELECT; SET; SHOW; SIGNAL; START; STOP; TABLE; UNLOCK; USE; VALUES;
          * - WITH ... [SELECT|TABLE|VALUES]; XA
          */
-        int statementKeywordPos = indexOfStatementKeyword(sql, noBackslashEscapes);
+        return isReadOnlySafeQuery(sql, indexOfStatementKeyword(sql, noBackslashEscapes), noBackslashEscapes);
+    }
+
+    /**
+     * Checks whether the given query, whose statement keyword was already located, is safe to run in a read-only session.
+     * 
+     * @param sql
+     *            the query to check
+     * @param statementKeywordPos
+     *            the position of the statement keyword, as returned by {@link #indexOfStatementKeyword(String, boolean)}
+     * @param noBackslashEscapes
+     *            whether backslash escapes are disabled or not
+     * @return <code>true</code> if the query is read-only safe, <code>false</code> otherwise.
+     */
+    static boolean isReadOnlySafeQuery(String sql, int statementKeywordPos, boolean noBackslashEscapes) {
         if (statementKeywordPos == -1) {
             return true; // Assume it's safe.
         }
@@ -609,7 +663,21 @@ public class QueryInfo {
          * - LOCK; PREPARE; PURGE; RELEASE; RENAME; REPLACE; RESET; RESIGNAL; RESTART; REVOKE; ROLLBACK; SAVEPOINT; SET; SHUTDOWN; SIGNAL; START; STOP;
          * - TRUNCATE; UNINSTALL; UNLOCK; UPDATE; USE; WITH ... DELETE|UPDATE ...; XA [!RECOVER];
          */
-        int statementKeywordPos = indexOfStatementKeyword(sql, noBackslashEscapes);
+        return getQueryReturnType(sql, indexOfStatementKeyword(sql, noBackslashEscapes), noBackslashEscapes);
+    }
+
+    /**
+     * Returns the type of return that can be expected from executing the given query, whose statement keyword was already located.
+     * 
+     * @param sql
+     *            the query to check
+     * @param statementKeywordPos
+     *            the position of the statement keyword, as returned by {@link #indexOfStatementKeyword(String, boolean)}
+     * @param noBackslashEscapes
+     *            whether backslash escapes are disabled or not
+     * @return the return type that can be expected from the given query, one of the elements of {@link QueryReturnType}.
+     */
+    static QueryReturnType getQueryReturnType(String sql, int statementKeywordPos, boolean noBackslashEscapes) {
         if (statementKeywordPos == -1) {
             return QueryReturnType.NONE;
         }
@@ -321,6 +321,16 @@ public class PropertyDefinitions {
                 new BooleanPropertyDefinition(PropertyKey.useCompression, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.useCompression"), "3.0.17", CATEGORY_NETWORK, Integer.MIN_VALUE),
 
+                new StringPropertyDefinition(PropertyKey.compressionAlgorithms, "zlib", RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.compressionAlgorithms"), "8.0.32", CATEGORY_NETWORK, Integer.MIN_VALUE),
+
+                new IntegerPropertyDefinition(PropertyKey.zstdCompressionLevel, 3, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.zstdCompressionLevel"), "8.0.32", CATEGORY_NETWORK, Integer.MIN_VALUE, 1, 22),
+
+                new StringPropertyDefinition(PropertyKey.zstdCompressionStreams,
+                        "com.github.luben.zstd.ZstdInputStream:com.github.luben.zstd.ZstdOutputStream", RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.zstdCompressionStreams"), "8.0.32", CATEGORY_NETWORK, Integer.MIN_VALUE),
+
                 new IntegerPropertyDefinition(PropertyKey.maxAllowedPacket, 65535, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.maxAllowedPacket"), "5.1.8", CATEGORY_NETWORK, Integer.MIN_VALUE),
 
@@ -372,6 +382,9 @@ public class PropertyDefinitions {
                 new StringPropertyDefinition(PropertyKey.tlsVersions, DEFAULT_VALUE_NULL_STRING, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.tlsVersions"), "8.0.8", CATEGORY_SECURITY, 14),
 
+                new BooleanPropertyDefinition(PropertyKey.cacheSslContext, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.cacheSslContext"), "8.0.32", CATEGORY_SECURITY, 15),
+
                 new BooleanPropertyDefinition(PropertyKey.allowLoadLocalInfile, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.loadDataLocal"), "3.0.3", CATEGORY_SECURITY, Integer.MAX_VALUE),
 
@@ -467,6 +480,14 @@ public class PropertyDefinitions {
                 new BooleanPropertyDefinition(PropertyKey.populateInsertRowWithDefaultValues, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.populateInsertRowWithDefaultValues"), "5.0.5", CATEGORY_RESULT_SETS, Integer.MIN_VALUE),
 
+                new IntegerPropertyDefinition(PropertyKey.streamingResultsKillThresholdRows, 0, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.streamingResultsKillThresholdRows"), "8.0.32", CATEGORY_RESULT_SETS, Integer.MIN_VALUE, 0,
+                        Integer.MAX_VALUE),
+
+                new MemorySizePropertyDefinition(PropertyKey.streamingResultsKillThresholdSize, 0, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.streamingResultsKillThresholdSize"), "8.0.32", CATEGORY_RESULT_SETS, Integer.MIN_VALUE, 0,
+                        Integer.MAX_VALUE),
+
                 new BooleanPropertyDefinition(PropertyKey.strictUpdates, DEFAULT_VALUE_TRUE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.strictUpdates"), "3.0.4", CATEGORY_RESULT_SETS, Integer.MIN_VALUE),
 
@@ -494,6 +515,13 @@ public class PropertyDefinitions {
                 new BooleanPropertyDefinition(PropertyKey.useInformationSchema, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.useInformationSchema"), "5.0.0", CATEGORY_METADATA, Integer.MIN_VALUE),
 
+                new BooleanPropertyDefinition(PropertyKey.cacheDatabaseMetadata, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.cacheDatabaseMetadata"), "8.0.32", CATEGORY_METADATA, Integer.MIN_VALUE),
+
+                new IntegerPropertyDefinition(PropertyKey.databaseMetadataCacheTtl, 60000, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.databaseMetadataCacheTtl"), "8.0.32", CATEGORY_METADATA, Integer.MIN_VALUE, 0,
+                        Integer.MAX_VALUE),
+
                 new BooleanPropertyDefinition(PropertyKey.getProceduresReturnsFunctions, DEFAULT_VALUE_TRUE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.getProceduresReturnsFunctions"), "5.1.26", CATEGORY_METADATA, Integer.MIN_VALUE),
 
@@ -665,6 +693,9 @@ public class PropertyDefinitions {
                 new BooleanPropertyDefinition(PropertyKey.cacheResultSetMetadata, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.cacheRSMetadata"), "3.1.1", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
 
+                new BooleanPropertyDefinition(PropertyKey.useOptionalResultsetMetadata, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.useOptionalResultsetMetadata"), "8.0.32", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
+
                 new StringPropertyDefinition(PropertyKey.serverConfigCacheFactory, PerVmServerConfigCacheFactory.class.getName(), RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.serverConfigCacheFactory"), "5.1.1", CATEGORY_PERFORMANCE, 12),
 
@@ -683,10 +714,26 @@ public class PropertyDefinitions {
                 new BooleanPropertyDefinition(PropertyKey.enableQueryTimeouts, DEFAULT_VALUE_TRUE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.enableQueryTimeouts"), "5.0.6", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
 
+                new BooleanPropertyDefinition(PropertyKey.useQueryCancellationService, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.useQueryCancellationService"), "8.0.32", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
+
+                new IntegerPropertyDefinition(PropertyKey.queryCancellationSessionsPerHost, 2, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.queryCancellationSessionsPerHost"), "8.0.32", CATEGORY_PERFORMANCE, Integer.MIN_VALUE, 1, 64),
+
                 new MemorySizePropertyDefinition(PropertyKey.largeRowSizeThreshold, 2048, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.largeRowSizeThreshold"), "5.1.1", CATEGORY_PERFORMANCE, Integer.MIN_VALUE, 0,
                         Integer.MAX_VALUE),
 
+                new BooleanPropertyDefinition(PropertyKey.useRowBufferArena, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.useRowBufferArena"), "8.0.32", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
+
+                new MemorySizePropertyDefinition(PropertyKey.rowBufferArenaChunkSize, 1024 * 1024, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.rowBufferArenaChunkSize"), "8.0.32", CATEGORY_PERFORMANCE, Integer.MIN_VALUE, 4096,
+                        Integer.MAX_VALUE),
+
+                new BooleanPropertyDefinition(PropertyKey.useColumnarResultsetRows, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.useColumnarResultsetRows"), "8.0.32", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
+
                 new BooleanPropertyDefinition(PropertyKey.maintainTimeStats, DEFAULT_VALUE_TRUE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.maintainTimeStats"), "3.1.9", CATEGORY_PERFORMANCE, Integer.MAX_VALUE),
 
@@ -705,9 +752,18 @@ public class PropertyDefinitions {
                 new BooleanPropertyDefinition(PropertyKey.rewriteBatchedStatements, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.rewriteBatchedStatements"), "3.1.13", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
 
+                new BooleanPropertyDefinition(PropertyKey.pipelineBatchedStatements, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.pipelineBatchedStatements"), "8.0.32", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
+
+                new IntegerPropertyDefinition(PropertyKey.pipelinedBatchWindowSize, 64, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.pipelinedBatchWindowSize"), "8.0.32", CATEGORY_PERFORMANCE, Integer.MIN_VALUE, 1, 1024),
+
                 new BooleanPropertyDefinition(PropertyKey.useCursorFetch, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.useCursorFetch"), "5.0.0", CATEGORY_PERFORMANCE, Integer.MAX_VALUE),
 
+                new BooleanPropertyDefinition(PropertyKey.prefetchCursorRows, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.prefetchCursorRows"), "8.0.32", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
+
                 new BooleanPropertyDefinition(PropertyKey.useLocalSessionState, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.useLocalSessionState"), "3.1.7", CATEGORY_PERFORMANCE, 5),
 
@@ -717,6 +773,9 @@ public class PropertyDefinitions {
                 new BooleanPropertyDefinition(PropertyKey.useReadAheadInput, DEFAULT_VALUE_TRUE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.useReadAheadInput"), "3.1.5", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
 
+                new BooleanPropertyDefinition(PropertyKey.useResetConnection, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.useResetConnection"), "8.0.32", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
+
                 new BooleanPropertyDefinition(PropertyKey.dontCheckOnDuplicateKeyUpdateInSQL, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.dontCheckOnDuplicateKeyUpdateInSQL"), "5.1.32", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
 
@@ -873,7 +932,11 @@ public class PropertyDefinitions {
                 new StringPropertyDefinition(PropertyKey.xdevapiCompressionAlgorithms, "zstd_stream,lz4_message,deflate_stream", RUNTIME_NOT_MODIFIABLE,
                         Messages.getString("ConnectionProperties.xdevapiCompressionAlgorithms"), "8.0.22", CATEGORY_XDEVAPI, Integer.MIN_VALUE),
                 new StringPropertyDefinition(PropertyKey.xdevapiCompressionExtensions, DEFAULT_VALUE_NULL_STRING, RUNTIME_NOT_MODIFIABLE,
-                        Messages.getString("ConnectionProperties.xdevapiCompressionExtensions"), "8.0.22", CATEGORY_XDEVAPI, Integer.MIN_VALUE)
+                        Messages.getString("ConnectionProperties.xdevapiCompressionExtensions"), "8.0.22", CATEGORY_XDEVAPI, Integer.MIN_VALUE),
+                new BooleanPropertyDefinition(PropertyKey.xdevapiSplitLargeAdd, DEFAULT_VALUE_FALSE, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.xdevapiSplitLargeAdd"), "8.0.32", CATEGORY_XDEVAPI, Integer.MIN_VALUE),
+                new StringPropertyDefinition(PropertyKey.xdevapiAsyncCompletionExecutor, DEFAULT_VALUE_NULL_STRING, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.xdevapiAsyncCompletionExecutor"), "8.0.32", CATEGORY_XDEVAPI, Integer.MIN_VALUE)
                 //
         };
 
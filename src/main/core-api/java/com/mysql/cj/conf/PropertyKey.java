@@ -80,10 +80,12 @@ public enum PropertyKey {
     blobsAreStrings("blobsAreStrings", true), //
     blobSendChunkSize("blobSendChunkSize", true), //
     cacheCallableStmts("cacheCallableStmts", true), //
+    cacheDatabaseMetadata("cacheDatabaseMetadata", true), //
     cacheDefaultTimeZone("cacheDefaultTimeZone", "cacheDefaultTimezone", true), //
     cachePrepStmts("cachePrepStmts", true), //
     cacheResultSetMetadata("cacheResultSetMetadata", true), //
     cacheServerConfiguration("cacheServerConfiguration", true), //
+    cacheSslContext("cacheSslContext", true), //
     callableStmtCacheSize("callableStmtCacheSize", true), //
     characterEncoding("characterEncoding", true), //
     characterSetResults("characterSetResults", true), //
@@ -94,6 +96,7 @@ public enum PropertyKey {
     clobberStreamingResults("clobberStreamingResults", true), //
     clobCharacterEncoding("clobCharacterEncoding", true), //
     compensateOnDuplicateKeyUpdateCounts("compensateOnDuplicateKeyUpdateCounts", true), //
+    compressionAlgorithms("compressionAlgorithms", true), //
     connectionAttributes("connectionAttributes", true), //
     connectionCollation("connectionCollation", true), //
     connectionLifecycleInterceptors("connectionLifecycleInterceptors", true), //
@@ -102,6 +105,7 @@ public enum PropertyKey {
     continueBatchOnError("continueBatchOnError", true), //
     createDatabaseIfNotExist("createDatabaseIfNotExist", true), //
     customCharsetMapping("customCharsetMapping", true), //
+    databaseMetadataCacheTtl("databaseMetadataCacheTtl", true), //
     databaseTerm("databaseTerm", true), //
     defaultAuthenticationPlugin("defaultAuthenticationPlugin", true), //
     defaultFetchSize("defaultFetchSize", true), //
@@ -172,6 +176,10 @@ public enum PropertyKey {
     packetDebugBufferSize("packetDebugBufferSize", true), //
     padCharsWithSpace("padCharsWithSpace", true), //
     paranoid("paranoid", false), //
+    pipelineBatchedStatements("pipelineBatchedStatements", true), //
+    pipelinedBatchWindowSize("pipelinedBatchWindowSize", true), //
+    prefetchCursorRows("prefetchCursorRows", true), //
+    queryCancellationSessionsPerHost("queryCancellationSessionsPerHost", true), //
     queryInfoCacheFactory("queryInfoCacheFactory", "parseInfoCacheFactory", true), //
     password1("password1", true), //
     password2("password2", true), //
@@ -201,6 +209,7 @@ public enum PropertyKey {
     retriesAllDown("retriesAllDown", true), //
     rewriteBatchedStatements("rewriteBatchedStatements", true), //
     rollbackOnPooledClose("rollbackOnPooledClose", true), //
+    rowBufferArenaChunkSize("rowBufferArenaChunkSize", true), //
     scrollTolerantForwardOnly("scrollTolerantForwardOnly", true), //
     secondsBeforeRetrySource("secondsBeforeRetrySource", "secondsBeforeRetryMaster", true), //
     selfDestructOnPingMaxOperations("selfDestructOnPingMaxOperations", true), //
@@ -219,6 +228,8 @@ public enum PropertyKey {
     socksProxyPort("socksProxyPort", true), //
     socksProxyRemoteDns("socksProxyRemoteDns", true), //
     sslMode("sslMode", true), //
+    streamingResultsKillThresholdRows("streamingResultsKillThresholdRows", true), //
+    streamingResultsKillThresholdSize("streamingResultsKillThresholdSize", true), //
     strictUpdates("strictUpdates", true), //
     tcpKeepAlive("tcpKeepAlive", true), //
     tcpNoDelay("tcpNoDelay", true), //
@@ -237,6 +248,7 @@ public enum PropertyKey {
     trustCertificateKeyStoreUrl("trustCertificateKeyStoreUrl", true), //
     ultraDevHack("ultraDevHack", true), //
     useAffectedRows("useAffectedRows", true), //
+    useColumnarResultsetRows("useColumnarResultsetRows", true), //
     useColumnNamesInFindColumn("useColumnNamesInFindColumn", true), //
     useCompression("useCompression", true), //
     useConfigs("useConfigs", true), //
@@ -248,7 +260,11 @@ public enum PropertyKey {
     useNanosForElapsedTime("useNanosForElapsedTime", true), //
     useOldAliasMetadataBehavior("useOldAliasMetadataBehavior", true), //
     useOnlyServerErrorMessages("useOnlyServerErrorMessages", true), //
+    useOptionalResultsetMetadata("useOptionalResultsetMetadata", true), //
+    useQueryCancellationService("useQueryCancellationService", true), //
     useReadAheadInput("useReadAheadInput", true), //
+    useResetConnection("useResetConnection", true), //
+    useRowBufferArena("useRowBufferArena", true), //
     useServerPrepStmts("useServerPrepStmts", true), //
     useSSL("useSSL", true), //
     useStreamLengthsInPrepStmts("useStreamLengthsInPrepStmts", true), //
@@ -256,6 +272,7 @@ public enum PropertyKey {
     useUsageAdvisor("useUsageAdvisor", true), //
     verifyServerCertificate("verifyServerCertificate", true), //
 
+    xdevapiAsyncCompletionExecutor("xdevapi.async-completion-executor", "xdevapiAsyncCompletionExecutor", true), //
     xdevapiAsyncResponseTimeout("xdevapi.asyncResponseTimeout", "xdevapiAsyncResponseTimeout", true), //
     xdevapiAuth("xdevapi.auth", "xdevapiAuth", true), //
     xdevapiConnectTimeout("xdevapi.connect-timeout", "xdevapiConnectTimeout", true), //
@@ -266,6 +283,7 @@ public enum PropertyKey {
     xdevapiDnsSrv("xdevapi.dns-srv", "xdevapiDnsSrv", true), //
     xdevapiFallbackToSystemKeyStore("xdevapi.fallback-to-system-keystore", "xdevapiFallbackToSystemKeyStore", true), //
     xdevapiFallbackToSystemTrustStore("xdevapi.fallback-to-system-truststore", "xdevapiFallbackToSystemTrustStore", true), //
+    xdevapiSplitLargeAdd("xdevapi.split-large-add", "xdevapiSplitLargeAdd", true), //
     xdevapiSslKeyStorePassword("xdevapi.ssl-keystore-password", "xdevapiSslKeystorePassword", true), //
     xdevapiSslKeyStoreType("xdevapi.ssl-keystore-type", "xdevapiSslKeystoreType", true), //
     xdevapiSslKeyStoreUrl("xdevapi.ssl-keystore", "xdevapiSslKeystore", true), //
@@ -277,7 +295,9 @@ public enum PropertyKey {
     xdevapiTlsVersions("xdevapi.tls-versions", "xdevapiTlsVersions", true), //
 
     yearIsDateType("yearIsDateType", true), //
-    zeroDateTimeBehavior("zeroDateTimeBehavior", true) //
+    zeroDateTimeBehavior("zeroDateTimeBehavior", true), //
+    zstdCompressionLevel("zstdCompressionLevel", true), //
+    zstdCompressionStreams("zstdCompressionStreams", true) //
     ;
 
     private String keyName;
@@ -29,6 +29,9 @@
 
 package com.mysql.cj.protocol;
 
+import com.mysql.cj.Messages;
+import com.mysql.cj.exceptions.CJOperationNotSupportedException;
+import com.mysql.cj.exceptions.ExceptionFactory;
 import com.mysql.cj.result.Field;
 import com.mysql.cj.result.ValueFactory;
 
@@ -76,4 +79,39 @@ public interface ValueDecoder {
     <T> T decodeSet(byte[] bytes, int offset, int length, Field f, ValueFactory<T> vf);
 
     <T> T decodeYear(byte[] bytes, int offset, int length, ValueFactory<T> vf);
+
+    /**
+     * Decodes a value of an integer protocol type straight into a primitive long, bypassing the {@link ValueFactory} and thus any boxing. Supported for the
+     * protocol types of signed and unsigned TINYINT, SMALLINT, MEDIUMINT and INT, and of signed BIGINT.
+     * 
+     * @param bytes
+     *            bytes array with result data
+     * @param offset
+     *            offset in array
+     * @param length
+     *            data length
+     * @param f
+     *            the {@link Field} describing the column
+     * @return the decoded value
+     */
+    default long decodeAsLong(byte[] bytes, int offset, int length, Field f) {
+        throw ExceptionFactory.createException(CJOperationNotSupportedException.class, Messages.getString("OperationNotSupportedException.0"));
+    }
+
+    /**
+     * Decodes a value of the FLOAT or DOUBLE protocol types straight into a primitive double, bypassing the {@link ValueFactory} and thus any boxing.
+     * 
+     * @param bytes
+     *            bytes array with result data
+     * @param offset
+     *            offset in array
+     * @param length
+     *            data length
+     * @param f
+     *            the {@link Field} describing the column
+     * @return the decoded value
+     */
+    default double decodeAsDouble(byte[] bytes, int offset, int length, Field f) {
+        throw ExceptionFactory.createException(CJOperationNotSupportedException.class, Messages.getString("OperationNotSupportedException.0"));
+    }
 }
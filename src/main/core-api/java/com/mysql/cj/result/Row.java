@@ -53,6 +53,31 @@ public interface Row extends ProtocolEntity {
      */
     <T> T getValue(int columnIndex, ValueFactory<T> vf);
 
+    /**
+     * Retrieve the value of a column of an integer type as a primitive long, without the boxing involved in {@link #getValue(int, ValueFactory)}. Supported
+     * for columns whose protocol type is one of signed or unsigned TINYINT, SMALLINT, MEDIUMINT and INT, or signed BIGINT; see
+     * {@link ValueDecoder#decodeAsLong(byte[], int, int, Field)}.
+     * 
+     * @param columnIndex
+     *            index of column to retrieve value from (0-indexed, not JDBC 1-indexed)
+     * @return the value; 0 if the value is SQL <code>NULL</code>, in which case {@link #wasNull()} returns true
+     */
+    default long getLong(int columnIndex) {
+        throw ExceptionFactory.createException(CJOperationNotSupportedException.class, Messages.getString("OperationNotSupportedException.0"));
+    }
+
+    /**
+     * Retrieve the value of a column of the FLOAT or DOUBLE types as a primitive double, without the boxing involved in
+     * {@link #getValue(int, ValueFactory)}.
+     * 
+     * @param columnIndex
+     *            index of column to retrieve value from (0-indexed, not JDBC 1-indexed)
+     * @return the value; 0 if the value is SQL <code>NULL</code>, in which case {@link #wasNull()} returns true
+     */
+    default double getDouble(int columnIndex) {
+        throw ExceptionFactory.createException(CJOperationNotSupportedException.class, Messages.getString("OperationNotSupportedException.0"));
+    }
+
     /**
      * Set metadata to enable getValue functionality.
      * 
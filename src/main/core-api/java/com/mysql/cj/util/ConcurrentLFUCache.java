@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded, thread-safe cache with a W-TinyLFU-style eviction policy.
+ * 
+ * Entries are spread over a power-of-two number of independent segments. Reads never block: they go straight to a {@link ConcurrentHashMap} and only record
+ * the access in an approximate frequency sketch. Writes take a per-segment lock to keep the admission window and the main region in order. New entries enter
+ * the small admission window; when it overflows, its oldest entry competes with the oldest entry of the main region and the one with the higher estimated
+ * access frequency is kept.
+ * 
+ * @param <K>
+ *            key type
+ * @param <V>
+ *            value type
+ */
+public class ConcurrentLFUCache<K, V> {
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 32;
+
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+    private final int maxSize;
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public ConcurrentLFUCache(int maxSize) {
+        this.maxSize = Math.max(maxSize, 0);
+
+        int segmentCount = 1;
+        while (segmentCount < MAX_SEGMENTS && this.maxSize / (segmentCount * 2) >= MIN_SEGMENT_SIZE) {
+            segmentCount <<= 1;
+        }
+        int segmentSize = (this.maxSize + segmentCount - 1) / segmentCount;
+
+        this.segments = new Segment[segmentCount];
+        this.segmentMask = segmentCount - 1;
+        for (int i = 0; i < segmentCount; i++) {
+            this.segments[i] = new Segment<>(segmentSize);
+        }
+    }
+
+    public V get(K key) {
+        int hash = spread(key.hashCode());
+        return segmentFor(hash).get(key, hash);
+    }
+
+    public V put(K key, V value) {
+        int hash = spread(key.hashCode());
+        return segmentFor(hash).put(key, value, hash);
+    }
+
+    public V remove(K key) {
+        int hash = spread(key.hashCode());
+        return segmentFor(hash).remove(key);
+    }
+
+    public void clear() {
+        for (Segment<K, V> s : this.segments) {
+            s.clear();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> s : this.segments) {
+            size += s.data.size();
+        }
+        return size;
+    }
+
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    private Segment<K, V> segmentFor(int hash) {
+        return this.segments[(hash >>> 16) & this.segmentMask];
+    }
+
+    private static int spread(int h) {
+        h ^= h >>> 16;
+        h *= 0x45d9f3b;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static final class Segment<K, V> {
+        final ConcurrentHashMap<K, V> data;
+        final FrequencySketch sketch;
+        final ReentrantLock lock = new ReentrantLock();
+        final LinkedHashSet<K> window = new LinkedHashSet<>();
+        final LinkedHashSet<K> main = new LinkedHashSet<>();
+        final int windowSize;
+        final int mainSize;
+
+        Segment(int size) {
+            this.data = new ConcurrentHashMap<>(Math.max(16, size * 4 / 3 + 1));
+            this.sketch = new FrequencySketch(size);
+            this.windowSize = size == 0 ? 0 : Math.max(1, size / 100);
+            this.mainSize = size - this.windowSize;
+        }
+
+        V get(K key, int hash) {
+            this.sketch.increment(hash);
+            return this.data.get(key);
+        }
+
+        V put(K key, V value, int hash) {
+            if (this.windowSize == 0) {
+                return null;
+            }
+
+            this.sketch.increment(hash);
+            this.lock.lock();
+            try {
+                V previous = this.data.put(key, value);
+                if (previous == null) {
+                    this.window.add(key);
+                    if (this.window.size() > this.windowSize) {
+                        evictFromWindow();
+                    }
+                }
+                return previous;
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        V remove(K key) {
+            this.lock.lock();
+            try {
+                V previous = this.data.remove(key);
+                if (previous != null && !this.window.remove(key)) {
+                    this.main.remove(key);
+                }
+                return previous;
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        void clear() {
+            this.lock.lock();
+            try {
+                this.data.clear();
+                this.window.clear();
+                this.main.clear();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        /**
+         * Moves the oldest window entry into the main region, or drops it if it is less popular than the oldest main entry. Must be called while holding the
+         * segment lock.
+         */
+        private void evictFromWindow() {
+            Iterator<K> windowIt = this.window.iterator();
+            K candidate = windowIt.next();
+            windowIt.remove();
+
+            if (this.main.size() < this.mainSize) {
+                this.main.add(candidate);
+                return;
+            }
+            if (this.mainSize == 0) {
+                this.data.remove(candidate);
+                return;
+            }
+
+            Iterator<K> mainIt = this.main.iterator();
+            K victim = mainIt.next();
+            mainIt.remove();
+
+            if (this.sketch.frequency(spread(candidate.hashCode())) > this.sketch.frequency(spread(victim.hashCode()))) {
+                this.data.remove(victim);
+                this.main.add(candidate);
+            } else {
+                // The victim survives and gets a second chance at the tail of the main region.
+                this.data.remove(candidate);
+                this.main.add(victim);
+            }
+        }
+    }
+
+    /**
+     * Count-min sketch of 4-bit saturating counters, halved periodically so that old popularity fades out. Updates are not synchronized; lost increments only
+     * make the estimate slightly less accurate.
+     */
+    private static final class FrequencySketch {
+        private static final int[] SEEDS = { 0x97cb3127, 0xc2b2ae35, 0x85ebca6b, 0x27d4eb2f };
+
+        private final byte[] table;
+        private final int tableMask;
+        private final int sampleSize;
+        private int additions = 0;
+
+        FrequencySketch(int size) {
+            int length = Integer.highestOneBit(Math.max(size, 4) * 16 - 1) << 1;
+            this.table = new byte[length];
+            this.tableMask = length - 1;
+            this.sampleSize = Math.max(size, 1) * 10;
+        }
+
+        int frequency(int hash) {
+            int frequency = Byte.MAX_VALUE;
+            for (int seed : SEEDS) {
+                frequency = Math.min(frequency, this.table[indexOf(hash, seed)]);
+            }
+            return frequency;
+        }
+
+        void increment(int hash) {
+            boolean added = false;
+            for (int seed : SEEDS) {
+                int i = indexOf(hash, seed);
+                if (this.table[i] < 15) {
+                    this.table[i]++;
+                    added = true;
+                }
+            }
+            if (added && ++this.additions >= this.sampleSize) {
+                reset();
+            }
+        }
+
+        private void reset() {
+            for (int i = 0; i < this.table.length; i++) {
+                this.table[i] >>>= 1;
+            }
+            this.additions /= 2;
+        }
+
+        private int indexOf(int hash, int seed) {
+            int h = (hash ^ seed) * 0x9e3779b9;
+            return (h ^ (h >>> 15)) & this.tableMask;
+        }
+    }
+}
@@ -35,6 +35,7 @@ import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
+import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.UnsupportedCharsetException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -42,6 +43,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
@@ -64,6 +66,9 @@ public class StringUtils {
 
     private static final String VALID_ID_CHARS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIGKLMNOPQRSTUVWXYZ0123456789$_#@";
 
+    /** Charsets already looked up by Java encoding name, so that converting strings doesn't resolve the encoding name each time. */
+    private static final ConcurrentHashMap<String, Charset> charsetsByEncoding = new ConcurrentHashMap<>();
+
     /**
      * Returns the given bytes as a hex and ASCII dump (up to length bytes).
      * 
@@ -228,12 +233,104 @@ public class StringUtils {
         if (encoding == null) {
             return getBytes(s);
         }
-        try {
-            return s.getBytes(encoding);
-        } catch (UnsupportedEncodingException uee) {
-            throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("StringUtils.0", new Object[] { encoding }), uee);
+        return s.getBytes(getCharset(encoding));
+    }
+
+    /**
+     * Returns the {@link Charset} for the given Java encoding name. Charsets are looked up only once per encoding name.
+     * 
+     * @param encoding
+     *            java encoding
+     * @return the charset
+     */
+    public static Charset getCharset(String encoding) {
+        Charset cs = charsetsByEncoding.get(encoding);
+        if (cs == null) {
+            try {
+                cs = Charset.forName(encoding);
+            } catch (UnsupportedCharsetException | IllegalCharsetNameException ex) {
+                throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("StringUtils.0", new Object[] { encoding }), ex);
+            }
+            charsetsByEncoding.putIfAbsent(encoding, cs);
         }
+        return cs;
+    }
 
+    /**
+     * Returns the number of bytes of the UTF-8 representation of the given string, as produced by {@link #encodeUtf8(String, byte[], int)}.
+     * 
+     * @param s
+     *            source string
+     * @return the length in bytes
+     */
+    public static int getUtf8Length(String s) {
+        int len = s.length();
+        int bytes = len;
+        for (int i = 0; i < len; i++) {
+            char c = s.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    bytes++;
+                } else if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    bytes += 2; // 4 bytes for two chars
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    bytes += 2;
+                } // else a malformed surrogate is replaced by a single '?'
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Writes the UTF-8 representation of the given string into the given array, which must have room for {@link #getUtf8Length(String)} bytes from the given
+     * offset. Unpaired surrogates are replaced by '?', as {@link String#getBytes(Charset)} does.
+     * 
+     * @param s
+     *            source string
+     * @param dest
+     *            destination array
+     * @param offset
+     *            position of the first byte to write
+     * @return the position after the last byte written
+     */
+    public static int encodeUtf8(String s, byte[] dest, int offset) {
+        int len = s.length();
+        int pos = offset;
+        int i = 0;
+        // ASCII prefix, the common case for SQL text
+        while (i < len) {
+            char c = s.charAt(i);
+            if (c >= 0x80) {
+                break;
+            }
+            dest[pos++] = (byte) c;
+            i++;
+        }
+        for (; i < len; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                dest[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                dest[pos++] = (byte) (0xc0 | (c >> 6));
+                dest[pos++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(c, s.charAt(++i));
+                    dest[pos++] = (byte) (0xf0 | (cp >> 18));
+                    dest[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+                    dest[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+                    dest[pos++] = (byte) (0x80 | (cp & 0x3f));
+                } else {
+                    dest[pos++] = (byte) '?';
+                }
+            } else {
+                dest[pos++] = (byte) (0xe0 | (c >> 12));
+                dest[pos++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                dest[pos++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        return pos;
     }
 
     /**
@@ -1436,16 +1533,7 @@ public class StringUtils {
      * @return bytes
      */
     public static byte[] getBytes(char[] value, int offset, int length, String encoding) {
-        Charset cs;
-        try {
-            if (encoding == null) {
-                cs = Charset.defaultCharset();
-            } else {
-                cs = Charset.forName(encoding);
-            }
-        } catch (UnsupportedCharsetException ex) {
-            throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("StringUtils.0", new Object[] { encoding }), ex);
-        }
+        Charset cs = encoding == null ? Charset.defaultCharset() : getCharset(encoding);
         ByteBuffer buf = cs.encode(CharBuffer.wrap(value, offset, length));
 
         // can't simply .array() this to get the bytes especially with variable-length charsets the buffer is sometimes larger than the actual encoded data
@@ -1469,11 +1557,7 @@ public class StringUtils {
             return getBytes(value, offset, length);
         }
 
-        try {
-            return value.substring(offset, offset + length).getBytes(encoding);
-        } catch (UnsupportedEncodingException uee) {
-            throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("StringUtils.0", new Object[] { encoding }), uee);
-        }
+        return value.substring(offset, offset + length).getBytes(getCharset(encoding));
     }
 
     public static final boolean isValidIdChar(char c) {
@@ -1529,7 +1613,7 @@ public class StringUtils {
     }
 
     public static byte[] getBytesNullTerminated(String value, String encoding) {
-        Charset cs = Charset.forName(encoding);
+        Charset cs = getCharset(encoding);
         ByteBuffer buf = cs.encode(value);
         int encodedLen = buf.limit();
         byte[] asBytes = new byte[encodedLen + 1];
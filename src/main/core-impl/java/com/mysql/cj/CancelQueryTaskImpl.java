@@ -40,20 +40,21 @@ import com.mysql.cj.protocol.a.NativeMessageBuilder;
 //TODO should not be protocol-specific
 
 /**
- * Thread used to implement query timeouts...Eventually we could be more
- * efficient and have one thread with timers, but this is a straightforward
- * and simple way to implement a feature that isn't used all that often.
+ * Task used to implement query timeouts. Unless the {@link QueryCancellationService} is enabled, each cancellation runs in its own thread and opens a new
+ * connection to send KILL QUERY, which is straightforward and simple for a feature that isn't used all that often.
  */
 public class CancelQueryTaskImpl extends TimerTask implements CancelQueryTask {
 
     Query queryToCancel;
     Throwable caughtWhileCancelling = null;
     boolean queryTimeoutKillsConnection = false;
+    boolean useQueryCancellationService = false;
 
     public CancelQueryTaskImpl(Query cancellee) {
         this.queryToCancel = cancellee;
         NativeSession session = (NativeSession) cancellee.getSession();
         this.queryTimeoutKillsConnection = session.getPropertySet().getBooleanProperty(PropertyKey.queryTimeoutKillsConnection).getValue();
+        this.useQueryCancellationService = session.getPropertySet().getBooleanProperty(PropertyKey.useQueryCancellationService).getValue();
     }
 
     @Override
@@ -65,68 +66,72 @@ public class CancelQueryTaskImpl extends TimerTask implements CancelQueryTask {
 
     @Override
     public void run() {
+        if (this.useQueryCancellationService) {
+            QueryCancellationService.getInstance().execute(this::cancelQuery);
+        } else {
+            Thread cancelThread = new Thread(this::cancelQuery);
+            cancelThread.start();
+        }
+    }
 
-        Thread cancelThread = new Thread() {
-
-            @Override
-            public void run() {
-                Query localQueryToCancel = CancelQueryTaskImpl.this.queryToCancel;
-                if (localQueryToCancel == null) {
-                    return;
-                }
-                NativeSession session = (NativeSession) localQueryToCancel.getSession();
-                if (session == null) {
-                    return;
-                }
-
-                try {
-                    if (CancelQueryTaskImpl.this.queryTimeoutKillsConnection) {
-                        localQueryToCancel.setCancelStatus(CancelStatus.CANCELED_BY_TIMEOUT);
-                        session.invokeCleanupListeners(new OperationCancelledException(Messages.getString("Statement.ConnectionKilledDueToTimeout")));
+    private void cancelQuery() {
+        Query localQueryToCancel = this.queryToCancel;
+        if (localQueryToCancel == null) {
+            return;
+        }
+        NativeSession session = (NativeSession) localQueryToCancel.getSession();
+        if (session == null) {
+            return;
+        }
+
+        try {
+            if (this.queryTimeoutKillsConnection) {
+                localQueryToCancel.setCancelStatus(CancelStatus.CANCELED_BY_TIMEOUT);
+                session.invokeCleanupListeners(new OperationCancelledException(Messages.getString("Statement.ConnectionKilledDueToTimeout")));
+            } else {
+                synchronized (localQueryToCancel.getCancelTimeoutMutex()) {
+                    if (this.useQueryCancellationService) {
+                        QueryCancellationService.getInstance().killQuery(session);
                     } else {
-                        synchronized (localQueryToCancel.getCancelTimeoutMutex()) {
-                            long origConnId = session.getThreadId();
-                            HostInfo hostInfo = session.getHostInfo();
-                            String database = hostInfo.getDatabase();
-                            String user = hostInfo.getUser();
-                            String password = hostInfo.getPassword();
-
-                            NativeSession newSession = null;
-                            try {
-                                newSession = new NativeSession(hostInfo, session.getPropertySet());
-                                newSession.connect(hostInfo, user, password, database, 30000, new TransactionEventHandler() {
-                                    @Override
-                                    public void transactionCompleted() {
-                                    }
-
-                                    public void transactionBegun() {
-                                    }
-                                });
-                                newSession.getProtocol().sendCommand(new NativeMessageBuilder(newSession.getServerSession().supportsQueryAttributes())
-                                        .buildComQuery(newSession.getSharedSendPacket(), "KILL QUERY " + origConnId), false, 0);
-                            } finally {
-                                try {
-                                    newSession.forceClose();
-                                } catch (Throwable t) {
-                                    // no-op.
+                        long origConnId = session.getThreadId();
+                        HostInfo hostInfo = session.getHostInfo();
+                        String database = hostInfo.getDatabase();
+                        String user = hostInfo.getUser();
+                        String password = hostInfo.getPassword();
+
+                        NativeSession newSession = null;
+                        try {
+                            newSession = new NativeSession(hostInfo, session.getPropertySet());
+                            newSession.connect(hostInfo, user, password, database, 30000, new TransactionEventHandler() {
+                                @Override
+                                public void transactionCompleted() {
+                                }
+
+                                public void transactionBegun() {
                                 }
+                            });
+                            newSession.getProtocol().sendCommand(new NativeMessageBuilder(newSession.getServerSession().supportsQueryAttributes())
+                                    .buildComQuery(newSession.getSharedSendPacket(), "KILL QUERY " + origConnId), false, 0);
+                        } finally {
+                            try {
+                                newSession.forceClose();
+                            } catch (Throwable t) {
+                                // no-op.
                             }
-                            localQueryToCancel.setCancelStatus(CancelStatus.CANCELED_BY_TIMEOUT);
                         }
                     }
-                    // } catch (NullPointerException npe) {
-                    // Case when connection closed while starting to cancel.
-                    // We can't easily synchronize this, because then one thread can't cancel() a running query.
-                    // Ignore, we shouldn't re-throw this, because the connection's already closed, so the statement has been timed out.
-                } catch (Throwable t) {
-                    CancelQueryTaskImpl.this.caughtWhileCancelling = t;
-                } finally {
-                    setQueryToCancel(null);
+                    localQueryToCancel.setCancelStatus(CancelStatus.CANCELED_BY_TIMEOUT);
                 }
             }
-        };
-
-        cancelThread.start();
+            // } catch (NullPointerException npe) {
+            // Case when connection closed while starting to cancel.
+            // We can't easily synchronize this, because then one thread can't cancel() a running query.
+            // Ignore, we shouldn't re-throw this, because the connection's already closed, so the statement has been timed out.
+        } catch (Throwable t) {
+            this.caughtWhileCancelling = t;
+        } finally {
+            setQueryToCancel(null);
+        }
     }
 
     public Throwable getCaughtWhileCancelling() {
@@ -34,6 +34,7 @@ import com.mysql.cj.conf.RuntimeProperty;
 import com.mysql.cj.exceptions.ExceptionFactory;
 import com.mysql.cj.exceptions.WrongArgumentException;
 import com.mysql.cj.protocol.Message;
+import com.mysql.cj.protocol.a.NativePacketPayload;
 import com.mysql.cj.util.StringUtils;
 
 public class ClientPreparedQuery extends AbstractQuery implements PreparedQuery {
@@ -216,6 +217,21 @@ public class ClientPreparedQuery extends AbstractQuery implements PreparedQuery
         return new long[] { maxSizeOfParameterSet, sizeOfEntireBatch };
     }
 
+    /**
+     * Writes into the given packet a multi-values clause version of this query, holding as many batched parameter sets as fit in max_allowed_packet, starting
+     * with the one at the given index.
+     * 
+     * @param packet
+     *            the packet to write into
+     * @param fromIndex
+     *            index of the first batched parameter set to write
+     * @return the number of batched parameter sets written
+     */
+    public int fillSendPacket(NativePacketPayload packet, int fromIndex) {
+        return this.session.getProtocol().getMessageBuilder().buildComQueryForBatch(packet, this.session, this, this.batchedArgs, fromIndex,
+                this.maxAllowedPacket.getValue(), this.charEncoding);
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <M extends Message> M fillSendPacket(QueryBindings bindings) {
@@ -334,6 +334,7 @@ public class NativeCharsetSettings extends CharsetMapping implements CharsetSett
                         false, 0);
                 this.serverSession.getServerVariables().put(CHARACTER_SET_CLIENT, sessionCharsetName);
                 this.serverSession.getServerVariables().put(CHARACTER_SET_CONNECTION, sessionCharsetName);
+                this.serverSession.getServerVariables().put(CHARACTER_SET_RESULTS, sessionCharsetName); // SET NAMES sets it too
 
                 if (sessionCollationClause.length() > 0) {
                     this.serverSession.getServerVariables().put(COLLATION_CONNECTION, requiredCollation);
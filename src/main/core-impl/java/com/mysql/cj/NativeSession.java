@@ -642,6 +642,39 @@ public class NativeSession extends CoreSession implements Serializable {
      */
     public <T extends Resultset> T execSQL(Query callingQuery, String query, int maxRows, NativePacketPayload packet, boolean streamResults,
             ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory, ColumnDefinition cachedMetadata, boolean isBatch) {
+        return execSQL(callingQuery, query, maxRows, packet, streamResults, resultSetFactory, cachedMetadata, false, isBatch);
+    }
+
+    /**
+     * Send a query to the server. Returns one of the ResultSet objects.
+     * To ensure that Statement's queries are serialized, calls to this method
+     * should be enclosed in a connection mutex synchronized block.
+     * 
+     * @param <T>
+     *            extends {@link Resultset}
+     * @param callingQuery
+     *            {@link Query} object
+     * @param query
+     *            the SQL statement to be executed
+     * @param maxRows
+     *            rows limit
+     * @param packet
+     *            {@link NativePacketPayload}
+     * @param streamResults
+     *            whether a stream result should be created
+     * @param resultSetFactory
+     *            {@link ProtocolEntityFactory}
+     * @param cachedMetadata
+     *            use this metadata instead of the one provided on wire
+     * @param singleResultset
+     *            whether the query returns exactly one result set, in which case the server may omit its column definitions if cachedMetadata is given
+     * @param isBatch
+     *            is it a batch query
+     * 
+     * @return a ResultSet holding the results
+     */
+    public <T extends Resultset> T execSQL(Query callingQuery, String query, int maxRows, NativePacketPayload packet, boolean streamResults,
+            ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory, ColumnDefinition cachedMetadata, boolean singleResultset, boolean isBatch) {
 
         long queryStartTime = this.gatherPerfMetrics.getValue() ? System.currentTimeMillis() : 0;
         int endOfQueryPacketPosition = packet != null ? packet.getPosition() : 0;
@@ -661,8 +694,9 @@ public class NativeSession extends CoreSession implements Serializable {
         try {
             return packet == null
                     ? ((NativeProtocol) this.protocol).sendQueryString(callingQuery, query, this.characterEncoding.getValue(), maxRows, streamResults,
-                            cachedMetadata, resultSetFactory)
-                    : ((NativeProtocol) this.protocol).sendQueryPacket(callingQuery, packet, maxRows, streamResults, cachedMetadata, resultSetFactory);
+                            cachedMetadata, singleResultset, resultSetFactory)
+                    : ((NativeProtocol) this.protocol).sendQueryPacket(callingQuery, packet, maxRows, streamResults, cachedMetadata, singleResultset,
+                            resultSetFactory);
 
         } catch (CJException sqlE) {
             if (getPropertySet().getBooleanProperty(PropertyKey.dumpQueriesOnException).getValue()) {
@@ -741,6 +775,20 @@ public class NativeSession extends CoreSession implements Serializable {
         this.protocol.sendCommand(this.commandBuilder.buildComPing(null), false, timeoutMillis); // it isn't safe to use a shared packet here 
     }
 
+    /**
+     * Resets the session state on the server with COM_RESET_CONNECTION, without re-authenticating.
+     * 
+     * @see NativeProtocol#resetConnection()
+     */
+    public void resetConnection() {
+        checkClosed();
+
+        // reset maxRows to default value
+        this.sessionMaxRows = -1;
+
+        ((NativeProtocol) this.protocol).resetConnection();
+    }
+
     public long getConnectionCreationTimeMillis() {
         return this.connectionCreationTimeMillis;
     }
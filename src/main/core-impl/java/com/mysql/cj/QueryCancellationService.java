@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj;
+
+import java.io.IOException;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.conf.HostInfo;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.exceptions.CJException;
+import com.mysql.cj.exceptions.ExceptionFactory;
+import com.mysql.cj.protocol.a.NativeMessageBuilder;
+
+/**
+ * Driver-wide service that cancels running queries by sending KILL QUERY. Instead of a new thread and a new connection per cancellation, cancellations run
+ * on a small pool of shared daemon threads and go through a few pre-authenticated "control" sessions that are kept per host and user, at most
+ * "queryCancellationSessionsPerHost" of them. Concurrent requests to kill the same server thread are coalesced into a single KILL QUERY.
+ * 
+ * Used when the connection property "useQueryCancellationService" is enabled.
+ */
+public class QueryCancellationService {
+    /** Maximum number of threads running cancellations triggered by query timeouts. */
+    private static final int MAX_THREADS = 4;
+    /** Control sessions that stay unused for this long are closed. */
+    private static final long CONTROL_SESSION_IDLE_TIMEOUT_MILLIS = 60000;
+    private static final int CONTROL_SESSION_CONNECT_TIMEOUT_MILLIS = 30000;
+
+    private static QueryCancellationService instance = null;
+
+    private final ScheduledThreadPoolExecutor executor;
+    private final ConcurrentHashMap<ControlSessionKey, ControlSessionPool> controlSessionPools = new ConcurrentHashMap<>();
+
+    private final LongAdder cancelCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    /**
+     * Returns the driver-wide instance, creating it if needed.
+     * 
+     * @return {@link QueryCancellationService}
+     */
+    public static synchronized QueryCancellationService getInstance() {
+        if (instance == null) {
+            instance = new QueryCancellationService();
+        }
+        return instance;
+    }
+
+    /**
+     * Stops the driver-wide instance, if any, and closes its control sessions. A new instance is created if the service is needed again. Called when the
+     * abandoned connection cleanup thread is shut down, so that applications releasing the driver also release the threads and sessions held here.
+     */
+    public static synchronized void shutdown() {
+        if (instance != null) {
+            instance.executor.shutdownNow();
+            for (ControlSessionPool pool : instance.controlSessionPools.values()) {
+                pool.closeIdleSessions(Long.MAX_VALUE);
+            }
+            instance.controlSessionPools.clear();
+            instance = null;
+        }
+    }
+
+    private QueryCancellationService() {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(MAX_THREADS, r -> {
+            Thread t = new Thread(r, "mysql-cj-query-cancellation-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.executor.setKeepAliveTime(CONTROL_SESSION_IDLE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        this.executor.allowCoreThreadTimeOut(true);
+        this.executor.scheduleWithFixedDelay(() -> {
+            long idleSince = System.currentTimeMillis() - CONTROL_SESSION_IDLE_TIMEOUT_MILLIS;
+            for (ControlSessionPool pool : this.controlSessionPools.values()) {
+                pool.closeIdleSessions(idleSince);
+            }
+        }, CONTROL_SESSION_IDLE_TIMEOUT_MILLIS, CONTROL_SESSION_IDLE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs a cancellation task on one of the service threads.
+     * 
+     * @param task
+     *            the task to run
+     */
+    public void execute(Runnable task) {
+        this.executor.execute(task);
+    }
+
+    /**
+     * Kills the query currently running in the given session, using a control session to the same host and with the same user. Returns when the server has
+     * acknowledged the KILL QUERY, either the one sent by this call or the one sent by a concurrent call for the same session.
+     * 
+     * @param session
+     *            the session running the query to kill
+     * @throws IOException
+     *             if a control session cannot be established
+     */
+    public void killQuery(NativeSession session) throws IOException {
+        HostInfo hostInfo = session.getHostInfo();
+        ControlSessionPool pool = this.controlSessionPools.computeIfAbsent(new ControlSessionKey(hostInfo),
+                k -> new ControlSessionPool(hostInfo));
+        long threadId = session.getThreadId();
+
+        CompletableFuture<Void> kill = new CompletableFuture<>();
+        CompletableFuture<Void> killInProgress = pool.killsInProgress.putIfAbsent(threadId, kill);
+        if (killInProgress != null) {
+            this.coalescedCount.increment();
+            awaitKill(killInProgress);
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            pool.sendKillQuery(threadId);
+            kill.complete(null);
+        } catch (IOException | RuntimeException e) {
+            this.failureCount.increment();
+            kill.completeExceptionally(e);
+            throw e;
+        } finally {
+            pool.killsInProgress.remove(threadId, kill);
+        }
+
+        long latency = System.nanoTime() - startTime;
+        this.cancelCount.increment();
+        this.totalLatencyNanos.addAndGet(latency);
+        this.maxLatencyNanos.accumulateAndGet(latency, Math::max);
+    }
+
+    private void awaitKill(CompletableFuture<Void> kill) throws IOException {
+        try {
+            kill.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof CJException) {
+                throw (CJException) cause;
+            }
+            throw ExceptionFactory.createException(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Returns the number of KILL QUERY commands successfully sent by this service.
+     * 
+     * @return count
+     */
+    public long getCancelCount() {
+        return this.cancelCount.sum();
+    }
+
+    /**
+     * Returns the number of cancellation requests that were served by a KILL QUERY already in progress for the same session.
+     * 
+     * @return count
+     */
+    public long getCoalescedCount() {
+        return this.coalescedCount.sum();
+    }
+
+    /**
+     * Returns the number of KILL QUERY commands that failed.
+     * 
+     * @return count
+     */
+    public long getFailureCount() {
+        return this.failureCount.sum();
+    }
+
+    /**
+     * Returns the average time, in milliseconds, from requesting a cancellation to the server acknowledging the KILL QUERY, including any wait for a control
+     * session.
+     * 
+     * @return average latency in milliseconds
+     */
+    public double getAverageLatencyMillis() {
+        long count = this.cancelCount.sum();
+        return count == 0 ? 0 : this.totalLatencyNanos.get() / 1000000.0 / count;
+    }
+
+    /**
+     * Returns the longest time, in milliseconds, from requesting a cancellation to the server acknowledging the KILL QUERY.
+     * 
+     * @return maximum latency in milliseconds
+     */
+    public double getMaxLatencyMillis() {
+        return this.maxLatencyNanos.get() / 1000000.0;
+    }
+
+    /**
+     * Control sessions are shared by all connections to the same host with the same credentials, since KILL QUERY requires the same user, and with the same
+     * connection properties, since these determine how control sessions connect, e.g., socket and SSL settings.
+     */
+    private static final class ControlSessionKey {
+        private final String host;
+        private final int port;
+        private final String user;
+        private final String password;
+        private final Map<String, String> properties;
+
+        ControlSessionKey(HostInfo hostInfo) {
+            this.host = hostInfo.getHost();
+            this.port = hostInfo.getPort();
+            this.user = hostInfo.getUser();
+            this.password = hostInfo.getPassword();
+            this.properties = hostInfo.getHostProperties();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ControlSessionKey)) {
+                return false;
+            }
+            ControlSessionKey other = (ControlSessionKey) obj;
+            return this.port == other.port && Objects.equals(this.host, other.host) && Objects.equals(this.user, other.user)
+                    && Objects.equals(this.password, other.password) && this.properties.equals(other.properties);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.host, this.port, this.user);
+        }
+    }
+
+    private static final class IdleSession {
+        final NativeSession session;
+        final long idleSince = System.currentTimeMillis();
+
+        IdleSession(NativeSession session) {
+            this.session = session;
+        }
+    }
+
+    private static final class ControlSessionPool {
+        private final HostInfo hostInfo;
+        private final PropertySet propertySet;
+        private final Semaphore permits;
+        /** Most recently used sessions first, so that surplus sessions age at the tail and get closed. */
+        private final Deque<IdleSession> idleSessions = new ConcurrentLinkedDeque<>();
+        final ConcurrentHashMap<Long, CompletableFuture<Void>> killsInProgress = new ConcurrentHashMap<>();
+
+        ControlSessionPool(HostInfo hostInfo) {
+            this.hostInfo = hostInfo;
+            // Control sessions get their own copy of the connection properties so that they are not affected by later changes to the properties of any
+            // connection using this pool.
+            this.propertySet = new DefaultPropertySet();
+            this.propertySet.initializeProperties(hostInfo.exposeAsProperties());
+            this.permits = new Semaphore(this.propertySet.getIntegerProperty(PropertyKey.queryCancellationSessionsPerHost).getValue());
+        }
+
+        void sendKillQuery(long threadId) throws IOException {
+            this.permits.acquireUninterruptibly();
+            try {
+                IdleSession idle = this.idleSessions.pollFirst();
+                if (idle != null) {
+                    try {
+                        sendKillQuery(idle.session, threadId);
+                        this.idleSessions.offerFirst(new IdleSession(idle.session));
+                        return;
+                    } catch (CJException e) {
+                        // The control session went stale, e.g., closed by the server after 'wait_timeout'. Retry with a new one.
+                        idle.session.forceClose();
+                    }
+                }
+
+                NativeSession session = new NativeSession(this.hostInfo, this.propertySet);
+                try {
+                    session.connect(this.hostInfo, this.hostInfo.getUser(), this.hostInfo.getPassword(), this.hostInfo.getDatabase(),
+                            CONTROL_SESSION_CONNECT_TIMEOUT_MILLIS, new TransactionEventHandler() {
+                                @Override
+                                public void transactionCompleted() {
+                                }
+
+                                @Override
+                                public void transactionBegun() {
+                                }
+                            });
+                    sendKillQuery(session, threadId);
+                } catch (IOException | RuntimeException e) {
+                    session.forceClose();
+                    throw e;
+                }
+                this.idleSessions.offerFirst(new IdleSession(session));
+            } finally {
+                this.permits.release();
+            }
+        }
+
+        private void sendKillQuery(NativeSession session, long threadId) {
+            session.getProtocol().sendCommand(new NativeMessageBuilder(session.getServerSession().supportsQueryAttributes())
+                    .buildComQuery(session.getSharedSendPacket(), "KILL QUERY " + threadId), false, 0);
+        }
+
+        void closeIdleSessions(long idleSince) {
+            IdleSession idle;
+            while ((idle = this.idleSessions.peekLast()) != null && idle.idleSince <= idleSince) {
+                if (this.idleSessions.removeLastOccurrence(idle)) {
+                    idle.session.quit();
+                }
+            }
+        }
+    }
+}
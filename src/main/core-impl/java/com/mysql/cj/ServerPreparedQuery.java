@@ -53,6 +53,7 @@ import com.mysql.cj.protocol.a.NativeConstants.StringLengthDataType;
 import com.mysql.cj.protocol.a.NativeConstants.StringSelfDataType;
 import com.mysql.cj.protocol.a.NativeMessageBuilder;
 import com.mysql.cj.protocol.a.NativePacketPayload;
+import com.mysql.cj.protocol.a.NativeProtocol;
 import com.mysql.cj.result.Field;
 import com.mysql.cj.util.StringUtils;
 
@@ -323,6 +324,33 @@ public class ServerPreparedQuery extends ClientPreparedQuery {
         }
     }
 
+    /**
+     * Sends COM_STMT_EXECUTE for the current bindings without waiting for the response, which must later be read with
+     * {@link #readPipelinedExecuteResult(ProtocolEntityFactory)}. Parameters bound as streams are not supported.
+     */
+    public void sendPipelinedExecutePacket() {
+        this.session.getProtocol().sendPipelinedCommand(prepareExecutePacket());
+    }
+
+    /**
+     * Reads the result of the oldest COM_STMT_EXECUTE sent with {@link #sendPipelinedExecutePacket()}.
+     * 
+     * @param <T>
+     *            extends {@link Resultset}
+     * @param resultSetFactory
+     *            {@link ProtocolEntityFactory}
+     * @return {@link Resultset}
+     */
+    public <T extends Resultset> T readPipelinedExecuteResult(ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory) {
+        NativeProtocol protocol = this.session.getProtocol();
+        try {
+            return protocol.readAllResults(-1, false, protocol.readPipelinedResponse(), true, this.resultFields, resultSetFactory);
+        } catch (IOException ioEx) {
+            throw ExceptionFactory.createCommunicationsException(this.session.getPropertySet(), this.session.getServerSession(),
+                    protocol.getPacketSentTimeHolder(), protocol.getPacketReceivedTimeHolder(), ioEx, this.session.getExceptionInterceptor());
+        }
+    }
+
     public <T extends Resultset> T readExecuteResult(NativePacketPayload resultPacket, int maxRowsToRetrieve, boolean createStreamingResultSet,
             ColumnDefinition metadata, ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory, String queryAsString) { // TODO queryAsString should be shared instead of passed
         try {
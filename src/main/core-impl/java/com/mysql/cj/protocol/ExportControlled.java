@@ -29,6 +29,7 @@
 
 package com.mysql.cj.protocol;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
@@ -67,6 +68,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -118,6 +120,9 @@ public class ExportControlled {
     private static final List<String> ALLOWED_CIPHERS = new ArrayList<>();
     private static final List<String> RESTRICTED_CIPHER_SUBSTR = new ArrayList<>();
 
+    // SSLContexts shared by connections with the same key store, trust store and server identity configuration, see PropertyKey.cacheSslContext
+    private static final ConcurrentHashMap<List<Object>, CachedSSLContext> SSL_CONTEXT_CACHE = new ConcurrentHashMap<>();
+
     static {
         try {
             Properties tlsSettings = new Properties();
@@ -242,6 +247,18 @@ public class ExportControlled {
         }
     }
 
+    private static class CachedSSLContext {
+        final SSLContext sslContext;
+        final long clientCertificateKeyStoreLastModified;
+        final long trustCertificateKeyStoreLastModified;
+
+        CachedSSLContext(SSLContext sslContext, long clientCertificateKeyStoreLastModified, long trustCertificateKeyStoreLastModified) {
+            this.sslContext = sslContext;
+            this.clientCertificateKeyStoreLastModified = clientCertificateKeyStoreLastModified;
+            this.trustCertificateKeyStoreLastModified = trustCertificateKeyStoreLastModified;
+        }
+    }
+
     private static KeyStoreConf getTrustStoreConf(PropertySet propertySet, boolean required) {
         String trustStoreUrl = propertySet.getStringProperty(PropertyKey.trustCertificateKeyStoreUrl).getValue();
         String trustStorePassword = propertySet.getStringProperty(PropertyKey.trustCertificateKeyStorePassword).getValue();
@@ -330,9 +347,11 @@ public class ExportControlled {
                 : getTrustStoreConf(pset, serverVersion == null && verifyServerCert && !fallbackToSystemTrustStore);
         KeyStoreConf keyStore = getKeyStoreConf(pset);
 
-        SSLSocketFactory socketFactory = getSSLContext(keyStore, trustStore, fallbackToSystemTrustStore, verifyServerCert,
-                sslMode == PropertyDefinitions.SslMode.VERIFY_IDENTITY ? socketConnection.getHost() : null, socketConnection.getExceptionInterceptor())
-                        .getSocketFactory();
+        String hostName = sslMode == PropertyDefinitions.SslMode.VERIFY_IDENTITY ? socketConnection.getHost() : null;
+        SSLContext sslContext = pset.getBooleanProperty(PropertyKey.cacheSslContext).getValue()
+                ? getCachedSSLContext(keyStore, trustStore, fallbackToSystemTrustStore, verifyServerCert, hostName, socketConnection.getExceptionInterceptor())
+                : getSSLContext(keyStore, trustStore, fallbackToSystemTrustStore, verifyServerCert, hostName, socketConnection.getExceptionInterceptor());
+        SSLSocketFactory socketFactory = sslContext.getSocketFactory();
 
         SSLSocket sslSocket = (SSLSocket) socketFactory.createSocket(rawSocket, socketConnection.getHost(), socketConnection.getPort(), true);
 
@@ -658,6 +677,67 @@ public class ExportControlled {
         }
     }
 
+    /**
+     * Same as {@link #getSSLContext(KeyStoreConf, KeyStoreConf, boolean, boolean, String, ExceptionInterceptor)}, but returns the {@link SSLContext} created
+     * for a previous connection with the same configuration, if any and if its key store and trust store files didn't change since.
+     * 
+     * Since the TLS session cache belongs to the {@link SSLContext}, connections sharing it can resume TLS sessions established by previous connections to
+     * the same host and port.
+     * 
+     * @param clientCertificateKeyStore
+     *            clientCertificateKeyStore
+     * @param trustCertificateKeyStore
+     *            trustCertificateKeyStore
+     * @param fallbackToDefaultTrustStore
+     *            fallbackToDefaultTrustStore
+     * @param verifyServerCert
+     *            verifyServerCert
+     * @param hostName
+     *            host name
+     * @param exceptionInterceptor
+     *            exception interceptor
+     * @return SSLContext
+     * @throws SSLParamsException
+     *             if an error occurs
+     */
+    public static SSLContext getCachedSSLContext(KeyStoreConf clientCertificateKeyStore, KeyStoreConf trustCertificateKeyStore,
+            boolean fallbackToDefaultTrustStore, boolean verifyServerCert, String hostName, ExceptionInterceptor exceptionInterceptor) throws SSLParamsException {
+        List<Object> key = Arrays.asList(clientCertificateKeyStore.keyStoreUrl, clientCertificateKeyStore.keyStoreType,
+                clientCertificateKeyStore.keyStorePassword, trustCertificateKeyStore.keyStoreUrl, trustCertificateKeyStore.keyStoreType,
+                trustCertificateKeyStore.keyStorePassword, fallbackToDefaultTrustStore, verifyServerCert, hostName);
+        long clientCertificateKeyStoreLastModified = getLastModified(clientCertificateKeyStore.keyStoreUrl);
+        long trustCertificateKeyStoreLastModified = getLastModified(trustCertificateKeyStore.keyStoreUrl);
+
+        CachedSSLContext cached = SSL_CONTEXT_CACHE.get(key);
+        if (cached != null && cached.clientCertificateKeyStoreLastModified == clientCertificateKeyStoreLastModified
+                && cached.trustCertificateKeyStoreLastModified == trustCertificateKeyStoreLastModified) {
+            return cached.sslContext;
+        }
+
+        SSLContext sslContext = getSSLContext(clientCertificateKeyStore, trustCertificateKeyStore, fallbackToDefaultTrustStore, verifyServerCert, hostName,
+                exceptionInterceptor);
+        SSL_CONTEXT_CACHE.put(key, new CachedSSLContext(sslContext, clientCertificateKeyStoreLastModified, trustCertificateKeyStoreLastModified));
+        return sslContext;
+    }
+
+    /**
+     * Returns the last modification time of the file the given key store URL points to.
+     * 
+     * @param keyStoreUrl
+     *            key store URL
+     * @return the last modification time, or 0 if the URL doesn't point to an existing file
+     */
+    private static long getLastModified(String keyStoreUrl) {
+        if (StringUtils.isNullOrEmpty(keyStoreUrl) || !StringUtils.startsWithIgnoreCase(keyStoreUrl, "file:")) {
+            return 0;
+        }
+        try {
+            return new File(new URL(keyStoreUrl).getPath()).lastModified();
+        } catch (MalformedURLException e) {
+            return 0;
+        }
+    }
+
     public static boolean isSSLEstablished(Socket socket) {
         return socket == null ? false : SSLSocket.class.isAssignableFrom(socket.getClass());
     }
@@ -245,6 +245,46 @@ public abstract class AbstractResultsetRow implements ResultsetRow {
         return retVal;
     }
 
+    /**
+     * Get a primitive long value from a byte array, see {@link Row#getLong(int)}.
+     * 
+     * @param columnIndex
+     *            The (internal) index of the column
+     * @param bytes
+     *            byte array
+     * @param offset
+     *            offset into byte array
+     * @param length
+     *            length of value in byte array
+     * @return value
+     */
+    protected long getLongFromBytes(int columnIndex, byte[] bytes, int offset, int length) {
+        if (getNull(columnIndex)) {
+            return 0;
+        }
+        return this.valueDecoder.decodeAsLong(bytes, offset, length, this.metadata.getFields()[columnIndex]);
+    }
+
+    /**
+     * Get a primitive double value from a byte array, see {@link Row#getDouble(int)}.
+     * 
+     * @param columnIndex
+     *            The (internal) index of the column
+     * @param bytes
+     *            byte array
+     * @param offset
+     *            offset into byte array
+     * @param length
+     *            length of value in byte array
+     * @return value
+     */
+    protected double getDoubleFromBytes(int columnIndex, byte[] bytes, int offset, int length) {
+        if (getNull(columnIndex)) {
+            return 0;
+        }
+        return this.valueDecoder.decodeAsDouble(bytes, offset, length, this.metadata.getFields()[columnIndex]);
+    }
+
     @Override
     public Row setMetadata(ColumnDefinition f) {
         this.metadata = f;
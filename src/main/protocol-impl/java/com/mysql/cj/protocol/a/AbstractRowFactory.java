@@ -36,6 +36,7 @@ import com.mysql.cj.protocol.ProtocolEntityFactory;
 import com.mysql.cj.protocol.Resultset;
 import com.mysql.cj.protocol.ResultsetRow;
 import com.mysql.cj.protocol.ValueDecoder;
+import com.mysql.cj.protocol.a.result.RowBufferArena;
 
 public abstract class AbstractRowFactory implements ProtocolEntityFactory<ResultsetRow, NativePacketPayload> {
 
@@ -45,9 +46,34 @@ public abstract class AbstractRowFactory implements ProtocolEntityFactory<Result
     protected RuntimeProperty<Integer> useBufferRowSizeThreshold;
     protected ExceptionInterceptor exceptionInterceptor;
     protected ValueDecoder valueDecoder;
+    protected RowBufferArena rowBufferArena = null;
 
     public boolean canReuseRowPacketForBufferRow() {
         return this.canReuseRowPacketForBufferRow;
     }
 
+    public RowBufferArena getRowBufferArena() {
+        return this.rowBufferArena;
+    }
+
+    /**
+     * Switch this factory to the arena allocation mode: row packets are copied into the given {@link RowBufferArena} and buffer rows are built on top of
+     * them. Not applicable to updatable result sets, which keep using byte array rows.
+     * 
+     * @param rowBufferArena
+     *            {@link RowBufferArena}
+     */
+    public void setRowBufferArena(RowBufferArena rowBufferArena) {
+        this.rowBufferArena = rowBufferArena;
+    }
+
+    /**
+     * Is the row packet consumed before the next packet is read, so that it can be read into the protocol's reusable packet?
+     * 
+     * @return true if the row packet can be read into a reused buffer
+     */
+    public boolean canReadIntoReusablePacket() {
+        return this.canReuseRowPacketForBufferRow || this.rowBufferArena != null;
+    }
+
 }
@@ -37,15 +37,18 @@ import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.ProtocolEntityFactory;
 import com.mysql.cj.protocol.ProtocolEntityReader;
 import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.Resultset.Concurrency;
 import com.mysql.cj.protocol.Resultset.Type;
 import com.mysql.cj.protocol.ResultsetRow;
 import com.mysql.cj.protocol.ResultsetRows;
 import com.mysql.cj.protocol.a.NativeConstants.IntegerDataType;
 import com.mysql.cj.protocol.a.NativeConstants.StringSelfDataType;
 import com.mysql.cj.protocol.a.result.OkPacket;
+import com.mysql.cj.protocol.a.result.ResultsetRowsColumnar;
 import com.mysql.cj.protocol.a.result.ResultsetRowsCursor;
 import com.mysql.cj.protocol.a.result.ResultsetRowsStatic;
 import com.mysql.cj.protocol.a.result.ResultsetRowsStreaming;
+import com.mysql.cj.protocol.a.result.RowBufferArena;
 
 public class BinaryResultsetReader implements ProtocolEntityReader<Resultset, NativePacketPayload> {
 
@@ -67,7 +70,7 @@ public class BinaryResultsetReader implements ProtocolEntityReader<Resultset, Na
             // Build a result set with rows.
 
             // Read in the column information
-            ColumnDefinition cdef = this.protocol.read(ColumnDefinition.class, new MergingColumnDefinitionFactory(columnCount, metadata));
+            ColumnDefinition cdef = this.protocol.readResultsetMetadata(resultPacket, new MergingColumnDefinitionFactory(columnCount, metadata));
 
             boolean isCursorPossible = this.protocol.getPropertySet().getBooleanProperty(PropertyKey.useCursorFetch).getValue()
                     && resultSetFactory.getResultSetType() == Type.FORWARD_ONLY && resultSetFactory.getFetchSize() > 0;
@@ -98,8 +101,22 @@ public class BinaryResultsetReader implements ProtocolEntityReader<Resultset, Na
             if (isCursorPossible && this.protocol.getServerSession().cursorExists()) {
                 rows = new ResultsetRowsCursor(this.protocol, cdef);
 
+            } else if (!streamResults && resultSetFactory.getResultSetConcurrency() != Concurrency.UPDATABLE
+                    && this.protocol.getPropertySet().getBooleanProperty(PropertyKey.useColumnarResultsetRows).getValue()) {
+                ResultsetRowsColumnar columnarRows = new ResultsetRowsColumnar(cdef, true, this.protocol.getExceptionInterceptor());
+                ColumnarRowFactory crf = new ColumnarRowFactory(this.protocol, columnarRows, maxRows);
+                while (this.protocol.read(ResultsetRow.class, crf) != null) {
+                    // values are accumulated by the factory
+                }
+                rows = columnarRows;
+
             } else if (!streamResults) {
                 BinaryRowFactory brf = new BinaryRowFactory(this.protocol, cdef, resultSetFactory.getResultSetConcurrency(), false);
+                if (resultSetFactory.getResultSetConcurrency() != Concurrency.UPDATABLE
+                        && this.protocol.getPropertySet().getBooleanProperty(PropertyKey.useRowBufferArena).getValue()) {
+                    brf.setRowBufferArena(
+                            new RowBufferArena(this.protocol.getPropertySet().getMemorySizeProperty(PropertyKey.rowBufferArenaChunkSize).getValue()));
+                }
 
                 ArrayList<ResultsetRow> rowList = new ArrayList<>();
                 ResultsetRow row = this.protocol.read(ResultsetRow.class, brf);
@@ -110,7 +127,7 @@ public class BinaryResultsetReader implements ProtocolEntityReader<Resultset, Na
                     row = this.protocol.read(ResultsetRow.class, brf);
                 }
 
-                rows = new ResultsetRowsStatic(rowList, cdef);
+                rows = new ResultsetRowsStatic(rowList, cdef, brf.getRowBufferArena());
 
             } else {
                 rows = new ResultsetRowsStreaming<>(this.protocol, cdef, true, resultSetFactory);
@@ -71,6 +71,10 @@ public class BinaryRowFactory extends AbstractRowFactory implements ProtocolEnti
         // bump past ProtocolBinary::ResultsetRow packet header
         rowPacket.setPosition(rowPacket.getPosition() + 1);
 
+        if (this.rowBufferArena != null) {
+            return new BinaryBufferRow(this.rowBufferArena.copyOf(rowPacket), this.columnDefinition, this.exceptionInterceptor, this.valueDecoder);
+        }
+
         if (this.resultSetConcurrency == Concurrency.UPDATABLE || !useBufferRow) {
             return unpackBinaryResultSetRow(this.columnDefinition.getFields(), rowPacket);
         }
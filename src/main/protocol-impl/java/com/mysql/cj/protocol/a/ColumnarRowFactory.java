@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import com.mysql.cj.protocol.ProtocolEntityFactory;
+import com.mysql.cj.protocol.ResultsetRow;
+import com.mysql.cj.protocol.a.result.ByteArrayRow;
+import com.mysql.cj.protocol.a.result.ResultsetRowsColumnar;
+
+/**
+ * Row factory which decodes row packets, text or binary, straight into a {@link ResultsetRowsColumnar} instead of creating a row object per packet.
+ */
+public class ColumnarRowFactory extends AbstractRowFactory implements ProtocolEntityFactory<ResultsetRow, NativePacketPayload> {
+
+    private ResultsetRowsColumnar rows;
+    private int maxRows;
+
+    /**
+     * Returned for every consumed packet; callers only check the read result for null, which marks the end of the rows.
+     */
+    private ResultsetRow placeholderRow;
+
+    public ColumnarRowFactory(NativeProtocol protocol, ResultsetRowsColumnar rows, int maxRows) {
+        this.rows = rows;
+        this.maxRows = maxRows;
+        this.columnDefinition = rows.getMetadata();
+        this.exceptionInterceptor = protocol.getExceptionInterceptor();
+        this.placeholderRow = new ByteArrayRow(new byte[0][], this.exceptionInterceptor);
+    }
+
+    @Override
+    public ResultsetRow createFromMessage(NativePacketPayload rowPacket) {
+        if ((this.maxRows == -1) || (this.rows.size() < this.maxRows)) {
+            this.rows.append(rowPacket);
+        }
+        return this.placeholderRow;
+    }
+
+    @Override
+    public boolean canReadIntoReusablePacket() {
+        // values are copied out of the packet by ResultsetRowsColumnar.append()
+        return true;
+    }
+
+}
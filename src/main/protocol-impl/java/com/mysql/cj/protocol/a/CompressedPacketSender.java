@@ -31,7 +31,6 @@ package com.mysql.cj.protocol.a;
 
 import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.util.zip.Deflater;
 
 import com.mysql.cj.protocol.MessageSender;
 
@@ -42,7 +41,7 @@ import com.mysql.cj.protocol.MessageSender;
  */
 public class CompressedPacketSender implements MessageSender<NativePacketPayload> {
     private BufferedOutputStream outputStream;
-    private Deflater deflater = new Deflater();
+    private PacketCompressor compressor;
     /** Buffer to compress data to. Used only across one send() invocation. */
     private byte compressedPacket[];
     /** Sequence id of compressed packet. Used only across one send() invocation. */
@@ -54,20 +53,25 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
     public static final int MIN_COMPRESS_LEN = 50;
 
     public CompressedPacketSender(BufferedOutputStream outputStream) {
+        this(outputStream, new ZlibPacketCompressor());
+    }
+
+    public CompressedPacketSender(BufferedOutputStream outputStream, PacketCompressor compressor) {
         this.outputStream = outputStream;
+        this.compressor = compressor;
     }
 
     /**
      * Shut down this packet sender and deallocate any resources.
      */
     public void stop() {
-        this.deflater.end();
-        this.deflater = null;
+        this.compressor.end();
+        this.compressor = null;
     }
 
     private void resetPacket() {
         this.compressedPayloadLen = 0;
-        this.deflater.reset();
+        this.compressor.reset();
     }
 
     /**
@@ -77,14 +81,15 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
      *            sequence id
      * @param uncompressedPacketLen
      *            uncompressed packet length
+     * @throws IOException
+     *             if compression fails
      */
-    private void addUncompressedHeader(byte packetSequence, int uncompressedPacketLen) {
+    private void addUncompressedHeader(byte packetSequence, int uncompressedPacketLen) throws IOException {
         byte uncompressedHeader[] = new byte[NativeConstants.HEADER_LENGTH];
         NativeUtils.encodeMysqlThreeByteInteger(uncompressedPacketLen, uncompressedHeader, 0);
         uncompressedHeader[3] = packetSequence;
-        this.deflater.setInput(uncompressedHeader);
-        this.compressedPayloadLen += this.deflater.deflate(this.compressedPacket, this.compressedPayloadLen,
-                this.compressedPacket.length - this.compressedPayloadLen);
+        this.compressedPayloadLen += this.compressor.compress(uncompressedHeader, 0, uncompressedHeader.length, this.compressedPacket,
+                this.compressedPayloadLen, this.compressedPacket.length - this.compressedPayloadLen);
     }
 
     /**
@@ -96,19 +101,22 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
      *            offset
      * @param payloadLen
      *            length
+     * @throws IOException
+     *             if compression fails
      */
-    private void addPayload(byte[] payload, int payloadOffset, int payloadLen) {
-        this.deflater.setInput(payload, payloadOffset, payloadLen);
-        this.compressedPayloadLen += this.deflater.deflate(this.compressedPacket, this.compressedPayloadLen,
+    private void addPayload(byte[] payload, int payloadOffset, int payloadLen) throws IOException {
+        this.compressedPayloadLen += this.compressor.compress(payload, payloadOffset, payloadLen, this.compressedPacket, this.compressedPayloadLen,
                 this.compressedPacket.length - this.compressedPayloadLen);
     }
 
     /**
      * Complete compression of the current payload contents to the compressed packet.
+     * 
+     * @throws IOException
+     *             if compression fails
      */
-    private void completeCompression() {
-        this.deflater.finish();
-        this.compressedPayloadLen += this.deflater.deflate(this.compressedPacket, this.compressedPayloadLen,
+    private void completeCompression() throws IOException {
+        this.compressedPayloadLen += this.compressor.finish(this.compressedPacket, this.compressedPayloadLen,
                 this.compressedPacket.length - this.compressedPayloadLen);
     }
 
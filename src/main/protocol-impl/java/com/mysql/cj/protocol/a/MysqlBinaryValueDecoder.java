@@ -33,6 +33,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 
 import com.mysql.cj.Messages;
+import com.mysql.cj.MysqlType;
 import com.mysql.cj.exceptions.DataReadException;
 import com.mysql.cj.protocol.InternalDate;
 import com.mysql.cj.protocol.InternalTime;
@@ -286,4 +287,60 @@ public class MysqlBinaryValueDecoder implements ValueDecoder {
         short asShort = (short) ((bytes[offset] & 0xff) | ((bytes[offset + 1] & 0xff) << 8));
         return vf.createFromYear(asShort);
     }
+
+    @Override
+    public long decodeAsLong(byte[] bytes, int offset, int length, Field f) {
+        switch (f.getMysqlTypeId()) {
+            case MysqlType.FIELD_TYPE_TINY:
+                checkLength(length, NativeConstants.BIN_LEN_INT1, "BYTE");
+                return f.isUnsigned() ? bytes[offset] & 0xff : bytes[offset];
+
+            case MysqlType.FIELD_TYPE_SHORT:
+                checkLength(length, NativeConstants.BIN_LEN_INT2, "SHORT");
+                int asInt2 = (bytes[offset] & 0xff) | ((bytes[offset + 1] & 0xff) << 8);
+                return f.isUnsigned() ? asInt2 : (short) asInt2;
+
+            case MysqlType.FIELD_TYPE_LONG:
+            case MysqlType.FIELD_TYPE_INT24:
+                checkLength(length, NativeConstants.BIN_LEN_INT4, "INT");
+                int asInt4 = (bytes[offset] & 0xff) | ((bytes[offset + 1] & 0xff) << 8) | ((bytes[offset + 2] & 0xff) << 16)
+                        | ((bytes[offset + 3] & 0xff) << 24);
+                return f.isUnsigned() && f.getMysqlTypeId() == MysqlType.FIELD_TYPE_LONG ? asInt4 & 0xffffffffL : asInt4;
+
+            case MysqlType.FIELD_TYPE_LONGLONG:
+                if (!f.isUnsigned()) {
+                    checkLength(length, NativeConstants.BIN_LEN_INT8, "LONG");
+                    return readInt8(bytes, offset);
+                }
+                break;
+        }
+        return ValueDecoder.super.decodeAsLong(bytes, offset, length, f);
+    }
+
+    @Override
+    public double decodeAsDouble(byte[] bytes, int offset, int length, Field f) {
+        switch (f.getMysqlTypeId()) {
+            case MysqlType.FIELD_TYPE_FLOAT:
+                checkLength(length, NativeConstants.BIN_LEN_FLOAT, "FLOAT");
+                return Float.intBitsToFloat(
+                        (bytes[offset] & 0xff) | ((bytes[offset + 1] & 0xff) << 8) | ((bytes[offset + 2] & 0xff) << 16) | ((bytes[offset + 3] & 0xff) << 24));
+
+            case MysqlType.FIELD_TYPE_DOUBLE:
+                checkLength(length, NativeConstants.BIN_LEN_DOUBLE, "DOUBLE");
+                return Double.longBitsToDouble(readInt8(bytes, offset));
+        }
+        return ValueDecoder.super.decodeAsDouble(bytes, offset, length, f);
+    }
+
+    private static void checkLength(int length, int expectedLength, String typeName) {
+        if (length != expectedLength) {
+            throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, typeName }));
+        }
+    }
+
+    private static long readInt8(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xff) | ((long) (bytes[offset + 1] & 0xff) << 8) | ((long) (bytes[offset + 2] & 0xff) << 16)
+                | ((long) (bytes[offset + 3] & 0xff) << 24) | ((long) (bytes[offset + 4] & 0xff) << 32) | ((long) (bytes[offset + 5] & 0xff) << 40)
+                | ((long) (bytes[offset + 6] & 0xff) << 48) | ((long) (bytes[offset + 7] & 0xff) << 56);
+    }
 }
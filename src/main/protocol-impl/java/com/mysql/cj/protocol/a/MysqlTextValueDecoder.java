@@ -157,6 +157,16 @@ public class MysqlTextValueDecoder implements ValueDecoder {
         return vf.createFromYear(getLong(bytes, offset, offset + length));
     }
 
+    @Override
+    public long decodeAsLong(byte[] bytes, int offset, int length, Field f) {
+        return getLong(bytes, offset, offset + length);
+    }
+
+    @Override
+    public double decodeAsDouble(byte[] bytes, int offset, int length, Field f) {
+        return Double.parseDouble(StringUtils.toAsciiString(bytes, offset, length));
+    }
+
     public static int getInt(byte[] buf, int offset, int endpos) throws NumberFormatException {
         long l = getLong(buf, offset, endpos);
         if (l < Integer.MIN_VALUE || l > Integer.MAX_VALUE) {
@@ -171,7 +171,7 @@ public class NativeAuthenticationProvider implements AuthenticationProvider<Nati
                 | capabilityFlags & NativeServerSession.CLIENT_LONG_FLAG //
                 | (this.useConnectWithDb ? capabilityFlags & NativeServerSession.CLIENT_CONNECT_WITH_DB : 0) //
                 | (this.propertySet.getBooleanProperty(PropertyKey.useCompression).getValue() ? //
-                        capabilityFlags & NativeServerSession.CLIENT_COMPRESS : 0) //
+                        negotiateCompressionAlgorithm(capabilityFlags) : 0) //
                 | (this.propertySet.getBooleanProperty(PropertyKey.allowLoadLocalInfile).getValue()
                         || this.propertySet.getStringProperty(PropertyKey.allowLoadLocalInfileInPath).isExplicitlySet() ? //
                                 capabilityFlags & NativeServerSession.CLIENT_LOCAL_FILES : 0) //
@@ -195,6 +195,8 @@ public class NativeAuthenticationProvider implements AuthenticationProvider<Nati
                 | (this.propertySet.getBooleanProperty(PropertyKey.trackSessionState).getValue() ? // 
                         capabilityFlags & NativeServerSession.CLIENT_SESSION_TRACK : 0) //
                 | capabilityFlags & NativeServerSession.CLIENT_DEPRECATE_EOF //
+                | (this.propertySet.getBooleanProperty(PropertyKey.useOptionalResultsetMetadata).getValue() ? //
+                        capabilityFlags & NativeServerSession.CLIENT_OPTIONAL_RESULTSET_METADATA : 0) //
                 | capabilityFlags & NativeServerSession.CLIENT_QUERY_ATTRIBUTES // 
                 | capabilityFlags & NativeServerSession.CLIENT_MULTI_FACTOR_AUTHENTICATION;
 
@@ -214,6 +216,31 @@ public class NativeAuthenticationProvider implements AuthenticationProvider<Nati
         this.password = null;
     }
 
+    /**
+     * Picks the first algorithm from the "compressionAlgorithms" connection property that the server supports.
+     * 
+     * @param capabilityFlags
+     *            server capability flags
+     * @return either CLIENT_COMPRESS or CLIENT_ZSTD_COMPRESSION_ALGORITHM, or 0 if the server supports none of the requested algorithms
+     */
+    private long negotiateCompressionAlgorithm(long capabilityFlags) {
+        for (String algorithm : StringUtils.split(this.propertySet.getStringProperty(PropertyKey.compressionAlgorithms).getValue(), ",", true)) {
+            long flag;
+            if ("zlib".equalsIgnoreCase(algorithm)) {
+                flag = NativeServerSession.CLIENT_COMPRESS;
+            } else if ("zstd".equalsIgnoreCase(algorithm)) {
+                flag = NativeServerSession.CLIENT_ZSTD_COMPRESSION_ALGORITHM;
+            } else {
+                throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("Protocol.Compression.9", new Object[] { algorithm }),
+                        getExceptionInterceptor());
+            }
+            if ((capabilityFlags & flag) != 0) {
+                return flag;
+            }
+        }
+        return 0;
+    }
+
     /**
      * Fill the authentication plugins map.
      * 
@@ -657,6 +684,10 @@ public class NativeAuthenticationProvider implements AuthenticationProvider<Nati
         if (((clientParam & NativeServerSession.CLIENT_CONNECT_ATTRS) != 0)) {
             appendConnectionAttributes(last_sent, this.propertySet.getStringProperty(PropertyKey.connectionAttributes).getValue(), enc);
         }
+
+        if ((clientParam & NativeServerSession.CLIENT_ZSTD_COMPRESSION_ALGORITHM) != 0) {
+            last_sent.writeInteger(IntegerDataType.INT1, this.propertySet.getIntegerProperty(PropertyKey.zstdCompressionLevel).getValue());
+        }
         return last_sent;
     }
 
@@ -39,6 +39,7 @@ import com.mysql.cj.NativeSession;
 import com.mysql.cj.PreparedQuery;
 import com.mysql.cj.QueryAttributesBindings;
 import com.mysql.cj.QueryBindings;
+import com.mysql.cj.QueryInfo;
 import com.mysql.cj.Session;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.CJOperationNotSupportedException;
@@ -96,41 +97,11 @@ public class NativeMessageBuilder implements MessageBuilder<NativePacketPayload>
     public NativePacketPayload buildComQuery(NativePacketPayload sharedPacket, Session sess, PreparedQuery preparedQuery, QueryBindings bindings,
             String characterEncoding) {
         NativePacketPayload sendPacket = sharedPacket != null ? sharedPacket : new NativePacketPayload(9);
-        QueryAttributesBindings queryAttributesBindings = preparedQuery.getQueryAttributesBindings();
 
         synchronized (this) {
             BindValue[] bindValues = bindings.getBindValues();
 
-            sendPacket.writeInteger(IntegerDataType.INT1, NativeConstants.COM_QUERY);
-
-            if (this.supportsQueryAttributes) {
-                if (queryAttributesBindings.getCount() > 0) {
-                    sendPacket.writeInteger(IntegerDataType.INT_LENENC, queryAttributesBindings.getCount());
-                    sendPacket.writeInteger(IntegerDataType.INT_LENENC, 1); // parameter_set_count (always 1)
-                    byte[] nullBitsBuffer = new byte[(queryAttributesBindings.getCount() + 7) / 8];
-                    for (int i = 0; i < queryAttributesBindings.getCount(); i++) {
-                        if (queryAttributesBindings.getAttributeValue(i).isNull()) {
-                            nullBitsBuffer[i >>> 3] |= 1 << (i & 7);
-                        }
-                    }
-                    sendPacket.writeBytes(StringLengthDataType.STRING_VAR, nullBitsBuffer);
-                    sendPacket.writeInteger(IntegerDataType.INT1, 1); // new_params_bind_flag (always 1)
-                    queryAttributesBindings.runThroughAll(a -> {
-                        sendPacket.writeInteger(IntegerDataType.INT2, a.getFieldType());
-                        sendPacket.writeBytes(StringSelfDataType.STRING_LENENC, a.getName().getBytes());
-                    });
-                    queryAttributesBindings.runThroughAll(a -> {
-                        if (!a.isNull()) {
-                            a.writeAsQueryAttribute(sendPacket);
-                        }
-                    });
-                } else {
-                    sendPacket.writeInteger(IntegerDataType.INT_LENENC, 0);
-                    sendPacket.writeInteger(IntegerDataType.INT_LENENC, 1); // parameter_set_count (always 1)
-                }
-            } else if (queryAttributesBindings.getCount() > 0) {
-                sess.getLog().logWarn(Messages.getString("QueryAttributes.SetButNotSupported"));
-            }
+            writeComQueryHeader(sendPacket, sess, preparedQuery.getQueryAttributesBindings());
 
             sendPacket.setTag("QUERY");
 
@@ -181,6 +152,96 @@ public class NativeMessageBuilder implements MessageBuilder<NativePacketPayload>
         }
     }
 
+    /**
+     * Writes the COM_QUERY command byte and, if supported, the query attributes, leaving the packet ready for the query text.
+     */
+    private void writeComQueryHeader(NativePacketPayload sendPacket, Session sess, QueryAttributesBindings queryAttributesBindings) {
+        sendPacket.writeInteger(IntegerDataType.INT1, NativeConstants.COM_QUERY);
+
+        if (this.supportsQueryAttributes) {
+            if (queryAttributesBindings.getCount() > 0) {
+                sendPacket.writeInteger(IntegerDataType.INT_LENENC, queryAttributesBindings.getCount());
+                sendPacket.writeInteger(IntegerDataType.INT_LENENC, 1); // parameter_set_count (always 1)
+                byte[] nullBitsBuffer = new byte[(queryAttributesBindings.getCount() + 7) / 8];
+                for (int i = 0; i < queryAttributesBindings.getCount(); i++) {
+                    if (queryAttributesBindings.getAttributeValue(i).isNull()) {
+                        nullBitsBuffer[i >>> 3] |= 1 << (i & 7);
+                    }
+                }
+                sendPacket.writeBytes(StringLengthDataType.STRING_VAR, nullBitsBuffer);
+                sendPacket.writeInteger(IntegerDataType.INT1, 1); // new_params_bind_flag (always 1)
+                queryAttributesBindings.runThroughAll(a -> {
+                    sendPacket.writeInteger(IntegerDataType.INT2, a.getFieldType());
+                    sendPacket.writeBytes(StringSelfDataType.STRING_LENENC, a.getName().getBytes());
+                });
+                queryAttributesBindings.runThroughAll(a -> {
+                    if (!a.isNull()) {
+                        a.writeAsQueryAttribute(sendPacket);
+                    }
+                });
+            } else {
+                sendPacket.writeInteger(IntegerDataType.INT_LENENC, 0);
+                sendPacket.writeInteger(IntegerDataType.INT_LENENC, 1); // parameter_set_count (always 1)
+            }
+        } else if (queryAttributesBindings.getCount() > 0) {
+            sess.getLog().logWarn(Messages.getString("QueryAttributes.SetButNotSupported"));
+        }
+    }
+
+    @Override
+    public int buildComQueryForBatch(NativePacketPayload packet, Session sess, PreparedQuery preparedQuery, List<Object> batchedArgs, int fromIndex,
+            int maxMessageSize, String characterEncoding) {
+        synchronized (this) {
+            writeComQueryHeader(packet, sess, preparedQuery.getQueryAttributesBindings());
+
+            packet.setTag("QUERY");
+
+            String statementComment = ((NativeSession) sess).getProtocol().getQueryComment();
+            if (statementComment != null) {
+                packet.writeBytes(StringLengthDataType.STRING_FIXED, Constants.SLASH_STAR_SPACE_AS_BYTES);
+                packet.writeBytes(StringLengthDataType.STRING_FIXED, StringUtils.getBytes(statementComment, characterEncoding));
+                packet.writeBytes(StringLengthDataType.STRING_FIXED, Constants.SPACE_STAR_SLASH_SPACE_AS_BYTES);
+            }
+
+            QueryInfo queryInfo = preparedQuery.getQueryInfo().getQueryInfoForBatch(1);
+            byte[][] staticSqlStrings = queryInfo.getStaticSqlParts();
+            byte[] valuesBindingSegment = queryInfo.getValuesBindingSegment();
+            byte[] tail = staticSqlStrings[staticSqlStrings.length - 1];
+
+            packet.writeBytes(StringLengthDataType.STRING_FIXED, staticSqlStrings[0]);
+
+            int numberOfSets = 0;
+            for (int i = fromIndex; i < batchedArgs.size(); i++) {
+                int setStartPosition = packet.getPosition();
+                if (numberOfSets > 0) {
+                    packet.writeBytes(StringLengthDataType.STRING_FIXED, valuesBindingSegment);
+                }
+
+                QueryBindings bindings = (QueryBindings) batchedArgs.get(i);
+                BindValue[] bindValues = bindings.getBindValues();
+                for (int j = 0; j < bindValues.length; j++) {
+                    bindings.checkParameterSet(j);
+                    if (j > 0) {
+                        packet.writeBytes(StringLengthDataType.STRING_FIXED, staticSqlStrings[j]);
+                    }
+                    bindValues[j].writeAsText(packet);
+                }
+
+                if (numberOfSets > 0 && packet.getPosition() + tail.length > maxMessageSize) {
+                    // This parameter set doesn't fit; roll it back and leave it for the next message.
+                    packet.setPosition(setStartPosition);
+                    packet.setPayloadLength(setStartPosition);
+                    break;
+                }
+                numberOfSets++;
+            }
+
+            packet.writeBytes(StringLengthDataType.STRING_FIXED, tail);
+
+            return numberOfSets;
+        }
+    }
+
     public NativePacketPayload buildComInitDb(NativePacketPayload sharedPacket, byte[] dbName) {
         NativePacketPayload packet = sharedPacket != null ? sharedPacket : new NativePacketPayload(dbName.length + 1);
         packet.writeInteger(IntegerDataType.INT1, NativeConstants.COM_INIT_DB);
@@ -211,6 +272,12 @@ public class NativeMessageBuilder implements MessageBuilder<NativePacketPayload>
         return packet;
     }
 
+    public NativePacketPayload buildComResetConnection(NativePacketPayload sharedPacket) {
+        NativePacketPayload packet = sharedPacket != null ? sharedPacket : new NativePacketPayload(1);
+        packet.writeInteger(IntegerDataType.INT1, NativeConstants.COM_RESET_CONNECTION);
+        return packet;
+    }
+
     public NativePacketPayload buildComQuit(NativePacketPayload sharedPacket) {
         NativePacketPayload packet = sharedPacket != null ? sharedPacket : new NativePacketPayload(1);
         packet.writeInteger(IntegerDataType.INT1, NativeConstants.COM_QUIT);
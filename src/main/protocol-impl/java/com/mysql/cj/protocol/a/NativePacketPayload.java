@@ -75,6 +75,21 @@ public class NativePacketPayload implements Message {
 
     static final int MAX_BYTES_TO_DUMP = 1024;
 
+    /** Escape sequence letters of the ASCII characters that {@link #writeEscapedString(String, boolean, boolean)} escapes, 0 for the others. */
+    private static final byte[] ESCAPED_ASCII = new byte[0x80];
+    /** Number of characters to reserve buffer space for at a time while escaping and encoding. */
+    private static final int ESCAPE_CHUNK_SIZE = 8192;
+
+    static {
+        ESCAPED_ASCII[0] = '0';
+        ESCAPED_ASCII['\n'] = 'n';
+        ESCAPED_ASCII['\r'] = 'r';
+        ESCAPED_ASCII['\\'] = '\\';
+        ESCAPED_ASCII['\''] = '\'';
+        ESCAPED_ASCII['"'] = '"';
+        ESCAPED_ASCII['\032'] = 'Z';
+    }
+
     private Map<String, Integer> tags = new HashMap<>();
 
     @Override
@@ -499,6 +514,111 @@ public class NativePacketPayload implements Message {
         adjustPayloadLength();
     }
 
+    /**
+     * Write the UTF-8 representation of the given string into internal buffer, without length prefix and without encoding it into an intermediate byte array.
+     * Write starts with current buffer position.
+     * 
+     * @param s
+     *            the string to write
+     */
+    public void writeUtf8String(String s) {
+        writeUtf8String(s, StringUtils.getUtf8Length(s));
+    }
+
+    /**
+     * Same as {@link #writeUtf8String(String)}, for callers that already know the UTF-8 length of the string.
+     * 
+     * @param s
+     *            the string to write
+     * @param utf8Length
+     *            the length of the UTF-8 representation of the string, as returned by {@link StringUtils#getUtf8Length(String)}
+     */
+    public void writeUtf8String(String s, int utf8Length) {
+        ensureCapacity(utf8Length);
+        this.position = StringUtils.encodeUtf8(s, this.byteBuffer, this.position);
+        adjustPayloadLength();
+    }
+
+    /**
+     * Write the given string as a quoted SQL string literal into internal buffer, escaped as
+     * {@link StringUtils#escapeString(StringBuilder, String, boolean, java.nio.charset.CharsetEncoder)} does and encoded in UTF-8 in the same pass, without
+     * intermediate strings or byte arrays. Leading ASCII characters that need no escaping are copied as they are scanned.
+     * Write starts with current buffer position.
+     * 
+     * @param s
+     *            the string to write
+     * @param useAnsiQuotedIdentifiers
+     *            whether double quotes must be escaped too
+     * @param asciiOnly
+     *            whether to give up on strings with non-ASCII characters, so that this method can be used with any character encoding that encodes ASCII
+     *            characters as UTF-8 does
+     * @return <code>false</code> if <code>asciiOnly</code> is set and the string contains non-ASCII characters, in which case nothing is written,
+     *         <code>true</code> otherwise
+     */
+    public boolean writeEscapedString(String s, boolean useAnsiQuotedIdentifiers, boolean asciiOnly) {
+        int startPosition = this.position;
+        int len = s.length();
+        ensureCapacity(len + 2);
+        byte[] buf = this.byteBuffer;
+        int pos = this.position;
+        buf[pos++] = '\'';
+
+        int i = 0;
+        for (; i < len; i++) {
+            char c = s.charAt(i);
+            if (c >= 0x80 || ESCAPED_ASCII[c] != 0) {
+                break;
+            }
+            buf[pos++] = (byte) c;
+        }
+
+        while (i < len) {
+            // At most 3 bytes per char, one more for a surrogate pair split by the chunk end and one for the closing quote.
+            int chunkEnd = Math.min(len, i + ESCAPE_CHUNK_SIZE);
+            this.position = pos;
+            ensureCapacity((chunkEnd - i) * 3 + 2);
+            buf = this.byteBuffer;
+
+            for (; i < chunkEnd; i++) {
+                char c = s.charAt(i);
+                if (c < 0x80) {
+                    byte escaped = ESCAPED_ASCII[c];
+                    if (escaped == 0 || (c == '"' && !useAnsiQuotedIdentifiers)) {
+                        buf[pos++] = (byte) c;
+                    } else {
+                        buf[pos++] = c == '\'' ? (byte) '\'' : (byte) '\\';
+                        buf[pos++] = escaped;
+                    }
+                } else if (asciiOnly) {
+                    this.position = startPosition;
+                    return false;
+                } else if (c < 0x800) {
+                    buf[pos++] = (byte) (0xc0 | (c >> 6));
+                    buf[pos++] = (byte) (0x80 | (c & 0x3f));
+                } else if (Character.isSurrogate(c)) {
+                    if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(s.charAt(i + 1))) {
+                        int cp = Character.toCodePoint(c, s.charAt(++i));
+                        buf[pos++] = (byte) (0xf0 | (cp >> 18));
+                        buf[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+                        buf[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+                        buf[pos++] = (byte) (0x80 | (cp & 0x3f));
+                    } else {
+                        buf[pos++] = (byte) '?';
+                    }
+                } else {
+                    buf[pos++] = (byte) (0xe0 | (c >> 12));
+                    buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                    buf[pos++] = (byte) (0x80 | (c & 0x3f));
+                }
+            }
+        }
+
+        buf[pos++] = '\'';
+        this.position = pos;
+        adjustPayloadLength();
+        return true;
+    }
+
     /**
      * Read bytes from internal buffer starting from current position into the new byte array.
      * The length of data to read depends on {@link StringSelfDataType}.
@@ -30,6 +30,7 @@
 package com.mysql.cj.protocol.a;
 
 import java.io.BufferedInputStream;
+import java.io.EOFException;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -46,6 +47,7 @@ import java.net.Socket;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -141,6 +143,7 @@ import com.mysql.cj.protocol.a.NativeConstants.IntegerDataType;
 import com.mysql.cj.protocol.a.NativeConstants.StringLengthDataType;
 import com.mysql.cj.protocol.a.NativeConstants.StringSelfDataType;
 import com.mysql.cj.protocol.a.result.OkPacket;
+import com.mysql.cj.protocol.a.result.ResultsetRowsCursor;
 import com.mysql.cj.result.Field;
 import com.mysql.cj.result.IntegerValueFactory;
 import com.mysql.cj.result.Row;
@@ -206,6 +209,15 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
     protected Map<Class<? extends ProtocolEntity>, ProtocolEntityReader<? extends ProtocolEntity, ? extends Message>> PROTOCOL_ENTITY_CLASS_TO_BINARY_READER;
 
     private int statementExecutionDepth = 0;
+
+    /** Whether the session variable 'resultset_metadata' was set to 'NONE' by this protocol instance. */
+    private boolean resultsetMetadataSuppressed = false;
+    /** Whether the next COM_QUERY may be answered without column definitions, i.e., its result set metadata is already cached. */
+    private boolean suppressNextResultsetMetadata = false;
+    private boolean switchingResultsetMetadata = false;
+    /** Number of commands sent with {@link #sendPipelinedCommand(NativePacketPayload)} whose responses were not read yet. */
+    private int pipelinedResponsesPending = 0;
+    private ResultsetRowsCursor pendingCursorPrefetch = null;
     private List<QueryInterceptor> queryInterceptors;
 
     private RuntimeProperty<Boolean> maintainTimeStats;
@@ -433,13 +445,12 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
             //
             // Can't enable compression until after handshake
             //
-            if (((this.serverSession.getCapabilities().getCapabilityFlags() & NativeServerSession.CLIENT_COMPRESS) != 0)
-                    && this.propertySet.getBooleanProperty(PropertyKey.useCompression).getValue()
+            if (((this.serverSession.getClientParam() & (NativeServerSession.CLIENT_COMPRESS | NativeServerSession.CLIENT_ZSTD_COMPRESSION_ALGORITHM)) != 0)
                     && !(this.socketConnection.getMysqlInput().getUnderlyingStream() instanceof CompressedInputStream)) {
                 this.useCompression = true;
                 this.socketConnection.setMysqlInput(new FullReadInputStream(new CompressedInputStream(this.socketConnection.getMysqlInput(),
-                        this.propertySet.getBooleanProperty(PropertyKey.traceProtocol), this.log)));
-                this.compressedPacketSender = new CompressedPacketSender(this.socketConnection.getMysqlOutput());
+                        createPacketCompressor(), this.propertySet.getBooleanProperty(PropertyKey.traceProtocol), this.log)));
+                this.compressedPacketSender = new CompressedPacketSender(this.socketConnection.getMysqlOutput(), createPacketCompressor());
                 this.packetSender = this.compressedPacketSender;
             }
 
@@ -463,6 +474,23 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         this.propertySet.getBooleanProperty(PropertyKey.enablePacketDebug).addListener(this);
     }
 
+    /**
+     * Creates a {@link PacketCompressor} for the compression algorithm negotiated in the handshake.
+     * 
+     * @return {@link PacketCompressor}
+     */
+    private PacketCompressor createPacketCompressor() {
+        if ((this.serverSession.getClientParam() & NativeServerSession.CLIENT_ZSTD_COMPRESSION_ALGORITHM) != 0) {
+            String[] streamClasses = this.propertySet.getStringProperty(PropertyKey.zstdCompressionStreams).getValue().split(":");
+            if (streamClasses.length != 2) {
+                throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("Protocol.Compression.10"), getExceptionInterceptor());
+            }
+            return new ZstdPacketCompressor(streamClasses[0].trim(), streamClasses[1].trim(),
+                    this.propertySet.getIntegerProperty(PropertyKey.zstdCompressionLevel).getValue());
+        }
+        return new ZlibPacketCompressor();
+    }
+
     @Override
     public void handlePropertyChange(RuntimeProperty<?> prop) {
         switch (prop.getPropertyDefinition().getPropertyKey()) {
@@ -489,34 +517,57 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
      */
     public void applyPacketDecorators(MessageSender<NativePacketPayload> sender, MessageReader<NativePacketHeader, NativePacketPayload> messageReader) {
         TimeTrackingPacketSender ttSender = null;
-        TimeTrackingPacketReader ttReader = null;
+        PacketReceivedTimeHolder ttReader = null;
         LinkedList<StringBuilder> debugRingBuffer = null;
 
+        boolean traceProtocol = this.propertySet.getBooleanProperty(PropertyKey.traceProtocol).getValue();
+        boolean enablePacketDebug = this.propertySet.getBooleanProperty(PropertyKey.enablePacketDebug).getValue();
+
+        if (messageReader instanceof SimplePacketReader) {
+            ((SimplePacketReader) messageReader).configure(false, false);
+        }
+
         if (this.maintainTimeStats.getValue()) {
             ttSender = new TimeTrackingPacketSender(sender);
             sender = ttSender;
+        }
+
+        if (!traceProtocol && !enablePacketDebug && messageReader instanceof SimplePacketReader) {
+            // no per-packet decorators needed, a single reader assembles multi-packets and tracks time
+            ((SimplePacketReader) messageReader).configure(true, this.maintainTimeStats.getValue());
+            if (this.maintainTimeStats.getValue()) {
+                ttReader = (SimplePacketReader) messageReader;
+            }
+
+        } else {
+            if (this.maintainTimeStats.getValue()) {
+                TimeTrackingPacketReader timeTrackingReader = new TimeTrackingPacketReader(messageReader);
+                messageReader = timeTrackingReader;
+                ttReader = timeTrackingReader;
+            }
 
-            ttReader = new TimeTrackingPacketReader(messageReader);
-            messageReader = ttReader;
+            if (traceProtocol) {
+                messageReader = new TracingPacketReader(messageReader, this.log);
+            }
+
+            if (enablePacketDebug) {
+                debugRingBuffer = new LinkedList<>();
+                messageReader = new DebugBufferingPacketReader(messageReader, debugRingBuffer,
+                        this.propertySet.getIntegerProperty(PropertyKey.packetDebugBufferSize));
+            }
+
+            // do it after other decorators to have trace and debug applied to individual packets 
+            messageReader = new MultiPacketReader(messageReader);
         }
 
-        if (this.propertySet.getBooleanProperty(PropertyKey.traceProtocol).getValue()) {
+        if (traceProtocol) {
             sender = new TracingPacketSender(sender, this.log, this.socketConnection.getHost(), getServerSession().getCapabilities().getThreadId());
-            messageReader = new TracingPacketReader(messageReader, this.log);
         }
 
-        if (this.getPropertySet().getBooleanProperty(PropertyKey.enablePacketDebug).getValue()) {
-
-            debugRingBuffer = new LinkedList<>();
-
+        if (enablePacketDebug) {
             sender = new DebugBufferingPacketSender(sender, debugRingBuffer, this.propertySet.getIntegerProperty(PropertyKey.packetDebugBufferSize));
-            messageReader = new DebugBufferingPacketReader(messageReader, debugRingBuffer,
-                    this.propertySet.getIntegerProperty(PropertyKey.packetDebugBufferSize));
         }
 
-        // do it after other decorators to have trace and debug applied to individual packets 
-        messageReader = new MultiPacketReader(messageReader);
-
         // atomic replacement of currently used objects
         synchronized (this.packetReader) {
             this.packetReader = messageReader;
@@ -573,8 +624,10 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
     public final NativePacketPayload readMessage(NativePacketPayload reuse) {
         try {
             NativePacketHeader header = this.packetReader.readHeader();
+            // the header instance may be reused when reading the following packets of a multi-packet
+            byte messageSequence = header.getMessageSequence();
             NativePacketPayload buf = this.packetReader.readMessage(Optional.ofNullable(reuse), header);
-            this.packetSequence = header.getMessageSequence();
+            this.packetSequence = messageSequence;
             return buf;
 
         } catch (IOException ioEx) {
@@ -589,8 +642,10 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
     public final NativePacketPayload probeMessage(NativePacketPayload reuse) {
         try {
             NativePacketHeader header = this.packetReader.probeHeader();
+            // the header instance may be reused when reading the following packets of a multi-packet
+            byte messageSequence = header.getMessageSequence();
             NativePacketPayload buf = this.packetReader.probeMessage(Optional.ofNullable(reuse), header);
-            this.packetSequence = header.getMessageSequence();
+            this.packetSequence = messageSequence;
             return buf;
 
         } catch (IOException ioEx) {
@@ -632,7 +687,14 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
 
     @Override
     public final NativePacketPayload sendCommand(Message queryPacket, boolean skipCheck, int timeoutMillis) {
+        completeCursorPrefetch();
+
         int command = queryPacket.getByteBuffer()[0];
+
+        if (this.serverSession.supportsOptionalResultsetMetadata() && !this.switchingResultsetMetadata) {
+            syncResultsetMetadata(command);
+        }
+
         this.commandCount++;
 
         if (this.queryInterceptors != null) {
@@ -725,6 +787,144 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         }
     }
 
+    /**
+     * Sends a command without waiting for its response, so that several commands can be written to the server back to back. The responses must then be read,
+     * in the same order, with {@link #readPipelinedResponse()} before any other command is sent through this protocol instance.
+     * 
+     * Query interceptors are not invoked for pipelined commands.
+     * 
+     * @param queryPacket
+     *            the packet containing the command
+     */
+    public void sendPipelinedCommand(NativePacketPayload queryPacket) {
+        try {
+            if (this.pipelinedResponsesPending == 0) {
+                completeCursorPrefetch();
+
+                if (this.serverSession.supportsOptionalResultsetMetadata() && !this.switchingResultsetMetadata) {
+                    syncResultsetMetadata(queryPacket.getByteBuffer()[0]);
+                }
+
+                checkForOutstandingStreamingData();
+
+                if (this.useCompression) {
+                    int bytesLeft = this.socketConnection.getMysqlInput().available();
+
+                    if (bytesLeft > 0) {
+                        this.socketConnection.getMysqlInput().skip(bytesLeft);
+                    }
+                }
+
+                clearInputStream();
+            }
+
+            this.commandCount++;
+            this.packetSequence = -1;
+            send(queryPacket, queryPacket.getPosition());
+            this.pipelinedResponsesPending++;
+
+        } catch (CJException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw ExceptionFactory.createCommunicationsException(this.propertySet, this.serverSession, this.getPacketSentTimeHolder(),
+                    this.getPacketReceivedTimeHolder(), ex, getExceptionInterceptor());
+        }
+    }
+
+    /**
+     * Reads the first packet of the response to the oldest command sent with {@link #sendPipelinedCommand(NativePacketPayload)}.
+     * 
+     * @return the reply packet, ready for reading
+     * @throws CJException
+     *             if an error packet was received
+     */
+    public NativePacketPayload readPipelinedResponse() {
+        if (this.pipelinedResponsesPending == 0) {
+            throw ExceptionFactory.createException(WrongArgumentException.class, "No pipelined response pending", getExceptionInterceptor());
+        }
+        this.pipelinedResponsesPending--;
+
+        this.serverSession.setStatusFlags(0, true);
+        this.hadWarnings = false;
+        this.setWarningCount(0);
+        this.packetReader.resetMessageSequence();
+
+        try {
+            return checkErrorMessage();
+        } catch (CJException e) {
+            this.serverSession.preserveOldTransactionState();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads and discards the responses of all pipelined commands that were not read yet, leaving the protocol ready for the next command. Errors contained in
+     * the discarded responses are ignored.
+     */
+    public void discardPipelinedResponses() {
+        while (this.pipelinedResponsesPending > 0) {
+            try {
+                readAllResults(-1, false, readPipelinedResponse(), true, null, new ResultsetFactory(Type.FORWARD_ONLY, null));
+            } catch (IOException e) {
+                this.pipelinedResponsesPending = 0;
+                throw ExceptionFactory.createCommunicationsException(this.propertySet, this.serverSession, this.getPacketSentTimeHolder(),
+                        this.getPacketReceivedTimeHolder(), e, getExceptionInterceptor());
+            } catch (CJCommunicationsException e) {
+                this.pipelinedResponsesPending = 0;
+                throw e;
+            } catch (CJException e) {
+                // the error packet was the whole response
+            }
+        }
+    }
+
+    public int getPipelinedResponsesPending() {
+        return this.pipelinedResponsesPending;
+    }
+
+    /**
+     * Sends a COM_STMT_FETCH whose rows are read later by the given cursor, while the application is still working on the rows of the previous fetch. Until
+     * the cursor has read the whole response, it is completed by {@link #completeCursorPrefetch()} before any other command is sent.
+     *
+     * @param fetchPacket
+     *            the COM_STMT_FETCH packet
+     * @param cursor
+     *            the cursor that reads the response
+     */
+    public void sendCursorPrefetch(NativePacketPayload fetchPacket, ResultsetRowsCursor cursor) {
+        completeCursorPrefetch();
+
+        this.commandCount++;
+        this.packetReader.resetMessageSequence();
+        this.packetSequence = -1;
+        send(fetchPacket, fetchPacket.getPosition());
+        this.pendingCursorPrefetch = cursor;
+    }
+
+    /**
+     * Makes the cursor that sent a COM_STMT_FETCH with {@link #sendCursorPrefetch(NativePacketPayload, ResultsetRowsCursor)} read the rest of the response,
+     * if it did not do it yet.
+     */
+    public void completeCursorPrefetch() {
+        if (this.pendingCursorPrefetch != null) {
+            ResultsetRowsCursor cursor = this.pendingCursorPrefetch;
+            this.pendingCursorPrefetch = null;
+            cursor.completePrefetch();
+        }
+    }
+
+    /**
+     * Notifies that the response to a COM_STMT_FETCH sent with {@link #sendCursorPrefetch(NativePacketPayload, ResultsetRowsCursor)} was read entirely.
+     *
+     * @param cursor
+     *            the cursor that read the response
+     */
+    public void unsetCursorPrefetch(ResultsetRowsCursor cursor) {
+        if (this.pendingCursorPrefetch == cursor) {
+            this.pendingCursorPrefetch = null;
+        }
+    }
+
     public void checkTransactionState() {
         int transState = this.serverSession.getTransactionState();
         if (transState == ServerSession.TRANSACTION_COMPLETED) {
@@ -905,15 +1105,56 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
      */
     public final <T extends Resultset> T sendQueryString(Query callingQuery, String query, String characterEncoding, int maxRows, boolean streamResults,
             ColumnDefinition cachedMetadata, ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory) throws IOException {
+        return sendQueryString(callingQuery, query, characterEncoding, maxRows, streamResults, cachedMetadata, false, resultSetFactory);
+    }
+
+    /**
+     * Build a query packet from the given string and send it to the server.
+     * 
+     * @param <T>
+     *            extends {@link Resultset}
+     * @param callingQuery
+     *            {@link Query}
+     * @param query
+     *            query string
+     * @param characterEncoding
+     *            Java encoding name
+     * @param maxRows
+     *            rows limit
+     * @param streamResults
+     *            whether a stream result should be created
+     * @param cachedMetadata
+     *            use this metadata instead of the one provided on wire
+     * @param singleResultset
+     *            whether the query returns exactly one result set, in which case the server may omit its column definitions if cachedMetadata is given
+     * @param resultSetFactory
+     *            {@link ProtocolEntityFactory}
+     * @return T instance
+     * @throws IOException
+     *             if an i/o error occurs
+     */
+    public final <T extends Resultset> T sendQueryString(Query callingQuery, String query, String characterEncoding, int maxRows, boolean streamResults,
+            ColumnDefinition cachedMetadata, boolean singleResultset, ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory) throws IOException {
         String statementComment = this.queryComment;
 
         if (this.propertySet.getBooleanProperty(PropertyKey.includeThreadNamesAsStatementComment).getValue()) {
             statementComment = (statementComment != null ? statementComment + ", " : "") + "java thread: " + Thread.currentThread().getName();
         }
 
-        // We don't know exactly how many bytes we're going to get from the query. Since we're dealing with UTF-8, the max is 4, so pad it
-        // (4 * query) + space for headers
-        int packLength = 1 /* com_query */ + (query.length() * 4) + 2;
+        // UTF-8 queries are encoded straight into the packet, others are encoded beforehand; either way the packet is sized for the exact encoded length
+        byte[] queryAsBytes = null;
+        int queryLength;
+        if (!this.session.getServerSession().getCharsetSettings().doesPlatformDbCharsetMatches() && StringUtils.startsWithIgnoreCaseAndWs(query, "LOAD DATA")) {
+            queryAsBytes = StringUtils.getBytes(query);
+            queryLength = queryAsBytes.length;
+        } else if (characterEncoding != null && StandardCharsets.UTF_8.equals(StringUtils.getCharset(characterEncoding))) {
+            queryLength = StringUtils.getUtf8Length(query);
+        } else {
+            queryAsBytes = StringUtils.getBytes(query, characterEncoding);
+            queryLength = queryAsBytes.length;
+        }
+
+        int packLength = 1 /* com_query */ + queryLength + 2;
 
         byte[] commentAsBytes = null;
 
@@ -988,13 +1229,39 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
             sendPacket.writeBytes(StringLengthDataType.STRING_FIXED, Constants.SPACE_STAR_SLASH_SPACE_AS_BYTES);
         }
 
-        if (!this.session.getServerSession().getCharsetSettings().doesPlatformDbCharsetMatches() && StringUtils.startsWithIgnoreCaseAndWs(query, "LOAD DATA")) {
-            sendPacket.writeBytes(StringLengthDataType.STRING_FIXED, StringUtils.getBytes(query));
+        if (queryAsBytes != null) {
+            sendPacket.writeBytes(StringLengthDataType.STRING_FIXED, queryAsBytes);
         } else {
-            sendPacket.writeBytes(StringLengthDataType.STRING_FIXED, StringUtils.getBytes(query, characterEncoding));
+            sendPacket.writeUtf8String(query, queryLength);
         }
 
-        return sendQueryPacket(callingQuery, sendPacket, maxRows, streamResults, cachedMetadata, resultSetFactory);
+        return sendQueryPacket(callingQuery, sendPacket, maxRows, streamResults, cachedMetadata, singleResultset, resultSetFactory);
+    }
+
+    /**
+     * Switches the session variable 'resultset_metadata' between 'NONE' and 'FULL', if needed, before sending a command that may return result sets. Only a
+     * COM_QUERY flagged by {@link #sendQueryPacket(Query, NativePacketPayload, int, boolean, ColumnDefinition, boolean, ProtocolEntityFactory)} as
+     * returning a single result set whose metadata is cached is allowed to run with 'NONE', everything else needs the column definitions from the server.
+     * 
+     * @param command
+     *            the command about to be sent
+     */
+    private void syncResultsetMetadata(int command) {
+        boolean suppress = command == NativeConstants.COM_QUERY && this.suppressNextResultsetMetadata;
+        this.suppressNextResultsetMetadata = false;
+
+        if (suppress == this.resultsetMetadataSuppressed
+                || command != NativeConstants.COM_QUERY && command != NativeConstants.COM_STMT_PREPARE && command != NativeConstants.COM_STMT_EXECUTE) {
+            return;
+        }
+
+        this.switchingResultsetMetadata = true;
+        try {
+            sendCommand(getCommandBuilder().buildComQuery(null, suppress ? "SET resultset_metadata = NONE" : "SET resultset_metadata = FULL"), false, 0);
+            this.resultsetMetadataSuppressed = suppress;
+        } finally {
+            this.switchingResultsetMetadata = false;
+        }
     }
 
     /**
@@ -1020,6 +1287,34 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
      */
     public final <T extends Resultset> T sendQueryPacket(Query callingQuery, NativePacketPayload queryPacket, int maxRows, boolean streamResults,
             ColumnDefinition cachedMetadata, ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory) throws IOException {
+        return sendQueryPacket(callingQuery, queryPacket, maxRows, streamResults, cachedMetadata, false, resultSetFactory);
+    }
+
+    /**
+     * Send a query stored in a packet to the server.
+     * 
+     * @param <T>
+     *            extends {@link Resultset}
+     * @param callingQuery
+     *            {@link Query}
+     * @param queryPacket
+     *            {@link NativePacketPayload} containing query
+     * @param maxRows
+     *            rows limit
+     * @param streamResults
+     *            whether a stream result should be created
+     * @param cachedMetadata
+     *            use this metadata instead of the one provided on wire
+     * @param singleResultset
+     *            whether the query returns exactly one result set, in which case the server may omit its column definitions if cachedMetadata is given
+     * @param resultSetFactory
+     *            {@link ProtocolEntityFactory}
+     * @return T instance
+     * @throws IOException
+     *             if an i/o error occurs
+     */
+    public final <T extends Resultset> T sendQueryPacket(Query callingQuery, NativePacketPayload queryPacket, int maxRows, boolean streamResults,
+            ColumnDefinition cachedMetadata, boolean singleResultset, ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory) throws IOException {
 
         final long queryStartTime = getCurrentTimeNanosOrMillis();
 
@@ -1047,6 +1342,9 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
                 TestUtils.dumpTestcaseQuery(debugBuf.toString());
             }
 
+            // Cached metadata only describes the first result set, so queries that may return more than one must still get full metadata.
+            this.suppressNextResultsetMetadata = singleResultset && cachedMetadata != null && this.serverSession.supportsOptionalResultsetMetadata();
+
             // Send query command and sql query string
             NativePacketPayload resultPacket = sendCommand(queryPacket, false, 0);
 
@@ -1310,6 +1608,55 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         }
     }
 
+    /**
+     * Reads and discards the next row of a streaming result set. Only the first byte of each row packet is examined, the rest of the row is skipped in the
+     * input stream without being copied into a packet or decoded. If the rows are exhausted instead, the packet that terminates them is processed as
+     * {@link ResultsetRowReader} does.
+     *
+     * @return the size in bytes of the discarded row, or -1 if there are no more rows
+     * @throws CJException
+     *             if the server sent an error instead of the next row or if the network fails while skipping the row
+     */
+    public long skipResultsetRow() {
+        try {
+            FullReadInputStream input = this.socketConnection.getMysqlInput();
+            int packetLength = this.packetReader.readHeader().getMessageSize();
+
+            if (packetLength > 0 && packetLength < NativeConstants.MAX_PACKET_SIZE) {
+                int statusCode = input.read();
+                if (statusCode == -1) {
+                    throw new EOFException(Messages.getString("MysqlIO.EOF", new Object[] { Long.valueOf(packetLength), Long.valueOf(0) }));
+                }
+
+                // Rows never start with 0xFF, and only start with 0xFE when they span several packets, so this is an EOF, OK or error packet.
+                if (statusCode == 0xfe || statusCode == 0xff) {
+                    byte[] buf = new byte[packetLength];
+                    buf[0] = (byte) statusCode;
+                    input.readFully(buf, 1, packetLength - 1);
+                    NativePacketPayload terminator = new NativePacketPayload(buf);
+                    checkErrorMessage(terminator);
+                    terminator.setPosition(0);
+                    readServerStatusForResultSets(terminator, true);
+                    return -1;
+                }
+
+                input.skipFully(packetLength - 1);
+                return packetLength;
+            }
+
+            long rowLength = input.skipFully(packetLength);
+            while (packetLength == NativeConstants.MAX_PACKET_SIZE) {
+                packetLength = this.packetReader.readHeader().getMessageSize();
+                rowLength += input.skipFully(packetLength);
+            }
+            return rowLength;
+
+        } catch (IOException ioEx) {
+            throw ExceptionFactory.createCommunicationsException(this.propertySet, this.serverSession, this.getPacketSentTimeHolder(),
+                    this.getPacketReceivedTimeHolder(), ioEx, getExceptionInterceptor());
+        }
+    }
+
     /**
      * Log-off of the MySQL server and close the socket.
      * 
@@ -1386,6 +1733,29 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         this.packetReader = this.packetReader.undecorateAll();
 
         this.authProvider.changeUser(user, password, database);
+        this.resultsetMetadataSuppressed = false; // session variables are reset by COM_CHANGE_USER
+    }
+
+    /**
+     * Resets the session state with COM_RESET_CONNECTION, keeping the current user and database. Unlike {@link #changeUser(String, String, String)} this
+     * doesn't re-authenticate.
+     * 
+     * The status flags and the session state changes reported in the OK packet are stored in the server session, so that the caller can bring its view of
+     * the session up to date with them.
+     * 
+     * @return the OK packet sent in response
+     */
+    public OkPacket resetConnection() {
+        discardPipelinedResponses();
+
+        NativePacketPayload resultPacket = sendCommand(getCommandBuilder().buildComResetConnection(null), false, 0);
+        this.resultsetMetadataSuppressed = false; // session variables are reset by COM_RESET_CONNECTION
+        this.pendingCursorPrefetch = null; // cursors are closed along with the prepared statements
+
+        OkPacket ok = OkPacket.parse(resultPacket, this.serverSession.getCharsetSettings().getErrorMessageEncoding());
+        this.serverSession.setStatusFlags(ok.getStatusFlags(), true);
+        this.serverSession.getServerSessionStateController().setSessionStateChanges(ok.getSessionStateChanges());
+        return ok;
     }
 
     protected boolean useNanosForElapsedTime() {
@@ -1711,6 +2081,39 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         return result;
     }
 
+    /**
+     * Reads the column definitions of a result set whose column count was just read from the given header packet. If the server omitted them, which can only
+     * happen when CLIENT_OPTIONAL_RESULTSET_METADATA was negotiated, the column definitions cached in the factory are returned instead.
+     * 
+     * @param resultPacket
+     *            the result set header packet, positioned right after the column count
+     * @param columnDefinitionFactory
+     *            {@link ColumnDefinitionFactory} holding the column count and the cached metadata, if any
+     * @return {@link ColumnDefinition}
+     * @throws IOException
+     *             if an i/o error occurs
+     */
+    public ColumnDefinition readResultsetMetadata(NativePacketPayload resultPacket, ColumnDefinitionFactory columnDefinitionFactory) throws IOException {
+        if (this.serverSession.supportsOptionalResultsetMetadata()
+                && resultPacket.readInteger(IntegerDataType.INT1) == NativeConstants.RESULTSET_METADATA_NONE) {
+            ColumnDefinition cdef = columnDefinitionFactory.getColumnDefinitionFromCache();
+            if (cdef == null || cdef.getFields().length != columnDefinitionFactory.getColumnCount()) {
+                // The cached metadata is stale, e.g., the table was altered. The rows can't be read without the matching column definitions, so they are
+                // skipped to leave the connection ready for the next command. The caller evicts the cached metadata so that the next execution gets full
+                // metadata again.
+                if (!this.serverSession.isEOFDeprecated()) {
+                    skipPacket();
+                }
+                while (skipResultsetRow() != -1) {
+                    // rows are discarded
+                }
+                throw ExceptionFactory.createException(Messages.getString("Protocol.MissingResultsetMetadata"), getExceptionInterceptor());
+            }
+            return cdef;
+        }
+        return read(ColumnDefinition.class, columnDefinitionFactory);
+    }
+
     public <T extends Resultset> T readAllResults(int maxRows, boolean streamResults, NativePacketPayload resultPacket, boolean isBinaryEncoded,
             ColumnDefinition metadata, ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory) throws IOException {
 
@@ -78,6 +78,8 @@ public class NativeServerSession implements ServerSession {
     public static final int CLIENT_CAN_HANDLE_EXPIRED_PASSWORD = 0x00400000;
     public static final int CLIENT_SESSION_TRACK = 0x00800000;
     public static final int CLIENT_DEPRECATE_EOF = 0x01000000;
+    public static final int CLIENT_OPTIONAL_RESULTSET_METADATA = 0x02000000;
+    public static final int CLIENT_ZSTD_COMPRESSION_ALGORITHM = 0x04000000;
     public static final int CLIENT_QUERY_ATTRIBUTES = 0x08000000;
     public static final int CLIENT_MULTI_FACTOR_AUTHENTICATION = 0x10000000;
 
@@ -231,6 +233,16 @@ public class NativeServerSession implements ServerSession {
         return (this.clientParam & CLIENT_QUERY_ATTRIBUTES) != 0;
     }
 
+    /**
+     * Checks if CLIENT_OPTIONAL_RESULTSET_METADATA was negotiated, in which case each result set header carries a flag telling whether column definitions
+     * follow.
+     * 
+     * @return true if the server may omit result set metadata
+     */
+    public boolean supportsOptionalResultsetMetadata() {
+        return (this.clientParam & CLIENT_OPTIONAL_RESULTSET_METADATA) != 0;
+    }
+
     @Override
     public Map<String, String> getServerVariables() {
         return this.serverVariables;
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import java.io.IOException;
+
+/**
+ * Compresses and un-compresses the payloads of compressed protocol packets. Each compressed packet is self-contained, i.e., it is a complete zlib stream or a
+ * complete zstd frame, so an instance is reset between packets.
+ */
+public interface PacketCompressor {
+
+    /**
+     * Feeds data into the compressed packet currently being built.
+     * 
+     * @param input
+     *            data to compress
+     * @param inputOffset
+     *            offset of the data
+     * @param inputLen
+     *            length of the data
+     * @param output
+     *            buffer to write compressed data to
+     * @param outputOffset
+     *            offset in the output buffer
+     * @param outputLen
+     *            space available in the output buffer
+     * @return the number of compressed bytes written to the output buffer, possibly 0
+     * @throws IOException
+     *             if the data can't be compressed
+     */
+    int compress(byte[] input, int inputOffset, int inputLen, byte[] output, int outputOffset, int outputLen) throws IOException;
+
+    /**
+     * Completes the compressed packet currently being built.
+     * 
+     * @param output
+     *            buffer to write the remaining compressed data to
+     * @param outputOffset
+     *            offset in the output buffer
+     * @param outputLen
+     *            space available in the output buffer
+     * @return the number of compressed bytes written to the output buffer; if it equals {@code outputLen} the compressed data may have been truncated and the
+     *         packet must be sent uncompressed
+     * @throws IOException
+     *             if the data can't be compressed
+     */
+    int finish(byte[] output, int outputOffset, int outputLen) throws IOException;
+
+    /**
+     * Prepares this compressor for building a new compressed packet.
+     */
+    void reset();
+
+    /**
+     * Un-compresses the payload of one compressed packet.
+     * 
+     * @param input
+     *            compressed payload
+     * @param inputLen
+     *            length of the compressed payload
+     * @param output
+     *            buffer to be filled completely with the un-compressed data
+     * @throws IOException
+     *             if the data can't be un-compressed
+     */
+    void uncompress(byte[] input, int inputLen, byte[] output) throws IOException;
+
+    /**
+     * Releases any resources held by this compressor.
+     */
+    void end();
+}
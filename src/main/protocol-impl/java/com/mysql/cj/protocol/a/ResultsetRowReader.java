@@ -72,7 +72,7 @@ public class ResultsetRowReader implements ProtocolEntityReader<ResultsetRow, Na
 
         // read the entire packet(s)
         rowPacket = this.protocol.getPacketReader()
-                .readMessage(rf.canReuseRowPacketForBufferRow() ? Optional.ofNullable(this.protocol.getReusablePacket()) : Optional.empty(), hdr);
+                .readMessage(rf.canReadIntoReusablePacket() ? Optional.ofNullable(this.protocol.getReusablePacket()) : Optional.empty(), hdr);
         this.protocol.checkErrorMessage(rowPacket);
         // Didn't read an error, so re-position to beginning of packet in order to read result set data
         rowPacket.setPosition(rowPacket.getPosition() - 1);
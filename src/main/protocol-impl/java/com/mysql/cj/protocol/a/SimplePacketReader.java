@@ -36,19 +36,29 @@ import com.mysql.cj.Messages;
 import com.mysql.cj.conf.RuntimeProperty;
 import com.mysql.cj.exceptions.CJPacketTooBigException;
 import com.mysql.cj.protocol.MessageReader;
+import com.mysql.cj.protocol.PacketReceivedTimeHolder;
 import com.mysql.cj.protocol.SocketConnection;
+import com.mysql.cj.protocol.a.NativeConstants.StringLengthDataType;
 
 /**
  * Simple implementation of {@link MessageReader} which handles the receiving of logical MySQL packets from the provided socket input stream.
- * Multi-packets are handled outside of this reader.
+ * Multi-packets are handled outside of this reader, by {@link MultiPacketReader}, unless this reader is configured to assemble them itself, in which case it
+ * can be used without decorators.
+ * 
+ * Headers are read into a single {@link NativePacketHeader} instance, reused for every packet, so a header is only valid until the next one is read.
  */
-public class SimplePacketReader implements MessageReader<NativePacketHeader, NativePacketPayload> {
+public class SimplePacketReader implements MessageReader<NativePacketHeader, NativePacketPayload>, PacketReceivedTimeHolder {
 
     protected SocketConnection socketConnection;
     protected RuntimeProperty<Integer> maxAllowedPacket;
 
     private byte readPacketSequence = -1;
 
+    private final NativePacketHeader header = new NativePacketHeader();
+    private boolean assembleMultiPackets = false;
+    private boolean maintainTimeStats = false;
+    private long lastPacketReceivedTimeMs = 0;
+
     NativePacketHeader lastHeader = null;
     NativePacketPayload lastMessage = null;
 
@@ -57,6 +67,20 @@ public class SimplePacketReader implements MessageReader<NativePacketHeader, Nat
         this.maxAllowedPacket = maxAllowedPacket;
     }
 
+    /**
+     * Makes this reader assemble multi-packets and keep track of the time packets are received, i.e., do the work of {@link MultiPacketReader} and
+     * {@link TimeTrackingPacketReader} without the overhead of decorating it.
+     * 
+     * @param assembleMultiPackets
+     *            should multi-packets be assembled by this reader?
+     * @param maintainTimeStats
+     *            should the time the last packet was received be kept track of?
+     */
+    public void configure(boolean assembleMultiPackets, boolean maintainTimeStats) {
+        this.assembleMultiPackets = assembleMultiPackets;
+        this.maintainTimeStats = maintainTimeStats;
+    }
+
     @Override
     public NativePacketHeader readHeader() throws IOException {
         if (this.lastHeader == null) {
@@ -75,7 +99,7 @@ public class SimplePacketReader implements MessageReader<NativePacketHeader, Nat
     }
 
     private NativePacketHeader readHeaderLocal() throws IOException {
-        NativePacketHeader hdr = new NativePacketHeader();
+        NativePacketHeader hdr = this.header;
 
         try {
             this.socketConnection.getMysqlInput().readFully(hdr.getBuffer().array(), 0, NativeConstants.HEADER_LENGTH);
@@ -113,8 +137,58 @@ public class SimplePacketReader implements MessageReader<NativePacketHeader, Nat
     }
 
     private NativePacketPayload readMessageLocal(Optional<NativePacketPayload> reuse, NativePacketHeader header) throws IOException {
+        int packetLength = header.getMessageSize();
+        NativePacketPayload message = readPayload(reuse, packetLength);
+
+        if (this.assembleMultiPackets && packetLength == NativeConstants.MAX_PACKET_SIZE) {
+            readMultiPacketParts(message);
+        }
+        if (this.maintainTimeStats) {
+            this.lastPacketReceivedTimeMs = System.currentTimeMillis();
+        }
+        return message;
+    }
+
+    /**
+     * Reads the packets following the first one of a multi-packet and appends their payloads to it.
+     * See http://dev.mysql.com/doc/internals/en/sending-more-than-16mbyte.html
+     * 
+     * @param message
+     *            the payload of the first packet
+     * @throws IOException
+     *             if an error occurs
+     */
+    private void readMultiPacketParts(NativePacketPayload message) throws IOException {
+        message.setPosition(NativeConstants.MAX_PACKET_SIZE);
+
+        NativePacketPayload multiPacket = null;
+        int multiPacketLength = -1;
+        byte multiPacketSeq = this.readPacketSequence;
+
+        do {
+            NativePacketHeader hdr = readHeaderLocal();
+            multiPacketLength = hdr.getMessageSize();
+
+            if (multiPacket == null) {
+                multiPacket = new NativePacketPayload(multiPacketLength);
+            }
+
+            multiPacketSeq++;
+            if (multiPacketSeq != hdr.getMessageSequence()) {
+                throw new IOException(Messages.getString("PacketReader.10"));
+            }
+
+            readPayload(Optional.of(multiPacket), multiPacketLength);
+
+            message.writeBytes(StringLengthDataType.STRING_FIXED, multiPacket.getByteBuffer(), 0, multiPacketLength);
+
+        } while (multiPacketLength == NativeConstants.MAX_PACKET_SIZE);
+
+        message.setPosition(0);
+    }
+
+    private NativePacketPayload readPayload(Optional<NativePacketPayload> reuse, int packetLength) throws IOException {
         try {
-            int packetLength = header.getMessageSize();
             NativePacketPayload message;
             if (reuse.isPresent()) {
                 message = reuse.get();
@@ -150,6 +224,11 @@ public class SimplePacketReader implements MessageReader<NativePacketHeader, Nat
         }
     }
 
+    @Override
+    public long getLastPacketReceivedTime() {
+        return this.lastPacketReceivedTimeMs;
+    }
+
     @Override
     public byte getMessageSequence() {
         return this.readPacketSequence;
@@ -33,10 +33,12 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Arrays;
 
 import com.mysql.cj.BindValue;
 import com.mysql.cj.Messages;
@@ -57,9 +59,26 @@ import com.mysql.cj.util.TimeUtil;
 
 public class StringValueEncoder extends AbstractValueEncoder {
 
+    private static final String ASCII_CHARS;
+    private static final byte[] ASCII_BYTES = new byte[0x80];
+
+    static {
+        char[] chars = new char[0x80];
+        for (int i = 0; i < 0x80; i++) {
+            chars[i] = (char) i;
+            ASCII_BYTES[i] = (byte) i;
+        }
+        ASCII_CHARS = new String(chars);
+    }
+
     /** Charset encoder used to escape if needed, such as Yen sign in SJIS */
     private CharsetEncoder charsetEncoder;
 
+    /** The character encoding {@link #directEncodingUtf8} and {@link #directEncodingAsciiCompatible} were checked for. */
+    private String directEncoding = null;
+    private boolean directEncodingUtf8 = false;
+    private boolean directEncodingAsciiCompatible = false;
+
     @Override
     public void init(PropertySet pset, ServerSession serverSess, ExceptionInterceptor excInterceptor) {
         super.init(pset, serverSess, excInterceptor);
@@ -104,11 +123,7 @@ public class StringValueEncoder extends AbstractValueEncoder {
                 if (this.serverSession.isNoBackslashEscapesSet()) {
                     // Scan for any nasty chars
                     if (!isEscapeNeededForString(x, stringLength)) {
-                        StringBuilder quotedString = new StringBuilder(x.length() + 2);
-                        quotedString.append('\'');
-                        quotedString.append(x);
-                        quotedString.append('\'');
-                        StringUtils.getBytes(quotedString.toString(), this.charEncoding.getValue());
+                        return StringUtils.getBytesWrapped(x, '\'', '\'', this.charEncoding.getValue());
                     }
                     return escapeBytesIfNeeded(StringUtils.getBytes(x, this.charEncoding.getValue()));
                 }
@@ -128,6 +143,69 @@ public class StringValueEncoder extends AbstractValueEncoder {
 
     }
 
+    @Override
+    public void encodeAsText(Message msg, BindValue binding) {
+        switch (binding.getMysqlType()) {
+            case CHAR:
+            case ENUM:
+            case SET:
+            case VARCHAR:
+            case TINYTEXT:
+            case TEXT:
+            case MEDIUMTEXT:
+            case LONGTEXT:
+            case JSON:
+            case BINARY:
+            case GEOMETRY:
+            case VARBINARY:
+            case TINYBLOB:
+            case BLOB:
+            case MEDIUMBLOB:
+            case LONGBLOB:
+                // Escape and encode straight into the packet whenever the result is the same as getBytes() would produce.
+                String x = (String) binding.getValue();
+                String encoding = this.charEncoding.getValue();
+                if (checkDirectEncoding(encoding) && (!binding.isNational() || encoding.equalsIgnoreCase("UTF-8") || encoding.equalsIgnoreCase("utf8"))
+                        && (!this.serverSession.isNoBackslashEscapesSet() || !isEscapeNeededForString(x, x.length()))
+                        && ((NativePacketPayload) msg).writeEscapedString(x, this.serverSession.useAnsiQuotedIdentifiers(), !this.directEncodingUtf8)) {
+                    return;
+                }
+                break;
+
+            default:
+                break;
+        }
+        super.encodeAsText(msg, binding);
+    }
+
+    /**
+     * Checks whether string values can be escaped and encoded straight into the packet for the given character encoding, which is the case for UTF-8 and,
+     * as long as the values are pure ASCII, for any encoding that encodes ASCII characters as single bytes with the same values.
+     * 
+     * @param encoding
+     *            the character encoding
+     * @return <code>true</code> if the given character encoding is UTF-8 or ASCII compatible, <code>false</code> otherwise
+     */
+    private boolean checkDirectEncoding(String encoding) {
+        if (encoding == null) {
+            return false;
+        }
+        if (!encoding.equals(this.directEncoding)) {
+            boolean utf8 = false;
+            boolean asciiCompatible = false;
+            try {
+                utf8 = StandardCharsets.UTF_8.equals(StringUtils.getCharset(encoding));
+                asciiCompatible = utf8 || Arrays.equals(StringUtils.getBytes(ASCII_CHARS, encoding), ASCII_BYTES);
+            } catch (CJException e) {
+                // Unsupported encodings are reported by the regular encoding path.
+            }
+            this.directEncodingUtf8 = utf8;
+            this.directEncodingAsciiCompatible = asciiCompatible;
+            this.directEncoding = encoding;
+        }
+        return this.directEncodingAsciiCompatible;
+    }
+
     @Override
     public String getString(BindValue binding) {
         String x = (String) binding.getValue();
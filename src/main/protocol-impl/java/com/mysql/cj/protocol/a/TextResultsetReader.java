@@ -37,13 +37,16 @@ import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.ProtocolEntityFactory;
 import com.mysql.cj.protocol.ProtocolEntityReader;
 import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.Resultset.Concurrency;
 import com.mysql.cj.protocol.ResultsetRow;
 import com.mysql.cj.protocol.ResultsetRows;
 import com.mysql.cj.protocol.a.NativeConstants.IntegerDataType;
 import com.mysql.cj.protocol.a.NativeConstants.StringSelfDataType;
 import com.mysql.cj.protocol.a.result.OkPacket;
+import com.mysql.cj.protocol.a.result.ResultsetRowsColumnar;
 import com.mysql.cj.protocol.a.result.ResultsetRowsStatic;
 import com.mysql.cj.protocol.a.result.ResultsetRowsStreaming;
+import com.mysql.cj.protocol.a.result.RowBufferArena;
 
 public class TextResultsetReader implements ProtocolEntityReader<Resultset, NativePacketPayload> {
 
@@ -65,7 +68,7 @@ public class TextResultsetReader implements ProtocolEntityReader<Resultset, Nati
             // Build a result set with rows.
 
             // Read in the column information
-            ColumnDefinition cdef = this.protocol.read(ColumnDefinition.class, new ColumnDefinitionFactory(columnCount, metadata));
+            ColumnDefinition cdef = this.protocol.readResultsetMetadata(resultPacket, new ColumnDefinitionFactory(columnCount, metadata));
 
             // There is no EOF packet after fields when CLIENT_DEPRECATE_EOF is set
             if (!this.protocol.getServerSession().isEOFDeprecated()) {
@@ -75,8 +78,22 @@ public class TextResultsetReader implements ProtocolEntityReader<Resultset, Nati
 
             ResultsetRows rows = null;
 
-            if (!streamResults) {
+            if (!streamResults && resultSetFactory.getResultSetConcurrency() != Concurrency.UPDATABLE
+                    && this.protocol.getPropertySet().getBooleanProperty(PropertyKey.useColumnarResultsetRows).getValue()) {
+                ResultsetRowsColumnar columnarRows = new ResultsetRowsColumnar(cdef, false, this.protocol.getExceptionInterceptor());
+                ColumnarRowFactory crf = new ColumnarRowFactory(this.protocol, columnarRows, maxRows);
+                while (this.protocol.read(ResultsetRow.class, crf) != null) {
+                    // values are accumulated by the factory
+                }
+                rows = columnarRows;
+
+            } else if (!streamResults) {
                 TextRowFactory trf = new TextRowFactory(this.protocol, cdef, resultSetFactory.getResultSetConcurrency(), false);
+                if (resultSetFactory.getResultSetConcurrency() != Concurrency.UPDATABLE
+                        && this.protocol.getPropertySet().getBooleanProperty(PropertyKey.useRowBufferArena).getValue()) {
+                    trf.setRowBufferArena(
+                            new RowBufferArena(this.protocol.getPropertySet().getMemorySizeProperty(PropertyKey.rowBufferArenaChunkSize).getValue()));
+                }
                 ArrayList<ResultsetRow> rowList = new ArrayList<>();
 
                 ResultsetRow row = this.protocol.read(ResultsetRow.class, trf);
@@ -87,7 +104,7 @@ public class TextResultsetReader implements ProtocolEntityReader<Resultset, Nati
                     row = this.protocol.read(ResultsetRow.class, trf);
                 }
 
-                rows = new ResultsetRowsStatic(rowList, cdef);
+                rows = new ResultsetRowsStatic(rowList, cdef, trf.getRowBufferArena());
 
             } else {
                 rows = new ResultsetRowsStreaming<>(this.protocol, cdef, false, resultSetFactory);
@@ -54,6 +54,10 @@ public class TextRowFactory extends AbstractRowFactory implements ProtocolEntity
     @Override
     public ResultsetRow createFromMessage(NativePacketPayload rowPacket) {
 
+        if (this.rowBufferArena != null) {
+            return new TextBufferRow(this.rowBufferArena.copyOf(rowPacket), this.columnDefinition, this.exceptionInterceptor, this.valueDecoder);
+        }
+
         // use a buffer row for reusable packets (streaming results), blobs and long strings
         // or if we're over the threshold
         boolean useBufferRow = this.canReuseRowPacketForBufferRow || this.columnDefinition.hasLargeFields()
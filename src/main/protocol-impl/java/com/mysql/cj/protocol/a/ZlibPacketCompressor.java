@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * {@link PacketCompressor} for the zlib algorithm, negotiated with CLIENT_COMPRESS.
+ */
+public class ZlibPacketCompressor implements PacketCompressor {
+    private Deflater deflater;
+    private Inflater inflater;
+
+    @Override
+    public int compress(byte[] input, int inputOffset, int inputLen, byte[] output, int outputOffset, int outputLen) {
+        if (this.deflater == null) {
+            this.deflater = new Deflater();
+        }
+        this.deflater.setInput(input, inputOffset, inputLen);
+        return this.deflater.deflate(output, outputOffset, outputLen);
+    }
+
+    @Override
+    public int finish(byte[] output, int outputOffset, int outputLen) {
+        this.deflater.finish();
+        return this.deflater.deflate(output, outputOffset, outputLen);
+    }
+
+    @Override
+    public void reset() {
+        if (this.deflater != null) {
+            this.deflater.reset();
+        }
+    }
+
+    @Override
+    public void uncompress(byte[] input, int inputLen, byte[] output) throws IOException {
+        if (this.inflater == null) {
+            this.inflater = new Inflater();
+        }
+        this.inflater.reset();
+        this.inflater.setInput(input, 0, inputLen);
+
+        try {
+            this.inflater.inflate(output);
+        } catch (DataFormatException dfe) {
+            throw new IOException("Error while uncompressing packet from server.");
+        }
+    }
+
+    @Override
+    public void end() {
+        if (this.deflater != null) {
+            this.deflater.end();
+            this.deflater = null;
+        }
+        if (this.inflater != null) {
+            this.inflater.end();
+            this.inflater = null;
+        }
+    }
+}
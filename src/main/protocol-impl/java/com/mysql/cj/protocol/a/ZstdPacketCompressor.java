@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.exceptions.ExceptionFactory;
+import com.mysql.cj.exceptions.WrongArgumentException;
+import com.mysql.cj.util.Util;
+
+/**
+ * {@link PacketCompressor} for the zstd algorithm, negotiated with CLIENT_ZSTD_COMPRESSION_ALGORITHM. The actual compression is delegated to third-party
+ * {@link InputStream} and {@link OutputStream} implementations, e.g., the ones from zstd-jni. Each packet carries a complete zstd frame, so the output stream
+ * is kept for the whole connection only if it can be told to end the frame on every flush, as zstd-jni's <code>setCloseFrameOnFlush(boolean)</code> does;
+ * otherwise a new one is instantiated per compressed packet.
+ */
+public class ZstdPacketCompressor implements PacketCompressor {
+    private Constructor<?> inputStreamConstructor;
+    private Constructor<?> outputStreamConstructor;
+    private boolean outputStreamTakesLevel;
+    /** The output stream method that makes flush() end the current frame, if any. */
+    private Method closeFrameOnFlush = null;
+    private int level;
+
+    /** Buffer the current zstd frame is written to. */
+    private FrameBuffer frame = new FrameBuffer();
+    private OutputStream compressorOut = null;
+
+    public ZstdPacketCompressor(String inputStreamClassName, String outputStreamClassName, int level) {
+        this.level = level;
+        try {
+            this.inputStreamConstructor = Class.forName(inputStreamClassName).getConstructor(InputStream.class);
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("Protocol.Compression.6"), e);
+        }
+        try {
+            Class<?> outputStreamClass = Class.forName(outputStreamClassName);
+            try {
+                this.outputStreamConstructor = outputStreamClass.getConstructor(OutputStream.class, int.class);
+                this.outputStreamTakesLevel = true;
+            } catch (NoSuchMethodException e) {
+                this.outputStreamConstructor = outputStreamClass.getConstructor(OutputStream.class);
+            }
+            try {
+                this.closeFrameOnFlush = outputStreamClass.getMethod("setCloseFrameOnFlush", boolean.class);
+            } catch (NoSuchMethodException e) {
+                // a new stream per packet then
+            }
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("Protocol.Compression.7"), e);
+        }
+    }
+
+    @Override
+    public int compress(byte[] input, int inputOffset, int inputLen, byte[] output, int outputOffset, int outputLen) throws IOException {
+        if (this.compressorOut == null) {
+            this.compressorOut = (OutputStream) Util.handleNewInstance(this.outputStreamConstructor,
+                    this.outputStreamTakesLevel ? new Object[] { this.frame, this.level } : new Object[] { this.frame }, null);
+            if (this.closeFrameOnFlush != null) {
+                try {
+                    this.closeFrameOnFlush.invoke(this.compressorOut, true);
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    this.closeFrameOnFlush = null;
+                }
+            }
+        }
+        this.compressorOut.write(input, inputOffset, inputLen);
+        return 0; // the frame is copied out by finish()
+    }
+
+    @Override
+    public int finish(byte[] output, int outputOffset, int outputLen) throws IOException {
+        if (this.compressorOut != null) {
+            if (this.closeFrameOnFlush != null) {
+                this.compressorOut.flush();
+            } else {
+                this.compressorOut.close();
+                this.compressorOut = null;
+            }
+        }
+        int frameLen = this.frame.size();
+        if (frameLen >= outputLen) {
+            return outputLen; // doesn't fit, the packet will be sent uncompressed
+        }
+        System.arraycopy(this.frame.getBuffer(), 0, output, outputOffset, frameLen);
+        return frameLen;
+    }
+
+    @Override
+    public void reset() {
+        this.frame.reset();
+    }
+
+    @Override
+    public void uncompress(byte[] input, int inputLen, byte[] output) throws IOException {
+        try (InputStream in = (InputStream) Util.handleNewInstance(this.inputStreamConstructor,
+                new Object[] { new ByteArrayInputStream(input, 0, inputLen) }, null)) {
+            int n = 0;
+            while (n < output.length) {
+                int count = in.read(output, n, output.length - n);
+                if (count < 0) {
+                    throw new EOFException("Error while uncompressing packet from server.");
+                }
+                n += count;
+            }
+        }
+    }
+
+    @Override
+    public void end() {
+        if (this.compressorOut != null) {
+            try {
+                this.compressorOut.close();
+            } catch (IOException e) {
+                // ignore, the connection is being closed
+            }
+            this.compressorOut = null;
+        }
+        this.frame = null;
+    }
+
+    /**
+     * A {@link ByteArrayOutputStream} that gives access to its buffer so frames can be copied out without an intermediate array.
+     */
+    private static class FrameBuffer extends ByteArrayOutputStream {
+        FrameBuffer() {
+            super(1024);
+        }
+
+        byte[] getBuffer() {
+            return this.buf;
+        }
+    }
+}
@@ -41,6 +41,7 @@ import com.mysql.cj.protocol.a.NativeConstants.StringLengthDataType;
 import com.mysql.cj.protocol.a.NativeConstants.StringSelfDataType;
 import com.mysql.cj.protocol.a.NativePacketPayload;
 import com.mysql.cj.protocol.a.NativeUtils;
+import com.mysql.cj.result.Field;
 import com.mysql.cj.result.Row;
 import com.mysql.cj.result.ValueFactory;
 
@@ -244,6 +245,28 @@ public class BinaryBufferRow extends AbstractBufferRow {
         return getValueFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length, vf);
     }
 
+    @Override
+    public long getLong(int columnIndex) {
+        if (getNull(columnIndex)) {
+            return 0;
+        }
+        findAndSeekToOffset(columnIndex);
+        Field f = this.metadata.getFields()[columnIndex];
+        return this.valueDecoder.decodeAsLong(this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(),
+                NativeUtils.getBinaryEncodedLength(f.getMysqlTypeId()), f);
+    }
+
+    @Override
+    public double getDouble(int columnIndex) {
+        if (getNull(columnIndex)) {
+            return 0;
+        }
+        findAndSeekToOffset(columnIndex);
+        Field f = this.metadata.getFields()[columnIndex];
+        return this.valueDecoder.decodeAsDouble(this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(),
+                NativeUtils.getBinaryEncodedLength(f.getMysqlTypeId()), f);
+    }
+
     @Override
     public void setBytes(int columnIndex, byte[] value) {
 
@@ -0,0 +1,573 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a.result;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.exceptions.CJOperationNotSupportedException;
+import com.mysql.cj.exceptions.ExceptionFactory;
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.protocol.ResultsetRows;
+import com.mysql.cj.protocol.a.MysqlBinaryValueDecoder;
+import com.mysql.cj.protocol.a.MysqlTextValueDecoder;
+import com.mysql.cj.protocol.a.NativeConstants.IntegerDataType;
+import com.mysql.cj.protocol.a.NativePacketPayload;
+import com.mysql.cj.protocol.a.NativeUtils;
+import com.mysql.cj.protocol.result.AbstractResultsetRow;
+import com.mysql.cj.result.Field;
+import com.mysql.cj.result.Row;
+import com.mysql.cj.result.ValueFactory;
+import com.mysql.cj.util.StringUtils;
+
+/**
+ * Represents an in-memory result set stored column by column.
+ * 
+ * Integer columns, and floating point columns of binary result sets, are decoded once, while the rows are being read, into primitive arrays with a null
+ * bitmap. All other columns are kept in their wire encoding in one contiguous byte buffer shared by all the rows, addressed by per-column offset and
+ * length arrays. Rows returned by {@link #next()} and {@link #get(int)} are lightweight views over these arrays.
+ * 
+ * Text-protocol floating point values are not stored as primitives because their original text must be returned by {@link Row#getBytes(int)}. Temporal
+ * values are kept in their wire encoding too, since their decoding depends on the value factory and connection time zone settings.
+ */
+public class ResultsetRowsColumnar extends AbstractResultsetRows implements ResultsetRows {
+
+    private static final int KIND_BYTES = 0;
+    private static final int KIND_LONG = 1;
+    private static final int KIND_DOUBLE = 2;
+
+    private static final int INITIAL_ROW_CAPACITY = 64;
+    private static final int INITIAL_DATA_CAPACITY = 8192;
+
+    private boolean binaryEncoded;
+    private ExceptionInterceptor exceptionInterceptor;
+    private MysqlTextValueDecoder textValueDecoder = new MysqlTextValueDecoder();
+    private MysqlBinaryValueDecoder binaryValueDecoder = new MysqlBinaryValueDecoder();
+
+    private int columnCount;
+    private int[] kinds;
+    private int[] mysqlTypeIds;
+    private boolean[] unsigned;
+
+    /* storage for KIND_LONG and KIND_DOUBLE columns */
+    private long[][] longValues;
+    private double[][] doubleValues;
+    private long[][] nullBits;
+
+    /* storage for KIND_BYTES columns, a length of -1 is for NULL */
+    private int[][] offsets;
+    private int[][] lengths;
+    private byte[] data = new byte[INITIAL_DATA_CAPACITY];
+    private int dataLength = 0;
+
+    private int rowCapacity = INITIAL_ROW_CAPACITY;
+    private int rowCount = 0;
+
+    /**
+     * Creates a new, empty, columnar rows holder.
+     * 
+     * @param columnDefinition
+     *            {@link ColumnDefinition} for this result set
+     * @param binaryEncoded
+     *            true if rows are read from a binary protocol result set, false for text protocol ones
+     * @param exceptionInterceptor
+     *            {@link ExceptionInterceptor}
+     */
+    public ResultsetRowsColumnar(ColumnDefinition columnDefinition, boolean binaryEncoded, ExceptionInterceptor exceptionInterceptor) {
+        this.currentPositionInFetchedRows = -1;
+        this.metadata = columnDefinition;
+        this.binaryEncoded = binaryEncoded;
+        this.exceptionInterceptor = exceptionInterceptor;
+
+        Field[] fields = columnDefinition.getFields();
+        this.columnCount = fields.length;
+        this.kinds = new int[this.columnCount];
+        this.mysqlTypeIds = new int[this.columnCount];
+        this.unsigned = new boolean[this.columnCount];
+        this.longValues = new long[this.columnCount][];
+        this.doubleValues = new double[this.columnCount][];
+        this.nullBits = new long[this.columnCount][];
+        this.offsets = new int[this.columnCount][];
+        this.lengths = new int[this.columnCount][];
+
+        for (int i = 0; i < this.columnCount; i++) {
+            Field f = fields[i];
+            this.mysqlTypeIds[i] = f.getMysqlTypeId();
+            this.unsigned[i] = f.isUnsigned();
+            this.kinds[i] = kindOf(f, binaryEncoded);
+
+            switch (this.kinds[i]) {
+                case KIND_LONG:
+                    this.longValues[i] = new long[this.rowCapacity];
+                    this.nullBits[i] = new long[(this.rowCapacity + 63) >>> 6];
+                    break;
+                case KIND_DOUBLE:
+                    this.doubleValues[i] = new double[this.rowCapacity];
+                    this.nullBits[i] = new long[(this.rowCapacity + 63) >>> 6];
+                    break;
+                default:
+                    this.offsets[i] = new int[this.rowCapacity];
+                    this.lengths[i] = new int[this.rowCapacity];
+                    break;
+            }
+        }
+    }
+
+    private static int kindOf(Field f, boolean binaryEncoded) {
+        if (f.isZeroFill()) {
+            // the zero-padded text must be preserved
+            return KIND_BYTES;
+        }
+        switch (f.getMysqlTypeId()) {
+            case MysqlType.FIELD_TYPE_TINY:
+            case MysqlType.FIELD_TYPE_SHORT:
+            case MysqlType.FIELD_TYPE_YEAR:
+            case MysqlType.FIELD_TYPE_LONG:
+            case MysqlType.FIELD_TYPE_INT24:
+            case MysqlType.FIELD_TYPE_LONGLONG:
+                return KIND_LONG;
+            case MysqlType.FIELD_TYPE_FLOAT:
+            case MysqlType.FIELD_TYPE_DOUBLE:
+                return binaryEncoded ? KIND_DOUBLE : KIND_BYTES;
+            default:
+                return KIND_BYTES;
+        }
+    }
+
+    /**
+     * Decode the given row packet and append its values to the columns.
+     * 
+     * @param rowPacket
+     *            text or binary protocol row packet, positioned at its beginning; it's not referenced after this method returns so it can be reused
+     */
+    public void append(NativePacketPayload rowPacket) {
+        if (this.rowCount == this.rowCapacity) {
+            grow();
+        }
+
+        if (this.binaryEncoded) {
+            appendBinary(rowPacket);
+        } else {
+            appendText(rowPacket);
+        }
+
+        this.rowCount++;
+    }
+
+    private void appendText(NativePacketPayload rowPacket) {
+        byte[] buf = rowPacket.getByteBuffer();
+        int row = this.rowCount;
+
+        for (int i = 0; i < this.columnCount; i++) {
+            long length = rowPacket.readInteger(IntegerDataType.INT_LENENC);
+            if (length == NativePacketPayload.NULL_LENGTH) {
+                setNull(i, row);
+                continue;
+            }
+
+            int pos = rowPacket.getPosition();
+            int len = (int) length;
+            switch (this.kinds[i]) {
+                case KIND_LONG:
+                    this.longValues[i][row] = this.unsigned[i] && this.mysqlTypeIds[i] == MysqlType.FIELD_TYPE_LONGLONG ? parseUnsignedLong(buf, pos, len)
+                            : MysqlTextValueDecoder.getLong(buf, pos, pos + len);
+                    break;
+                default:
+                    storeBytes(i, row, buf, pos, len);
+                    break;
+            }
+            rowPacket.setPosition(pos + len);
+        }
+    }
+
+    private void appendBinary(NativePacketPayload rowPacket) {
+        byte[] buf = rowPacket.getByteBuffer();
+        int row = this.rowCount;
+
+        // bump past ProtocolBinary::ResultsetRow packet header
+        int nullMaskPos = rowPacket.getPosition() + 1;
+        int pos = nullMaskPos + (this.columnCount + 9) / 8;
+        int bit = 4; // first two bits are reserved for future use
+
+        for (int i = 0; i < this.columnCount; i++) {
+            if ((buf[nullMaskPos] & bit) != 0) {
+                setNull(i, row);
+            } else {
+                int len = NativeUtils.getBinaryEncodedLength(this.mysqlTypeIds[i]);
+                if (len == 0) {
+                    rowPacket.setPosition(pos);
+                    len = (int) rowPacket.readInteger(IntegerDataType.INT_LENENC);
+                    pos = rowPacket.getPosition();
+                } else if (len < 0) {
+                    throw ExceptionFactory.createException(Messages.getString("MysqlIO.97", new Object[] { this.mysqlTypeIds[i], i, this.columnCount }),
+                            this.exceptionInterceptor);
+                }
+
+                switch (this.kinds[i]) {
+                    case KIND_LONG:
+                        this.longValues[i][row] = readBinaryLong(buf, pos, len, this.unsigned[i] && this.mysqlTypeIds[i] != MysqlType.FIELD_TYPE_YEAR);
+                        break;
+                    case KIND_DOUBLE:
+                        this.doubleValues[i][row] = len == 4 ? Float.intBitsToFloat((int) readBinaryLong(buf, pos, len, false))
+                                : Double.longBitsToDouble(readBinaryLong(buf, pos, len, false));
+                        break;
+                    default:
+                        storeBytes(i, row, buf, pos, len);
+                        break;
+                }
+                pos += len;
+            }
+
+            if (((bit <<= 1) & 255) == 0) {
+                bit = 1; /* To next byte */
+                nullMaskPos++;
+            }
+        }
+    }
+
+    private static long readBinaryLong(byte[] buf, int pos, int len, boolean isUnsigned) {
+        long value = 0;
+        for (int i = len - 1; i >= 0; i--) {
+            value = (value << 8) | (buf[pos + i] & 0xff);
+        }
+        if (!isUnsigned && len < 8) {
+            // sign-extend
+            int shift = 64 - 8 * len;
+            value = (value << shift) >> shift;
+        }
+        return value;
+    }
+
+    private static long parseUnsignedLong(byte[] buf, int pos, int len) {
+        long value = 0;
+        for (int i = pos; i < pos + len; i++) {
+            value = value * 10 + (buf[i] - '0');
+        }
+        return value;
+    }
+
+    private void setNull(int columnIndex, int row) {
+        if (this.kinds[columnIndex] == KIND_BYTES) {
+            this.lengths[columnIndex][row] = -1;
+        } else {
+            this.nullBits[columnIndex][row >>> 6] |= 1L << row;
+        }
+    }
+
+    private void storeBytes(int columnIndex, int row, byte[] buf, int pos, int len) {
+        if (this.dataLength + len > this.data.length) {
+            this.data = Arrays.copyOf(this.data, Math.max(this.data.length * 2, this.dataLength + len));
+        }
+        System.arraycopy(buf, pos, this.data, this.dataLength, len);
+        this.offsets[columnIndex][row] = this.dataLength;
+        this.lengths[columnIndex][row] = len;
+        this.dataLength += len;
+    }
+
+    private void grow() {
+        int newCapacity = this.rowCapacity + (this.rowCapacity >> 1);
+        for (int i = 0; i < this.columnCount; i++) {
+            switch (this.kinds[i]) {
+                case KIND_LONG:
+                    this.longValues[i] = Arrays.copyOf(this.longValues[i], newCapacity);
+                    this.nullBits[i] = Arrays.copyOf(this.nullBits[i], (newCapacity + 63) >>> 6);
+                    break;
+                case KIND_DOUBLE:
+                    this.doubleValues[i] = Arrays.copyOf(this.doubleValues[i], newCapacity);
+                    this.nullBits[i] = Arrays.copyOf(this.nullBits[i], (newCapacity + 63) >>> 6);
+                    break;
+                default:
+                    this.offsets[i] = Arrays.copyOf(this.offsets[i], newCapacity);
+                    this.lengths[i] = Arrays.copyOf(this.lengths[i], newCapacity);
+                    break;
+            }
+        }
+        this.rowCapacity = newCapacity;
+    }
+
+    private boolean isNull(int columnIndex, int row) {
+        if (this.kinds[columnIndex] == KIND_BYTES) {
+            return this.lengths[columnIndex][row] == -1;
+        }
+        return (this.nullBits[columnIndex][row >>> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * Re-creates the wire encoding of a value stored in a primitive array.
+     */
+    private byte[] encodePrimitive(int columnIndex, int row) {
+        if (this.kinds[columnIndex] == KIND_DOUBLE) {
+            return this.mysqlTypeIds[columnIndex] == MysqlType.FIELD_TYPE_FLOAT
+                    ? toLittleEndian(Float.floatToRawIntBits((float) this.doubleValues[columnIndex][row]), 4)
+                    : toLittleEndian(Double.doubleToRawLongBits(this.doubleValues[columnIndex][row]), 8);
+        }
+
+        long value = this.longValues[columnIndex][row];
+        if (this.binaryEncoded) {
+            return toLittleEndian(value, NativeUtils.getBinaryEncodedLength(this.mysqlTypeIds[columnIndex]));
+        }
+        return StringUtils.getBytes(this.unsigned[columnIndex] && this.mysqlTypeIds[columnIndex] == MysqlType.FIELD_TYPE_LONGLONG ? Long.toUnsignedString(value)
+                : Long.toString(value));
+    }
+
+    private static byte[] toLittleEndian(long value, int len) {
+        byte[] b = new byte[len];
+        for (int i = 0; i < len; i++) {
+            b[i] = (byte) (value >>> (8 * i));
+        }
+        return b;
+    }
+
+    @Override
+    public void afterLast() {
+        if (this.rowCount > 0) {
+            this.currentPositionInFetchedRows = this.rowCount;
+        }
+    }
+
+    @Override
+    public void beforeFirst() {
+        if (this.rowCount > 0) {
+            this.currentPositionInFetchedRows = -1;
+        }
+    }
+
+    @Override
+    public void beforeLast() {
+        if (this.rowCount > 0) {
+            this.currentPositionInFetchedRows = this.rowCount - 2;
+        }
+    }
+
+    @Override
+    public Row get(int atIndex) {
+        if ((atIndex < 0) || (atIndex >= this.rowCount)) {
+            return null;
+        }
+
+        return new ColumnarRow(atIndex).setMetadata(this.metadata);
+    }
+
+    @Override
+    public int getPosition() {
+        return this.currentPositionInFetchedRows;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return (this.currentPositionInFetchedRows + 1) < this.rowCount;
+    }
+
+    @Override
+    public boolean isAfterLast() {
+        return this.currentPositionInFetchedRows >= this.rowCount && this.rowCount != 0;
+    }
+
+    @Override
+    public boolean isBeforeFirst() {
+        return this.currentPositionInFetchedRows == -1 && this.rowCount != 0;
+    }
+
+    @Override
+    public boolean isDynamic() {
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.rowCount == 0;
+    }
+
+    @Override
+    public boolean isFirst() {
+        return this.currentPositionInFetchedRows == 0;
+    }
+
+    @Override
+    public boolean isLast() {
+        // You can never be on the 'last' row of an empty result set
+        if (this.rowCount == 0) {
+            return false;
+        }
+
+        return (this.currentPositionInFetchedRows == (this.rowCount - 1));
+    }
+
+    @Override
+    public void moveRowRelative(int rowsToMove) {
+        if (this.rowCount > 0) {
+            this.currentPositionInFetchedRows += rowsToMove;
+            if (this.currentPositionInFetchedRows < -1) {
+                beforeFirst();
+            } else if (this.currentPositionInFetchedRows > this.rowCount) {
+                afterLast();
+            }
+        }
+    }
+
+    @Override
+    public Row next() {
+        this.currentPositionInFetchedRows++;
+
+        if (this.currentPositionInFetchedRows > this.rowCount) {
+            afterLast();
+        } else if (this.currentPositionInFetchedRows < this.rowCount) {
+            return new ColumnarRow(this.currentPositionInFetchedRows).setMetadata(this.metadata);
+        }
+
+        return null;
+    }
+
+    @Override
+    public void setCurrentRow(int newIndex) {
+        this.currentPositionInFetchedRows = newIndex;
+    }
+
+    @Override
+    public int size() {
+        return this.rowCount;
+    }
+
+    @Override
+    public boolean wasEmpty() {
+        return this.rowCount == 0;
+    }
+
+    /**
+     * A view of one row of the enclosing {@link ResultsetRowsColumnar}.
+     */
+    private class ColumnarRow extends AbstractResultsetRow {
+
+        private int row;
+
+        ColumnarRow(int row) {
+            super(ResultsetRowsColumnar.this.exceptionInterceptor);
+            this.row = row;
+            this.valueDecoder = ResultsetRowsColumnar.this.binaryEncoded ? ResultsetRowsColumnar.this.binaryValueDecoder
+                    : ResultsetRowsColumnar.this.textValueDecoder;
+        }
+
+        @Override
+        public boolean isBinaryEncoded() {
+            return ResultsetRowsColumnar.this.binaryEncoded;
+        }
+
+        @Override
+        public boolean getNull(int columnIndex) {
+            this.wasNull = isNull(columnIndex, this.row);
+            return this.wasNull;
+        }
+
+        @Override
+        public byte[] getBytes(int columnIndex) {
+            if (getNull(columnIndex)) {
+                return null;
+            }
+            if (ResultsetRowsColumnar.this.kinds[columnIndex] != KIND_BYTES) {
+                return encodePrimitive(columnIndex, this.row);
+            }
+            int offset = ResultsetRowsColumnar.this.offsets[columnIndex][this.row];
+            return Arrays.copyOfRange(ResultsetRowsColumnar.this.data, offset, offset + ResultsetRowsColumnar.this.lengths[columnIndex][this.row]);
+        }
+
+        @Override
+        public <T> T getValue(int columnIndex, ValueFactory<T> vf) {
+            switch (ResultsetRowsColumnar.this.kinds[columnIndex]) {
+                case KIND_LONG: {
+                    if (getNull(columnIndex)) {
+                        return vf.createFromNull();
+                    }
+                    long value = ResultsetRowsColumnar.this.longValues[columnIndex][this.row];
+                    int typeId = ResultsetRowsColumnar.this.mysqlTypeIds[columnIndex];
+                    T retVal;
+                    if (typeId == MysqlType.FIELD_TYPE_YEAR) {
+                        retVal = vf.createFromYear(value);
+                    } else if (value < 0 && typeId == MysqlType.FIELD_TYPE_LONGLONG && ResultsetRowsColumnar.this.unsigned[columnIndex]) {
+                        retVal = vf.createFromBigInteger(new BigInteger(Long.toUnsignedString(value)));
+                    } else {
+                        retVal = vf.createFromLong(value);
+                    }
+                    this.wasNull = (retVal == null);
+                    return retVal;
+                }
+                case KIND_DOUBLE: {
+                    if (getNull(columnIndex)) {
+                        return vf.createFromNull();
+                    }
+                    T retVal = vf.createFromDouble(ResultsetRowsColumnar.this.doubleValues[columnIndex][this.row]);
+                    this.wasNull = (retVal == null);
+                    return retVal;
+                }
+                default:
+                    return getValueFromBytes(columnIndex, ResultsetRowsColumnar.this.data, ResultsetRowsColumnar.this.offsets[columnIndex][this.row],
+                            ResultsetRowsColumnar.this.lengths[columnIndex][this.row], vf);
+            }
+        }
+
+        @Override
+        public long getLong(int columnIndex) {
+            switch (ResultsetRowsColumnar.this.kinds[columnIndex]) {
+                case KIND_LONG:
+                    return getNull(columnIndex) ? 0 : ResultsetRowsColumnar.this.longValues[columnIndex][this.row];
+                case KIND_DOUBLE:
+                    // only binary FLOAT and DOUBLE values are stored as doubles, and the binary decoder doesn't decode these as long either
+                    throw ExceptionFactory.createException(CJOperationNotSupportedException.class, Messages.getString("OperationNotSupportedException.0"));
+                default:
+                    return getLongFromBytes(columnIndex, ResultsetRowsColumnar.this.data, ResultsetRowsColumnar.this.offsets[columnIndex][this.row],
+                            ResultsetRowsColumnar.this.lengths[columnIndex][this.row]);
+            }
+        }
+
+        @Override
+        public double getDouble(int columnIndex) {
+            switch (ResultsetRowsColumnar.this.kinds[columnIndex]) {
+                case KIND_DOUBLE:
+                    return getNull(columnIndex) ? 0 : ResultsetRowsColumnar.this.doubleValues[columnIndex][this.row];
+                case KIND_LONG: {
+                    if (getNull(columnIndex)) {
+                        return 0;
+                    }
+                    long value = ResultsetRowsColumnar.this.longValues[columnIndex][this.row];
+                    if (value < 0 && ResultsetRowsColumnar.this.mysqlTypeIds[columnIndex] == MysqlType.FIELD_TYPE_LONGLONG
+                            && ResultsetRowsColumnar.this.unsigned[columnIndex]) {
+                        return new BigInteger(Long.toUnsignedString(value)).doubleValue();
+                    }
+                    return value;
+                }
+                default:
+                    return getDoubleFromBytes(columnIndex, ResultsetRowsColumnar.this.data, ResultsetRowsColumnar.this.offsets[columnIndex][this.row],
+                            ResultsetRowsColumnar.this.lengths[columnIndex][this.row]);
+            }
+        }
+    }
+}
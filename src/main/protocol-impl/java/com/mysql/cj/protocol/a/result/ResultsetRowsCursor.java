@@ -29,10 +29,14 @@
 
 package com.mysql.cj.protocol.a.result;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
 import com.mysql.cj.Messages;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.exceptions.CJCommunicationsException;
+import com.mysql.cj.exceptions.CJException;
 import com.mysql.cj.exceptions.ExceptionFactory;
 import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.Resultset.Concurrency;
@@ -40,6 +44,7 @@ import com.mysql.cj.protocol.ResultsetRow;
 import com.mysql.cj.protocol.ResultsetRows;
 import com.mysql.cj.protocol.a.BinaryRowFactory;
 import com.mysql.cj.protocol.a.NativeMessageBuilder;
+import com.mysql.cj.protocol.a.NativePacketPayload;
 import com.mysql.cj.protocol.a.NativeProtocol;
 import com.mysql.cj.result.Row;
 
@@ -76,6 +81,31 @@ public class ResultsetRowsCursor extends AbstractResultsetRows implements Result
      */
     private boolean firstFetchCompleted = false;
 
+    /**
+     * The rows of the next block, requested from the server before the current block is used up. See "prefetchCursorRows".
+     */
+    private List<Row> prefetchedRows;
+
+    /**
+     * Has the next block been requested from the server?
+     */
+    private boolean prefetchRequested = false;
+
+    /**
+     * Have the rows requested for {@link #prefetchedRows} not all been read yet?
+     */
+    private boolean prefetchPending = false;
+
+    /**
+     * Has the server told us that the last row is in {@link #prefetchedRows}?
+     */
+    private boolean prefetchLastRowSent = false;
+
+    /**
+     * The error the server sent instead of the prefetched rows, reported when they are needed.
+     */
+    private CJException prefetchError = null;
+
     protected NativeMessageBuilder commandBuilder = null;
 
     /**
@@ -127,6 +157,8 @@ public class ResultsetRowsCursor extends AbstractResultsetRows implements Result
     @Override
     public void close() {
 
+        // the rows still to be read for a pending prefetch are discarded when the next command is sent
+        this.prefetchedRows = null;
         this.metadata = null;
         this.owner = null;
     }
@@ -146,6 +178,10 @@ public class ResultsetRowsCursor extends AbstractResultsetRows implements Result
             }
         }
 
+        if (this.prefetchPending) {
+            readAvailablePrefetchedRows();
+        }
+
         if (this.currentPositionInEntireResult != BEFORE_START_OF_ROWS) {
             // Case, we've fetched some rows, but are not at end of fetched block
             if (this.currentPositionInFetchedRows < (this.fetchedRows.size() - 1)) {
@@ -212,43 +248,65 @@ public class ResultsetRowsCursor extends AbstractResultsetRows implements Result
                     this.firstFetchCompleted = true;
                 }
 
-                int numRowsToFetch = this.owner.getOwnerFetchSize();
+                if (this.prefetchRequested) {
+                    this.prefetchRequested = false;
+                    completePrefetch();
 
-                if (numRowsToFetch == 0) {
-                    numRowsToFetch = this.owner.getOwningStatementFetchSize();
-                }
-
-                if (numRowsToFetch == Integer.MIN_VALUE) {
-                    // Handle the case where the user used 'old' streaming result sets
+                    if (this.prefetchError != null) {
+                        CJException ex = this.prefetchError;
+                        this.prefetchError = null;
+                        this.prefetchedRows.clear();
+                        throw ex;
+                    }
 
-                    numRowsToFetch = 1;
-                }
+                    List<Row> consumedRows = this.fetchedRows;
+                    this.fetchedRows = this.prefetchedRows;
+                    this.prefetchedRows = consumedRows;
+                    this.prefetchedRows.clear();
+                    this.lastRowFetched = this.prefetchLastRowSent;
 
-                if (this.fetchedRows == null) {
-                    this.fetchedRows = new ArrayList<>(numRowsToFetch);
                 } else {
-                    this.fetchedRows.clear();
-                }
+                    int numRowsToFetch = getNumRowsToFetch();
+
+                    if (this.fetchedRows == null) {
+                        this.fetchedRows = new ArrayList<>(numRowsToFetch);
+                    } else {
+                        this.fetchedRows.clear();
+                    }
 
-                // TODO this is not the right place for this code, should be in protocol
-                this.protocol.sendCommand(
-                        this.commandBuilder.buildComStmtFetch(this.protocol.getSharedSendPacket(), this.owner.getOwningStatementServerId(), numRowsToFetch),
-                        true, 0);
+                    // TODO this is not the right place for this code, should be in protocol
+                    this.protocol.sendCommand(
+                            this.commandBuilder.buildComStmtFetch(this.protocol.getSharedSendPacket(), this.owner.getOwningStatementServerId(), numRowsToFetch),
+                            true, 0);
 
-                Row row = null;
+                    Row row = null;
 
-                while ((row = this.protocol.read(ResultsetRow.class, this.rowFactory)) != null) {
-                    this.fetchedRows.add(row);
+                    while ((row = this.protocol.read(ResultsetRow.class, this.rowFactory)) != null) {
+                        this.fetchedRows.add(row);
+                    }
+
+                    this.lastRowFetched = this.protocol.getServerSession().isLastRowSent();
                 }
 
                 this.currentPositionInFetchedRows = BEFORE_START_OF_ROWS;
 
-                if (this.protocol.getServerSession().isLastRowSent()) {
-                    this.lastRowFetched = true;
-
+                if (this.lastRowFetched) {
                     if (!oldFirstFetchCompleted && this.fetchedRows.size() == 0) {
                         this.wasEmpty = true;
                     }
+                } else if (this.protocol.getPropertySet().getBooleanProperty(PropertyKey.prefetchCursorRows).getValue()
+                        && this.protocol.getQueryInterceptors() == null) {
+                    int numRowsToFetch = getNumRowsToFetch();
+
+                    if (this.prefetchedRows == null) {
+                        this.prefetchedRows = new ArrayList<>(numRowsToFetch);
+                    }
+
+                    this.protocol.sendCursorPrefetch(
+                            this.commandBuilder.buildComStmtFetch(this.protocol.getSharedSendPacket(), this.owner.getOwningStatementServerId(), numRowsToFetch),
+                            this);
+                    this.prefetchRequested = true;
+                    this.prefetchPending = true;
                 }
             } catch (Exception ex) {
                 throw ExceptionFactory.createException(ex.getMessage(), ex);
@@ -256,6 +314,71 @@ public class ResultsetRowsCursor extends AbstractResultsetRows implements Result
         }
     }
 
+    private int getNumRowsToFetch() {
+        int numRowsToFetch = this.owner.getOwnerFetchSize();
+
+        if (numRowsToFetch == 0) {
+            numRowsToFetch = this.owner.getOwningStatementFetchSize();
+        }
+
+        if (numRowsToFetch == Integer.MIN_VALUE) {
+            // Handle the case where the user used 'old' streaming result sets
+
+            numRowsToFetch = 1;
+        }
+
+        return numRowsToFetch;
+    }
+
+    /**
+     * Reads the rows of the prefetched block that have already arrived, without waiting for the others.
+     */
+    private void readAvailablePrefetchedRows() {
+        try {
+            while (this.prefetchPending && this.protocol.getSocketConnection().getMysqlInput().available() > 0) {
+                readPrefetchedRow();
+            }
+        } catch (IOException e) {
+            // the rows are read when they are needed
+        }
+    }
+
+    /**
+     * Reads the rest of the rows requested by {@link NativeProtocol#sendCursorPrefetch(NativePacketPayload, ResultsetRowsCursor)}. Server errors are kept
+     * and reported when the prefetched rows are needed, since this can be called on behalf of any command sent through the same connection.
+     */
+    public void completePrefetch() {
+        while (this.prefetchPending) {
+            readPrefetchedRow();
+        }
+    }
+
+    private void readPrefetchedRow() {
+        try {
+            Row row = this.protocol.read(ResultsetRow.class, this.rowFactory);
+            if (row == null) {
+                this.prefetchPending = false;
+                this.prefetchLastRowSent = this.protocol.getServerSession().isLastRowSent();
+                this.protocol.unsetCursorPrefetch(this);
+            } else if (this.prefetchedRows != null) {
+                this.prefetchedRows.add(row);
+            }
+        } catch (IOException ex) {
+            this.prefetchPending = false;
+            this.protocol.unsetCursorPrefetch(this);
+            throw ExceptionFactory.createCommunicationsException(this.protocol.getPropertySet(), this.protocol.getServerSession(),
+                    this.protocol.getPacketSentTimeHolder(), this.protocol.getPacketReceivedTimeHolder(), ex, this.protocol.getExceptionInterceptor());
+        } catch (CJCommunicationsException ex) {
+            this.prefetchPending = false;
+            this.protocol.unsetCursorPrefetch(this);
+            throw ex;
+        } catch (CJException ex) {
+            this.prefetchPending = false;
+            this.prefetchError = ex;
+            this.protocol.unsetCursorPrefetch(this);
+        }
+    }
+
     @Override
     public void addRow(Row row) {
         // TODO consider to handle additional List<Row> addedRows along with fetchedRows
@@ -42,6 +42,11 @@ public class ResultsetRowsStatic extends AbstractResultsetRows implements Result
 
     private List<Row> rows;
 
+    /**
+     * Arena holding the row packets, if rows were read in the arena allocation mode.
+     */
+    private RowBufferArena rowBufferArena = null;
+
     /**
      * Creates a new RowDataStatic object.
      * 
@@ -57,6 +62,21 @@ public class ResultsetRowsStatic extends AbstractResultsetRows implements Result
         this.metadata = columnDefinition;
     }
 
+    /**
+     * Creates a new RowDataStatic object whose rows refer to row packets stored in the given {@link RowBufferArena}.
+     * 
+     * @param rows
+     *            list of {@link Row} instances
+     * @param columnDefinition
+     *            {@link ColumnDefinition} for this result set
+     * @param rowBufferArena
+     *            {@link RowBufferArena} the rows were allocated from, released when this object is closed
+     */
+    public ResultsetRowsStatic(List<? extends Row> rows, ColumnDefinition columnDefinition, RowBufferArena rowBufferArena) {
+        this(rows, columnDefinition);
+        this.rowBufferArena = rowBufferArena;
+    }
+
     @Override
     public void addRow(Row row) {
         this.rows.add(row);
@@ -83,6 +103,14 @@ public class ResultsetRowsStatic extends AbstractResultsetRows implements Result
         }
     }
 
+    @Override
+    public void close() {
+        if (this.rowBufferArena != null) {
+            this.rowBufferArena.release();
+            this.rowBufferArena = null;
+        }
+    }
+
     @Override
     public Row get(int atIndex) {
         if ((atIndex < 0) || (atIndex >= this.rows.size())) {
@@ -29,11 +29,17 @@
 
 package com.mysql.cj.protocol.a.result;
 
+import java.io.IOException;
+
 import com.mysql.cj.Messages;
+import com.mysql.cj.NativeSession;
+import com.mysql.cj.QueryCancellationService;
+import com.mysql.cj.Session;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.CJException;
 import com.mysql.cj.exceptions.ExceptionFactory;
 import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.exceptions.MysqlErrorNumbers;
 import com.mysql.cj.exceptions.StreamingNotifiable;
 import com.mysql.cj.log.ProfilerEvent;
 import com.mysql.cj.protocol.ColumnDefinition;
@@ -109,17 +115,16 @@ public class ResultsetRowsStreaming<T extends ProtocolEntity> extends AbstractRe
         Object mutex = this.owner != null && this.owner.getSyncMutex() != null ? this.owner.getSyncMutex() : this;
 
         boolean hadMore = false;
-        int howMuchMore = 0;
+        long howMuchMore = 0;
 
         synchronized (mutex) {
             // drain the rest of the records.
-            while (next() != null) {
-                hadMore = true;
-                howMuchMore++;
-
-                if (howMuchMore % 100 == 0) {
-                    Thread.yield();
-                }
+            if (!this.noMoreRows) {
+                howMuchMore = skipRemainingRows();
+                hadMore = howMuchMore > 0;
+            }
+            if (!this.streamerClosed) {
+                next(); // no more rows, handles further result sets
             }
 
             if (!this.protocol.getPropertySet().getBooleanProperty(PropertyKey.clobberStreamingResults).getValue()
@@ -149,6 +154,68 @@ public class ResultsetRowsStreaming<T extends ProtocolEntity> extends AbstractRe
         this.owner = null;
     }
 
+    /**
+     * Discards the rows not yet read from the server without building them. If the number of rows or bytes discarded exceeds the limits set in
+     * "streamingResultsKillThresholdRows" or "streamingResultsKillThresholdSize", the running query is killed through a separate connection so that the
+     * server stops sending rows; the interruption error that then ends the rows is expected and not reported.
+     * 
+     * @return the number of rows discarded
+     */
+    private long skipRemainingRows() {
+        int maxRows = this.protocol.getPropertySet().getIntegerProperty(PropertyKey.streamingResultsKillThresholdRows).getValue();
+        int maxBytes = this.protocol.getPropertySet().getMemorySizeProperty(PropertyKey.streamingResultsKillThresholdSize).getValue();
+
+        long rows = 0;
+        long bytes = 0;
+        boolean killSent = false;
+
+        try {
+            long rowLength;
+            while ((rowLength = this.protocol.skipResultsetRow()) >= 0) {
+                rows++;
+                bytes += rowLength;
+
+                if (!killSent && (maxRows > 0 && rows > maxRows || maxBytes > 0 && bytes > maxBytes)) {
+                    killSent = true;
+                    killQuery();
+                }
+            }
+        } catch (CJException sqlEx) {
+            this.noMoreRows = true;
+            this.isAfterEnd = true;
+
+            if (killSent && sqlEx.getVendorCode() == MysqlErrorNumbers.ER_QUERY_INTERRUPTED) {
+                // an error packet ends the statement, there are no further result sets
+                this.protocol.unsetStreamingData(this);
+                this.streamerClosed = true;
+                return rows;
+            }
+
+            if (sqlEx instanceof StreamingNotifiable) {
+                ((StreamingNotifiable) sqlEx).setWasStreamingResults();
+            }
+            throw sqlEx;
+        }
+
+        this.noMoreRows = true;
+        if (rows == 0 && this.currentPositionInFetchedRows == -1) {
+            this.wasEmpty = true;
+        }
+        return rows;
+    }
+
+    private void killQuery() {
+        Session session = this.owner == null ? null : this.owner.getSession();
+        if (!(session instanceof NativeSession)) {
+            return;
+        }
+        try {
+            QueryCancellationService.getInstance().killQuery((NativeSession) session);
+        } catch (IOException | CJException e) {
+            // the rows are still discarded, only slower
+        }
+    }
+
     @Override
     public boolean hasNext() {
         boolean hasNext = (this.nextRow != null);
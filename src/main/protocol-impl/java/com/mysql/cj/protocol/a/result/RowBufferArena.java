@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a.result;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.mysql.cj.protocol.a.NativePacketPayload;
+
+/**
+ * Slab allocator for the row packets of a fully buffered result set. Instead of holding one byte array per row, row packets are copied back to back into
+ * large shared chunks and each row refers to its own (chunk, offset, length) window through a {@link NativePacketPayload} positioned at the row start.
+ * 
+ * Rows that don't fit in half a chunk get a dedicated array, so the space wasted at the end of a chunk stays bounded.
+ * 
+ * Instances are not thread-safe; an arena is filled by the reader thread only and then handed over to {@link ResultsetRowsStatic}, which releases it
+ * when closed.
+ */
+public class RowBufferArena {
+
+    private int chunkSize;
+    private List<byte[]> chunks = new ArrayList<>();
+    private byte[] currentChunk = null;
+    private int currentOffset = 0;
+    private long allocatedBytes = 0;
+
+    public RowBufferArena(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Copy the payload of the given row packet into the arena.
+     * 
+     * @param rowPacket
+     *            row packet, usually the protocol's reusable packet which will be overwritten by the next read
+     * @return a new {@link NativePacketPayload} backed by the arena, positioned at the same relative position as <code>rowPacket</code> was and with its
+     *         payload length set to the end of the copied row
+     */
+    public NativePacketPayload copyOf(NativePacketPayload rowPacket) {
+        int length = rowPacket.getPayloadLength();
+        byte[] chunk;
+        int offset;
+
+        if (length > this.chunkSize / 2) {
+            chunk = new byte[length];
+            offset = 0;
+        } else {
+            if (this.currentChunk == null || this.currentOffset + length > this.currentChunk.length) {
+                this.currentChunk = new byte[this.chunkSize];
+                this.currentOffset = 0;
+                this.chunks.add(this.currentChunk);
+            }
+            chunk = this.currentChunk;
+            offset = this.currentOffset;
+            this.currentOffset += length;
+        }
+
+        System.arraycopy(rowPacket.getByteBuffer(), 0, chunk, offset, length);
+        this.allocatedBytes += length;
+
+        NativePacketPayload row = new NativePacketPayload(chunk);
+        row.setPayloadLength(offset + length);
+        row.setPosition(offset + rowPacket.getPosition());
+        return row;
+    }
+
+    /**
+     * Returns the number of row bytes copied into this arena so far.
+     * 
+     * @return number of bytes
+     */
+    public long getAllocatedBytes() {
+        return this.allocatedBytes;
+    }
+
+    /**
+     * Returns the number of shared chunks allocated so far.
+     * 
+     * @return number of chunks
+     */
+    public int getChunkCount() {
+        return this.chunks.size();
+    }
+
+    /**
+     * Drop all references to the shared chunks. Rows that were created from this arena still keep their own chunk reachable, so memory is returned
+     * to the heap as soon as the last row referring to a chunk is gone.
+     */
+    public void release() {
+        this.chunks.clear();
+        this.currentChunk = null;
+        this.currentOffset = 0;
+    }
+}
@@ -81,7 +81,9 @@ public class TextBufferRow extends AbstractBufferRow {
             if (this.lastRequestedIndex >= 0) {
                 startingIndex = this.lastRequestedIndex;
             } else {
+                // First-time "scan"
                 startingIndex = 0;
+                this.lastRequestedPos = this.homePosition;
             }
 
             this.rowFromServer.setPosition(this.lastRequestedPos);
@@ -131,4 +133,28 @@ public class TextBufferRow extends AbstractBufferRow {
         int length = (int) this.rowFromServer.readInteger(IntegerDataType.INT_LENENC);
         return getValueFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length, vf);
     }
+
+    @Override
+    public long getLong(int columnIndex) {
+        findAndSeekToOffset(columnIndex);
+        long length = this.rowFromServer.readInteger(IntegerDataType.INT_LENENC);
+        this.wasNull = length == NativePacketPayload.NULL_LENGTH;
+        if (this.wasNull) {
+            return 0;
+        }
+        return this.valueDecoder.decodeAsLong(this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), (int) length,
+                this.metadata.getFields()[columnIndex]);
+    }
+
+    @Override
+    public double getDouble(int columnIndex) {
+        findAndSeekToOffset(columnIndex);
+        long length = this.rowFromServer.readInteger(IntegerDataType.INT_LENENC);
+        this.wasNull = length == NativePacketPayload.NULL_LENGTH;
+        if (this.wasNull) {
+            return 0;
+        }
+        return this.valueDecoder.decodeAsDouble(this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), (int) length,
+                this.metadata.getFields()[columnIndex]);
+    }
 }
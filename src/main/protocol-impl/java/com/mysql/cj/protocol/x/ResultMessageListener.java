@@ -32,6 +32,7 @@ package com.mysql.cj.protocol.x;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import com.google.protobuf.GeneratedMessageV3;
 import com.mysql.cj.exceptions.WrongArgumentException;
@@ -47,15 +48,24 @@ import com.mysql.cj.x.protobuf.Mysqlx.Error;
 public class ResultMessageListener<R> implements MessageListener<XMessage> {
     private ResultBuilder<?> resultBuilder;
     private CompletableFuture<R> future;
+    /** Executor completing the future, so that dependent actions don't run on the thread reading messages; if null, the reading thread completes it. */
+    private Executor completionExecutor;
 
     private Map<Class<? extends GeneratedMessageV3>, ProtocolEntityFactory<? extends ProtocolEntity, XMessage>> messageToProtocolEntityFactory = new HashMap<>();
 
     public ResultMessageListener(
             Map<Class<? extends GeneratedMessageV3>, ProtocolEntityFactory<? extends ProtocolEntity, XMessage>> messageToProtocolEntityFactory,
             ResultBuilder<R> resultBuilder, CompletableFuture<R> future) {
+        this(messageToProtocolEntityFactory, resultBuilder, future, null);
+    }
+
+    public ResultMessageListener(
+            Map<Class<? extends GeneratedMessageV3>, ProtocolEntityFactory<? extends ProtocolEntity, XMessage>> messageToProtocolEntityFactory,
+            ResultBuilder<R> resultBuilder, CompletableFuture<R> future, Executor completionExecutor) {
         this.messageToProtocolEntityFactory = messageToProtocolEntityFactory;
         this.resultBuilder = resultBuilder;
         this.future = future;
+        this.completionExecutor = completionExecutor;
     }
 
     @SuppressWarnings("unchecked")
@@ -63,23 +73,36 @@ public class ResultMessageListener<R> implements MessageListener<XMessage> {
         Class<? extends GeneratedMessageV3> msgClass = (Class<? extends GeneratedMessageV3>) message.getMessage().getClass();
 
         if (Error.class.equals(msgClass)) {
-            this.future.completeExceptionally(new XProtocolError(Error.class.cast(message.getMessage())));
+            completeExceptionally(new XProtocolError(Error.class.cast(message.getMessage())));
 
         } else if (!this.messageToProtocolEntityFactory.containsKey(msgClass)) {
-            this.future.completeExceptionally(new WrongArgumentException("Unhandled msg class (" + msgClass + ") + msg=" + message.getMessage()));
+            completeExceptionally(new WrongArgumentException("Unhandled msg class (" + msgClass + ") + msg=" + message.getMessage()));
 
         } else {
             if (!this.resultBuilder.addProtocolEntity(this.messageToProtocolEntityFactory.get(msgClass).createFromMessage(message))) {
                 return false;
             }
-            this.future.complete((R) this.resultBuilder.build());
+            R result = (R) this.resultBuilder.build();
+            if (this.completionExecutor == null) {
+                this.future.complete(result);
+            } else {
+                this.completionExecutor.execute(() -> this.future.complete(result));
+            }
         }
 
         return true; /* done reading */
     }
 
     public void error(Throwable ex) {
-        this.future.completeExceptionally(ex);
+        completeExceptionally(ex);
+    }
+
+    private void completeExceptionally(Throwable ex) {
+        if (this.completionExecutor == null) {
+            this.future.completeExceptionally(ex);
+        } else {
+            this.completionExecutor.execute(() -> this.future.completeExceptionally(ex));
+        }
     }
 
 }
@@ -80,12 +80,19 @@ public class StatementExecuteOkBuilder implements ResultBuilder<StatementExecute
                 case Notice.SessionStateChanged_GENERATED_INSERT_ID:
                     this.lastInsertId = ((XSessionStateChanged) notice).getValue().getVUnsignedInt(); // TODO: handle > 2^63-1?
                     break;
+                // counts and ids are accumulated, as the same builder collects the results of all statements sent for a split Collection.add()
                 case Notice.SessionStateChanged_ROWS_AFFECTED:
-                    this.rowsAffected = ((XSessionStateChanged) notice).getValue().getVUnsignedInt(); // TODO: handle > 2^63-1?
+                    this.rowsAffected += ((XSessionStateChanged) notice).getValue().getVUnsignedInt(); // TODO: handle > 2^63-1?
                     break;
                 case Notice.SessionStateChanged_GENERATED_DOCUMENT_IDS:
-                    this.generatedIds = ((XSessionStateChanged) notice).getValueList().stream().map(v -> v.getVOctets().getValue().toStringUtf8())
+                    List<String> ids = ((XSessionStateChanged) notice).getValueList().stream().map(v -> v.getVOctets().getValue().toStringUtf8())
                             .collect(Collectors.toList());
+                    if (this.generatedIds.isEmpty()) {
+                        this.generatedIds = ids;
+                    } else {
+                        this.generatedIds = new ArrayList<>(this.generatedIds);
+                        this.generatedIds.addAll(ids);
+                    }
                     break;
                 case Notice.SessionStateChanged_PRODUCED_MESSAGE:
                 case Notice.SessionStateChanged_CURRENT_SCHEMA:
@@ -34,7 +34,11 @@ import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.CompletionHandler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import com.google.protobuf.MessageLite;
 import com.mysql.cj.Messages;
@@ -44,7 +48,12 @@ import com.mysql.cj.protocol.MessageSender;
 import com.mysql.cj.protocol.PacketSentTimeHolder;
 
 /**
- * Synchronous-only implementation of {@link MessageSender}.
+ * Implementation of {@link MessageSender} writing to an {@link OutputStream}.
+ * 
+ * Synchronous sends write the message on the caller's thread. Asynchronous sends only queue the message and return; queued messages are written, in order, by
+ * a writing thread that is started by the first asynchronous send, waits for new messages while idle and stops when the sender is closed. Messages queued
+ * while a write is in progress are written together with a single flush, so that several asynchronous operations can be in flight at the same time. A
+ * synchronous send writes any queued messages before its own one, so messages always reach the server in the order they were sent.
  */
 public class SyncMessageSender implements MessageSender<XMessage>, PacketSentTimeHolder {
     /**
@@ -60,28 +69,36 @@ public class SyncMessageSender implements MessageSender<XMessage>, PacketSentTim
     /** Lock to protect async writes from sync ones. */
     Object waitingAsyncOperationMonitor = new Object();
 
+    /** Messages sent asynchronously and not written yet. */
+    private Queue<PendingMessage> pendingMessages = new ConcurrentLinkedQueue<>();
+    /** Lock to protect the writing thread. */
+    private Object writingThreadMonitor = new Object();
+    Thread writingThread = null;
+    private boolean closed = false;
+
+    /**
+     * A message sent asynchronously.
+     */
+    private static class PendingMessage {
+        final XMessage message;
+        final CompletionHandler<Long, Void> resultHandler;
+
+        PendingMessage(XMessage message, CompletionHandler<Long, Void> resultHandler) {
+            this.message = message;
+            this.resultHandler = resultHandler;
+        }
+    }
+
     public SyncMessageSender(OutputStream os) {
         this.outputStream = os;
     }
 
     public void send(XMessage message) {
         synchronized (this.waitingAsyncOperationMonitor) {
-            MessageLite msg = message.getMessage();
+            writePendingMessages();
             try {
-                int type = MessageConstants.getTypeForMessageClass(msg.getClass());
-                int size = 1 + msg.getSerializedSize();
-                if (this.maxAllowedPacket > 0 && size > this.maxAllowedPacket) {
-                    throw new CJPacketTooBigException(Messages.getString("PacketTooBigException.1", new Object[] { size, this.maxAllowedPacket }));
-                }
-                // for debugging
-                // System.err.println("Initiating write of message (size=" + size + ", tag=" + ClientMessages.Type.valueOf(type) + ")");
-                byte[] sizeHeader = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(size).array();
-                this.outputStream.write(sizeHeader);
-                this.outputStream.write(type);
-                msg.writeTo(this.outputStream);
+                writeMessage(message);
                 this.outputStream.flush();
-                this.previousPacketSentTime = this.lastPacketSentTime;
-                this.lastPacketSentTime = System.currentTimeMillis();
             } catch (IOException ex) {
                 throw new CJCommunicationsException("Unable to write message", ex);
             }
@@ -90,20 +107,89 @@ public class SyncMessageSender implements MessageSender<XMessage>, PacketSentTim
 
     @Override
     public CompletableFuture<?> send(XMessage message, CompletableFuture<?> future, Runnable callback) {
+        this.pendingMessages.add(new PendingMessage(message, new ErrorToFutureCompletionHandler<>(future, callback)));
+
+        synchronized (this.writingThreadMonitor) {
+            if (!this.closed) {
+                if (this.writingThread == null) {
+                    this.writingThread = new Thread(new MessagesWriter(), "Message writing thread");
+                    this.writingThread.setDaemon(true);
+                    this.writingThread.start();
+                } else {
+                    this.writingThreadMonitor.notify();
+                }
+                return future;
+            }
+        }
+        // no writing thread once closed, the write fails on the caller's thread and the error is reported through the future
         synchronized (this.waitingAsyncOperationMonitor) {
-            CompletionHandler<Long, Void> resultHandler = new ErrorToFutureCompletionHandler<>(future, callback);
-            MessageLite msg = message.getMessage();
+            writePendingMessages();
+        }
+        return future;
+    }
+
+    /**
+     * Stops the writing thread, once the messages already queued are written. Must be called when the underlying stream is no longer used.
+     */
+    public void close() {
+        synchronized (this.writingThreadMonitor) {
+            this.closed = true;
+            this.writingThreadMonitor.notify();
+        }
+    }
+
+    /**
+     * Writes all the messages sent asynchronously so far, with a single flush, and then runs their callbacks. Must be called while holding
+     * {@link #waitingAsyncOperationMonitor}.
+     */
+    private void writePendingMessages() {
+        if (this.pendingMessages.isEmpty()) {
+            return;
+        }
+        List<PendingMessage> written = new ArrayList<>();
+        PendingMessage pending;
+        while ((pending = this.pendingMessages.poll()) != null) {
+            try {
+                writeMessage(pending.message);
+                written.add(pending);
+            } catch (Throwable t) {
+                pending.resultHandler.failed(t, null);
+            }
+        }
+        try {
+            this.outputStream.flush();
+        } catch (IOException ex) {
+            CJCommunicationsException cex = new CJCommunicationsException("Unable to write message", ex);
+            written.forEach(p -> p.resultHandler.failed(cex, null));
+            return;
+        }
+        for (PendingMessage p : written) {
+            // the callback registers the listener that reads the result, it must run before any later message is written
             try {
-                send(message);
-                long result = 4 + 1 + msg.getSerializedSize();
-                resultHandler.completed(result, null);
+                p.resultHandler.completed(4L + 1 + p.message.getMessage().getSerializedSize(), null);
             } catch (Throwable t) {
-                resultHandler.failed(t, null);
+                p.resultHandler.failed(t, null);
             }
-            return future;
         }
     }
 
+    private void writeMessage(XMessage message) throws IOException {
+        MessageLite msg = message.getMessage();
+        int type = MessageConstants.getTypeForMessageClass(msg.getClass());
+        int size = 1 + msg.getSerializedSize();
+        if (this.maxAllowedPacket > 0 && size > this.maxAllowedPacket) {
+            throw new CJPacketTooBigException(Messages.getString("PacketTooBigException.1", new Object[] { size, this.maxAllowedPacket }));
+        }
+        // for debugging
+        // System.err.println("Initiating write of message (size=" + size + ", tag=" + ClientMessages.Type.valueOf(type) + ")");
+        byte[] sizeHeader = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(size).array();
+        this.outputStream.write(sizeHeader);
+        this.outputStream.write(type);
+        msg.writeTo(this.outputStream);
+        this.previousPacketSentTime = this.lastPacketSentTime;
+        this.lastPacketSentTime = System.currentTimeMillis();
+    }
+
     public long getLastPacketSentTime() {
         return this.lastPacketSentTime;
     }
@@ -116,4 +202,31 @@ public class SyncMessageSender implements MessageSender<XMessage>, PacketSentTim
     public void setMaxAllowedPacket(int maxAllowedPacket) {
         this.maxAllowedPacket = maxAllowedPacket;
     }
+
+    private class MessagesWriter implements Runnable {
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    synchronized (SyncMessageSender.this.writingThreadMonitor) {
+                        while (SyncMessageSender.this.pendingMessages.isEmpty()) {
+                            if (SyncMessageSender.this.closed) {
+                                SyncMessageSender.this.writingThread = null;
+                                return;
+                            }
+                            SyncMessageSender.this.writingThreadMonitor.wait();
+                        }
+                    }
+                    // messages are taken from the queue only while holding the lock, so that synchronous sends can't overtake them
+                    synchronized (SyncMessageSender.this.waitingAsyncOperationMonitor) {
+                        writePendingMessages();
+                    }
+                }
+            } catch (InterruptedException e) {
+                synchronized (SyncMessageSender.this.writingThreadMonitor) {
+                    SyncMessageSender.this.writingThread = null;
+                }
+            }
+        }
+    }
 }
@@ -30,6 +30,7 @@
 package com.mysql.cj.protocol.x;
 
 import java.security.DigestException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -46,6 +47,7 @@ import javax.security.sasl.SaslClient;
 import javax.security.sasl.SaslException;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
 import com.mysql.cj.MessageBuilder;
 import com.mysql.cj.Messages;
 import com.mysql.cj.PreparedQuery;
@@ -152,6 +154,50 @@ public class XMessageBuilder implements MessageBuilder<XMessage> {
         return new XMessage(builder.build());
     }
 
+    /**
+     * Build the {@link XMessage}s for a non-prepared doc insert operation of documents already encoded as UTF-8 JSON text. The documents are split into as many
+     * messages as needed to keep each one within the given size; a document that doesn't fit in a message by itself is sent alone.
+     * 
+     * @param schemaName
+     *            the schema name
+     * @param collectionName
+     *            the collection name
+     * @param json
+     *            the UTF-8 encoded documents to insert
+     * @param upsert
+     *            Whether this is an upsert operation or not
+     * @param maxMessageSize
+     *            the maximum size of each message, as checked against <code>mysqlx_max_allowed_packet</code>, or 0 to send all documents in a single message
+     * @return
+     *         the {@link XMessage} instances, in the order the documents were given
+     */
+    public List<XMessage> buildDocInserts(String schemaName, String collectionName, List<ByteString> json, boolean upsert, int maxMessageSize) {
+        Insert.Builder builder = Insert.newBuilder().setCollection(ExprUtil.buildCollection(schemaName, collectionName));
+        if (upsert != builder.getUpsert()) {
+            builder.setUpsert(upsert);
+        }
+        // message type byte, as counted against the max allowed packet
+        int baseSize = 1 + builder.clone().build().getSerializedSize();
+
+        List<XMessage> messages = new ArrayList<>(1);
+        Insert.Builder chunk = builder.clone();
+        int chunkSize = baseSize;
+        for (ByteString doc : json) {
+            TypedRow row = TypedRow.newBuilder().addField(ExprUtil.buildLiteralExpr(
+                    Scalar.newBuilder().setType(Scalar.Type.V_STRING).setVString(Scalar.String.newBuilder().setValue(doc)).build())).build();
+            int rowSize = CodedOutputStream.computeMessageSize(Insert.ROW_FIELD_NUMBER, row);
+            if (maxMessageSize > 0 && chunk.getRowCount() > 0 && chunkSize + rowSize > maxMessageSize) {
+                messages.add(new XMessage(chunk.build()));
+                chunk = builder.clone();
+                chunkSize = baseSize;
+            }
+            chunk.addRow(row);
+            chunkSize += rowSize;
+        }
+        messages.add(new XMessage(chunk.build()));
+        return messages;
+    }
+
     /**
      * Initialize a {@link Insert.Builder} for table data model with common data for prepared and non-prepared executions.
      * 
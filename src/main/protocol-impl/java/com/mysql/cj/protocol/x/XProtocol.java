@@ -46,6 +46,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -100,6 +102,7 @@ import com.mysql.cj.result.Field;
 import com.mysql.cj.result.LongValueFactory;
 import com.mysql.cj.util.SequentialIdLease;
 import com.mysql.cj.util.StringUtils;
+import com.mysql.cj.util.Util;
 import com.mysql.cj.x.protobuf.Mysqlx.Error;
 import com.mysql.cj.x.protobuf.Mysqlx.ServerMessages;
 import com.mysql.cj.x.protobuf.MysqlxConnection.Capabilities;
@@ -122,6 +125,9 @@ public class XProtocol extends AbstractProtocol<XMessage> implements Protocol<XM
 
     private MessageReader<XMessageHeader, XMessage> reader;
     private MessageSender<XMessage> sender;
+    private int maxAllowedPacket = -1;
+    private Executor asyncCompletionExecutor = null;
+    private boolean asyncCompletionExecutorInitialized = false;
     /** We take responsibility of the socket as the managed resource. We close it when we're done. */
     private Closeable managedResource;
 
@@ -851,11 +857,34 @@ public class XProtocol extends AbstractProtocol<XMessage> implements Protocol<XM
     public <M extends Message, R extends QueryResult> CompletableFuture<R> queryAsync(M message, ResultBuilder<R> resultBuilder) {
         newCommand();
         CompletableFuture<R> f = new CompletableFuture<>();
-        MessageListener<XMessage> l = new ResultMessageListener<>(this.messageToProtocolEntityFactory, resultBuilder, f);
+        MessageListener<XMessage> l = new ResultMessageListener<>(this.messageToProtocolEntityFactory, resultBuilder, f, getAsyncCompletionExecutor());
         this.sender.send((XMessage) message, f, () -> this.reader.pushMessageListener(l));
         return f;
     }
 
+    /**
+     * Returns the executor that completes the futures of asynchronous operations, as configured in the connection property
+     * <code>xdevapi.async-completion-executor</code>.
+     * 
+     * @return the executor, or null if futures are completed by the thread reading results
+     */
+    private Executor getAsyncCompletionExecutor() {
+        if (!this.asyncCompletionExecutorInitialized) {
+            String executorClassName = this.propertySet.getStringProperty(PropertyKey.xdevapiAsyncCompletionExecutor).getValue();
+            if (!StringUtils.isNullOrEmpty(executorClassName)) {
+                Object executor = Util.getInstance(executorClassName, new Class<?>[0], new Object[0], null,
+                        Messages.getString("Protocol.AsyncCompletionExecutor.0", new Object[] { executorClassName }));
+                if (!(executor instanceof Executor)) {
+                    throw ExceptionFactory.createException(WrongArgumentException.class,
+                            Messages.getString("Protocol.AsyncCompletionExecutor.1", new Object[] { executorClassName }));
+                }
+                this.asyncCompletionExecutor = (Executor) executor;
+            }
+            this.asyncCompletionExecutorInitialized = true;
+        }
+        return this.asyncCompletionExecutor;
+    }
+
     public boolean isOpen() {
         return this.managedResource != null;
     }
@@ -867,6 +896,13 @@ public class XProtocol extends AbstractProtocol<XMessage> implements Protocol<XM
         } catch (Exception e) {
             // ignore exceptions
         } finally {
+            // the executor was created for this session only, so its threads, if any, must not outlive it
+            if (this.asyncCompletionExecutor instanceof ExecutorService) {
+                ((ExecutorService) this.asyncCompletionExecutor).shutdown();
+            }
+            if (this.sender instanceof SyncMessageSender) {
+                ((SyncMessageSender) this.sender).close();
+            }
             try {
                 if (this.managedResource == null) {
                     throw new ConnectionIsClosedException();
@@ -897,9 +933,19 @@ public class XProtocol extends AbstractProtocol<XMessage> implements Protocol<XM
     }
 
     public void setMaxAllowedPacket(int maxAllowedPacket) {
+        this.maxAllowedPacket = maxAllowedPacket;
         this.sender.setMaxAllowedPacket(maxAllowedPacket);
     }
 
+    /**
+     * Returns the value of <code>mysqlx_max_allowed_packet</code> read from the server, or -1 if it wasn't read yet.
+     * 
+     * @return the maximum size of a message sent to the server
+     */
+    public int getMaxAllowedPacket() {
+        return this.maxAllowedPacket;
+    }
+
     @Override
     public void send(Message message, int packetLen) {
         newCommand();
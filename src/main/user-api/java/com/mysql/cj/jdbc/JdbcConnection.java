@@ -493,6 +493,17 @@ public interface JdbcConnection extends java.sql.Connection, MysqlConnection, Tr
      */
     CachedResultSetMetaData getCachedMetaData(String sql);
 
+    /**
+     * Removes the metadata cached for the given query, if any, e.g., because it no longer matches the results of the query.
+     * 
+     * This method is synchronized by the caller on getMutex(), so if calling this method from internal code
+     * in the driver, make sure it's synchronized on the mutex that guards communication with the server.
+     * 
+     * @param sql
+     *            the query that is the key to the cache
+     */
+    void removeCachedMetaData(String sql);
+
     /**
      * @return Returns the characterSetMetadata.
      */
@@ -40,6 +40,7 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import com.mysql.cj.MysqlConnection;
+import com.mysql.cj.QueryCancellationService;
 import com.mysql.cj.conf.PropertyDefinitions;
 import com.mysql.cj.protocol.NetworkResources;
 
@@ -147,7 +148,7 @@ public class AbandonedConnectionCleanupThread implements Runnable {
     }
 
     /**
-     * Shuts down this thread either checking or not the context ClassLoaders from the involved threads.
+     * Shuts down this thread, and the query cancellation service threads, either checking or not the context ClassLoaders from the involved threads.
      * 
      * @param checked
      *            does a checked shutdown if true, unchecked otherwise
@@ -161,6 +162,7 @@ public class AbandonedConnectionCleanupThread implements Runnable {
         if (cleanupThreadExecutorService != null) {
             cleanupThreadExecutorService.shutdownNow();
         }
+        QueryCancellationService.shutdown();
     }
 
     /**
@@ -80,6 +80,7 @@ import com.mysql.cj.log.ProfilerEvent;
 import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.Message;
 import com.mysql.cj.protocol.a.NativePacketPayload;
+import com.mysql.cj.protocol.a.result.ByteArrayRow;
 import com.mysql.cj.result.Field;
 import com.mysql.cj.util.Util;
 
@@ -112,7 +113,7 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
 
     private boolean doPingInstead;
 
-    private boolean compensateForOnDuplicateKeyUpdate = false;
+    protected boolean compensateForOnDuplicateKeyUpdate = false;
 
     protected int rewrittenBatchSize = 0;
 
@@ -622,6 +623,10 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
      */
     protected long[] executeBatchWithMultiValuesClause(int batchTimeout) throws SQLException {
         synchronized (checkClosed().getConnectionMutex()) {
+            if (canWriteBatchedValuesDirectly()) {
+                return executeBatchWithMultiValuesClauseDirectly(batchTimeout);
+            }
+
             JdbcConnection locallyScopedConn = this.connection;
 
             int numBatchedArgs = this.query.getBatchedArgs().size();
@@ -739,6 +744,121 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
         }
     }
 
+    /**
+     * Can the batched parameter sets be written straight into the send packet, as opposed to binding them to intermediate rewritten statements? Not possible
+     * when there are no placeholders or when a parameter set holds streams, as those can't be rolled back if they don't fit in the current packet.
+     * 
+     * @return true if {@link #executeBatchWithMultiValuesClauseDirectly(int)} can be used
+     */
+    protected boolean canWriteBatchedValuesDirectly() {
+        if (getQueryInfo().getValuesBindingSegment() == null) {
+            return false;
+        }
+        for (Object paramSet : this.query.getBatchedArgs()) {
+            for (BindValue bindValue : ((QueryBindings) paramSet).getBindValues()) {
+                if (bindValue.isStream()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Executes the entire batch as multi-values clause INSERT/REPLACE statements, encoding the batched parameter sets directly into the send packet and starting
+     * a new statement whenever max_allowed_packet would be exceeded.
+     * 
+     * @param batchTimeout
+     *            timeout for the batch execution
+     * @return update counts in the same fashion as executeBatch()
+     * 
+     * @throws SQLException
+     *             if a database access error occurs or this method is called on a closed PreparedStatement
+     */
+    protected long[] executeBatchWithMultiValuesClauseDirectly(int batchTimeout) throws SQLException {
+        synchronized (checkClosed().getConnectionMutex()) {
+            JdbcConnection locallyScopedConn = this.connection;
+
+            int numBatchedArgs = this.query.getBatchedArgs().size();
+
+            if (this.retrieveGeneratedKeys) {
+                this.batchedGeneratedKeys = new ArrayList<>(numBatchedArgs);
+            }
+
+            long updateCountRunningTotal = 0;
+            int batchCounter = 0;
+            CancelQueryTask timeoutTask = null;
+            SQLException sqlEx = null;
+            String oldDb = null;
+
+            long[] updateCounts = new long[numBatchedArgs];
+
+            try {
+                timeoutTask = startQueryTimer(this, batchTimeout);
+
+                implicitlyCloseAllOpenResults();
+
+                if (!locallyScopedConn.getDatabase().equals(getCurrentDatabase())) {
+                    oldDb = locallyScopedConn.getDatabase();
+                    locallyScopedConn.setDatabase(getCurrentDatabase());
+                }
+
+                locallyScopedConn.setSessionMaxRows(-1);
+
+                while (batchCounter < numBatchedArgs) {
+                    NativePacketPayload sendPacket = this.session.getSharedSendPacket();
+                    int numValuesPerBatch = ((ClientPreparedQuery) this.query).fillSendPacket(sendPacket, batchCounter);
+                    batchCounter += numValuesPerBatch;
+
+                    try {
+                        ResultSetInternalMethods rs = executeInternal(-1, sendPacket, false, false, null, true);
+
+                        this.results = rs;
+                        this.lastInsertId = rs.getUpdateID();
+
+                        long updateCount = rs.getUpdateCount();
+                        if (containsOnDuplicateKeyUpdate() && this.compensateForOnDuplicateKeyUpdate && (updateCount == 2 || updateCount == 0)) {
+                            updateCount = 1;
+                        }
+                        updateCountRunningTotal += updateCount;
+
+                        if (this.retrieveGeneratedKeys) {
+                            rs.setFirstCharOfQuery(getQueryInfo().getFirstStmtChar());
+                            ResultSetInternalMethods keys = getGeneratedKeysInternal(updateCount);
+                            while (keys.next()) {
+                                this.batchedGeneratedKeys.add(new ByteArrayRow(new byte[][] { keys.getBytes(1) }, getExceptionInterceptor()));
+                            }
+                            keys.close();
+                        }
+                    } catch (SQLException ex) {
+                        sqlEx = handleExceptionForBatch(batchCounter - 1, numValuesPerBatch, updateCounts, ex);
+                    }
+                }
+
+                if (sqlEx != null) {
+                    throw SQLError.createBatchUpdateException(sqlEx, updateCounts, this.exceptionInterceptor);
+                }
+
+                if (numBatchedArgs > 1) {
+                    long updCount = updateCountRunningTotal > 0 ? java.sql.Statement.SUCCESS_NO_INFO : 0;
+                    for (int j = 0; j < numBatchedArgs; j++) {
+                        updateCounts[j] = updCount;
+                    }
+                } else {
+                    updateCounts[0] = updateCountRunningTotal;
+                }
+                return updateCounts;
+            } finally {
+                if (oldDb != null) {
+                    locallyScopedConn.setDatabase(oldDb);
+                }
+
+                stopQueryTimer(timeoutTask, false, false);
+                resetCancelledState();
+            }
+        }
+    }
+
     /**
      * Executes the current batch of statements by executing them one-by-one.
      * 
@@ -890,14 +1010,23 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
                         statementBegins();
                     }
 
+                    boolean singleResultset = getQueryInfo().getQueryReturnType() == QueryReturnType.PRODUCES_RESULT_SET
+                            && getQueryInfo().getNumberOfQueries() == 1;
                     rs = ((NativeSession) locallyScopedConnection.getSession()).execSQL(this, null, maxRowsToRetrieve, (NativePacketPayload) sendPacket,
-                            createStreamingResultSet, getResultSetFactory(), metadata, isBatch);
+                            createStreamingResultSet, getResultSetFactory(), metadata, singleResultset, isBatch);
 
                     if (timeoutTask != null) {
                         stopQueryTimer(timeoutTask, true, true);
                         timeoutTask = null;
                     }
 
+                } catch (CJException e) {
+                    if (metadata != null) {
+                        // the cached metadata may be the cause, e.g., if it doesn't match the results anymore after the table was altered
+                        locallyScopedConnection.removeCachedMetaData(((PreparedQuery) this.query).getOriginalSql());
+                    }
+                    throw e;
+
                 } finally {
                     if (!isBatch) {
                         this.query.getStatementExecuting().set(false);
@@ -58,6 +58,7 @@ import java.util.stream.Collectors;
 
 import com.mysql.cj.CacheAdapter;
 import com.mysql.cj.CacheAdapterFactory;
+import com.mysql.cj.CharsetSettings;
 import com.mysql.cj.LicenseConfiguration;
 import com.mysql.cj.Messages;
 import com.mysql.cj.NativeSession;
@@ -90,8 +91,10 @@ import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
 import com.mysql.cj.jdbc.result.UpdatableResultSet;
 import com.mysql.cj.log.ProfilerEvent;
 import com.mysql.cj.log.StandardLogger;
+import com.mysql.cj.protocol.ServerSession;
 import com.mysql.cj.protocol.ServerSessionStateController;
 import com.mysql.cj.protocol.SocksProxySocketFactory;
+import com.mysql.cj.util.ConcurrentLFUCache;
 import com.mysql.cj.util.LRUCache;
 import com.mysql.cj.util.StringUtils;
 import com.mysql.cj.util.Util;
@@ -295,7 +298,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
      */
     private final CopyOnWriteArrayList<JdbcStatement> openStatements = new CopyOnWriteArrayList<>();
 
-    private LRUCache<CompoundCacheKey, CallableStatement.CallableStatementParamInfo> parsedCallableStatementCache;
+    private ConcurrentLFUCache<CompoundCacheKey, CallableStatement.CallableStatementParamInfo> parsedCallableStatementCache;
 
     /** The password we used */
     private String password = null;
@@ -307,7 +310,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     private boolean readOnly = false;
 
     /** Cache of ResultSet metadata */
-    protected LRUCache<String, CachedResultSetMetaData> resultSetMetadataCache;
+    protected ConcurrentLFUCache<String, CachedResultSetMetaData> resultSetMetadataCache;
 
     /**
      * The type map for UDTs (not implemented, but used by some third-party
@@ -318,7 +321,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     /** The user we're connected as */
     private String user = null;
 
-    private LRUCache<String, Boolean> serverSideStatementCheckCache;
+    private ConcurrentLFUCache<String, Boolean> serverSideStatementCheckCache;
     private LRUCache<CompoundCacheKey, ServerPreparedStatement> serverSideStatementCache;
 
     private HostInfo origHostInfo;
@@ -421,7 +424,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             }
 
             if (this.propertySet.getBooleanProperty(PropertyKey.cacheCallableStmts).getValue()) {
-                this.parsedCallableStatementCache = new LRUCache<>(this.propertySet.getIntegerProperty(PropertyKey.callableStmtCacheSize).getValue());
+                this.parsedCallableStatementCache = new ConcurrentLFUCache<>(this.propertySet.getIntegerProperty(PropertyKey.callableStmtCacheSize).getValue());
             }
 
             if (this.propertySet.getBooleanProperty(PropertyKey.allowMultiQueries).getValue()) {
@@ -429,7 +432,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             }
 
             if (this.propertySet.getBooleanProperty(PropertyKey.cacheResultSetMetadata).getValue()) {
-                this.resultSetMetadataCache = new LRUCache<>(this.propertySet.getIntegerProperty(PropertyKey.metadataCacheSize).getValue());
+                this.resultSetMetadataCache = new ConcurrentLFUCache<>(this.propertySet.getIntegerProperty(PropertyKey.metadataCacheSize).getValue());
             }
 
             if (this.propertySet.getStringProperty(PropertyKey.socksProxyHost).getStringValue() != null) {
@@ -508,22 +511,20 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
         boolean allowMultiQueries = this.propertySet.getBooleanProperty(PropertyKey.allowMultiQueries).getValue();
 
         if (this.cachePrepStmts.getValue()) {
-            synchronized (this.serverSideStatementCheckCache) {
-                Boolean flag = this.serverSideStatementCheckCache.get(sql);
+            Boolean flag = this.serverSideStatementCheckCache.get(sql);
 
-                if (flag != null) {
-                    return flag.booleanValue();
-                }
-
-                boolean canHandle = StringUtils.canHandleAsServerPreparedStatementNoCache(sql, getServerVersion(), allowMultiQueries,
-                        this.session.getServerSession().isNoBackslashEscapesSet(), this.session.getServerSession().useAnsiQuotedIdentifiers());
+            if (flag != null) {
+                return flag.booleanValue();
+            }
 
-                if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
-                    this.serverSideStatementCheckCache.put(sql, canHandle ? Boolean.TRUE : Boolean.FALSE);
-                }
+            boolean canHandle = StringUtils.canHandleAsServerPreparedStatementNoCache(sql, getServerVersion(), allowMultiQueries,
+                    this.session.getServerSession().isNoBackslashEscapesSet(), this.session.getServerSession().useAnsiQuotedIdentifiers());
 
-                return canHandle;
+            if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
+                this.serverSideStatementCheckCache.put(sql, canHandle ? Boolean.TRUE : Boolean.FALSE);
             }
+
+            return canHandle;
         }
 
         return StringUtils.canHandleAsServerPreparedStatementNoCache(sql, getServerVersion(), allowMultiQueries,
@@ -659,7 +660,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
         if (this.cachePrepStmts.getValue()) {
             QueryInfo pStmtInfo = this.queryInfoCache.get(nativeSql);
 
-            if (pStmtInfo == null) {
+            if (pStmtInfo == null
+                    || !pStmtInfo.isCompatibleWith(this.session, this.propertySet.getStringProperty(PropertyKey.characterEncoding).getValue())) {
                 pStmt = ClientPreparedStatement.getInstance(getMultiHostSafeProxy(), nativeSql, this.database);
 
                 this.queryInfoCache.put(nativeSql, pStmt.getQueryInfo());
@@ -1046,7 +1048,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             }
 
             if (this.useServerPrepStmts.getValue()) {
-                this.serverSideStatementCheckCache = new LRUCache<>(cacheSize);
+                this.serverSideStatementCheckCache = new ConcurrentLFUCache<>(cacheSize);
 
                 this.serverSideStatementCache = new LRUCache<CompoundCacheKey, ServerPreparedStatement>(cacheSize) {
 
@@ -1520,22 +1522,20 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
             cStmt = parseCallableStatement(sql);
         } else {
-            synchronized (this.parsedCallableStatementCache) {
-                CompoundCacheKey key = new CompoundCacheKey(getDatabase(), sql);
-
-                CallableStatement.CallableStatementParamInfo cachedParamInfo = this.parsedCallableStatementCache.get(key);
+            CompoundCacheKey key = new CompoundCacheKey(getDatabase(), sql);
 
-                if (cachedParamInfo != null) {
-                    cStmt = CallableStatement.getInstance(getMultiHostSafeProxy(), cachedParamInfo);
-                } else {
-                    cStmt = parseCallableStatement(sql);
+            CallableStatement.CallableStatementParamInfo cachedParamInfo = this.parsedCallableStatementCache.get(key);
 
-                    synchronized (cStmt) {
-                        cachedParamInfo = cStmt.paramInfo;
-                    }
+            if (cachedParamInfo != null) {
+                cStmt = CallableStatement.getInstance(getMultiHostSafeProxy(), cachedParamInfo);
+            } else {
+                cStmt = parseCallableStatement(sql);
 
-                    this.parsedCallableStatementCache.put(key, cachedParamInfo);
+                synchronized (cStmt) {
+                    cachedParamInfo = cStmt.paramInfo;
                 }
+
+                this.parsedCallableStatementCache.put(key, cachedParamInfo);
             }
         }
 
@@ -1788,7 +1788,92 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     @Override
     public void resetServerState() throws SQLException {
         if (!this.propertySet.getBooleanProperty(PropertyKey.paranoid).getValue() && (this.session != null)) {
-            changeUser(this.user, this.password);
+            if (this.propertySet.getBooleanProperty(PropertyKey.useResetConnection).getValue() && versionMeetsMinimum(5, 7, 3)) {
+                resetConnection();
+            } else {
+                changeUser(this.user, this.password);
+            }
+        }
+    }
+
+    /**
+     * Resets the server state with COM_RESET_CONNECTION and brings the client-side view of the session up to date with the session state changes reported
+     * by the server, so that only what really differs from the expected state has to be set again.
+     * 
+     * @throws SQLException
+     *             if a database access error occurs
+     */
+    private void resetConnection() throws SQLException {
+        synchronized (getConnectionMutex()) {
+            checkClosed();
+
+            this.session.resetConnection();
+
+            // all prepared statements were deallocated by the server
+            clearServerSideStatementCache();
+
+            ServerSession serverSession = this.session.getServerSession();
+            Map<String, String> serverVariables = serverSession.getServerVariables();
+            boolean charsetTracked = false;
+            Boolean trackedAutoCommit = null;
+
+            ServerSessionStateController.ServerSessionStateChanges changes = serverSession.getServerSessionStateController().getSessionStateChanges();
+            if (changes != null) {
+                for (ServerSessionStateController.SessionStateChange change : changes.getSessionStateChangesList()) {
+                    if (change.getType() == ServerSessionStateController.SESSION_TRACK_SYSTEM_VARIABLES) {
+                        String name = change.getValues().get(0);
+                        String value = change.getValues().get(1);
+                        if ("autocommit".equals(name)) {
+                            trackedAutoCommit = "ON".equalsIgnoreCase(value) || "1".equals(value);
+                        } else {
+                            charsetTracked |= name.startsWith("character_set_") || CharsetSettings.COLLATION_CONNECTION.equals(name);
+                            serverVariables.put(name, value);
+                        }
+                    } else if (change.getType() == ServerSessionStateController.SESSION_TRACK_SCHEMA) {
+                        this.database = change.getValues().get(0);
+                    }
+                }
+            }
+
+            serverSession.setAutoCommit(trackedAutoCommit != null ? trackedAutoCommit : serverSession.isAutocommit());
+            if (!serverSession.isAutoCommit()) {
+                setAutoCommit(true); // required by JDBC spec
+            }
+
+            // session variables are back to their global values, which are the ones read when connecting unless the server reported otherwise
+            checkTransactionIsolationLevel();
+            this.readOnly = false;
+
+            // without tracking data the character set variables can't be trusted, set them unconditionally
+            serverSession.getCharsetSettings().configurePostHandshake(!charsetTracked);
+
+            this.session.setSessionVariables();
+
+            RuntimeProperty<Boolean> jdbcCompliantTruncation = this.propertySet.getProperty(PropertyKey.jdbcCompliantTruncation);
+            jdbcCompliantTruncation.setValue(jdbcCompliantTruncation.getInitialValue());
+            setupServerForTruncationChecks();
+        }
+    }
+
+    /**
+     * Discards the cached server-side prepared statements without deallocating them, because the server already did.
+     */
+    private void clearServerSideStatementCache() {
+        if (this.serverSideStatementCache == null) {
+            return;
+        }
+
+        synchronized (this.serverSideStatementCache) {
+            for (ServerPreparedStatement pstmt : this.serverSideStatementCache.values()) {
+                pstmt.isCached = false;
+                pstmt.setClosed(false);
+                try {
+                    pstmt.realClose(false, true);
+                } catch (SQLException sqlEx) {
+                    // ignore, the statement is gone anyway
+                }
+            }
+            this.serverSideStatementCache.clear();
         }
     }
 
@@ -2316,14 +2401,19 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     @Override
     public CachedResultSetMetaData getCachedMetaData(String sql) {
         if (this.resultSetMetadataCache != null) {
-            synchronized (this.resultSetMetadataCache) {
-                return this.resultSetMetadataCache.get(sql);
-            }
+            return this.resultSetMetadataCache.get(sql);
         }
 
         return null; // no cache exists
     }
 
+    @Override
+    public void removeCachedMetaData(String sql) {
+        if (this.resultSetMetadataCache != null) {
+            this.resultSetMetadataCache.remove(sql);
+        }
+    }
+
     @Override
     public void initializeResultsMetadataFromCache(String sql, CachedResultSetMetaData cachedMetaData, ResultSetInternalMethods resultSet) throws SQLException {
 
@@ -1114,6 +1114,11 @@ public class ConnectionWrapper extends WrapperBase implements JdbcConnection {
         return this.mc.getCachedMetaData(sql);
     }
 
+    @Override
+    public void removeCachedMetaData(String sql) {
+        this.mc.removeCachedMetaData(sql);
+    }
+
     @Override
     public String getCharacterSetMetadata() {
         return this.mc.getCharacterSetMetadata();
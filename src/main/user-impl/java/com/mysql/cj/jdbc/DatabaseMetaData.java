@@ -760,7 +760,7 @@ public class DatabaseMetaData implements java.sql.DatabaseMetaData {
 
     protected ResultSetFactory resultSetFactory;
 
-    private String metadataEncoding;
+    protected String metadataEncoding;
     private int metadataCollationIndex;
 
     protected static DatabaseMetaData getInstance(JdbcConnection connToSet, String databaseToSet, boolean checkForInfoSchema, ResultSetFactory resultSetFactory)
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import com.mysql.cj.util.LRUCache;
+import com.mysql.cj.util.StringUtils;
+
+/**
+ * Cache of the table columns, primary keys and indexes returned by {@link DatabaseMetaDataUsingInfoSchema}, shared by all connections with the same URL.
+ * 
+ * Metadata is loaded for a whole database at once and kept, as rows grouped by table, until it expires or until a DDL statement is executed by any of the
+ * connections sharing the cache. Expired rows are dropped whenever the cache is read, and only the caches of the most recently used URLs are kept.
+ */
+class DatabaseMetaDataCache {
+    /** Maximum number of connection URLs whose metadata is cached. */
+    private static final int MAX_CACHED_URLS = 16;
+    private static final Map<String, DatabaseMetaDataCache> cachesByUrl = Collections.synchronizedMap(new LRUCache<>(MAX_CACHED_URLS));
+
+    private static final String[] DDL_KEYWORDS = new String[] { "ALTER", "CREATE", "DROP", "RENAME" };
+
+    /**
+     * Loads the metadata rows of a whole database, grouped by table.
+     */
+    @FunctionalInterface
+    interface Loader {
+        Map<String, List<byte[][]>> load() throws SQLException;
+    }
+
+    private static class Entry {
+        final Map<String, List<byte[][]>> rowsByTable;
+        final long loadedAt;
+
+        Entry(Map<String, List<byte[][]>> rowsByTable, long loadedAt) {
+            this.rowsByTable = rowsByTable;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    /** Incremented every time the cache is invalidated so that loads that started before are not cached. */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Returns the cache shared by the connections with the given URL.
+     * 
+     * @param url
+     *            the connection URL
+     * @return the cache
+     */
+    static DatabaseMetaDataCache getInstance(String url) {
+        return cachesByUrl.computeIfAbsent(url, k -> new DatabaseMetaDataCache());
+    }
+
+    /**
+     * Returns the rows cached under the given key, loading them if absent or expired.
+     * 
+     * @param key
+     *            the key identifying the kind of metadata and the database
+     * @param ttlMillis
+     *            for how long cached rows remain valid, or 0 if they don't expire
+     * @param loader
+     *            the loader to use if rows are not cached
+     * @return the rows, grouped by table
+     * @throws SQLException
+     *             if loading the rows fails
+     */
+    Map<String, List<byte[][]>> get(String key, int ttlMillis, Loader loader) throws SQLException {
+        long now = System.currentTimeMillis();
+        if (ttlMillis != 0) {
+            // Drop all expired rows, not only these, so that rows of databases not read anymore don't stay around.
+            this.entries.values().removeIf(e -> now - e.loadedAt >= ttlMillis);
+        }
+        Entry entry = this.entries.get(key);
+        if (entry != null) {
+            return entry.rowsByTable;
+        }
+
+        long loadVersion = this.version.get();
+        entry = new Entry(loader.load(), now);
+        this.entries.put(key, entry);
+        if (this.version.get() != loadVersion) {
+            // Invalidated while loading.
+            this.entries.remove(key, entry);
+        }
+        return entry.rowsByTable;
+    }
+
+    /**
+     * Discards all cached metadata.
+     */
+    void invalidateAll() {
+        this.version.incrementAndGet();
+        this.entries.clear();
+    }
+
+    /**
+     * Discards all cached metadata of the connections with the given URL if the given statement may change it.
+     * 
+     * @param url
+     *            the connection URL
+     * @param sql
+     *            the statement executed
+     * @param statementStart
+     *            the position of the statement keyword in the statement, or -1 if it has none
+     */
+    static void invalidateIfDdl(String url, String sql, int statementStart) {
+        if (statementStart == -1) {
+            return;
+        }
+        for (String keyword : DDL_KEYWORDS) {
+            if (StringUtils.regionMatchesIgnoreCase(sql, statementStart, keyword)) {
+                DatabaseMetaDataCache cache = cachesByUrl.get(url);
+                if (cache != null) {
+                    cache.invalidateAll();
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the key tables are grouped by.
+     * 
+     * @param tableName
+     *            the table name
+     * @param ignoreCase
+     *            whether table names are case insensitive
+     * @return the key
+     */
+    static String tableKey(String tableName, boolean ignoreCase) {
+        return ignoreCase ? tableName.toLowerCase(Locale.ENGLISH) : tableName;
+    }
+
+    /**
+     * Returns the rows of the given table, in the order they were loaded.
+     * 
+     * @param rowsByTable
+     *            the cached rows
+     * @param tableName
+     *            the table name
+     * @param ignoreCase
+     *            whether table names are case insensitive
+     * @return the rows of the table
+     */
+    static List<byte[][]> getTableRows(Map<String, List<byte[][]>> rowsByTable, String tableName, boolean ignoreCase) {
+        List<byte[][]> rows = rowsByTable.get(tableKey(tableName, ignoreCase));
+        return rows == null ? Collections.emptyList() : rows;
+    }
+
+    /**
+     * Returns the rows of the tables matching the given pattern, in the order they were loaded.
+     * 
+     * @param rowsByTable
+     *            the cached rows
+     * @param tableNamePattern
+     *            a table name pattern, using the SQL wildcards, or null to match all tables
+     * @param ignoreCase
+     *            whether table names are case insensitive
+     * @return the rows of the matching tables
+     */
+    static List<byte[][]> getRows(Map<String, List<byte[][]>> rowsByTable, String tableNamePattern, boolean ignoreCase) {
+        if (tableNamePattern != null && !StringUtils.hasWildcards(tableNamePattern)) {
+            return getTableRows(rowsByTable, tableNamePattern, ignoreCase);
+        }
+
+        List<byte[][]> rows = new ArrayList<>();
+        Pattern pattern = tableNamePattern == null ? null : likePattern(tableNamePattern, ignoreCase);
+        for (Map.Entry<String, List<byte[][]>> e : rowsByTable.entrySet()) {
+            if (pattern == null || pattern.matcher(e.getKey()).matches()) {
+                rows.addAll(e.getValue());
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Checks if the given name matches the given pattern.
+     * 
+     * @param name
+     *            the name to check
+     * @param namePattern
+     *            a name pattern, using the SQL wildcards, or null to match all names
+     * @param ignoreCase
+     *            whether names are case insensitive
+     * @return true if the name matches
+     */
+    static boolean matches(String name, String namePattern, boolean ignoreCase) {
+        if (namePattern == null) {
+            return true;
+        }
+        if (!StringUtils.hasWildcards(namePattern)) {
+            return ignoreCase ? namePattern.equalsIgnoreCase(name) : namePattern.equals(name);
+        }
+        return likePattern(namePattern, ignoreCase).matcher(name).matches();
+    }
+
+    /**
+     * Translates a pattern with SQL wildcards, which may be escaped with '\', into a regular expression.
+     * 
+     * @param likePattern
+     *            the pattern
+     * @param ignoreCase
+     *            whether the pattern is case insensitive
+     * @return the regular expression
+     */
+    private static Pattern likePattern(String likePattern, boolean ignoreCase) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < likePattern.length(); i++) {
+            char c = likePattern.charAt(i);
+            if (c == '\\' && i + 1 < likePattern.length()) {
+                literal.append(likePattern.charAt(++i));
+            } else if (c == '%' || c == '_') {
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '%' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return Pattern.compile(regex.toString(), ignoreCase ? Pattern.DOTALL | Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : Pattern.DOTALL);
+    }
+}
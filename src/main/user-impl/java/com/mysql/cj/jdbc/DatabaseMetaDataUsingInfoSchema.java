@@ -35,6 +35,7 @@ import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -46,6 +47,10 @@ import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.MysqlErrorNumbers;
 import com.mysql.cj.jdbc.exceptions.SQLError;
 import com.mysql.cj.jdbc.result.ResultSetFactory;
+import com.mysql.cj.protocol.a.result.ByteArrayRow;
+import com.mysql.cj.protocol.a.result.ResultsetRowsStatic;
+import com.mysql.cj.result.DefaultColumnDefinition;
+import com.mysql.cj.result.Row;
 import com.mysql.cj.util.LRUCache;
 import com.mysql.cj.util.StringUtils;
 
@@ -63,8 +68,21 @@ public class DatabaseMetaDataUsingInfoSchema extends DatabaseMetaData {
         FUNCTION_NO_NULLS, FUNCTION_NULLABLE, FUNCTION_NULLABLE_UNKNOWN;
     }
 
+    /** URL of the cache of columns, primary keys and indexes shared by the connections with the same URL, or null if disabled. */
+    private String metadataCacheUrl = null;
+    private int metadataCacheTtl;
+    private String metadataCacheKeyPrefix;
+
     protected DatabaseMetaDataUsingInfoSchema(JdbcConnection connToSet, String databaseToSet, ResultSetFactory resultSetFactory) throws SQLException {
         super(connToSet, databaseToSet, resultSetFactory);
+
+        if (this.conn.getPropertySet().getBooleanProperty(PropertyKey.cacheDatabaseMetadata).getValue()) {
+            this.metadataCacheUrl = this.conn.getURL();
+            this.metadataCacheTtl = this.conn.getPropertySet().getIntegerProperty(PropertyKey.databaseMetadataCacheTtl).getValue();
+            // Cached rows depend on the user privileges and on the properties that change the metadata returned.
+            this.metadataCacheKeyPrefix = this.conn.getUser() + "/" + this.databaseTerm.getValue() + "/" + this.tinyInt1isBit + "/"
+                    + this.transformedBitIsBoolean + "/";
+        }
     }
 
     protected ResultSet executeMetadataQuery(java.sql.PreparedStatement pStmt) throws SQLException {
@@ -74,6 +92,49 @@ public class DatabaseMetaDataUsingInfoSchema extends DatabaseMetaData {
         return rs;
     }
 
+    /**
+     * Reads all rows of the given metadata result set, grouped by their TABLE_NAME column, and closes it.
+     * 
+     * @param rs
+     *            the result set
+     * @return the rows grouped by table, in the result set order
+     * @throws SQLException
+     *             if an error occurs
+     */
+    private Map<String, List<byte[][]>> readRowsByTable(ResultSet rs) throws SQLException {
+        try {
+            boolean ignoreCase = this.conn.lowerCaseTableNames();
+            int columnCount = rs.getMetaData().getColumnCount();
+            int tableNameIndex = rs.findColumn("TABLE_NAME");
+            Map<String, List<byte[][]>> rowsByTable = new LinkedHashMap<>();
+            while (rs.next()) {
+                byte[][] rowVal = new byte[columnCount][];
+                for (int i = 0; i < columnCount; i++) {
+                    rowVal[i] = rs.getBytes(i + 1);
+                }
+                rowsByTable.computeIfAbsent(DatabaseMetaDataCache.tableKey(rs.getString(tableNameIndex), ignoreCase), k -> new ArrayList<>()).add(rowVal);
+            }
+            return rowsByTable;
+        } finally {
+            rs.close();
+        }
+    }
+
+    /**
+     * Creates a result set row from cached values, copying them so that the cache can't be altered through the result set.
+     * 
+     * @param rowVal
+     *            the cached values
+     * @return the row
+     */
+    private Row copyRow(byte[][] rowVal) {
+        byte[][] copy = new byte[rowVal.length][];
+        for (int i = 0; i < rowVal.length; i++) {
+            copy[i] = rowVal[i] == null ? null : rowVal[i].clone();
+        }
+        return new ByteArrayRow(copy, getExceptionInterceptor());
+    }
+
     @Override
     public java.sql.ResultSet getColumnPrivileges(String catalog, String schema, String table, String columnNamePattern) throws SQLException {
         String db = getDatabase(catalog, schema);
@@ -122,6 +183,28 @@ public class DatabaseMetaDataUsingInfoSchema extends DatabaseMetaData {
 
         db = this.pedantic ? db : StringUtils.unQuoteIdentifier(db, this.quotedId);
 
+        boolean dbIsPattern = db != null && !("information_schema".equalsIgnoreCase(db) || "performance_schema".equalsIgnoreCase(db)
+                || !StringUtils.hasWildcards(db) || this.databaseTerm.getValue() == DatabaseTerm.CATALOG);
+
+        if (this.metadataCacheUrl != null && db != null && !dbIsPattern) {
+            final String cachedDb = db;
+            Map<String, List<byte[][]>> columnsByTable = DatabaseMetaDataCache.getInstance(this.metadataCacheUrl).get(
+                    this.metadataCacheKeyPrefix + "COLUMNS/" + db, this.metadataCacheTtl, () -> readRowsByTable(queryColumns(cachedDb, false, null, null)));
+
+            ArrayList<Row> rows = new ArrayList<>();
+            for (byte[][] rowVal : DatabaseMetaDataCache.getRows(columnsByTable, tableName, this.conn.lowerCaseTableNames())) {
+                if (DatabaseMetaDataCache.matches(StringUtils.toString(rowVal[3], this.metadataEncoding), columnNamePattern, true)) {
+                    rows.add(copyRow(rowVal));
+                }
+            }
+            return this.resultSetFactory.createFromResultsetRows(ResultSet.CONCUR_READ_ONLY, ResultSet.TYPE_SCROLL_INSENSITIVE,
+                    new ResultsetRowsStatic(rows, new DefaultColumnDefinition(createColumnsFields())));
+        }
+
+        return queryColumns(db, dbIsPattern, tableName, columnNamePattern);
+    }
+
+    private ResultSet queryColumns(String db, boolean dbIsPattern, String tableName, String columnNamePattern) throws SQLException {
         StringBuilder sqlBuf = new StringBuilder(
                 this.databaseTerm.getValue() == DatabaseTerm.SCHEMA ? "SELECT TABLE_CATALOG, TABLE_SCHEMA," : "SELECT TABLE_SCHEMA, NULL,");
         sqlBuf.append(" TABLE_NAME, COLUMN_NAME,");
@@ -237,8 +320,7 @@ public class DatabaseMetaDataUsingInfoSchema extends DatabaseMetaData {
         StringBuilder conditionBuf = new StringBuilder();
 
         if (db != null) {
-            conditionBuf.append("information_schema".equalsIgnoreCase(db) || "performance_schema".equalsIgnoreCase(db) || !StringUtils.hasWildcards(db)
-                    || this.databaseTerm.getValue() == DatabaseTerm.CATALOG ? " TABLE_SCHEMA = ?" : " TABLE_SCHEMA LIKE ?");
+            conditionBuf.append(dbIsPattern ? " TABLE_SCHEMA LIKE ?" : " TABLE_SCHEMA = ?");
         }
         if (tableName != null) {
             if (conditionBuf.length() > 0) {
@@ -495,6 +577,25 @@ public class DatabaseMetaDataUsingInfoSchema extends DatabaseMetaData {
 
         db = this.pedantic ? db : StringUtils.unQuoteIdentifier(db, this.quotedId);
 
+        if (this.metadataCacheUrl != null && db != null && table != null) {
+            final String cachedDb = db;
+            Map<String, List<byte[][]>> indexesByTable = DatabaseMetaDataCache.getInstance(this.metadataCacheUrl).get(
+                    this.metadataCacheKeyPrefix + "INDEXES/" + db, this.metadataCacheTtl, () -> readRowsByTable(queryIndexInfo(cachedDb, null, false, true)));
+
+            ArrayList<Row> rows = new ArrayList<>();
+            for (byte[][] rowVal : DatabaseMetaDataCache.getTableRows(indexesByTable, table, this.conn.lowerCaseTableNames())) {
+                if (!unique || rowVal[3] != null && rowVal[3].length == 1 && rowVal[3][0] == '0') { // NON_UNIQUE
+                    rows.add(copyRow(rowVal));
+                }
+            }
+            return this.resultSetFactory.createFromResultsetRows(ResultSet.CONCUR_READ_ONLY, ResultSet.TYPE_SCROLL_INSENSITIVE,
+                    new ResultsetRowsStatic(rows, new DefaultColumnDefinition(createIndexInfoFields())));
+        }
+
+        return queryIndexInfo(db, table, unique, false);
+    }
+
+    private ResultSet queryIndexInfo(String db, String table, boolean unique, boolean allTables) throws SQLException {
         StringBuilder sqlBuf = new StringBuilder(
                 this.databaseTerm.getValue() == DatabaseTerm.SCHEMA ? "SELECT TABLE_CATALOG AS TABLE_CAT, TABLE_SCHEMA AS TABLE_SCHEM,"
                         : "SELECT TABLE_SCHEMA AS TABLE_CAT, NULL AS TABLE_SCHEM,");
@@ -502,15 +603,20 @@ public class DatabaseMetaDataUsingInfoSchema extends DatabaseMetaData {
         sqlBuf.append(tableIndexOther);
         sqlBuf.append(" AS TYPE, SEQ_IN_INDEX AS ORDINAL_POSITION, COLUMN_NAME,");
         sqlBuf.append("COLLATION AS ASC_OR_DESC, CARDINALITY, 0 AS PAGES, NULL AS FILTER_CONDITION FROM INFORMATION_SCHEMA.STATISTICS WHERE");
-        if (db != null) {
-            sqlBuf.append(" TABLE_SCHEMA = ? AND");
-        }
-        sqlBuf.append(" TABLE_NAME = ?");
+        if (allTables) {
+            // all tables of the database, as loaded into the metadata cache
+            sqlBuf.append(" TABLE_SCHEMA = ? ORDER BY TABLE_NAME, NON_UNIQUE, INDEX_NAME, SEQ_IN_INDEX");
+        } else {
+            if (db != null) {
+                sqlBuf.append(" TABLE_SCHEMA = ? AND");
+            }
+            sqlBuf.append(" TABLE_NAME = ?");
 
-        if (unique) {
-            sqlBuf.append(" AND NON_UNIQUE=0 ");
+            if (unique) {
+                sqlBuf.append(" AND NON_UNIQUE=0 ");
+            }
+            sqlBuf.append("ORDER BY NON_UNIQUE, INDEX_NAME, SEQ_IN_INDEX");
         }
-        sqlBuf.append("ORDER BY NON_UNIQUE, INDEX_NAME, SEQ_IN_INDEX");
 
         java.sql.PreparedStatement pStmt = null;
 
@@ -521,7 +627,9 @@ public class DatabaseMetaDataUsingInfoSchema extends DatabaseMetaData {
             if (db != null) {
                 pStmt.setString(nextId++, db);
             }
-            pStmt.setString(nextId, table);
+            if (!allTables) {
+                pStmt.setString(nextId, table);
+            }
 
             ResultSet rs = executeMetadataQuery(pStmt);
 
@@ -546,6 +654,23 @@ public class DatabaseMetaDataUsingInfoSchema extends DatabaseMetaData {
 
         db = this.pedantic ? db : StringUtils.unQuoteIdentifier(db, this.quotedId);
 
+        if (this.metadataCacheUrl != null && db != null) {
+            final String cachedDb = db;
+            Map<String, List<byte[][]>> primaryKeysByTable = DatabaseMetaDataCache.getInstance(this.metadataCacheUrl).get(
+                    this.metadataCacheKeyPrefix + "PRIMARY_KEYS/" + db, this.metadataCacheTtl, () -> readRowsByTable(queryPrimaryKeys(cachedDb, null)));
+
+            ArrayList<Row> rows = new ArrayList<>();
+            for (byte[][] rowVal : DatabaseMetaDataCache.getTableRows(primaryKeysByTable, table, this.conn.lowerCaseTableNames())) {
+                rows.add(copyRow(rowVal));
+            }
+            return this.resultSetFactory.createFromResultsetRows(ResultSet.CONCUR_READ_ONLY, ResultSet.TYPE_SCROLL_INSENSITIVE,
+                    new ResultsetRowsStatic(rows, new DefaultColumnDefinition(getPrimaryKeysFields())));
+        }
+
+        return queryPrimaryKeys(db, table);
+    }
+
+    private ResultSet queryPrimaryKeys(String db, String table) throws SQLException {
         StringBuilder sqlBuf = new StringBuilder(
                 this.databaseTerm.getValue() == DatabaseTerm.SCHEMA ? "SELECT TABLE_CATALOG AS TABLE_CAT, TABLE_SCHEMA AS TABLE_SCHEM,"
                         : "SELECT TABLE_SCHEMA AS TABLE_CAT, NULL AS TABLE_SCHEM,");
@@ -553,8 +678,10 @@ public class DatabaseMetaDataUsingInfoSchema extends DatabaseMetaData {
         if (db != null) {
             sqlBuf.append(" TABLE_SCHEMA = ? AND");
         }
-        sqlBuf.append(" TABLE_NAME = ?");
-        sqlBuf.append(" AND INDEX_NAME='PRIMARY' ORDER BY TABLE_SCHEMA, TABLE_NAME, INDEX_NAME, SEQ_IN_INDEX");
+        if (table != null) {
+            sqlBuf.append(" TABLE_NAME = ? AND");
+        }
+        sqlBuf.append(" INDEX_NAME='PRIMARY' ORDER BY TABLE_SCHEMA, TABLE_NAME, INDEX_NAME, SEQ_IN_INDEX");
 
         java.sql.PreparedStatement pStmt = null;
 
@@ -564,7 +691,9 @@ public class DatabaseMetaDataUsingInfoSchema extends DatabaseMetaData {
             if (db != null) {
                 pStmt.setString(nextId++, db);
             }
-            pStmt.setString(nextId, table);
+            if (table != null) {
+                pStmt.setString(nextId, table);
+            }
 
             ResultSet rs = executeMetadataQuery(pStmt);
             ((com.mysql.cj.jdbc.result.ResultSetInternalMethods) rs).getColumnDefinition().setFields(getPrimaryKeysFields());
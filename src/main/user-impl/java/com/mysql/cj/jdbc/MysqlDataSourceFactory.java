@@ -60,13 +60,18 @@ public class MysqlDataSourceFactory implements ObjectFactory {
 
     protected final static String XA_DATA_SOURCE_CLASS_NAME = MysqlXADataSource.class.getName();
 
+    /**
+     * The class name for a MysqlPoolingDataSource
+     */
+    protected final static String POOLING_DATA_SOURCE_CLASS_NAME = MysqlPoolingDataSource.class.getName();
+
     @Override
     public Object getObjectInstance(Object refObj, Name nm, Context ctx, Hashtable<?, ?> env) throws Exception {
         Reference ref = (Reference) refObj;
         String className = ref.getClassName();
 
-        if ((className != null)
-                && (className.equals(DATA_SOURCE_CLASS_NAME) || className.equals(POOL_DATA_SOURCE_CLASS_NAME) || className.equals(XA_DATA_SOURCE_CLASS_NAME))) {
+        if ((className != null) && (className.equals(DATA_SOURCE_CLASS_NAME) || className.equals(POOL_DATA_SOURCE_CLASS_NAME)
+                || className.equals(XA_DATA_SOURCE_CLASS_NAME) || className.equals(POOLING_DATA_SOURCE_CLASS_NAME))) {
             MysqlDataSource dataSource = null;
 
             try {
@@ -119,6 +124,30 @@ public class MysqlDataSourceFactory implements ObjectFactory {
 
             dataSource.setPropertiesViaRef(ref);
 
+            if (dataSource instanceof MysqlPoolingDataSource) {
+                MysqlPoolingDataSource poolingDataSource = (MysqlPoolingDataSource) dataSource;
+
+                String poolSetting = nullSafeRefAddrStringGet("poolMaxSize", ref);
+                if (poolSetting != null) {
+                    poolingDataSource.setPoolMaxSize(Integer.parseInt(poolSetting));
+                }
+
+                poolSetting = nullSafeRefAddrStringGet("poolMaxIdleTime", ref);
+                if (poolSetting != null) {
+                    poolingDataSource.setPoolMaxIdleTime(Integer.parseInt(poolSetting));
+                }
+
+                poolSetting = nullSafeRefAddrStringGet("poolQueueTimeout", ref);
+                if (poolSetting != null) {
+                    poolingDataSource.setPoolQueueTimeout(Integer.parseInt(poolSetting));
+                }
+
+                poolSetting = nullSafeRefAddrStringGet("poolValidationIdleTime", ref);
+                if (poolSetting != null) {
+                    poolingDataSource.setPoolValidationIdleTime(Integer.parseInt(poolSetting));
+                }
+            }
+
             return dataSource;
         }
 
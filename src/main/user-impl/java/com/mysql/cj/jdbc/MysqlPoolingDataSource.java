@@ -0,0 +1,649 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.naming.NamingException;
+import javax.naming.Reference;
+import javax.naming.StringRefAddr;
+import javax.sql.ConnectionEvent;
+import javax.sql.ConnectionEventListener;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.NativeSession;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.exceptions.MysqlErrorNumbers;
+import com.mysql.cj.jdbc.exceptions.SQLError;
+import com.mysql.cj.protocol.ServerSession;
+import com.mysql.cj.protocol.ServerSessionStateController.ServerSessionStateChanges;
+import com.mysql.cj.protocol.ServerSessionStateController.SessionStateChangesListener;
+import com.mysql.cj.protocol.a.NativeServerSession;
+
+/**
+ * A {@link javax.sql.DataSource} that pools the physical connections it creates. Any URL type supported by the driver can be used, including multi-host
+ * URLs.
+ * 
+ * Connections are borrowed without locking: a thread first tries the connections it returned recently, then any idle connection of the pool, and only when
+ * none is available and the pool is full it waits for a connection returned by another thread. An idle connection is validated with a COM_PING before being
+ * handed out only if it was idle for longer than {@link #getPoolValidationIdleTime()}.
+ * 
+ * Unless configured otherwise, physical connections are created with 'useResetConnection=true' and 'trackSessionState=true'. Connections are then reset
+ * with COM_RESET_CONNECTION when returned to the pool, and only if the server reported a change in the session state, or if the connection was left in a
+ * transaction, with auto-commit disabled, in read-only mode or with a different current database. The server reports every change in the session state,
+ * including user variables, temporary tables and prepared statements, because the pool enables 'session_track_state_change' on the physical connections.
+ * Without session state tracking, which needs MySQL 5.7 or newer, and for multi-host connections, connections are always reset.
+ * 
+ * The time spent waiting for connections and the time connections are in use are recorded in {@link Histogram}s.
+ */
+public class MysqlPoolingDataSource extends MysqlDataSource implements AutoCloseable {
+
+    static final long serialVersionUID = 4617640187853405263L;
+
+    private static final int STATE_IDLE = 0;
+    private static final int STATE_IN_USE = 1;
+    private static final int STATE_REMOVED = 2;
+
+    /** Maximum number of connections remembered per thread. */
+    private static final int THREAD_LOCAL_ENTRIES = 16;
+
+    private int poolMaxSize = 25;
+    private int poolMaxIdleTime = 0;
+    private int poolQueueTimeout = 0;
+    private int poolValidationIdleTime = 1000;
+
+    private transient volatile boolean poolClosed = false;
+    private transient CopyOnWriteArrayList<PoolEntry> entries = new CopyOnWriteArrayList<>();
+    private transient AtomicInteger totalConnections = new AtomicInteger();
+    private transient AtomicInteger waiters = new AtomicInteger();
+    private transient SynchronousQueue<PoolEntry> handoffQueue = new SynchronousQueue<>(true);
+    private transient ThreadLocal<List<WeakReference<PoolEntry>>> recentlyReturned = ThreadLocal.withInitial(() -> new ArrayList<>(THREAD_LOCAL_ENTRIES));
+    private transient Histogram waitTimeHistogram = new Histogram();
+    private transient Histogram usageTimeHistogram = new Histogram();
+
+    /**
+     * Default no-arg constructor for Serialization
+     */
+    public MysqlPoolingDataSource() {
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.entries = new CopyOnWriteArrayList<>();
+        this.totalConnections = new AtomicInteger();
+        this.waiters = new AtomicInteger();
+        this.handoffQueue = new SynchronousQueue<>(true);
+        this.recentlyReturned = ThreadLocal.withInitial(() -> new ArrayList<>(THREAD_LOCAL_ENTRIES));
+        this.waitTimeHistogram = new Histogram();
+        this.usageTimeHistogram = new Histogram();
+    }
+
+    /**
+     * Returns a connection from the pool, creating a new physical connection if none is idle and the pool isn't full, or waiting for up to
+     * {@link #getPoolQueueTimeout()} milliseconds for one to be returned otherwise. The connection goes back to the pool when it is closed.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (this.poolClosed) {
+            throw SQLError.createSQLException(Messages.getString("MysqlPoolingDataSource.0"), MysqlErrorNumbers.SQL_STATE_CONNECTION_NOT_OPEN, null);
+        }
+
+        long start = System.nanoTime();
+        PoolEntry entry = borrowEntry(start);
+        long now = System.nanoTime();
+        this.waitTimeHistogram.record(now - start);
+        entry.borrowedAt = now;
+
+        try {
+            return entry.pooledConnection.getConnection(false, false);
+        } catch (SQLException e) {
+            removeEntry(entry);
+            throw e;
+        }
+    }
+
+    /**
+     * Pooled connections can only be obtained for the user configured in this data source.
+     */
+    @Override
+    public Connection getConnection(String userID, String pass) throws SQLException {
+        if (!nullSafeEquals(userID, this.user) || !nullSafeEquals(pass, this.password)) {
+            throw SQLError.createSQLException(Messages.getString("MysqlPoolingDataSource.1"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, null);
+        }
+        return getConnection();
+    }
+
+    private static boolean nullSafeEquals(String s1, String s2) {
+        return s1 == null ? s2 == null : s1.equals(s2);
+    }
+
+    private PoolEntry borrowEntry(long start) throws SQLException {
+        // 1. Connections recently returned by this thread.
+        List<WeakReference<PoolEntry>> recent = this.recentlyReturned.get();
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            PoolEntry entry = recent.remove(i).get();
+            if (entry != null && entry.state.compareAndSet(STATE_IDLE, STATE_IN_USE) && prepareForUse(entry)) {
+                return entry;
+            }
+        }
+
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(this.poolQueueTimeout);
+        while (true) {
+            // 2. Any idle connection.
+            for (PoolEntry entry : this.entries) {
+                if (entry.state.compareAndSet(STATE_IDLE, STATE_IN_USE) && prepareForUse(entry)) {
+                    return entry;
+                }
+            }
+
+            // 3. A new connection, if the pool isn't full.
+            int total;
+            while ((total = this.totalConnections.get()) < this.poolMaxSize) {
+                if (this.totalConnections.compareAndSet(total, total + 1)) {
+                    return createEntry();
+                }
+            }
+
+            // 4. A connection returned by another thread.
+            long timeout = this.poolQueueTimeout == 0 ? Long.MAX_VALUE : deadline - System.nanoTime();
+            if (timeout <= 0) {
+                throw SQLError.createSQLException(Messages.getString("MysqlPoolingDataSource.2", new Object[] { this.poolQueueTimeout }),
+                        MysqlErrorNumbers.SQL_STATE_TIMEOUT_EXPIRED, null);
+            }
+            PoolEntry entry;
+            this.waiters.incrementAndGet();
+            try {
+                // wake up now and then to notice connections returned while not polling or removed from the pool
+                entry = this.handoffQueue.poll(Math.min(timeout, TimeUnit.MILLISECONDS.toNanos(100)), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw SQLError.createSQLException(Messages.getString("MysqlPoolingDataSource.3"), MysqlErrorNumbers.SQL_STATE_TIMEOUT_EXPIRED, e, null);
+            } finally {
+                this.waiters.decrementAndGet();
+            }
+            if (this.poolClosed) {
+                throw SQLError.createSQLException(Messages.getString("MysqlPoolingDataSource.0"), MysqlErrorNumbers.SQL_STATE_CONNECTION_NOT_OPEN, null);
+            }
+            if (entry != null && entry.state.compareAndSet(STATE_IDLE, STATE_IN_USE) && prepareForUse(entry)) {
+                return entry;
+            }
+        }
+    }
+
+    /**
+     * Checks that an idle connection just taken from the pool can be handed out, removing it from the pool otherwise.
+     * 
+     * @param entry
+     *            the pool entry, already in use
+     * @return true if the connection can be used
+     */
+    private boolean prepareForUse(PoolEntry entry) {
+        long idleNanos = System.nanoTime() - entry.returnedAt;
+        try {
+            if (entry.physicalConnection.isClosed() || this.poolMaxIdleTime > 0 && idleNanos > TimeUnit.MILLISECONDS.toNanos(this.poolMaxIdleTime)) {
+                removeEntry(entry);
+                return false;
+            }
+            if (idleNanos > TimeUnit.MILLISECONDS.toNanos(this.poolValidationIdleTime)) {
+                entry.physicalConnection.pingInternal(true, 0);
+            }
+            return true;
+        } catch (SQLException e) {
+            removeEntry(entry);
+            return false;
+        }
+    }
+
+    private PoolEntry createEntry() throws SQLException {
+        try {
+            Properties props = exposeAsProperties();
+            if (this.user != null) {
+                props.setProperty(PropertyKey.USER.getKeyName(), this.user);
+            }
+            if (this.password != null) {
+                props.setProperty(PropertyKey.PASSWORD.getKeyName(), this.password);
+            }
+            if (!props.containsKey(PropertyKey.useResetConnection.getKeyName())) {
+                props.setProperty(PropertyKey.useResetConnection.getKeyName(), "true");
+            }
+            if (!props.containsKey(PropertyKey.trackSessionState.getKeyName())) {
+                props.setProperty(PropertyKey.trackSessionState.getKeyName(), "true");
+            }
+
+            PoolEntry entry = new PoolEntry((JdbcConnection) getConnection(props));
+            this.entries.add(entry);
+            return entry;
+        } catch (SQLException | RuntimeException e) {
+            this.totalConnections.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Closes the physical connection of an entry and removes it from the pool.
+     * 
+     * @param entry
+     *            the pool entry
+     */
+    private void removeEntry(PoolEntry entry) {
+        if (entry.state.getAndSet(STATE_REMOVED) == STATE_REMOVED) {
+            return;
+        }
+        this.entries.remove(entry);
+        this.totalConnections.decrementAndGet();
+        try {
+            entry.pooledConnection.close();
+        } catch (SQLException e) {
+            // ignore, the connection is discarded anyway
+        }
+        // a waiting thread may now create a new connection
+        this.handoffQueue.offer(entry);
+    }
+
+    /**
+     * Puts back into the pool a connection closed by the application, resetting its server state if needed.
+     * 
+     * @param entry
+     *            the pool entry
+     */
+    void returnEntry(PoolEntry entry) {
+        long now = System.nanoTime();
+        this.usageTimeHistogram.record(now - entry.borrowedAt);
+
+        if (this.poolClosed || entry.state.get() != STATE_IN_USE) {
+            removeEntry(entry);
+            return;
+        }
+
+        try {
+            if (entry.isDirty()) {
+                entry.physicalConnection.resetServerState();
+            }
+            entry.markClean();
+        } catch (SQLException | RuntimeException e) {
+            removeEntry(entry);
+            return;
+        }
+
+        entry.returnedAt = now;
+        entry.state.set(STATE_IDLE);
+
+        List<WeakReference<PoolEntry>> recent = this.recentlyReturned.get();
+        if (recent.size() >= THREAD_LOCAL_ENTRIES) {
+            recent.remove(0);
+        }
+        recent.add(new WeakReference<>(entry));
+
+        // hand it over to a thread blocked waiting for a connection, if any; the others find it when they scan the pool again
+        if (this.waiters.get() > 0) {
+            this.handoffQueue.offer(entry);
+        }
+    }
+
+    /**
+     * Closes all idle connections and stops handing out connections. Connections in use are closed when they are returned.
+     */
+    @Override
+    public void close() {
+        this.poolClosed = true;
+        for (PoolEntry entry : this.entries) {
+            if (entry.state.compareAndSet(STATE_IDLE, STATE_IN_USE)) {
+                removeEntry(entry);
+            }
+        }
+        this.recentlyReturned.remove();
+    }
+
+    public boolean isClosed() {
+        return this.poolClosed;
+    }
+
+    /**
+     * Returns the number of physical connections in the pool, either idle or in use.
+     * 
+     * @return the number of connections
+     */
+    public int getTotalConnections() {
+        return this.totalConnections.get();
+    }
+
+    /**
+     * Returns the number of idle connections in the pool.
+     * 
+     * @return the number of idle connections
+     */
+    public int getIdleConnections() {
+        int idle = 0;
+        for (PoolEntry entry : this.entries) {
+            if (entry.state.get() == STATE_IDLE) {
+                idle++;
+            }
+        }
+        return idle;
+    }
+
+    /**
+     * Returns the number of threads blocked waiting for a connection to be returned to the pool.
+     * 
+     * @return the number of waiting threads
+     */
+    public int getWaitingThreads() {
+        return this.waiters.get();
+    }
+
+    /**
+     * Returns the histogram of the time spent in {@link #getConnection()}, in microseconds.
+     * 
+     * @return the histogram
+     */
+    public Histogram getWaitTimeHistogram() {
+        return this.waitTimeHistogram;
+    }
+
+    /**
+     * Returns the histogram of the time between borrowing and returning connections, in microseconds.
+     * 
+     * @return the histogram
+     */
+    public Histogram getUsageTimeHistogram() {
+        return this.usageTimeHistogram;
+    }
+
+    public int getPoolMaxSize() {
+        return this.poolMaxSize;
+    }
+
+    /**
+     * Sets the maximum number of physical connections in the pool. Defaults to 25.
+     * 
+     * @param poolMaxSize
+     *            the maximum number of connections
+     * @throws SQLException
+     *             if the value is not positive
+     */
+    public void setPoolMaxSize(int poolMaxSize) throws SQLException {
+        checkPoolSetting("poolMaxSize", poolMaxSize, 1);
+        this.poolMaxSize = poolMaxSize;
+    }
+
+    public int getPoolMaxIdleTime() {
+        return this.poolMaxIdleTime;
+    }
+
+    /**
+     * Sets the time, in milliseconds, after which idle connections are closed instead of being handed out. Defaults to 0, i.e., idle connections are never
+     * closed.
+     * 
+     * @param poolMaxIdleTime
+     *            the maximum idle time in milliseconds
+     * @throws SQLException
+     *             if the value is negative
+     */
+    public void setPoolMaxIdleTime(int poolMaxIdleTime) throws SQLException {
+        checkPoolSetting("poolMaxIdleTime", poolMaxIdleTime, 0);
+        this.poolMaxIdleTime = poolMaxIdleTime;
+    }
+
+    public int getPoolQueueTimeout() {
+        return this.poolQueueTimeout;
+    }
+
+    /**
+     * Sets the time, in milliseconds, {@link #getConnection()} waits for a connection when the pool is full. Defaults to 0, i.e., waits forever.
+     * 
+     * @param poolQueueTimeout
+     *            the queue timeout in milliseconds
+     * @throws SQLException
+     *             if the value is negative
+     */
+    public void setPoolQueueTimeout(int poolQueueTimeout) throws SQLException {
+        checkPoolSetting("poolQueueTimeout", poolQueueTimeout, 0);
+        this.poolQueueTimeout = poolQueueTimeout;
+    }
+
+    public int getPoolValidationIdleTime() {
+        return this.poolValidationIdleTime;
+    }
+
+    /**
+     * Sets the time, in milliseconds, a connection must have been idle for being validated with a COM_PING before being handed out. Defaults to 1000.
+     * 
+     * @param poolValidationIdleTime
+     *            the idle time in milliseconds
+     * @throws SQLException
+     *             if the value is negative
+     */
+    public void setPoolValidationIdleTime(int poolValidationIdleTime) throws SQLException {
+        checkPoolSetting("poolValidationIdleTime", poolValidationIdleTime, 0);
+        this.poolValidationIdleTime = poolValidationIdleTime;
+    }
+
+    private static void checkPoolSetting(String name, int value, int min) throws SQLException {
+        if (value < min) {
+            throw SQLError.createSQLException(Messages.getString("MysqlPoolingDataSource.4", new Object[] { name, value }),
+                    MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, null);
+        }
+    }
+
+    @Override
+    public Reference getReference() throws NamingException {
+        Reference ref = super.getReference();
+        ref.add(new StringRefAddr("poolMaxSize", String.valueOf(this.poolMaxSize)));
+        ref.add(new StringRefAddr("poolMaxIdleTime", String.valueOf(this.poolMaxIdleTime)));
+        ref.add(new StringRefAddr("poolQueueTimeout", String.valueOf(this.poolQueueTimeout)));
+        ref.add(new StringRefAddr("poolValidationIdleTime", String.valueOf(this.poolValidationIdleTime)));
+        return ref;
+    }
+
+    /**
+     * A physical connection of the pool.
+     */
+    class PoolEntry implements ConnectionEventListener, SessionStateChangesListener {
+        final AtomicInteger state = new AtomicInteger(STATE_IN_USE);
+        final JdbcConnection physicalConnection;
+        final MysqlPooledConnection pooledConnection;
+        /** Whether the server reports all changes in the session state of this connection. */
+        private final boolean tracksSessionState;
+        private volatile boolean sessionStateChanged = false;
+        private String database;
+        volatile long borrowedAt;
+        volatile long returnedAt;
+
+        PoolEntry(JdbcConnection physicalConnection) throws SQLException {
+            this.physicalConnection = physicalConnection;
+            this.pooledConnection = MysqlPooledConnection.getInstance(physicalConnection);
+            this.pooledConnection.addConnectionEventListener(this);
+            this.returnedAt = System.nanoTime();
+
+            ServerSession serverSession = physicalConnection.getSession().getServerSession();
+            // multi-host connections may switch to other physical connections, whose session state changes go unnoticed
+            this.tracksSessionState = physicalConnection instanceof ConnectionImpl
+                    && physicalConnection.getPropertySet().getBooleanProperty(PropertyKey.trackSessionState).getValue()
+                    && (serverSession.getCapabilities().getCapabilityFlags() & NativeServerSession.CLIENT_SESSION_TRACK) != 0;
+            if (this.tracksSessionState) {
+                String sessionVariables = physicalConnection.getPropertySet().getStringProperty(PropertyKey.sessionVariables).getValue();
+                // kept in 'sessionVariables' so that it is set again after resetting the server state
+                physicalConnection.getPropertySet().getStringProperty(PropertyKey.sessionVariables)
+                        .setValue(sessionVariables == null ? "session_track_state_change=ON" : sessionVariables + ",session_track_state_change=ON");
+                ((NativeSession) physicalConnection.getSession()).setSessionVariables();
+                serverSession.getServerSessionStateController().addSessionStateChangesListener(this);
+            }
+            this.database = physicalConnection.getDatabase();
+        }
+
+        /**
+         * Tells whether the session state may differ from the one the connection had when it was borrowed.
+         * 
+         * @return true if the server state must be reset
+         * @throws SQLException
+         *             if a database access error occurs
+         */
+        boolean isDirty() throws SQLException {
+            if (!this.tracksSessionState || this.sessionStateChanged) {
+                return true;
+            }
+            ServerSession serverSession = this.physicalConnection.getSession().getServerSession();
+            return serverSession.inTransactionOnServer() || !serverSession.isAutoCommit() || this.physicalConnection.isReadOnly(false)
+                    || !nullSafeEquals(this.database, this.physicalConnection.getDatabase());
+        }
+
+        void markClean() throws SQLException {
+            this.sessionStateChanged = false;
+            this.database = this.physicalConnection.getDatabase();
+        }
+
+        @Override
+        public void handleSessionStateChanges(ServerSessionStateChanges changes) {
+            if (changes != null && !changes.getSessionStateChangesList().isEmpty()) {
+                this.sessionStateChanged = true;
+            }
+        }
+
+        @Override
+        public void connectionClosed(ConnectionEvent event) {
+            returnEntry(this);
+        }
+
+        @Override
+        public void connectionErrorOccurred(ConnectionEvent event) {
+            removeEntry(this);
+        }
+    }
+
+    /**
+     * A lock-free histogram of durations, in microseconds, with buckets of exponentially growing width. Bucket 0 counts durations under 1 microsecond and
+     * bucket <i>i</i> counts durations from 2<sup><i>i</i>-1</sup> to 2<sup><i>i</i></sup>-1 microseconds, the last bucket counting also all longer
+     * durations.
+     */
+    public static final class Histogram {
+        static final int BUCKETS = 40;
+
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final AtomicLong sum = new AtomicLong();
+        private final AtomicLong max = new AtomicLong();
+
+        Histogram() {
+        }
+
+        /**
+         * Records a duration.
+         * 
+         * @param nanos
+         *            the duration in nanoseconds
+         */
+        void record(long nanos) {
+            long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+            this.counts.incrementAndGet(Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros)));
+            this.sum.addAndGet(micros);
+            long currentMax;
+            while (micros > (currentMax = this.max.get()) && !this.max.compareAndSet(currentMax, micros)) {
+                // retry
+            }
+        }
+
+        public int getBucketCount() {
+            return BUCKETS;
+        }
+
+        /**
+         * Returns the number of durations recorded in a bucket.
+         * 
+         * @param bucket
+         *            the bucket index
+         * @return the number of durations
+         */
+        public long getCount(int bucket) {
+            return this.counts.get(bucket);
+        }
+
+        /**
+         * Returns the largest duration counted by a bucket, Long.MAX_VALUE for the last one.
+         * 
+         * @param bucket
+         *            the bucket index
+         * @return the upper bound in microseconds
+         */
+        public long getUpperBound(int bucket) {
+            return bucket == BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+        }
+
+        public long getCount() {
+            long count = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                count += this.counts.get(i);
+            }
+            return count;
+        }
+
+        public long getMax() {
+            return this.max.get();
+        }
+
+        public double getMean() {
+            long count = getCount();
+            return count == 0 ? 0 : (double) this.sum.get() / count;
+        }
+
+        /**
+         * Returns an upper bound of the given percentile, i.e., the upper bound of the bucket containing it, but never more than the longest duration
+         * recorded.
+         * 
+         * @param percentile
+         *            the percentile, between 0 and 100
+         * @return the percentile upper bound in microseconds
+         */
+        public long getPercentile(double percentile) {
+            long count = getCount();
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += this.counts.get(i);
+                if (seen >= rank) {
+                    return Math.min(getUpperBound(i), getMax());
+                }
+            }
+            return getMax();
+        }
+    }
+}
@@ -36,6 +36,8 @@ import java.sql.ParameterMetaData;
 import java.sql.SQLException;
 import java.sql.Wrapper;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import com.mysql.cj.BindValue;
 import com.mysql.cj.CancelQueryTask;
@@ -44,8 +46,10 @@ import com.mysql.cj.NativeSession;
 import com.mysql.cj.PreparedQuery;
 import com.mysql.cj.QueryBindings;
 import com.mysql.cj.QueryInfo;
+import com.mysql.cj.QueryReturnType;
 import com.mysql.cj.ServerPreparedQuery;
 import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.PropertySet;
 import com.mysql.cj.exceptions.CJException;
 import com.mysql.cj.exceptions.ExceptionFactory;
 import com.mysql.cj.exceptions.ExceptionInterceptor;
@@ -59,6 +63,7 @@ import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
 import com.mysql.cj.jdbc.result.ResultSetMetaData;
 import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.Message;
+import com.mysql.cj.protocol.a.NativeProtocol;
 
 /**
  * JDBC Interface for MySQL-4.1 and newer server-side PreparedStatements.
@@ -251,50 +256,55 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
                     try {
                         timeoutTask = startQueryTimer(this, batchTimeout);
 
-                        for (commandIndex = 0; commandIndex < nbrCommands; commandIndex++) {
-                            Object arg = this.query.getBatchedArgs().get(commandIndex);
-
-                            try {
-                                if (arg instanceof String) {
-                                    updateCounts[commandIndex] = executeUpdateInternal((String) arg, true, this.retrieveGeneratedKeys);
-
-                                    // limit one generated key per OnDuplicateKey statement
-                                    getBatchedGeneratedKeys(this.results.getFirstCharOfQuery() == 'I' && containsOnDuplicateKeyInString((String) arg) ? 1 : 0);
-                                } else {
-                                    ((PreparedQuery) this.query).setQueryBindings((QueryBindings) arg);
-                                    BindValue[] parameterBindings = ((QueryBindings) arg).getBindValues();
-
-                                    // We need to check types each time, as the user might have bound different types in each addBatch()
-
-                                    if (previousBindValuesForBatch != null) {
-                                        for (int j = 0; j < parameterBindings.length; j++) {
-                                            if (parameterBindings[j].getMysqlType() != previousBindValuesForBatch[j].getMysqlType()) {
-                                                ((ServerPreparedQuery) this.query).getQueryBindings().getSendTypesToServer().set(true);
-                                                break;
+                        if (canPipelineBatch()) {
+                            sqlEx = executeBatchPipelined(updateCounts);
+                        } else {
+                            for (commandIndex = 0; commandIndex < nbrCommands; commandIndex++) {
+                                Object arg = this.query.getBatchedArgs().get(commandIndex);
+
+                                try {
+                                    if (arg instanceof String) {
+                                        updateCounts[commandIndex] = executeUpdateInternal((String) arg, true, this.retrieveGeneratedKeys);
+
+                                        // limit one generated key per OnDuplicateKey statement
+                                        getBatchedGeneratedKeys(
+                                                this.results.getFirstCharOfQuery() == 'I' && containsOnDuplicateKeyInString((String) arg) ? 1 : 0);
+                                    } else {
+                                        ((PreparedQuery) this.query).setQueryBindings((QueryBindings) arg);
+                                        BindValue[] parameterBindings = ((QueryBindings) arg).getBindValues();
+
+                                        // We need to check types each time, as the user might have bound different types in each addBatch()
+
+                                        if (previousBindValuesForBatch != null) {
+                                            for (int j = 0; j < parameterBindings.length; j++) {
+                                                if (parameterBindings[j].getMysqlType() != previousBindValuesForBatch[j].getMysqlType()) {
+                                                    ((ServerPreparedQuery) this.query).getQueryBindings().getSendTypesToServer().set(true);
+                                                    break;
+                                                }
                                             }
                                         }
-                                    }
 
-                                    try {
-                                        updateCounts[commandIndex] = executeUpdateInternal(false, true);
-                                    } finally {
-                                        previousBindValuesForBatch = parameterBindings;
-                                    }
+                                        try {
+                                            updateCounts[commandIndex] = executeUpdateInternal(false, true);
+                                        } finally {
+                                            previousBindValuesForBatch = parameterBindings;
+                                        }
 
-                                    // limit one generated key per OnDuplicateKey statement
-                                    getBatchedGeneratedKeys(containsOnDuplicateKeyUpdate() ? 1 : 0);
-                                }
-                            } catch (SQLException ex) {
-                                updateCounts[commandIndex] = EXECUTE_FAILED;
+                                        // limit one generated key per OnDuplicateKey statement
+                                        getBatchedGeneratedKeys(containsOnDuplicateKeyUpdate() ? 1 : 0);
+                                    }
+                                } catch (SQLException ex) {
+                                    updateCounts[commandIndex] = EXECUTE_FAILED;
 
-                                if (this.continueBatchOnError && !(ex instanceof MySQLTimeoutException) && !(ex instanceof MySQLStatementCancelledException)
-                                        && !hasDeadlockOrTimeoutRolledBackTx(ex)) {
-                                    sqlEx = ex;
-                                } else {
-                                    long[] newUpdateCounts = new long[commandIndex];
-                                    System.arraycopy(updateCounts, 0, newUpdateCounts, 0, commandIndex);
+                                    if (this.continueBatchOnError && !(ex instanceof MySQLTimeoutException) && !(ex instanceof MySQLStatementCancelledException)
+                                            && !hasDeadlockOrTimeoutRolledBackTx(ex)) {
+                                        sqlEx = ex;
+                                    } else {
+                                        long[] newUpdateCounts = new long[commandIndex];
+                                        System.arraycopy(updateCounts, 0, newUpdateCounts, 0, commandIndex);
 
-                                    throw SQLError.createBatchUpdateException(ex, newUpdateCounts, this.exceptionInterceptor);
+                                        throw SQLError.createBatchUpdateException(ex, newUpdateCounts, this.exceptionInterceptor);
+                                    }
                                 }
                             }
                         }
@@ -318,6 +328,171 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
         }
     }
 
+    /**
+     * Checks whether the current batch can be executed by pipelining its COM_STMT_EXECUTE commands. Only batches whose parameter sets are all sent in the
+     * execute packets themselves, and whose outcomes do not depend on any round trip other than the execution itself, qualify.
+     * 
+     * @return true if the batch can be executed with {@link #executeBatchPipelined(long[])}
+     */
+    private boolean canPipelineBatch() {
+        PropertySet pset = this.session.getPropertySet();
+        if (!pset.getBooleanProperty(PropertyKey.pipelineBatchedStatements).getValue() || !this.continueBatchOnError
+                || pset.getBooleanProperty(PropertyKey.jdbcCompliantTruncation).getValue() || this.session.shouldIntercept()
+                || getQueryInfo().getQueryReturnType() != QueryReturnType.DOES_NOT_PRODUCE_RESULT_SET) {
+            return false;
+        }
+
+        for (Object arg : this.query.getBatchedArgs()) {
+            if (!(arg instanceof QueryBindings) || ((QueryBindings) arg).isLongParameterSwitchDetected()) {
+                return false;
+            }
+            for (BindValue bv : ((QueryBindings) arg).getBindValues()) {
+                if (bv.isStream()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Executes the batched parameter sets by sending up to 'pipelinedBatchWindowSize' COM_STMT_EXECUTE commands ahead of reading their responses, which are
+     * then processed in the order the commands were sent.
+     * 
+     * If a parameter set fails with an exception that aborts the batch, no further commands are sent, but the responses to those already sent are still read
+     * and their update counts are included in the thrown BatchUpdateException.
+     * 
+     * @param updateCounts
+     *            the array to fill with the update count of each parameter set
+     * @return the exception of the last failed parameter set, or null if all of them succeeded
+     * @throws SQLException
+     *             if the batch was aborted
+     */
+    private SQLException executeBatchPipelined(long[] updateCounts) throws SQLException {
+        ServerPreparedQuery spQuery = (ServerPreparedQuery) this.query;
+        NativeProtocol protocol = this.session.getProtocol();
+        List<Object> batchedArgs = this.query.getBatchedArgs();
+        int nbrCommands = batchedArgs.size();
+        int windowSize = this.session.getPropertySet().getIntegerProperty(PropertyKey.pipelinedBatchWindowSize).getValue();
+
+        JdbcConnection locallyScopedConn = this.connection;
+        String oldDb = null;
+
+        SQLException sqlEx = null;
+        SQLException abortEx = null;
+        int sent = 0;
+        int received = 0;
+        BindValue[] previousBindValuesForBatch = null;
+
+        try {
+            implicitlyCloseAllOpenResults();
+
+            if (!locallyScopedConn.getDatabase().equals(getCurrentDatabase())) {
+                oldDb = locallyScopedConn.getDatabase();
+                locallyScopedConn.setDatabase(getCurrentDatabase());
+            }
+
+            locallyScopedConn.setSessionMaxRows(-1);
+
+            while (received < nbrCommands) {
+                while (abortEx == null && sent < nbrCommands && sent - received < windowSize) {
+                    QueryBindings bindings = (QueryBindings) batchedArgs.get(sent);
+                    spQuery.setQueryBindings(bindings);
+                    BindValue[] parameterBindings = bindings.getBindValues();
+
+                    if (previousBindValuesForBatch != null) {
+                        for (int j = 0; j < parameterBindings.length; j++) {
+                            if (parameterBindings[j].getMysqlType() != previousBindValuesForBatch[j].getMysqlType()) {
+                                bindings.getSendTypesToServer().set(true);
+                                break;
+                            }
+                        }
+                    }
+
+                    try {
+                        spQuery.sendPipelinedExecutePacket();
+                    } catch (CJException ex) {
+                        if (sent > received) {
+                            // Report this parameter set in order: read the responses due first and then try again.
+                            break;
+                        }
+                        updateCounts[sent] = EXECUTE_FAILED;
+                        SQLException sqlException = SQLExceptionsMapping.translateException(ex, this.exceptionInterceptor);
+                        if (isBatchAbortingException(sqlException)) {
+                            abortEx = sqlException;
+                        } else {
+                            sqlEx = sqlException;
+                        }
+                        sent++;
+                        received++;
+                        continue;
+                    }
+                    previousBindValuesForBatch = parameterBindings;
+                    sent++;
+                }
+
+                if (received == sent) {
+                    break;
+                }
+
+                try {
+                    ResultSetInternalMethods rs = spQuery.readPipelinedExecuteResult(this.resultSetFactory);
+                    if (this.retrieveGeneratedKeys) {
+                        rs.setFirstCharOfQuery(getQueryInfo().getFirstStmtChar());
+                    }
+
+                    this.results = rs;
+                    this.updateCount = rs.getUpdateCount();
+                    if (containsOnDuplicateKeyUpdate() && this.compensateForOnDuplicateKeyUpdate && (this.updateCount == 2 || this.updateCount == 0)) {
+                        this.updateCount = 1;
+                    }
+                    this.lastInsertId = rs.getUpdateID();
+                    updateCounts[received] = this.updateCount;
+
+                    // limit one generated key per OnDuplicateKey statement
+                    getBatchedGeneratedKeys(containsOnDuplicateKeyUpdate() ? 1 : 0);
+                } catch (CJException | SQLException ex) {
+                    updateCounts[received] = EXECUTE_FAILED;
+                    SQLException sqlException = ex instanceof SQLException ? (SQLException) ex
+                            : SQLExceptionsMapping.translateException((CJException) ex, this.exceptionInterceptor);
+                    if (isBatchAbortingException(sqlException)) {
+                        abortEx = sqlException;
+                    } else {
+                        sqlEx = sqlException;
+                    }
+                }
+                received++;
+
+                if (abortEx == null) {
+                    try {
+                        // a timeout or cancellation may have interrupted any of the commands sent
+                        checkCancelTimeout();
+                    } catch (CJException ex) {
+                        abortEx = SQLExceptionsMapping.translateException(ex, this.exceptionInterceptor);
+                    }
+                }
+            }
+        } finally {
+            if (protocol.getPipelinedResponsesPending() > 0) {
+                protocol.discardPipelinedResponses();
+            }
+
+            if (oldDb != null) {
+                locallyScopedConn.setDatabase(oldDb);
+            }
+        }
+
+        if (abortEx != null) {
+            throw SQLError.createBatchUpdateException(abortEx, Arrays.copyOf(updateCounts, received), this.exceptionInterceptor);
+        }
+        return sqlEx;
+    }
+
+    private boolean isBatchAbortingException(SQLException ex) {
+        return !this.continueBatchOnError || ex instanceof MySQLTimeoutException || ex instanceof MySQLStatementCancelledException
+                || hasDeadlockOrTimeoutRolledBackTx(ex);
+    }
+
     private static SQLException appendMessageToException(SQLException sqlEx, String messageToAppend, ExceptionInterceptor interceptor) {
         String sqlState = sqlEx.getSQLState();
         int vendorErrorCode = sqlEx.getErrorCode();
@@ -634,6 +809,12 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
         return this.hasOnDuplicateKeyUpdate;
     }
 
+    @Override
+    protected boolean canWriteBatchedValuesDirectly() {
+        // Rewritten batches are executed through server-side prepared statements.
+        return false;
+    }
+
     @Override
     protected ClientPreparedStatement prepareBatchedInsertSQL(JdbcConnection localConn, int numBatches) throws SQLException {
         synchronized (checkClosed().getConnectionMutex()) {
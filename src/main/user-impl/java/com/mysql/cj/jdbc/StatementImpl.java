@@ -49,6 +49,8 @@ import com.mysql.cj.NativeSession;
 import com.mysql.cj.PingTarget;
 import com.mysql.cj.Query;
 import com.mysql.cj.QueryAttributesBindings;
+import com.mysql.cj.QueryCancellationService;
+import com.mysql.cj.QueryDescriptor;
 import com.mysql.cj.QueryInfo;
 import com.mysql.cj.QueryReturnType;
 import com.mysql.cj.Session;
@@ -184,6 +186,7 @@ public class StatementImpl implements JdbcStatement {
     protected RuntimeProperty<Boolean> dumpQueriesOnException;
     protected boolean logSlowQueries = false;
     protected RuntimeProperty<Boolean> rewriteBatchedStatements;
+    protected RuntimeProperty<Boolean> cacheDatabaseMetadata;
     protected RuntimeProperty<Integer> maxAllowedPacket;
     protected boolean dontCheckOnDuplicateKeyUpdateInSQL;
 
@@ -229,6 +232,7 @@ public class StatementImpl implements JdbcStatement {
         this.continueBatchOnError = pset.getBooleanProperty(PropertyKey.continueBatchOnError).getValue();
         this.pedantic = pset.getBooleanProperty(PropertyKey.pedantic).getValue();
         this.rewriteBatchedStatements = pset.getBooleanProperty(PropertyKey.rewriteBatchedStatements);
+        this.cacheDatabaseMetadata = pset.getBooleanProperty(PropertyKey.cacheDatabaseMetadata);
         this.charEncoding = pset.getStringProperty(PropertyKey.characterEncoding).getValue();
         this.profileSQL = pset.getBooleanProperty(PropertyKey.profileSQL).getValue();
         this.useUsageAdvisor = pset.getBooleanProperty(PropertyKey.useUsageAdvisor).getValue();
@@ -289,6 +293,16 @@ public class StatementImpl implements JdbcStatement {
         }
 
         if (!this.isClosed && this.connection != null) {
+            if (this.session.getPropertySet().getBooleanProperty(PropertyKey.useQueryCancellationService).getValue()) {
+                try {
+                    QueryCancellationService.getInstance().killQuery(this.session);
+                    setCancelStatus(CancelStatus.CANCELED_BY_USER);
+                } catch (IOException e) {
+                    throw SQLExceptionsMapping.translateException(e, this.exceptionInterceptor);
+                }
+                return;
+            }
+
             NativeSession newSession = null;
 
             try {
@@ -348,7 +362,11 @@ public class StatementImpl implements JdbcStatement {
      *         <code>true</code> if the query produces a result set, <code>false</code> otherwise.
      */
     protected boolean isResultSetProducingQuery(String sql) {
-        QueryReturnType queryReturnType = QueryInfo.getQueryReturnType(sql, this.session.getServerSession().isNoBackslashEscapesSet());
+        return isResultSetProducingQuery(QueryDescriptor.forSql(sql, this.session.getServerSession().isNoBackslashEscapesSet()));
+    }
+
+    private static boolean isResultSetProducingQuery(QueryDescriptor queryDescriptor) {
+        QueryReturnType queryReturnType = queryDescriptor.getQueryReturnType();
         return queryReturnType == QueryReturnType.PRODUCES_RESULT_SET || queryReturnType == QueryReturnType.MAY_PRODUCE_RESULT_SET;
     }
 
@@ -361,10 +379,18 @@ public class StatementImpl implements JdbcStatement {
      *         <code>true</code> if the query does not produce a result set, <code>false</code> otherwise.
      */
     protected boolean isNonResultSetProducingQuery(String sql) {
-        QueryReturnType queryReturnType = QueryInfo.getQueryReturnType(sql, this.session.getServerSession().isNoBackslashEscapesSet());
+        return isNonResultSetProducingQuery(QueryDescriptor.forSql(sql, this.session.getServerSession().isNoBackslashEscapesSet()));
+    }
+
+    private static boolean isNonResultSetProducingQuery(QueryDescriptor queryDescriptor) {
+        QueryReturnType queryReturnType = queryDescriptor.getQueryReturnType();
         return queryReturnType == QueryReturnType.DOES_NOT_PRODUCE_RESULT_SET || queryReturnType == QueryReturnType.MAY_PRODUCE_RESULT_SET;
     }
 
+    private static boolean isSingleResultsetQuery(QueryDescriptor queryDescriptor) {
+        return queryDescriptor.getQueryReturnType() == QueryReturnType.PRODUCES_RESULT_SET && !queryDescriptor.isMultiStatement();
+    }
+
     /**
      * Method checkNullOrEmptyQuery.
      * 
@@ -670,11 +696,11 @@ public class StatementImpl implements JdbcStatement {
 
             this.retrieveGeneratedKeys = returnGeneratedKeys;
 
-            this.lastQueryIsOnDupKeyUpdate = returnGeneratedKeys
-                    && QueryInfo.firstCharOfStatementUc(sql, this.session.getServerSession().isNoBackslashEscapesSet()) == 'I'
-                    && containsOnDuplicateKeyInString(sql);
+            QueryDescriptor queryDescriptor = QueryDescriptor.forSql(sql, this.session.getServerSession().isNoBackslashEscapesSet());
 
-            if (!QueryInfo.isReadOnlySafeQuery(sql, this.session.getServerSession().isNoBackslashEscapesSet()) && locallyScopedConn.isReadOnly()) {
+            this.lastQueryIsOnDupKeyUpdate = returnGeneratedKeys && queryDescriptor.getFirstStmtChar() == 'I' && containsOnDuplicateKeyInString(sql);
+
+            if (!queryDescriptor.isReadOnlySafe() && locallyScopedConn.isReadOnly()) {
                 throw SQLError.createSQLException(Messages.getString("Statement.27") + Messages.getString("Statement.28"),
                         MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
             }
@@ -682,11 +708,9 @@ public class StatementImpl implements JdbcStatement {
             try {
                 setupStreamingTimeout(locallyScopedConn);
 
-                if (this.doEscapeProcessing) {
-                    Object escapedSqlResult = EscapeProcessor.escapeSQL(sql, this.session.getServerSession().getSessionTimeZone(),
-                            this.session.getServerSession().getCapabilities().serverSupportsFracSecs(),
-                            this.session.getServerSession().isServerTruncatesFracSecs(), getExceptionInterceptor());
-                    sql = escapedSqlResult instanceof String ? (String) escapedSqlResult : ((EscapeProcessorResult) escapedSqlResult).escapedSql;
+                if (this.doEscapeProcessing && queryDescriptor.containsEscapes()) {
+                    sql = escapeSQL(sql);
+                    queryDescriptor = QueryDescriptor.forSql(sql, this.session.getServerSession().isNoBackslashEscapesSet());
                 }
 
                 CachedResultSetMetaData cachedMetaData = null;
@@ -716,12 +740,12 @@ public class StatementImpl implements JdbcStatement {
                         }
 
                         // Only apply max_rows to selects
-                        locallyScopedConn.setSessionMaxRows(isResultSetProducingQuery(sql) ? this.maxRows : -1);
+                        locallyScopedConn.setSessionMaxRows(isResultSetProducingQuery(queryDescriptor) ? this.maxRows : -1);
 
                         statementBegins();
 
                         rs = ((NativeSession) locallyScopedConn.getSession()).execSQL(this, sql, this.maxRows, null, createStreamingResultSet(),
-                                getResultSetFactory(), cachedMetaData, false);
+                                getResultSetFactory(), cachedMetaData, isSingleResultsetQuery(queryDescriptor), false);
 
                         if (timeoutTask != null) {
                             stopQueryTimer(timeoutTask, true, true);
@@ -731,12 +755,21 @@ public class StatementImpl implements JdbcStatement {
                     } catch (CJTimeoutException | OperationCancelledException e) {
                         throw SQLExceptionsMapping.translateException(e, this.exceptionInterceptor);
 
+                    } catch (CJException e) {
+                        if (cachedMetaData != null) {
+                            // the cached metadata may be the cause, e.g., if it doesn't match the results anymore after the table was altered
+                            locallyScopedConn.removeCachedMetaData(sql);
+                        }
+                        throw e;
+
                     } finally {
                         stopQueryTimer(timeoutTask, false, false);
 
                         if (oldDb != null) {
                             locallyScopedConn.setDatabase(oldDb);
                         }
+
+                        invalidateDatabaseMetadataIfDdl(sql, queryDescriptor);
                     }
                 }
 
@@ -745,7 +778,7 @@ public class StatementImpl implements JdbcStatement {
 
                     this.results = rs;
 
-                    rs.setFirstCharOfQuery(QueryInfo.firstCharOfStatementUc(sql, this.session.getServerSession().isNoBackslashEscapesSet()));
+                    rs.setFirstCharOfQuery(queryDescriptor.getFirstStmtChar());
 
                     if (rs.hasRows()) {
                         if (cachedMetaData != null) {
@@ -763,6 +796,20 @@ public class StatementImpl implements JdbcStatement {
         }
     }
 
+    /**
+     * Discards the database metadata cached for this connection URL if the given statement may have changed the schema.
+     * 
+     * @param sql
+     *            the statement executed
+     * @param queryDescriptor
+     *            the {@link QueryDescriptor} of the statement executed
+     */
+    protected void invalidateDatabaseMetadataIfDdl(String sql, QueryDescriptor queryDescriptor) {
+        if (this.cacheDatabaseMetadata.getValue()) {
+            DatabaseMetaDataCache.invalidateIfDdl(this.connection.getURL(), sql, queryDescriptor.getStatementKeywordPos());
+        }
+    }
+
     @Override
     public void statementBegins() {
         this.query.statementBegins();
@@ -1123,14 +1170,14 @@ public class StatementImpl implements JdbcStatement {
 
             setupStreamingTimeout(locallyScopedConn);
 
-            if (this.doEscapeProcessing) {
-                Object escapedSqlResult = EscapeProcessor.escapeSQL(sql, this.session.getServerSession().getSessionTimeZone(),
-                        this.session.getServerSession().getCapabilities().serverSupportsFracSecs(), this.session.getServerSession().isServerTruncatesFracSecs(),
-                        getExceptionInterceptor());
-                sql = escapedSqlResult instanceof String ? (String) escapedSqlResult : ((EscapeProcessorResult) escapedSqlResult).escapedSql;
+            QueryDescriptor queryDescriptor = QueryDescriptor.forSql(sql, this.session.getServerSession().isNoBackslashEscapesSet());
+
+            if (this.doEscapeProcessing && queryDescriptor.containsEscapes()) {
+                sql = escapeSQL(sql);
+                queryDescriptor = QueryDescriptor.forSql(sql, this.session.getServerSession().isNoBackslashEscapesSet());
             }
 
-            if (!isResultSetProducingQuery(sql)) {
+            if (!isResultSetProducingQuery(queryDescriptor)) {
                 throw SQLError.createSQLException(Messages.getString("Statement.57"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
             }
 
@@ -1166,7 +1213,7 @@ public class StatementImpl implements JdbcStatement {
                 statementBegins();
 
                 this.results = ((NativeSession) locallyScopedConn.getSession()).execSQL(this, sql, this.maxRows, null, createStreamingResultSet(),
-                        getResultSetFactory(), cachedMetaData, false);
+                        getResultSetFactory(), cachedMetaData, isSingleResultsetQuery(queryDescriptor), false);
 
                 if (timeoutTask != null) {
                     stopQueryTimer(timeoutTask, true, true);
@@ -1176,6 +1223,13 @@ public class StatementImpl implements JdbcStatement {
             } catch (CJTimeoutException | OperationCancelledException e) {
                 throw SQLExceptionsMapping.translateException(e, this.exceptionInterceptor);
 
+            } catch (CJException e) {
+                if (cachedMetaData != null) {
+                    // the cached metadata may be the cause, e.g., if it doesn't match the results anymore after the table was altered
+                    locallyScopedConn.removeCachedMetaData(sql);
+                }
+                throw e;
+
             } finally {
                 this.query.getStatementExecuting().set(false);
 
@@ -1253,22 +1307,19 @@ public class StatementImpl implements JdbcStatement {
 
             resetCancelledState();
 
-            char firstStatementChar = QueryInfo.firstCharOfStatementUc(sql, this.session.getServerSession().isNoBackslashEscapesSet());
-            if (!isNonResultSetProducingQuery(sql)) {
+            QueryDescriptor queryDescriptor = QueryDescriptor.forSql(sql, this.session.getServerSession().isNoBackslashEscapesSet());
+            if (!isNonResultSetProducingQuery(queryDescriptor)) {
                 throw SQLError.createSQLException(Messages.getString("Statement.46"), "01S03", getExceptionInterceptor());
             }
 
             this.retrieveGeneratedKeys = returnGeneratedKeys;
 
-            this.lastQueryIsOnDupKeyUpdate = returnGeneratedKeys && firstStatementChar == 'I' && containsOnDuplicateKeyInString(sql);
+            this.lastQueryIsOnDupKeyUpdate = returnGeneratedKeys && queryDescriptor.getFirstStmtChar() == 'I' && containsOnDuplicateKeyInString(sql);
 
             ResultSetInternalMethods rs = null;
 
-            if (this.doEscapeProcessing) {
-                Object escapedSqlResult = EscapeProcessor.escapeSQL(sql, this.session.getServerSession().getSessionTimeZone(),
-                        this.session.getServerSession().getCapabilities().serverSupportsFracSecs(), this.session.getServerSession().isServerTruncatesFracSecs(),
-                        getExceptionInterceptor());
-                sql = escapedSqlResult instanceof String ? (String) escapedSqlResult : ((EscapeProcessorResult) escapedSqlResult).escapedSql;
+            if (this.doEscapeProcessing && queryDescriptor.containsEscapes()) {
+                sql = escapeSQL(sql);
             }
 
             if (locallyScopedConn.isReadOnly(false)) {
@@ -1317,6 +1368,8 @@ public class StatementImpl implements JdbcStatement {
                     locallyScopedConn.setDatabase(oldDb);
                 }
 
+                invalidateDatabaseMetadataIfDdl(sql, queryDescriptor);
+
                 if (!isBatch) {
                     this.query.getStatementExecuting().set(false);
                 }
@@ -1324,7 +1377,7 @@ public class StatementImpl implements JdbcStatement {
 
             this.results = rs;
 
-            rs.setFirstCharOfQuery(firstStatementChar);
+            rs.setFirstCharOfQuery(queryDescriptor.getFirstStmtChar());
 
             this.updateCount = rs.getUpdateCount();
 
@@ -2053,6 +2106,22 @@ public class StatementImpl implements JdbcStatement {
         return this.exceptionInterceptor;
     }
 
+    /**
+     * Runs the given SQL through the {@link EscapeProcessor}.
+     * 
+     * @param sql
+     *            the SQL to process
+     * @return the SQL after it has been escape processed
+     * @throws SQLException
+     *             if an error occurs
+     */
+    private String escapeSQL(String sql) throws SQLException {
+        Object escapedSqlResult = EscapeProcessor.escapeSQL(sql, this.session.getServerSession().getSessionTimeZone(),
+                this.session.getServerSession().getCapabilities().serverSupportsFracSecs(), this.session.getServerSession().isServerTruncatesFracSecs(),
+                getExceptionInterceptor());
+        return escapedSqlResult instanceof String ? (String) escapedSqlResult : ((EscapeProcessorResult) escapedSqlResult).escapedSql;
+    }
+
     protected boolean containsOnDuplicateKeyInString(String sql) {
         return (!this.dontCheckOnDuplicateKeyUpdateInSQL || this.rewriteBatchedStatements.getValue())
                 && QueryInfo.containsOnDuplicateKeyUpdateClause(sql, this.session.getServerSession().isNoBackslashEscapesSet());
@@ -75,37 +75,6 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
     private long primaryHostFailTimeMillis = 0;
     private long queriesIssuedSinceFailover = 0;
 
-    /**
-     * Proxy class to intercept and deal with errors that may occur in any object bound to the current connection.
-     * Additionally intercepts query executions and triggers an execution count on the outer class.
-     */
-    class FailoverJdbcInterfaceProxy extends JdbcInterfaceProxy {
-        FailoverJdbcInterfaceProxy(Object toInvokeOn) {
-            super(toInvokeOn);
-        }
-
-        @SuppressWarnings("synthetic-access")
-        @Override
-        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-            String methodName = method.getName();
-
-            boolean isExecute = methodName.startsWith("execute");
-
-            if (FailoverConnectionProxy.this.connectedToSecondaryHost() && isExecute) {
-                FailoverConnectionProxy.this.incrementQueriesIssuedSinceFailover();
-            }
-
-            Object result = super.invoke(proxy, method, args);
-
-            if (FailoverConnectionProxy.this.explicitlyAutoCommit && isExecute && readyToFallBackToPrimaryHost()) {
-                // Fall back to primary host at transaction boundary
-                fallBackToPrimaryIfAvailable();
-            }
-
-            return result;
-        }
-    }
-
     public static JdbcConnection createProxyInstance(ConnectionUrl connectionUrl) throws SQLException {
         FailoverConnectionProxy connProxy = new FailoverConnectionProxy(connectionUrl);
 
@@ -140,12 +109,23 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
     }
 
     /**
-     * Gets locally bound instances of FailoverJdbcInterfaceProxy.
-     * 
+     * Counts the queries issued since failing over, when connected to a secondary host.
      */
     @Override
-    JdbcInterfaceProxy getNewJdbcInterfaceProxy(Object toProxy) {
-        return new FailoverJdbcInterfaceProxy(toProxy);
+    void beforeStatementExecute() {
+        if (connectedToSecondaryHost()) {
+            incrementQueriesIssuedSinceFailover();
+        }
+    }
+
+    /**
+     * Falls back to the primary host at transaction boundaries.
+     */
+    @Override
+    void afterStatementExecute() {
+        if (this.explicitlyAutoCommit && readyToFallBackToPrimaryHost()) {
+            fallBackToPrimaryIfAvailable();
+        }
     }
 
     /*
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of the latency and of the number of statements in progress for each host of a load-balanced URL, as observed by all the connections to that
+ * URL in this JVM.
+ * 
+ * Statistics are updated without locking, so that recording them doesn't serialize connections sharing a host.
+ */
+class HostLatencyTracker {
+    private static final ConcurrentHashMap<String, HostLatencyTracker> trackersByUrl = new ConcurrentHashMap<>();
+
+    /** Weight of a new sample in the moving average, as a right shift: each sample accounts for 1/8. */
+    private static final int EWMA_WEIGHT_SHIFT = 3;
+    /** Period without samples after which the average latency of a host is halved, so that hosts that were slow get probed again. */
+    static final long DECAY_PERIOD_NANOS = 10_000_000_000L;
+
+    /**
+     * Latency statistics of a single host.
+     */
+    static class HostStats {
+        private final AtomicLong averageNanos = new AtomicLong();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile long lastSampleNanos;
+
+        /**
+         * Notifies that a statement started executing on this host.
+         */
+        void begin() {
+            this.inFlight.incrementAndGet();
+        }
+
+        /**
+         * Notifies that a statement that started executing on this host is done.
+         * 
+         * @param elapsedNanos
+         *            the time it took to execute, or a negative value if it shouldn't be accounted for, e.g., because it failed
+         */
+        void end(long elapsedNanos) {
+            this.inFlight.decrementAndGet();
+            if (elapsedNanos >= 0) {
+                record(elapsedNanos, System.nanoTime());
+            }
+        }
+
+        void record(long elapsedNanos, long now) {
+            long average;
+            long newAverage;
+            do {
+                average = this.averageNanos.get();
+                newAverage = average == 0 ? Math.max(elapsedNanos, 1) : Math.max(average + ((elapsedNanos - average) >> EWMA_WEIGHT_SHIFT), 1);
+            } while (!this.averageNanos.compareAndSet(average, newAverage));
+            this.lastSampleNanos = now;
+        }
+
+        /**
+         * Returns the moving average of the latency of this host, decayed if no samples were recorded recently.
+         * 
+         * @param now
+         *            the current value of {@link System#nanoTime()}
+         * @return the average latency in nanoseconds, or 0 if unknown
+         */
+        long getAverageNanos(long now) {
+            long average = this.averageNanos.get();
+            if (average == 0) {
+                return 0;
+            }
+            long periods = (now - this.lastSampleNanos) / DECAY_PERIOD_NANOS;
+            return periods <= 0 ? average : periods >= 63 ? 0 : average >> periods;
+        }
+
+        int getInFlight() {
+            return this.inFlight.get();
+        }
+
+        /**
+         * Returns the expected cost of sending one more statement to this host: its average latency weighted by the statements already in progress on it.
+         * Hosts without statistics have the lowest cost, so that they get probed.
+         * 
+         * @param now
+         *            the current value of {@link System#nanoTime()}
+         * @return the cost
+         */
+        long getCost(long now) {
+            long average = getAverageNanos(now);
+            long load = Math.max(getInFlight(), 0) + 1;
+            return average > Long.MAX_VALUE / load ? Long.MAX_VALUE : average * load;
+        }
+    }
+
+    private final ConcurrentHashMap<String, HostStats> statsByHost = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the tracker shared by the connections with the given URL.
+     * 
+     * @param url
+     *            the connection URL
+     * @return the tracker
+     */
+    static HostLatencyTracker getInstance(String url) {
+        return trackersByUrl.computeIfAbsent(url, k -> new HostLatencyTracker());
+    }
+
+    /**
+     * Returns the statistics of the given host.
+     * 
+     * @param hostPortPair
+     *            the host, in "host:port" form
+     * @return the statistics
+     */
+    HostStats getStats(String hostPortPair) {
+        HostStats stats = this.statsByHost.get(hostPortPair);
+        return stats != null ? stats : this.statsByHost.computeIfAbsent(hostPortPair, k -> new HostStats());
+    }
+
+    /**
+     * Forgets the latency of the given host, e.g., after a connection to it failed. Statements still in progress are kept track of.
+     * 
+     * @param hostPortPair
+     *            the host, in "host:port" form
+     */
+    void reset(String hostPortPair) {
+        HostStats stats = this.statsByHost.get(hostPortPair);
+        if (stats != null) {
+            stats.averageNanos.set(0);
+        }
+    }
+}
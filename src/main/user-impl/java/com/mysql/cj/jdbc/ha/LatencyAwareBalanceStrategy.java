@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.lang.reflect.InvocationHandler;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.jdbc.ConnectionImpl;
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.exceptions.SQLError;
+
+/**
+ * Balance strategy that picks two random hosts and routes to the one with the lowest latency, weighted by the statements already in progress on it (the
+ * "power of two choices").
+ * 
+ * Latencies and in-progress statements are tracked across all the load-balanced connections with the same URL in the JVM, rather than per connection, so that
+ * the choice reflects the actual load of each host. Comparing two random hosts instead of always taking the best one keeps connections from all moving to the
+ * same host at once.
+ */
+public class LatencyAwareBalanceStrategy implements BalanceStrategy {
+
+    public LatencyAwareBalanceStrategy() {
+    }
+
+    @Override
+    public ConnectionImpl pickConnection(InvocationHandler proxy, List<String> configuredHosts, Map<String, JdbcConnection> liveConnections,
+            long[] responseTimes, int numRetries) throws SQLException {
+        LoadBalancedConnectionProxy lbProxy = (LoadBalancedConnectionProxy) proxy;
+        HostLatencyTracker tracker = lbProxy.getHostLatencyTracker();
+
+        List<String> allowList = getAllowList(configuredHosts, lbProxy.getGlobalBlocklist());
+
+        SQLException ex = null;
+
+        for (int attempts = 0; attempts < numRetries;) {
+            if (allowList.isEmpty()) {
+                throw SQLError.createSQLException(Messages.getString("RandomBalanceStrategy.0"), null);
+            }
+
+            String host = pickHost(tracker, allowList);
+
+            ConnectionImpl conn = (ConnectionImpl) liveConnections.get(host);
+
+            if (conn == null) {
+                try {
+                    conn = lbProxy.createConnectionForHost(host);
+                } catch (SQLException sqlEx) {
+                    ex = sqlEx;
+
+                    if (lbProxy.shouldExceptionTriggerConnectionSwitch(sqlEx)) {
+                        // exclude this host from being picked again
+                        allowList.remove(host);
+                        lbProxy.addToGlobalBlocklist(host);
+
+                        if (allowList.isEmpty()) {
+                            attempts++;
+                            try {
+                                Thread.sleep(250);
+                            } catch (InterruptedException e) {
+                            }
+
+                            // start fresh
+                            allowList = getAllowList(configuredHosts, lbProxy.getGlobalBlocklist());
+                        }
+
+                        continue;
+                    }
+
+                    throw sqlEx;
+                }
+            }
+
+            return conn;
+        }
+
+        if (ex != null) {
+            throw ex;
+        }
+
+        return null; // we won't get here, compiler can't tell
+    }
+
+    /**
+     * Picks the cheapest of two distinct random hosts.
+     * 
+     * @param tracker
+     *            the latency tracker
+     * @param hosts
+     *            the hosts to choose from, at least one
+     * @return the host picked
+     */
+    static String pickHost(HostLatencyTracker tracker, List<String> hosts) {
+        int numHosts = hosts.size();
+        if (numHosts == 1) {
+            return hosts.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(numHosts);
+        int second = random.nextInt(numHosts - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        long now = System.nanoTime();
+        long firstCost = tracker.getStats(hosts.get(first)).getCost(now);
+        long secondCost = tracker.getStats(hosts.get(second)).getCost(now);
+        return hosts.get(secondCost < firstCost ? second : first);
+    }
+
+    private static List<String> getAllowList(List<String> configuredHosts, Map<String, Long> blockList) {
+        List<String> allowList = new ArrayList<>(configuredHosts.size());
+        for (String host : configuredHosts) {
+            if (!blockList.containsKey(host)) {
+                allowList.add(host);
+            }
+        }
+        return allowList;
+    }
+}
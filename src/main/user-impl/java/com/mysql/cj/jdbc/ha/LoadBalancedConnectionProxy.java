@@ -92,6 +92,10 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
 
     private int retriesAllDown;
     private BalanceStrategy balancer;
+    private HostLatencyTracker latencyTracker = null;
+    // host statistics of the statement being executed, if tracked
+    private HostLatencyTracker.HostStats executingOn = null;
+    private long executeStartTime = 0;
 
     private int globalBlocklistTimeout = 0;
     private static Map<String, Long> globalBlocklist = new HashMap<>();
@@ -206,6 +210,9 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
                 case "serverAffinity":
                     this.balancer = new ServerAffinityStrategy(props.getProperty(PropertyKey.serverAffinityOrder.getKeyName(), null));
                     break;
+                case "latencyAware":
+                    this.balancer = new LatencyAwareBalanceStrategy();
+                    break;
                 default:
                     this.balancer = (BalanceStrategy) Class.forName(strategy).newInstance();
             }
@@ -213,6 +220,9 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
             throw SQLError.createSQLException(Messages.getString("InvalidLoadBalanceStrategy", new Object[] { strategy }),
                     MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, t, null);
         }
+        if (this.balancer instanceof LatencyAwareBalanceStrategy) {
+            this.latencyTracker = HostLatencyTracker.getInstance(connectionUrl.getDatabaseUrl());
+        }
 
         String autoCommitSwapThresholdAsString = props.getProperty(PropertyKey.loadBalanceAutoCommitStatementThreshold.getKeyName(), "0");
         try {
@@ -328,6 +338,9 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
                 this.responseTimes[hostIndex] = 0;
             }
         }
+        if (mappedHost != null && this.latencyTracker != null) {
+            this.latencyTracker.reset((String) mappedHost);
+        }
     }
 
     /**
@@ -458,6 +471,8 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
      * Closes all live connections.
      */
     private synchronized void closeAllConnections() {
+        endStatementExecuteTracking(false);
+
         // close all underlying connections
         for (Connection c : this.liveConnections.values()) {
             try {
@@ -606,6 +621,54 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
         return result;
     }
 
+    /**
+     * Starts keeping track of the statement about to be executed on the current host, if the balance strategy relies on host latencies.
+     */
+    @Override
+    synchronized void beforeStatementExecute() {
+        if (this.latencyTracker != null && this.executingOn == null) {
+            String host = this.connectionsToHostsMap.get(this.currentConnection);
+            if (host != null) {
+                this.executingOn = this.latencyTracker.getStats(host);
+                this.executingOn.begin();
+                this.executeStartTime = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Records the latency of the statement executed on the current host.
+     */
+    @Override
+    synchronized void afterStatementExecute() {
+        endStatementExecuteTracking(true);
+    }
+
+    /**
+     * Stops keeping track of the statement being executed, if any, before dealing with the exception thrown.
+     */
+    @Override
+    synchronized void dealWithJdbcInterfaceException(Throwable t) throws SQLException {
+        endStatementExecuteTracking(false);
+        super.dealWithJdbcInterfaceException(t);
+    }
+
+    private synchronized void endStatementExecuteTracking(boolean succeeded) {
+        if (this.executingOn != null) {
+            this.executingOn.end(succeeded ? System.nanoTime() - this.executeStartTime : -1);
+            this.executingOn = null;
+        }
+    }
+
+    /**
+     * Returns the latency tracker shared by the connections with the same URL, if the balance strategy relies on host latencies.
+     * 
+     * @return the tracker, or null if host latencies are not tracked
+     */
+    HostLatencyTracker getHostLatencyTracker() {
+        return this.latencyTracker;
+    }
+
     /**
      * Pings live connections.
      * 
@@ -0,0 +1,1277 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+
+import com.mysql.cj.jdbc.JdbcPreparedStatement;
+
+/**
+ * A callable statement created by a multi-host connection.
+ * 
+ * @see MultiHostStatement
+ */
+class MultiHostCallableStatement extends MultiHostPreparedStatement implements CallableStatement {
+    private final CallableStatement callableStatement;
+
+    <S extends JdbcPreparedStatement & CallableStatement> MultiHostCallableStatement(MultiHostConnectionProxy proxy, S callableStatement) {
+        super(proxy, callableStatement);
+        this.callableStatement = callableStatement;
+    }
+
+    @Override
+    public Array getArray(int i) throws SQLException {
+        try {
+            return (Array) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(Array.class, this.callableStatement.getArray(i));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Array getArray(String parameterName) throws SQLException {
+        try {
+            return (Array) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(Array.class, this.callableStatement.getArray(parameterName));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int parameterIndex) throws SQLException {
+        try {
+            return this.callableStatement.getBigDecimal(parameterIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String parameterName) throws SQLException {
+        try {
+            return this.callableStatement.getBigDecimal(parameterName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Deprecated
+    @Override
+    public BigDecimal getBigDecimal(int parameterIndex, int scale) throws SQLException {
+        try {
+            return this.callableStatement.getBigDecimal(parameterIndex, scale);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Blob getBlob(int parameterIndex) throws SQLException {
+        try {
+            return (Blob) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(Blob.class, this.callableStatement.getBlob(parameterIndex));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Blob getBlob(String parameterName) throws SQLException {
+        try {
+            return (Blob) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(Blob.class, this.callableStatement.getBlob(parameterName));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean getBoolean(int parameterIndex) throws SQLException {
+        try {
+            return this.callableStatement.getBoolean(parameterIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean getBoolean(String parameterName) throws SQLException {
+        try {
+            return this.callableStatement.getBoolean(parameterName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public byte getByte(int parameterIndex) throws SQLException {
+        try {
+            return this.callableStatement.getByte(parameterIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public byte getByte(String parameterName) throws SQLException {
+        try {
+            return this.callableStatement.getByte(parameterName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public byte[] getBytes(int parameterIndex) throws SQLException {
+        try {
+            return this.callableStatement.getBytes(parameterIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public byte[] getBytes(String parameterName) throws SQLException {
+        try {
+            return this.callableStatement.getBytes(parameterName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Reader getCharacterStream(int parameterIndex) throws SQLException {
+        try {
+            return this.callableStatement.getCharacterStream(parameterIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Reader getCharacterStream(String parameterName) throws SQLException {
+        try {
+            return this.callableStatement.getCharacterStream(parameterName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Clob getClob(int parameterIndex) throws SQLException {
+        try {
+            return (Clob) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(Clob.class, this.callableStatement.getClob(parameterIndex));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Clob getClob(String parameterName) throws SQLException {
+        try {
+            return (Clob) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(Clob.class, this.callableStatement.getClob(parameterName));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Date getDate(int parameterIndex) throws SQLException {
+        try {
+            return this.callableStatement.getDate(parameterIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Date getDate(String parameterName) throws SQLException {
+        try {
+            return this.callableStatement.getDate(parameterName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Date getDate(int parameterIndex, Calendar cal) throws SQLException {
+        try {
+            return this.callableStatement.getDate(parameterIndex, cal);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Date getDate(String parameterName, Calendar cal) throws SQLException {
+        try {
+            return this.callableStatement.getDate(parameterName, cal);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public double getDouble(int parameterIndex) throws SQLException {
+        try {
+            return this.callableStatement.getDouble(parameterIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public double getDouble(String parameterName) throws SQLException {
+        try {
+            return this.callableStatement.getDouble(parameterName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public float getFloat(int parameterIndex) throws SQLException {
+        try {
+            return this.callableStatement.getFloat(parameterIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public float getFloat(String parameterName) throws SQLException {
+        try {
+            return this.callableStatement.getFloat(parameterName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getInt(int parameterIndex) throws SQLException {
+        try {
+            return this.callableStatement.getInt(parameterIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getInt(String parameterName) throws SQLException {
+        try {
+            return this.callableStatement.getInt(parameterName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public long getLong(int parameterIndex) throws SQLException {
+        try {
+            return this.callableStatement.getLong(parameterIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public long getLong(String parameterName) throws SQLException {
+        try {
+            return this.callableStatement.getLong(parameterName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Reader getNCharacterStream(int parameterIndex) throws SQLException {
+        try {
+            return this.callableStatement.getNCharacterStream(parameterIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Reader getNCharacterStream(String parameterName) throws SQLException {
+        try {
+            return this.callableStatement.getNCharacterStream(parameterName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public NClob getNClob(int parameterIndex) throws SQLException {
+        try {
+            return (NClob) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(NClob.class, this.callableStatement.getNClob(parameterIndex));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public NClob getNClob(String parameterName) throws SQLException {
+        try {
+            return (NClob) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(NClob.class, this.callableStatement.getNClob(parameterName));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public String getNString(int parameterIndex) throws SQLException {
+        try {
+            return this.callableStatement.getNString(parameterIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public String getNString(String parameterName) throws SQLException {
+        try {
+            return this.callableStatement.getNString(parameterName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Object getObject(int parameterIndex) throws SQLException {
+        try {
+            return this.callableStatement.getObject(parameterIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Object getObject(String parameterName) throws SQLException {
+        try {
+            return this.callableStatement.getObject(parameterName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public <T> T getObject(int parameterIndex, Class<T> type) throws SQLException {
+        try {
+            return this.callableStatement.getObject(parameterIndex, type);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Object getObject(int parameterIndex, Map<String, Class<?>> map) throws SQLException {
+        try {
+            return this.callableStatement.getObject(parameterIndex, map);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public <T> T getObject(String parameterName, Class<T> type) throws SQLException {
+        try {
+            return this.callableStatement.getObject(parameterName, type);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Object getObject(String parameterName, Map<String, Class<?>> map) throws SQLException {
+        try {
+            return this.callableStatement.getObject(parameterName, map);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Ref getRef(int parameterIndex) throws SQLException {
+        try {
+            return (Ref) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(Ref.class, this.callableStatement.getRef(parameterIndex));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Ref getRef(String parameterName) throws SQLException {
+        try {
+            return (Ref) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(Ref.class, this.callableStatement.getRef(parameterName));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public RowId getRowId(int parameterIndex) throws SQLException {
+        try {
+            return (RowId) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(RowId.class, this.callableStatement.getRowId(parameterIndex));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public RowId getRowId(String parameterName) throws SQLException {
+        try {
+            return (RowId) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(RowId.class, this.callableStatement.getRowId(parameterName));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public SQLXML getSQLXML(int parameterIndex) throws SQLException {
+        try {
+            return (SQLXML) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(SQLXML.class, this.callableStatement.getSQLXML(parameterIndex));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public SQLXML getSQLXML(String parameterName) throws SQLException {
+        try {
+            return (SQLXML) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(SQLXML.class, this.callableStatement.getSQLXML(parameterName));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public short getShort(int parameterIndex) throws SQLException {
+        try {
+            return this.callableStatement.getShort(parameterIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public short getShort(String parameterName) throws SQLException {
+        try {
+            return this.callableStatement.getShort(parameterName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public String getString(int parameterIndex) throws SQLException {
+        try {
+            return this.callableStatement.getString(parameterIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public String getString(String parameterName) throws SQLException {
+        try {
+            return this.callableStatement.getString(parameterName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Time getTime(int parameterIndex) throws SQLException {
+        try {
+            return this.callableStatement.getTime(parameterIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Time getTime(String parameterName) throws SQLException {
+        try {
+            return this.callableStatement.getTime(parameterName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Time getTime(int parameterIndex, Calendar cal) throws SQLException {
+        try {
+            return this.callableStatement.getTime(parameterIndex, cal);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Time getTime(String parameterName, Calendar cal) throws SQLException {
+        try {
+            return this.callableStatement.getTime(parameterName, cal);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(int parameterIndex) throws SQLException {
+        try {
+            return this.callableStatement.getTimestamp(parameterIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(String parameterName) throws SQLException {
+        try {
+            return this.callableStatement.getTimestamp(parameterName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(int parameterIndex, Calendar cal) throws SQLException {
+        try {
+            return this.callableStatement.getTimestamp(parameterIndex, cal);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(String parameterName, Calendar cal) throws SQLException {
+        try {
+            return this.callableStatement.getTimestamp(parameterName, cal);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public URL getURL(int parameterIndex) throws SQLException {
+        try {
+            return this.callableStatement.getURL(parameterIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public URL getURL(String parameterName) throws SQLException {
+        try {
+            return this.callableStatement.getURL(parameterName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void registerOutParameter(int parameterIndex, int sqlType) throws SQLException {
+        try {
+            this.callableStatement.registerOutParameter(parameterIndex, sqlType);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void registerOutParameter(int parameterIndex, SQLType sqlType) throws SQLException {
+        try {
+            this.callableStatement.registerOutParameter(parameterIndex, sqlType);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void registerOutParameter(String parameterName, int sqlType) throws SQLException {
+        try {
+            this.callableStatement.registerOutParameter(parameterName, sqlType);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void registerOutParameter(String parameterName, SQLType sqlType) throws SQLException {
+        try {
+            this.callableStatement.registerOutParameter(parameterName, sqlType);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void registerOutParameter(int parameterIndex, int sqlType, int scale) throws SQLException {
+        try {
+            this.callableStatement.registerOutParameter(parameterIndex, sqlType, scale);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void registerOutParameter(int parameterIndex, int sqlType, String typeName) throws SQLException {
+        try {
+            this.callableStatement.registerOutParameter(parameterIndex, sqlType, typeName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void registerOutParameter(int parameterIndex, SQLType sqlType, int scale) throws SQLException {
+        try {
+            this.callableStatement.registerOutParameter(parameterIndex, sqlType, scale);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void registerOutParameter(int parameterIndex, SQLType sqlType, String typeName) throws SQLException {
+        try {
+            this.callableStatement.registerOutParameter(parameterIndex, sqlType, typeName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void registerOutParameter(String parameterName, int sqlType, int scale) throws SQLException {
+        try {
+            this.callableStatement.registerOutParameter(parameterName, sqlType, scale);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void registerOutParameter(String parameterName, int sqlType, String typeName) throws SQLException {
+        try {
+            this.callableStatement.registerOutParameter(parameterName, sqlType, typeName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void registerOutParameter(String parameterName, SQLType sqlType, int scale) throws SQLException {
+        try {
+            this.callableStatement.registerOutParameter(parameterName, sqlType, scale);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void registerOutParameter(String parameterName, SQLType sqlType, String typeName) throws SQLException {
+        try {
+            this.callableStatement.registerOutParameter(parameterName, sqlType, typeName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setAsciiStream(String parameterName, InputStream x) throws SQLException {
+        try {
+            this.callableStatement.setAsciiStream(parameterName, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setAsciiStream(String parameterName, InputStream x, int length) throws SQLException {
+        try {
+            this.callableStatement.setAsciiStream(parameterName, x, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setAsciiStream(String parameterName, InputStream x, long length) throws SQLException {
+        try {
+            this.callableStatement.setAsciiStream(parameterName, x, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setBigDecimal(String parameterName, BigDecimal x) throws SQLException {
+        try {
+            this.callableStatement.setBigDecimal(parameterName, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setBinaryStream(String parameterName, InputStream x) throws SQLException {
+        try {
+            this.callableStatement.setBinaryStream(parameterName, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setBinaryStream(String parameterName, InputStream x, int length) throws SQLException {
+        try {
+            this.callableStatement.setBinaryStream(parameterName, x, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setBinaryStream(String parameterName, InputStream x, long length) throws SQLException {
+        try {
+            this.callableStatement.setBinaryStream(parameterName, x, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setBlob(String parameterName, InputStream inputStream) throws SQLException {
+        try {
+            this.callableStatement.setBlob(parameterName, inputStream);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setBlob(String parameterName, Blob x) throws SQLException {
+        try {
+            this.callableStatement.setBlob(parameterName, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setBlob(String parameterName, InputStream inputStream, long length) throws SQLException {
+        try {
+            this.callableStatement.setBlob(parameterName, inputStream, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setBoolean(String parameterName, boolean x) throws SQLException {
+        try {
+            this.callableStatement.setBoolean(parameterName, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setByte(String parameterName, byte x) throws SQLException {
+        try {
+            this.callableStatement.setByte(parameterName, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setBytes(String parameterName, byte[] x) throws SQLException {
+        try {
+            this.callableStatement.setBytes(parameterName, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setCharacterStream(String parameterName, Reader reader) throws SQLException {
+        try {
+            this.callableStatement.setCharacterStream(parameterName, reader);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setCharacterStream(String parameterName, Reader reader, int length) throws SQLException {
+        try {
+            this.callableStatement.setCharacterStream(parameterName, reader, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setCharacterStream(String parameterName, Reader reader, long length) throws SQLException {
+        try {
+            this.callableStatement.setCharacterStream(parameterName, reader, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setClob(String parameterName, Reader reader) throws SQLException {
+        try {
+            this.callableStatement.setClob(parameterName, reader);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setClob(String parameterName, Clob x) throws SQLException {
+        try {
+            this.callableStatement.setClob(parameterName, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setClob(String parameterName, Reader reader, long length) throws SQLException {
+        try {
+            this.callableStatement.setClob(parameterName, reader, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setDate(String parameterName, Date x) throws SQLException {
+        try {
+            this.callableStatement.setDate(parameterName, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setDate(String parameterName, Date x, Calendar cal) throws SQLException {
+        try {
+            this.callableStatement.setDate(parameterName, x, cal);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setDouble(String parameterName, double x) throws SQLException {
+        try {
+            this.callableStatement.setDouble(parameterName, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setFloat(String parameterName, float x) throws SQLException {
+        try {
+            this.callableStatement.setFloat(parameterName, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setInt(String parameterName, int x) throws SQLException {
+        try {
+            this.callableStatement.setInt(parameterName, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setLong(String parameterName, long x) throws SQLException {
+        try {
+            this.callableStatement.setLong(parameterName, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setNCharacterStream(String parameterName, Reader value) throws SQLException {
+        try {
+            this.callableStatement.setNCharacterStream(parameterName, value);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setNCharacterStream(String parameterName, Reader value, long length) throws SQLException {
+        try {
+            this.callableStatement.setNCharacterStream(parameterName, value, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setNClob(String parameterName, Reader reader) throws SQLException {
+        try {
+            this.callableStatement.setNClob(parameterName, reader);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setNClob(String parameterName, NClob value) throws SQLException {
+        try {
+            this.callableStatement.setNClob(parameterName, value);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setNClob(String parameterName, Reader reader, long length) throws SQLException {
+        try {
+            this.callableStatement.setNClob(parameterName, reader, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setNString(String parameterName, String value) throws SQLException {
+        try {
+            this.callableStatement.setNString(parameterName, value);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setNull(String parameterName, int sqlType) throws SQLException {
+        try {
+            this.callableStatement.setNull(parameterName, sqlType);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setNull(String parameterName, int sqlType, String typeName) throws SQLException {
+        try {
+            this.callableStatement.setNull(parameterName, sqlType, typeName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setObject(String parameterName, Object x) throws SQLException {
+        try {
+            this.callableStatement.setObject(parameterName, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setObject(String parameterName, Object x, int targetSqlType) throws SQLException {
+        try {
+            this.callableStatement.setObject(parameterName, x, targetSqlType);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setObject(String parameterName, Object x, SQLType targetSqlType) throws SQLException {
+        try {
+            this.callableStatement.setObject(parameterName, x, targetSqlType);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setObject(String parameterName, Object x, int targetSqlType, int scale) throws SQLException {
+        try {
+            this.callableStatement.setObject(parameterName, x, targetSqlType, scale);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setObject(String parameterName, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
+        try {
+            this.callableStatement.setObject(parameterName, x, targetSqlType, scaleOrLength);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setRowId(String parameterName, RowId x) throws SQLException {
+        try {
+            this.callableStatement.setRowId(parameterName, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setSQLXML(String parameterName, SQLXML xmlObject) throws SQLException {
+        try {
+            this.callableStatement.setSQLXML(parameterName, xmlObject);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setShort(String parameterName, short x) throws SQLException {
+        try {
+            this.callableStatement.setShort(parameterName, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setString(String parameterName, String x) throws SQLException {
+        try {
+            this.callableStatement.setString(parameterName, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setTime(String parameterName, Time x) throws SQLException {
+        try {
+            this.callableStatement.setTime(parameterName, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setTime(String parameterName, Time x, Calendar cal) throws SQLException {
+        try {
+            this.callableStatement.setTime(parameterName, x, cal);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setTimestamp(String parameterName, Timestamp x) throws SQLException {
+        try {
+            this.callableStatement.setTimestamp(parameterName, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setTimestamp(String parameterName, Timestamp x, Calendar cal) throws SQLException {
+        try {
+            this.callableStatement.setTimestamp(parameterName, x, cal);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setURL(String parameterName, URL val) throws SQLException {
+        try {
+            this.callableStatement.setURL(parameterName, val);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        try {
+            return this.callableStatement.wasNull();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+}
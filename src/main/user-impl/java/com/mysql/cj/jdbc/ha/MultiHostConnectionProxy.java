@@ -43,8 +43,17 @@ import com.mysql.cj.conf.ConnectionUrl;
 import com.mysql.cj.conf.HostInfo;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.conf.RuntimeProperty;
+import com.mysql.cj.jdbc.CallableStatement;
+import com.mysql.cj.jdbc.ClientPreparedStatement;
 import com.mysql.cj.jdbc.ConnectionImpl;
 import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.JdbcPreparedStatement;
+import com.mysql.cj.jdbc.JdbcStatement;
+import com.mysql.cj.jdbc.ServerPreparedStatement;
+import com.mysql.cj.jdbc.StatementImpl;
+import com.mysql.cj.jdbc.result.ResultSetImpl;
+import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
+import com.mysql.cj.jdbc.result.UpdatableResultSet;
 import com.mysql.cj.util.Util;
 
 /**
@@ -64,6 +73,7 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
     private static final String METHOD_GET_DATABASE = "getDatabase";
     private static final String METHOD_GET_TRANSACTION_ISOLATION = "getTransactionIsolation";
     private static final String METHOD_GET_SESSION_MAX_ROWS = "getSessionMaxRows";
+    private static final String METHOD_EXECUTE_PREFIX = "execute";
 
     List<HostInfo> hostsList;
     protected ConnectionUrl connectionUrl;
@@ -100,18 +110,25 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
                 return args[0].equals(this);
             }
 
-            synchronized (MultiHostConnectionProxy.this) {
-                Object result = null;
+            boolean isExecute = method.getName().startsWith(METHOD_EXECUTE_PREFIX);
+            if (isExecute) {
+                beforeStatementExecute();
+            }
 
+            Object result = null;
+            synchronized (MultiHostConnectionProxy.this) {
                 try {
                     result = method.invoke(this.invokeOn, args);
                     result = proxyIfReturnTypeIsJdbcInterface(method.getReturnType(), result);
                 } catch (InvocationTargetException e) {
                     dealWithInvocationException(e);
                 }
+            }
 
-                return result;
+            if (isExecute) {
+                afterStatementExecute();
             }
+            return result;
         }
     }
 
@@ -236,6 +253,19 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
         if (toProxy != null) {
             if (Util.isJdbcInterface(returnType)) {
                 Class<?> toProxyClass = toProxy.getClass();
+                // Statements and result sets are wrapped in statically typed delegates, these being the objects that take most of the calls.
+                if (toProxyClass == ResultSetImpl.class || toProxyClass == UpdatableResultSet.class) {
+                    return new MultiHostResultSet(this, (ResultSetInternalMethods) toProxy);
+                }
+                if (toProxyClass == ClientPreparedStatement.class || toProxyClass == ServerPreparedStatement.class) {
+                    return new MultiHostPreparedStatement(this, (JdbcPreparedStatement) toProxy);
+                }
+                if (toProxyClass == CallableStatement.class) {
+                    return new MultiHostCallableStatement(this, (CallableStatement) toProxy);
+                }
+                if (toProxyClass == StatementImpl.class) {
+                    return new MultiHostStatement(this, (JdbcStatement) toProxy);
+                }
                 return Proxy.newProxyInstance(toProxyClass.getClassLoader(), Util.getImplementedInterfaces(toProxyClass), getNewJdbcInterfaceProxy(toProxy));
             }
         }
@@ -270,16 +300,58 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
         Throwable t = e.getTargetException();
 
         if (t != null) {
-            if (this.lastExceptionDealtWith != t && shouldExceptionTriggerConnectionSwitch(t)) {
-                invalidateCurrentConnection();
-                pickNewConnection();
-                this.lastExceptionDealtWith = t;
-            }
+            dealWithJdbcInterfaceException(t);
             throw t;
         }
         throw e;
     }
 
+    /**
+     * Deals with exceptions thrown by objects bound to the current connection, switching to a new connection if needed. The given exception must be rethrown
+     * by the caller afterwards.
+     * 
+     * @param t
+     *            The Throwable instance thrown by the wrapped object.
+     * @throws SQLException
+     *             if an error occurs while switching connections
+     */
+    synchronized void dealWithJdbcInterfaceException(Throwable t) throws SQLException {
+        if (this.lastExceptionDealtWith != t && shouldExceptionTriggerConnectionSwitch(t)) {
+            invalidateCurrentConnection();
+            pickNewConnection();
+            this.lastExceptionDealtWith = t;
+        }
+    }
+
+    /**
+     * Same as {@link #dealWithJdbcInterfaceException(Throwable)}, for methods that do not declare SQLException. Errors switching connections are wrapped in
+     * an unchecked exception.
+     * 
+     * @param t
+     *            The Throwable instance thrown by the wrapped object.
+     */
+    void dealWithJdbcInterfaceExceptionUnchecked(Throwable t) {
+        try {
+            dealWithJdbcInterfaceException(t);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Notifies that a statement bound to the current connection is about to execute a query. Subclasses can override this to keep track of executed queries.
+     */
+    void beforeStatementExecute() {
+        // Do nothing by default.
+    }
+
+    /**
+     * Notifies that a statement bound to the current connection executed a query successfully. Subclasses can override this to act on statement boundaries.
+     */
+    void afterStatementExecute() {
+        // Do nothing by default.
+    }
+
     /**
      * Checks if the given throwable should trigger a connection switch.
      * 
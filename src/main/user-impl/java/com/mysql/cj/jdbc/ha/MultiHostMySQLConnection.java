@@ -205,6 +205,11 @@ public class MultiHostMySQLConnection implements JdbcConnection {
         return getActiveMySQLConnection().getCachedMetaData(sql);
     }
 
+    @Override
+    public void removeCachedMetaData(String sql) {
+        getActiveMySQLConnection().removeCachedMetaData(sql);
+    }
+
     @Override
     public String getCatalog() throws SQLException {
         return getActiveMySQLConnection().getCatalog();
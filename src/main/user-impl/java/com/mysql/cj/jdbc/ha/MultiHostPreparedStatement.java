@@ -0,0 +1,771 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.QueryBindings;
+import com.mysql.cj.QueryInfo;
+import com.mysql.cj.jdbc.JdbcPreparedStatement;
+import com.mysql.cj.jdbc.ParameterBindings;
+
+/**
+ * A prepared statement created by a multi-host connection.
+ * 
+ * @see MultiHostStatement
+ */
+class MultiHostPreparedStatement extends MultiHostStatement implements JdbcPreparedStatement {
+    private final JdbcPreparedStatement preparedStatement;
+
+    MultiHostPreparedStatement(MultiHostConnectionProxy proxy, JdbcPreparedStatement preparedStatement) {
+        super(proxy, preparedStatement);
+        this.preparedStatement = preparedStatement;
+    }
+
+    @Override
+    public void addBatch() throws SQLException {
+        try {
+            this.preparedStatement.addBatch();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void clearParameters() throws SQLException {
+        try {
+            this.preparedStatement.clearParameters();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        this.thisAsProxy.beforeStatementExecute();
+        boolean result;
+        try {
+            result = this.preparedStatement.execute();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+        this.thisAsProxy.afterStatementExecute();
+        return result;
+    }
+
+    @Override
+    public long executeLargeUpdate() throws SQLException {
+        this.thisAsProxy.beforeStatementExecute();
+        long result;
+        try {
+            result = this.preparedStatement.executeLargeUpdate();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+        this.thisAsProxy.afterStatementExecute();
+        return result;
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        this.thisAsProxy.beforeStatementExecute();
+        ResultSet result;
+        try {
+            result = (ResultSet) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(ResultSet.class, this.preparedStatement.executeQuery());
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+        this.thisAsProxy.afterStatementExecute();
+        return result;
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+        this.thisAsProxy.beforeStatementExecute();
+        int result;
+        try {
+            result = this.preparedStatement.executeUpdate();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+        this.thisAsProxy.afterStatementExecute();
+        return result;
+    }
+
+    @Override
+    public byte[] getBytesRepresentation(int parameterIndex) throws SQLException {
+        try {
+            return this.preparedStatement.getBytesRepresentation(parameterIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        try {
+            return (ResultSetMetaData) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(ResultSetMetaData.class, this.preparedStatement.getMetaData());
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public ParameterBindings getParameterBindings() throws SQLException {
+        try {
+            return (ParameterBindings) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(ParameterBindings.class,
+                    this.preparedStatement.getParameterBindings());
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public ParameterMetaData getParameterMetaData() throws SQLException {
+        try {
+            return (ParameterMetaData) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(ParameterMetaData.class,
+                    this.preparedStatement.getParameterMetaData());
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public String getPreparedSql() {
+        try {
+            return this.preparedStatement.getPreparedSql();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public QueryBindings getQueryBindings() {
+        try {
+            return this.preparedStatement.getQueryBindings();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public QueryInfo getQueryInfo() {
+        try {
+            return this.preparedStatement.getQueryInfo();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean isNull(int paramIndex) throws SQLException {
+        try {
+            return this.preparedStatement.isNull(paramIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void realClose(boolean calledExplicitly, boolean closeOpenResults) throws SQLException {
+        try {
+            this.preparedStatement.realClose(calledExplicitly, closeOpenResults);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setArray(int i, Array x) throws SQLException {
+        try {
+            this.preparedStatement.setArray(i, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
+        try {
+            this.preparedStatement.setAsciiStream(parameterIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException {
+        try {
+            this.preparedStatement.setAsciiStream(parameterIndex, x, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x, long length) throws SQLException {
+        try {
+            this.preparedStatement.setAsciiStream(parameterIndex, x, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
+        try {
+            this.preparedStatement.setBigDecimal(parameterIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setBigInteger(int parameterIndex, BigInteger x) throws SQLException {
+        try {
+            this.preparedStatement.setBigInteger(parameterIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
+        try {
+            this.preparedStatement.setBinaryStream(parameterIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException {
+        try {
+            this.preparedStatement.setBinaryStream(parameterIndex, x, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x, long length) throws SQLException {
+        try {
+            this.preparedStatement.setBinaryStream(parameterIndex, x, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setBlob(int parameterIndex, InputStream inputStream) throws SQLException {
+        try {
+            this.preparedStatement.setBlob(parameterIndex, inputStream);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setBlob(int i, Blob x) throws SQLException {
+        try {
+            this.preparedStatement.setBlob(i, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setBlob(int parameterIndex, InputStream inputStream, long length) throws SQLException {
+        try {
+            this.preparedStatement.setBlob(parameterIndex, inputStream, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setBoolean(int parameterIndex, boolean x) throws SQLException {
+        try {
+            this.preparedStatement.setBoolean(parameterIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setByte(int parameterIndex, byte x) throws SQLException {
+        try {
+            this.preparedStatement.setByte(parameterIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setBytes(int parameterIndex, byte[] x) throws SQLException {
+        try {
+            this.preparedStatement.setBytes(parameterIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setBytes(int parameterIndex, byte[] x, boolean escapeIfNeeded) throws SQLException {
+        try {
+            this.preparedStatement.setBytes(parameterIndex, x, escapeIfNeeded);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader reader) throws SQLException {
+        try {
+            this.preparedStatement.setCharacterStream(parameterIndex, reader);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader reader, int length) throws SQLException {
+        try {
+            this.preparedStatement.setCharacterStream(parameterIndex, reader, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader reader, long length) throws SQLException {
+        try {
+            this.preparedStatement.setCharacterStream(parameterIndex, reader, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setClob(int parameterIndex, Reader reader) throws SQLException {
+        try {
+            this.preparedStatement.setClob(parameterIndex, reader);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setClob(int i, Clob x) throws SQLException {
+        try {
+            this.preparedStatement.setClob(i, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setClob(int parameterIndex, Reader reader, long length) throws SQLException {
+        try {
+            this.preparedStatement.setClob(parameterIndex, reader, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setDate(int parameterIndex, Date x) throws SQLException {
+        try {
+            this.preparedStatement.setDate(parameterIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
+        try {
+            this.preparedStatement.setDate(parameterIndex, x, cal);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setDouble(int parameterIndex, double x) throws SQLException {
+        try {
+            this.preparedStatement.setDouble(parameterIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setFloat(int parameterIndex, float x) throws SQLException {
+        try {
+            this.preparedStatement.setFloat(parameterIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setInt(int parameterIndex, int x) throws SQLException {
+        try {
+            this.preparedStatement.setInt(parameterIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setLong(int parameterIndex, long x) throws SQLException {
+        try {
+            this.preparedStatement.setLong(parameterIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setNCharacterStream(int parameterIndex, Reader value) throws SQLException {
+        try {
+            this.preparedStatement.setNCharacterStream(parameterIndex, value);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setNCharacterStream(int parameterIndex, Reader reader, long length) throws SQLException {
+        try {
+            this.preparedStatement.setNCharacterStream(parameterIndex, reader, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, Reader reader) throws SQLException {
+        try {
+            this.preparedStatement.setNClob(parameterIndex, reader);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, NClob value) throws SQLException {
+        try {
+            this.preparedStatement.setNClob(parameterIndex, value);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, Reader reader, long length) throws SQLException {
+        try {
+            this.preparedStatement.setNClob(parameterIndex, reader, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setNString(int parameterIndex, String x) throws SQLException {
+        try {
+            this.preparedStatement.setNString(parameterIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setNull(int parameterIndex, MysqlType mysqlType) throws SQLException {
+        try {
+            this.preparedStatement.setNull(parameterIndex, mysqlType);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setNull(int parameterIndex, int sqlType) throws SQLException {
+        try {
+            this.preparedStatement.setNull(parameterIndex, sqlType);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
+        try {
+            this.preparedStatement.setNull(parameterIndex, sqlType, typeName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object parameterObj) throws SQLException {
+        try {
+            this.preparedStatement.setObject(parameterIndex, parameterObj);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object parameterObj, int targetSqlType) throws SQLException {
+        try {
+            this.preparedStatement.setObject(parameterIndex, parameterObj, targetSqlType);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object parameterObj, SQLType targetSqlType) throws SQLException {
+        try {
+            this.preparedStatement.setObject(parameterIndex, parameterObj, targetSqlType);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object parameterObj, int targetSqlType, int scale) throws SQLException {
+        try {
+            this.preparedStatement.setObject(parameterIndex, parameterObj, targetSqlType, scale);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
+        try {
+            this.preparedStatement.setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setRef(int i, Ref x) throws SQLException {
+        try {
+            this.preparedStatement.setRef(i, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setRowId(int parameterIndex, RowId x) throws SQLException {
+        try {
+            this.preparedStatement.setRowId(parameterIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setSQLXML(int parameterIndex, SQLXML xmlObject) throws SQLException {
+        try {
+            this.preparedStatement.setSQLXML(parameterIndex, xmlObject);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setShort(int parameterIndex, short x) throws SQLException {
+        try {
+            this.preparedStatement.setShort(parameterIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setString(int parameterIndex, String x) throws SQLException {
+        try {
+            this.preparedStatement.setString(parameterIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setTime(int parameterIndex, Time x) throws SQLException {
+        try {
+            this.preparedStatement.setTime(parameterIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
+        try {
+            this.preparedStatement.setTime(parameterIndex, x, cal);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
+        try {
+            this.preparedStatement.setTimestamp(parameterIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
+        try {
+            this.preparedStatement.setTimestamp(parameterIndex, x, cal);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setURL(int parameterIndex, URL arg) throws SQLException {
+        try {
+            this.preparedStatement.setURL(parameterIndex, arg);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Deprecated
+    @Override
+    public void setUnicodeStream(int parameterIndex, InputStream x, int length) throws SQLException {
+        try {
+            this.preparedStatement.setUnicodeStream(parameterIndex, x, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+}
@@ -0,0 +1,2403 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+
+import com.mysql.cj.MysqlConnection;
+import com.mysql.cj.Query;
+import com.mysql.cj.Session;
+import com.mysql.cj.jdbc.JdbcPreparedStatement;
+import com.mysql.cj.jdbc.JdbcStatement;
+import com.mysql.cj.jdbc.result.CachedResultSetMetaData;
+import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
+import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.ResultsetRows;
+
+/**
+ * A result set obtained from a statement created by a multi-host connection.
+ * 
+ * @see MultiHostStatement
+ */
+class MultiHostResultSet implements ResultSetInternalMethods {
+    /**
+     * thisAsProxy holds the proxy (MultiHostConnectionProxy or one of its subclasses) of the connection this result set belongs to. Exceptions thrown by the
+     * wrapped result set are reported to it.
+     */
+    private final MultiHostConnectionProxy thisAsProxy;
+
+    private final ResultSetInternalMethods resultSet;
+
+    MultiHostResultSet(MultiHostConnectionProxy proxy, ResultSetInternalMethods resultSet) {
+        this.thisAsProxy = proxy;
+        this.resultSet = resultSet;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.resultSet.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.resultSet.toString();
+    }
+
+    @Override
+    public boolean absolute(int row) throws SQLException {
+        try {
+            return this.resultSet.absolute(row);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void afterLast() throws SQLException {
+        try {
+            this.resultSet.afterLast();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void beforeFirst() throws SQLException {
+        try {
+            this.resultSet.beforeFirst();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void cancelRowUpdates() throws SQLException {
+        try {
+            this.resultSet.cancelRowUpdates();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void clearNextResultset() {
+        try {
+            this.resultSet.clearNextResultset();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        try {
+            this.resultSet.clearWarnings();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            this.resultSet.close();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void closeOwner(boolean calledExplicitly) {
+        try {
+            this.resultSet.closeOwner(calledExplicitly);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void deleteRow() throws SQLException {
+        try {
+            this.resultSet.deleteRow();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int findColumn(String columnName) throws SQLException {
+        try {
+            return this.resultSet.findColumn(columnName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean first() throws SQLException {
+        try {
+            return this.resultSet.first();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Array getArray(int columnIndex) throws SQLException {
+        try {
+            return (Array) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(Array.class, this.resultSet.getArray(columnIndex));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Array getArray(String colName) throws SQLException {
+        try {
+            return (Array) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(Array.class, this.resultSet.getArray(colName));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public InputStream getAsciiStream(int columnIndex) throws SQLException {
+        try {
+            return this.resultSet.getAsciiStream(columnIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public InputStream getAsciiStream(String columnName) throws SQLException {
+        try {
+            return this.resultSet.getAsciiStream(columnName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+        try {
+            return this.resultSet.getBigDecimal(columnIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String columnName) throws SQLException {
+        try {
+            return this.resultSet.getBigDecimal(columnName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Deprecated
+    @Override
+    public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+        try {
+            return this.resultSet.getBigDecimal(columnIndex, scale);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Deprecated
+    @Override
+    public BigDecimal getBigDecimal(String columnName, int scale) throws SQLException {
+        try {
+            return this.resultSet.getBigDecimal(columnName, scale);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public BigInteger getBigInteger(int columnIndex) throws SQLException {
+        try {
+            return this.resultSet.getBigInteger(columnIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public InputStream getBinaryStream(int columnIndex) throws SQLException {
+        try {
+            return this.resultSet.getBinaryStream(columnIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public InputStream getBinaryStream(String columnName) throws SQLException {
+        try {
+            return this.resultSet.getBinaryStream(columnName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Blob getBlob(int columnIndex) throws SQLException {
+        try {
+            return (Blob) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(Blob.class, this.resultSet.getBlob(columnIndex));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Blob getBlob(String colName) throws SQLException {
+        try {
+            return (Blob) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(Blob.class, this.resultSet.getBlob(colName));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean getBoolean(int columnIndex) throws SQLException {
+        try {
+            return this.resultSet.getBoolean(columnIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean getBoolean(String columnName) throws SQLException {
+        try {
+            return this.resultSet.getBoolean(columnName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public byte getByte(int columnIndex) throws SQLException {
+        try {
+            return this.resultSet.getByte(columnIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public byte getByte(String columnName) throws SQLException {
+        try {
+            return this.resultSet.getByte(columnName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public byte[] getBytes(int columnIndex) throws SQLException {
+        try {
+            return this.resultSet.getBytes(columnIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public byte[] getBytes(String columnName) throws SQLException {
+        try {
+            return this.resultSet.getBytes(columnName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Reader getCharacterStream(int columnIndex) throws SQLException {
+        try {
+            return this.resultSet.getCharacterStream(columnIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Reader getCharacterStream(String columnName) throws SQLException {
+        try {
+            return this.resultSet.getCharacterStream(columnName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Clob getClob(int columnIndex) throws SQLException {
+        try {
+            return (Clob) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(Clob.class, this.resultSet.getClob(columnIndex));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Clob getClob(String colName) throws SQLException {
+        try {
+            return (Clob) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(Clob.class, this.resultSet.getClob(colName));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public ColumnDefinition getColumnDefinition() {
+        try {
+            return this.resultSet.getColumnDefinition();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getConcurrency() throws SQLException {
+        try {
+            return this.resultSet.getConcurrency();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public MysqlConnection getConnection() {
+        try {
+            return this.resultSet.getConnection();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public String getCursorName() throws SQLException {
+        try {
+            return this.resultSet.getCursorName();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Date getDate(int columnIndex) throws SQLException {
+        try {
+            return this.resultSet.getDate(columnIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Date getDate(String columnName) throws SQLException {
+        try {
+            return this.resultSet.getDate(columnName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Date getDate(int columnIndex, Calendar cal) throws SQLException {
+        try {
+            return this.resultSet.getDate(columnIndex, cal);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Date getDate(String columnName, Calendar cal) throws SQLException {
+        try {
+            return this.resultSet.getDate(columnName, cal);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public double getDouble(int columnIndex) throws SQLException {
+        try {
+            return this.resultSet.getDouble(columnIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public double getDouble(String columnName) throws SQLException {
+        try {
+            return this.resultSet.getDouble(columnName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        try {
+            return this.resultSet.getFetchDirection();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        try {
+            return this.resultSet.getFetchSize();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public char getFirstCharOfQuery() {
+        try {
+            return this.resultSet.getFirstCharOfQuery();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public float getFloat(int columnIndex) throws SQLException {
+        try {
+            return this.resultSet.getFloat(columnIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public float getFloat(String columnName) throws SQLException {
+        try {
+            return this.resultSet.getFloat(columnName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        try {
+            return this.resultSet.getHoldability();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getInt(int columnIndex) throws SQLException {
+        try {
+            return this.resultSet.getInt(columnIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getInt(String columnName) throws SQLException {
+        try {
+            return this.resultSet.getInt(columnName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public long getLong(int columnIndex) throws SQLException {
+        try {
+            return this.resultSet.getLong(columnIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public long getLong(String columnName) throws SQLException {
+        try {
+            return this.resultSet.getLong(columnName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        try {
+            return (ResultSetMetaData) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(ResultSetMetaData.class, this.resultSet.getMetaData());
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Reader getNCharacterStream(int columnIndex) throws SQLException {
+        try {
+            return this.resultSet.getNCharacterStream(columnIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Reader getNCharacterStream(String columnLabel) throws SQLException {
+        try {
+            return this.resultSet.getNCharacterStream(columnLabel);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public NClob getNClob(int columnIndex) throws SQLException {
+        try {
+            return (NClob) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(NClob.class, this.resultSet.getNClob(columnIndex));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public NClob getNClob(String columnLabel) throws SQLException {
+        try {
+            return (NClob) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(NClob.class, this.resultSet.getNClob(columnLabel));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public String getNString(int columnIndex) throws SQLException {
+        try {
+            return this.resultSet.getNString(columnIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public String getNString(String columnLabel) throws SQLException {
+        try {
+            return this.resultSet.getNString(columnLabel);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Resultset getNextResultset() {
+        try {
+            return this.resultSet.getNextResultset();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Object getObject(int columnIndex) throws SQLException {
+        try {
+            return this.resultSet.getObject(columnIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Object getObject(String columnName) throws SQLException {
+        try {
+            return this.resultSet.getObject(columnName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+        try {
+            return this.resultSet.getObject(columnIndex, type);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Object getObject(int i, Map<String, Class<?>> map) throws SQLException {
+        try {
+            return this.resultSet.getObject(i, map);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+        try {
+            return this.resultSet.getObject(columnLabel, type);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Object getObject(String colName, Map<String, Class<?>> map) throws SQLException {
+        try {
+            return this.resultSet.getObject(colName, map);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Object getObjectStoredProc(int columnIndex, int desiredSqlType) throws SQLException {
+        try {
+            return this.resultSet.getObjectStoredProc(columnIndex, desiredSqlType);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Object getObjectStoredProc(String columnName, int desiredSqlType) throws SQLException {
+        try {
+            return this.resultSet.getObjectStoredProc(columnName, desiredSqlType);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Object getObjectStoredProc(int i, Map<Object, Object> map, int desiredSqlType) throws SQLException {
+        try {
+            return this.resultSet.getObjectStoredProc(i, map, desiredSqlType);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Object getObjectStoredProc(String colName, Map<Object, Object> map, int desiredSqlType) throws SQLException {
+        try {
+            return this.resultSet.getObjectStoredProc(colName, map, desiredSqlType);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getOwnerFetchSize() {
+        try {
+            return this.resultSet.getOwnerFetchSize();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Query getOwningQuery() {
+        try {
+            return this.resultSet.getOwningQuery();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getOwningStatementFetchSize() {
+        try {
+            return this.resultSet.getOwningStatementFetchSize();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getOwningStatementMaxRows() {
+        try {
+            return this.resultSet.getOwningStatementMaxRows();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public long getOwningStatementServerId() {
+        try {
+            return this.resultSet.getOwningStatementServerId();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public String getPointOfOrigin() {
+        try {
+            return this.resultSet.getPointOfOrigin();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Ref getRef(int i) throws SQLException {
+        try {
+            return (Ref) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(Ref.class, this.resultSet.getRef(i));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Ref getRef(String colName) throws SQLException {
+        try {
+            return (Ref) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(Ref.class, this.resultSet.getRef(colName));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getResultId() {
+        try {
+            return this.resultSet.getResultId();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getRow() throws SQLException {
+        try {
+            return this.resultSet.getRow();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public RowId getRowId(int columnIndex) throws SQLException {
+        try {
+            return (RowId) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(RowId.class, this.resultSet.getRowId(columnIndex));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public RowId getRowId(String columnLabel) throws SQLException {
+        try {
+            return (RowId) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(RowId.class, this.resultSet.getRowId(columnLabel));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public ResultsetRows getRows() {
+        try {
+            return this.resultSet.getRows();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public SQLXML getSQLXML(int columnIndex) throws SQLException {
+        try {
+            return (SQLXML) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(SQLXML.class, this.resultSet.getSQLXML(columnIndex));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public SQLXML getSQLXML(String columnLabel) throws SQLException {
+        try {
+            return (SQLXML) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(SQLXML.class, this.resultSet.getSQLXML(columnLabel));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public String getServerInfo() {
+        try {
+            return this.resultSet.getServerInfo();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Session getSession() {
+        try {
+            return this.resultSet.getSession();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public short getShort(int columnIndex) throws SQLException {
+        try {
+            return this.resultSet.getShort(columnIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public short getShort(String columnName) throws SQLException {
+        try {
+            return this.resultSet.getShort(columnName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Statement getStatement() throws SQLException {
+        try {
+            return (Statement) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(Statement.class, this.resultSet.getStatement());
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public String getString(int columnIndex) throws SQLException {
+        try {
+            return this.resultSet.getString(columnIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public String getString(String columnName) throws SQLException {
+        try {
+            return this.resultSet.getString(columnName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Object getSyncMutex() {
+        try {
+            return this.resultSet.getSyncMutex();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Time getTime(int columnIndex) throws SQLException {
+        try {
+            return this.resultSet.getTime(columnIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Time getTime(String columnName) throws SQLException {
+        try {
+            return this.resultSet.getTime(columnName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+        try {
+            return this.resultSet.getTime(columnIndex, cal);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Time getTime(String columnName, Calendar cal) throws SQLException {
+        try {
+            return this.resultSet.getTime(columnName, cal);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(int columnIndex) throws SQLException {
+        try {
+            return this.resultSet.getTimestamp(columnIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(String columnName) throws SQLException {
+        try {
+            return this.resultSet.getTimestamp(columnName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
+        try {
+            return this.resultSet.getTimestamp(columnIndex, cal);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(String columnName, Calendar cal) throws SQLException {
+        try {
+            return this.resultSet.getTimestamp(columnName, cal);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getType() throws SQLException {
+        try {
+            return this.resultSet.getType();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public URL getURL(int colIndex) throws SQLException {
+        try {
+            return this.resultSet.getURL(colIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public URL getURL(String colName) throws SQLException {
+        try {
+            return this.resultSet.getURL(colName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Deprecated
+    @Override
+    public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+        try {
+            return this.resultSet.getUnicodeStream(columnIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Deprecated
+    @Override
+    public InputStream getUnicodeStream(String columnName) throws SQLException {
+        try {
+            return this.resultSet.getUnicodeStream(columnName);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public long getUpdateCount() {
+        try {
+            return this.resultSet.getUpdateCount();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public long getUpdateID() {
+        try {
+            return this.resultSet.getUpdateID();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        try {
+            return this.resultSet.getWarnings();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean hasRows() {
+        try {
+            return this.resultSet.hasRows();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void initRowsWithMetadata() {
+        try {
+            this.resultSet.initRowsWithMetadata();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void initializeWithMetadata() throws SQLException {
+        try {
+            this.resultSet.initializeWithMetadata();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void insertRow() throws SQLException {
+        try {
+            this.resultSet.insertRow();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean isAfterLast() throws SQLException {
+        try {
+            return this.resultSet.isAfterLast();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean isBeforeFirst() throws SQLException {
+        try {
+            return this.resultSet.isBeforeFirst();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        try {
+            return this.resultSet.isClosed();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean isFirst() throws SQLException {
+        try {
+            return this.resultSet.isFirst();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean isLast() throws SQLException {
+        try {
+            return this.resultSet.isLast();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        try {
+            return this.resultSet.isWrapperFor(iface);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean last() throws SQLException {
+        try {
+            return this.resultSet.last();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void moveToCurrentRow() throws SQLException {
+        try {
+            this.resultSet.moveToCurrentRow();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void moveToInsertRow() throws SQLException {
+        try {
+            this.resultSet.moveToInsertRow();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        try {
+            return this.resultSet.next();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void populateCachedMetaData(CachedResultSetMetaData cachedMetaData) throws SQLException {
+        try {
+            this.resultSet.populateCachedMetaData(cachedMetaData);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean previous() throws SQLException {
+        try {
+            return this.resultSet.previous();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void realClose(boolean calledExplicitly) throws SQLException {
+        try {
+            this.resultSet.realClose(calledExplicitly);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void refreshRow() throws SQLException {
+        try {
+            this.resultSet.refreshRow();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean relative(int rows) throws SQLException {
+        try {
+            return this.resultSet.relative(rows);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean rowDeleted() throws SQLException {
+        try {
+            return this.resultSet.rowDeleted();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean rowInserted() throws SQLException {
+        try {
+            return this.resultSet.rowInserted();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean rowUpdated() throws SQLException {
+        try {
+            return this.resultSet.rowUpdated();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setColumnDefinition(ColumnDefinition metadata) {
+        try {
+            this.resultSet.setColumnDefinition(metadata);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setFetchDirection(int direction) throws SQLException {
+        try {
+            this.resultSet.setFetchDirection(direction);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+        try {
+            this.resultSet.setFetchSize(rows);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setFirstCharOfQuery(char c) {
+        try {
+            this.resultSet.setFirstCharOfQuery(c);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setNextResultset(Resultset nextResultset) {
+        try {
+            this.resultSet.setNextResultset(nextResultset);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setOwningStatement(JdbcStatement owningStatement) {
+        try {
+            this.resultSet.setOwningStatement(owningStatement);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setStatementUsedForFetchingRows(JdbcPreparedStatement stmt) {
+        try {
+            this.resultSet.setStatementUsedForFetchingRows(stmt);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setWrapperStatement(Statement wrapperStatement) {
+        try {
+            this.resultSet.setWrapperStatement(wrapperStatement);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        try {
+            return this.resultSet.unwrap(iface);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateArray(int columnIndex, Array x) throws SQLException {
+        try {
+            this.resultSet.updateArray(columnIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateArray(String columnLabel, Array x) throws SQLException {
+        try {
+            this.resultSet.updateArray(columnLabel, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x) throws SQLException {
+        try {
+            this.resultSet.updateAsciiStream(columnIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, InputStream x) throws SQLException {
+        try {
+            this.resultSet.updateAsciiStream(columnLabel, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x, int length) throws SQLException {
+        try {
+            this.resultSet.updateAsciiStream(columnIndex, x, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x, long length) throws SQLException {
+        try {
+            this.resultSet.updateAsciiStream(columnIndex, x, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, InputStream x, int length) throws SQLException {
+        try {
+            this.resultSet.updateAsciiStream(columnLabel, x, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, InputStream x, long length) throws SQLException {
+        try {
+            this.resultSet.updateAsciiStream(columnLabel, x, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateBigDecimal(int columnIndex, BigDecimal x) throws SQLException {
+        try {
+            this.resultSet.updateBigDecimal(columnIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateBigDecimal(String columnLabel, BigDecimal x) throws SQLException {
+        try {
+            this.resultSet.updateBigDecimal(columnLabel, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x) throws SQLException {
+        try {
+            this.resultSet.updateBinaryStream(columnIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, InputStream x) throws SQLException {
+        try {
+            this.resultSet.updateBinaryStream(columnLabel, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x, int length) throws SQLException {
+        try {
+            this.resultSet.updateBinaryStream(columnIndex, x, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x, long length) throws SQLException {
+        try {
+            this.resultSet.updateBinaryStream(columnIndex, x, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, InputStream x, int length) throws SQLException {
+        try {
+            this.resultSet.updateBinaryStream(columnLabel, x, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, InputStream x, long length) throws SQLException {
+        try {
+            this.resultSet.updateBinaryStream(columnLabel, x, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, InputStream inputStream) throws SQLException {
+        try {
+            this.resultSet.updateBlob(columnIndex, inputStream);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, Blob blob) throws SQLException {
+        try {
+            this.resultSet.updateBlob(columnIndex, blob);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, InputStream inputStream) throws SQLException {
+        try {
+            this.resultSet.updateBlob(columnLabel, inputStream);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, Blob blob) throws SQLException {
+        try {
+            this.resultSet.updateBlob(columnLabel, blob);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, InputStream inputStream, long length) throws SQLException {
+        try {
+            this.resultSet.updateBlob(columnIndex, inputStream, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, InputStream inputStream, long length) throws SQLException {
+        try {
+            this.resultSet.updateBlob(columnLabel, inputStream, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateBoolean(int columnIndex, boolean x) throws SQLException {
+        try {
+            this.resultSet.updateBoolean(columnIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateBoolean(String columnLabel, boolean x) throws SQLException {
+        try {
+            this.resultSet.updateBoolean(columnLabel, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateByte(int columnIndex, byte x) throws SQLException {
+        try {
+            this.resultSet.updateByte(columnIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateByte(String columnLabel, byte x) throws SQLException {
+        try {
+            this.resultSet.updateByte(columnLabel, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateBytes(int columnIndex, byte[] x) throws SQLException {
+        try {
+            this.resultSet.updateBytes(columnIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateBytes(String columnLabel, byte[] x) throws SQLException {
+        try {
+            this.resultSet.updateBytes(columnLabel, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x) throws SQLException {
+        try {
+            this.resultSet.updateCharacterStream(columnIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, Reader reader) throws SQLException {
+        try {
+            this.resultSet.updateCharacterStream(columnLabel, reader);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x, int length) throws SQLException {
+        try {
+            this.resultSet.updateCharacterStream(columnIndex, x, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+        try {
+            this.resultSet.updateCharacterStream(columnIndex, x, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, Reader reader, int length) throws SQLException {
+        try {
+            this.resultSet.updateCharacterStream(columnLabel, reader, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+        try {
+            this.resultSet.updateCharacterStream(columnLabel, reader, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Reader reader) throws SQLException {
+        try {
+            this.resultSet.updateClob(columnIndex, reader);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Clob clob) throws SQLException {
+        try {
+            this.resultSet.updateClob(columnIndex, clob);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Reader reader) throws SQLException {
+        try {
+            this.resultSet.updateClob(columnLabel, reader);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Clob clob) throws SQLException {
+        try {
+            this.resultSet.updateClob(columnLabel, clob);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Reader reader, long length) throws SQLException {
+        try {
+            this.resultSet.updateClob(columnIndex, reader, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Reader reader, long length) throws SQLException {
+        try {
+            this.resultSet.updateClob(columnLabel, reader, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateDate(int columnIndex, Date x) throws SQLException {
+        try {
+            this.resultSet.updateDate(columnIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateDate(String columnLabel, Date x) throws SQLException {
+        try {
+            this.resultSet.updateDate(columnLabel, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateDouble(int columnIndex, double x) throws SQLException {
+        try {
+            this.resultSet.updateDouble(columnIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateDouble(String columnLabel, double x) throws SQLException {
+        try {
+            this.resultSet.updateDouble(columnLabel, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateFloat(int columnIndex, float x) throws SQLException {
+        try {
+            this.resultSet.updateFloat(columnIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateFloat(String columnLabel, float x) throws SQLException {
+        try {
+            this.resultSet.updateFloat(columnLabel, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateInt(int columnIndex, int x) throws SQLException {
+        try {
+            this.resultSet.updateInt(columnIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateInt(String columnLabel, int x) throws SQLException {
+        try {
+            this.resultSet.updateInt(columnLabel, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateLong(int columnIndex, long x) throws SQLException {
+        try {
+            this.resultSet.updateLong(columnIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateLong(String columnLabel, long x) throws SQLException {
+        try {
+            this.resultSet.updateLong(columnLabel, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(int columnIndex, Reader x) throws SQLException {
+        try {
+            this.resultSet.updateNCharacterStream(columnIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(String columnLabel, Reader reader) throws SQLException {
+        try {
+            this.resultSet.updateNCharacterStream(columnLabel, reader);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+        try {
+            this.resultSet.updateNCharacterStream(columnIndex, x, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+        try {
+            this.resultSet.updateNCharacterStream(columnLabel, reader, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, Reader reader) throws SQLException {
+        try {
+            this.resultSet.updateNClob(columnIndex, reader);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, NClob nClob) throws SQLException {
+        try {
+            this.resultSet.updateNClob(columnIndex, nClob);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, Reader reader) throws SQLException {
+        try {
+            this.resultSet.updateNClob(columnLabel, reader);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, NClob nClob) throws SQLException {
+        try {
+            this.resultSet.updateNClob(columnLabel, nClob);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, Reader reader, long length) throws SQLException {
+        try {
+            this.resultSet.updateNClob(columnIndex, reader, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, Reader reader, long length) throws SQLException {
+        try {
+            this.resultSet.updateNClob(columnLabel, reader, length);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateNString(int columnIndex, String x) throws SQLException {
+        try {
+            this.resultSet.updateNString(columnIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateNString(String columnLabel, String x) throws SQLException {
+        try {
+            this.resultSet.updateNString(columnLabel, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateNull(int columnIndex) throws SQLException {
+        try {
+            this.resultSet.updateNull(columnIndex);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateNull(String columnLabel) throws SQLException {
+        try {
+            this.resultSet.updateNull(columnLabel);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object x) throws SQLException {
+        try {
+            this.resultSet.updateObject(columnIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateObject(String columnLabel, Object x) throws SQLException {
+        try {
+            this.resultSet.updateObject(columnLabel, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object x, int scale) throws SQLException {
+        try {
+            this.resultSet.updateObject(columnIndex, x, scale);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object x, SQLType targetSqlType) throws SQLException {
+        try {
+            this.resultSet.updateObject(columnIndex, x, targetSqlType);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateObject(String columnLabel, Object x, int scale) throws SQLException {
+        try {
+            this.resultSet.updateObject(columnLabel, x, scale);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateObject(String columnLabel, Object x, SQLType targetSqlType) throws SQLException {
+        try {
+            this.resultSet.updateObject(columnLabel, x, targetSqlType);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
+        try {
+            this.resultSet.updateObject(columnIndex, x, targetSqlType, scaleOrLength);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateObject(String columnLabel, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
+        try {
+            this.resultSet.updateObject(columnLabel, x, targetSqlType, scaleOrLength);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateRef(int columnIndex, Ref x) throws SQLException {
+        try {
+            this.resultSet.updateRef(columnIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateRef(String columnLabel, Ref x) throws SQLException {
+        try {
+            this.resultSet.updateRef(columnLabel, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateRow() throws SQLException {
+        try {
+            this.resultSet.updateRow();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateRowId(int columnIndex, RowId x) throws SQLException {
+        try {
+            this.resultSet.updateRowId(columnIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateRowId(String columnName, RowId x) throws SQLException {
+        try {
+            this.resultSet.updateRowId(columnName, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateSQLXML(int columnIndex, SQLXML xmlObject) throws SQLException {
+        try {
+            this.resultSet.updateSQLXML(columnIndex, xmlObject);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateSQLXML(String columnLabel, SQLXML xmlObject) throws SQLException {
+        try {
+            this.resultSet.updateSQLXML(columnLabel, xmlObject);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateShort(int columnIndex, short x) throws SQLException {
+        try {
+            this.resultSet.updateShort(columnIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateShort(String columnLabel, short x) throws SQLException {
+        try {
+            this.resultSet.updateShort(columnLabel, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateString(int columnIndex, String x) throws SQLException {
+        try {
+            this.resultSet.updateString(columnIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateString(String columnLabel, String x) throws SQLException {
+        try {
+            this.resultSet.updateString(columnLabel, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateTime(int columnIndex, Time x) throws SQLException {
+        try {
+            this.resultSet.updateTime(columnIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateTime(String columnLabel, Time x) throws SQLException {
+        try {
+            this.resultSet.updateTime(columnLabel, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateTimestamp(int columnIndex, Timestamp x) throws SQLException {
+        try {
+            this.resultSet.updateTimestamp(columnIndex, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void updateTimestamp(String columnLabel, Timestamp x) throws SQLException {
+        try {
+            this.resultSet.updateTimestamp(columnLabel, x);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        try {
+            return this.resultSet.wasNull();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+}
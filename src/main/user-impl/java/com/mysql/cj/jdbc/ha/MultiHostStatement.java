@@ -0,0 +1,1078 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.mysql.cj.CancelQueryTask;
+import com.mysql.cj.PingTarget;
+import com.mysql.cj.Query;
+import com.mysql.cj.QueryAttributesBindings;
+import com.mysql.cj.Session;
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.jdbc.JdbcStatement;
+import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
+import com.mysql.cj.protocol.Message;
+import com.mysql.cj.protocol.ProtocolEntityFactory;
+import com.mysql.cj.protocol.Resultset;
+
+/**
+ * A statement created by a multi-host connection.
+ * 
+ * Instances of this class delegate all calls to the statement created by the current underlying connection of their MultiHostConnectionProxy and let the proxy
+ * deal with the exceptions thrown, which may trigger a connection switch. This is the statically typed counterpart of
+ * {@link MultiHostConnectionProxy.JdbcInterfaceProxy}, which spares the reflective invocation and the proxy monitor on every call.
+ */
+class MultiHostStatement implements JdbcStatement {
+    /**
+     * thisAsProxy holds the proxy (MultiHostConnectionProxy or one of its subclasses) of the connection that created this statement. Exceptions thrown by
+     * the wrapped statement are reported to it.
+     */
+    protected final MultiHostConnectionProxy thisAsProxy;
+
+    private final JdbcStatement statement;
+
+    MultiHostStatement(MultiHostConnectionProxy proxy, JdbcStatement statement) {
+        this.thisAsProxy = proxy;
+        this.statement = statement;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.statement.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.statement.toString();
+    }
+
+    @Override
+    public void addBatch(Object batch) {
+        try {
+            this.statement.addBatch(batch);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void addBatch(String sql) throws SQLException {
+        try {
+            this.statement.addBatch(sql);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+        try {
+            this.statement.cancel();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void checkCancelTimeout() {
+        try {
+            this.statement.checkCancelTimeout();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void clearAttributes() {
+        try {
+            this.statement.clearAttributes();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        try {
+            this.statement.clearBatch();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void clearBatchedArgs() {
+        try {
+            this.statement.clearBatchedArgs();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        try {
+            this.statement.clearWarnings();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            this.statement.close();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+        try {
+            this.statement.closeOnCompletion();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void closeQuery() {
+        try {
+            this.statement.closeQuery();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void disableStreamingResults() throws SQLException {
+        try {
+            this.statement.disableStreamingResults();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void enableStreamingResults() throws SQLException {
+        try {
+            this.statement.enableStreamingResults();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean execute(String sql) throws SQLException {
+        this.thisAsProxy.beforeStatementExecute();
+        boolean result;
+        try {
+            result = this.statement.execute(sql);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+        this.thisAsProxy.afterStatementExecute();
+        return result;
+    }
+
+    @Override
+    public boolean execute(String sql, int[] generatedKeyIndices) throws SQLException {
+        this.thisAsProxy.beforeStatementExecute();
+        boolean result;
+        try {
+            result = this.statement.execute(sql, generatedKeyIndices);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+        this.thisAsProxy.afterStatementExecute();
+        return result;
+    }
+
+    @Override
+    public boolean execute(String sql, String[] generatedKeyNames) throws SQLException {
+        this.thisAsProxy.beforeStatementExecute();
+        boolean result;
+        try {
+            result = this.statement.execute(sql, generatedKeyNames);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+        this.thisAsProxy.afterStatementExecute();
+        return result;
+    }
+
+    @Override
+    public boolean execute(String sql, int returnGeneratedKeys) throws SQLException {
+        this.thisAsProxy.beforeStatementExecute();
+        boolean result;
+        try {
+            result = this.statement.execute(sql, returnGeneratedKeys);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+        this.thisAsProxy.afterStatementExecute();
+        return result;
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        this.thisAsProxy.beforeStatementExecute();
+        int[] result;
+        try {
+            result = this.statement.executeBatch();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+        this.thisAsProxy.afterStatementExecute();
+        return result;
+    }
+
+    @Override
+    public long[] executeLargeBatch() throws SQLException {
+        this.thisAsProxy.beforeStatementExecute();
+        long[] result;
+        try {
+            result = this.statement.executeLargeBatch();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+        this.thisAsProxy.afterStatementExecute();
+        return result;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql) throws SQLException {
+        this.thisAsProxy.beforeStatementExecute();
+        long result;
+        try {
+            result = this.statement.executeLargeUpdate(sql);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+        this.thisAsProxy.afterStatementExecute();
+        return result;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, int[] columnIndexes) throws SQLException {
+        this.thisAsProxy.beforeStatementExecute();
+        long result;
+        try {
+            result = this.statement.executeLargeUpdate(sql, columnIndexes);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+        this.thisAsProxy.afterStatementExecute();
+        return result;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, String[] columnNames) throws SQLException {
+        this.thisAsProxy.beforeStatementExecute();
+        long result;
+        try {
+            result = this.statement.executeLargeUpdate(sql, columnNames);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+        this.thisAsProxy.afterStatementExecute();
+        return result;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+        this.thisAsProxy.beforeStatementExecute();
+        long result;
+        try {
+            result = this.statement.executeLargeUpdate(sql, autoGeneratedKeys);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+        this.thisAsProxy.afterStatementExecute();
+        return result;
+    }
+
+    @Override
+    public ResultSet executeQuery(String sql) throws SQLException {
+        this.thisAsProxy.beforeStatementExecute();
+        ResultSet result;
+        try {
+            result = (ResultSet) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(ResultSet.class, this.statement.executeQuery(sql));
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+        this.thisAsProxy.afterStatementExecute();
+        return result;
+    }
+
+    @Override
+    public int executeUpdate(String sql) throws SQLException {
+        this.thisAsProxy.beforeStatementExecute();
+        int result;
+        try {
+            result = this.statement.executeUpdate(sql);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+        this.thisAsProxy.afterStatementExecute();
+        return result;
+    }
+
+    @Override
+    public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+        this.thisAsProxy.beforeStatementExecute();
+        int result;
+        try {
+            result = this.statement.executeUpdate(sql, columnIndexes);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+        this.thisAsProxy.afterStatementExecute();
+        return result;
+    }
+
+    @Override
+    public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+        this.thisAsProxy.beforeStatementExecute();
+        int result;
+        try {
+            result = this.statement.executeUpdate(sql, columnNames);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+        this.thisAsProxy.afterStatementExecute();
+        return result;
+    }
+
+    @Override
+    public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+        this.thisAsProxy.beforeStatementExecute();
+        int result;
+        try {
+            result = this.statement.executeUpdate(sql, autoGeneratedKeys);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+        this.thisAsProxy.afterStatementExecute();
+        return result;
+    }
+
+    @Override
+    public List<Object> getBatchedArgs() {
+        try {
+            return this.statement.getBatchedArgs();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Object getCancelTimeoutMutex() {
+        try {
+            return this.statement.getCancelTimeoutMutex();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        try {
+            return (Connection) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(Connection.class, this.statement.getConnection());
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public String getCurrentDatabase() {
+        try {
+            return this.statement.getCurrentDatabase();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public ExceptionInterceptor getExceptionInterceptor() {
+        try {
+            return this.statement.getExceptionInterceptor();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public long getExecuteTime() {
+        try {
+            return this.statement.getExecuteTime();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        try {
+            return this.statement.getFetchDirection();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        try {
+            return this.statement.getFetchSize();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        try {
+            return (ResultSet) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(ResultSet.class, this.statement.getGeneratedKeys());
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getId() {
+        try {
+            return this.statement.getId();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public long getLargeMaxRows() throws SQLException {
+        try {
+            return this.statement.getLargeMaxRows();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public long getLargeUpdateCount() throws SQLException {
+        try {
+            return this.statement.getLargeUpdateCount();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public InputStream getLocalInfileInputStream() {
+        try {
+            return this.statement.getLocalInfileInputStream();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+        try {
+            return this.statement.getMaxFieldSize();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+        try {
+            return this.statement.getMaxRows();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean getMoreResults() throws SQLException {
+        try {
+            return this.statement.getMoreResults();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean getMoreResults(int current) throws SQLException {
+        try {
+            return this.statement.getMoreResults(current);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getOpenResultSetCount() {
+        try {
+            return this.statement.getOpenResultSetCount();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Query getQuery() {
+        try {
+            return this.statement.getQuery();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public QueryAttributesBindings getQueryAttributesBindings() {
+        try {
+            return this.statement.getQueryAttributesBindings();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        try {
+            return this.statement.getQueryTimeout();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getResultFetchSize() {
+        try {
+            return this.statement.getResultFetchSize();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        try {
+            return (ResultSet) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(ResultSet.class, this.statement.getResultSet());
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+        try {
+            return this.statement.getResultSetConcurrency();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public <T extends Resultset, M extends Message> ProtocolEntityFactory<T, M> getResultSetFactory() {
+        try {
+            return this.statement.getResultSetFactory();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        try {
+            return this.statement.getResultSetHoldability();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public ResultSetInternalMethods getResultSetInternal() {
+        try {
+            return (ResultSetInternalMethods) this.thisAsProxy.proxyIfReturnTypeIsJdbcInterface(ResultSetInternalMethods.class,
+                    this.statement.getResultSetInternal());
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+        try {
+            return this.statement.getResultSetType();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Resultset.Type getResultType() {
+        try {
+            return this.statement.getResultType();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public Session getSession() {
+        try {
+            return this.statement.getSession();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public AtomicBoolean getStatementExecuting() {
+        try {
+            return this.statement.getStatementExecuting();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getTimeoutInMillis() {
+        try {
+            return this.statement.getTimeoutInMillis();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+        try {
+            return this.statement.getUpdateCount();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        try {
+            return this.statement.getWarnings();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean isClearWarningsCalled() {
+        try {
+            return this.statement.isClearWarningsCalled();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+        try {
+            return this.statement.isCloseOnCompletion();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        try {
+            return this.statement.isClosed();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean isPoolable() throws SQLException {
+        try {
+            return this.statement.isPoolable();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        try {
+            return this.statement.isWrapperFor(iface);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void removeOpenResultSet(ResultSetInternalMethods rs) {
+        try {
+            this.statement.removeOpenResultSet(rs);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void resetCancelledState() {
+        try {
+            this.statement.resetCancelledState();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        try {
+            this.statement.setAttribute(name, value);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setCancelStatus(Query.CancelStatus cs) {
+        try {
+            this.statement.setCancelStatus(cs);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setClearWarningsCalled(boolean clearWarningsCalled) {
+        try {
+            this.statement.setClearWarningsCalled(clearWarningsCalled);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setCurrentDatabase(String currentDb) {
+        try {
+            this.statement.setCurrentDatabase(currentDb);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setCursorName(String name) throws SQLException {
+        try {
+            this.statement.setCursorName(name);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setEscapeProcessing(boolean enable) throws SQLException {
+        try {
+            this.statement.setEscapeProcessing(enable);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setExecuteTime(long executeTime) {
+        try {
+            this.statement.setExecuteTime(executeTime);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setFetchDirection(int direction) throws SQLException {
+        try {
+            this.statement.setFetchDirection(direction);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+        try {
+            this.statement.setFetchSize(rows);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setHoldResultsOpenOverClose(boolean holdResultsOpenOverClose) {
+        try {
+            this.statement.setHoldResultsOpenOverClose(holdResultsOpenOverClose);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setLargeMaxRows(long max) throws SQLException {
+        try {
+            this.statement.setLargeMaxRows(max);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setLocalInfileInputStream(InputStream stream) {
+        try {
+            this.statement.setLocalInfileInputStream(stream);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setMaxFieldSize(int max) throws SQLException {
+        try {
+            this.statement.setMaxFieldSize(max);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setMaxRows(int max) throws SQLException {
+        try {
+            this.statement.setMaxRows(max);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setPingTarget(PingTarget pingTarget) {
+        try {
+            this.statement.setPingTarget(pingTarget);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setPoolable(boolean poolable) throws SQLException {
+        try {
+            this.statement.setPoolable(poolable);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setQueryTimeout(int seconds) throws SQLException {
+        try {
+            this.statement.setQueryTimeout(seconds);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setResultFetchSize(int fetchSize) {
+        try {
+            this.statement.setResultFetchSize(fetchSize);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setResultType(Resultset.Type resultSetType) {
+        try {
+            this.statement.setResultType(resultSetType);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void setTimeoutInMillis(int timeoutInMillis) {
+        try {
+            this.statement.setTimeoutInMillis(timeoutInMillis);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public CancelQueryTask startQueryTimer(Query stmtToCancel, int timeout) {
+        try {
+            return this.statement.startQueryTimer(stmtToCancel, timeout);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void statementBegins() {
+        try {
+            this.statement.statementBegins();
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public void stopQueryTimer(CancelQueryTask timeoutTask, boolean rethrowCancelReason, boolean checkCancelTimeout) {
+        try {
+            this.statement.stopQueryTimer(timeoutTask, rethrowCancelReason, checkCancelTimeout);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceExceptionUnchecked(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        try {
+            return this.statement.unwrap(iface);
+        } catch (Throwable t) {
+            this.thisAsProxy.dealWithJdbcInterfaceException(t);
+            throw t;
+        }
+    }
+}
@@ -218,6 +218,16 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
     protected RuntimeProperty<Boolean> emulateLocators;
     protected boolean yearIsDateType = true;
 
+    private static final byte PRIMITIVE_NONE = 0;
+    private static final byte PRIMITIVE_LONG = 1;
+    private static final byte PRIMITIVE_DOUBLE = 2;
+
+    /**
+     * Per column, whether getInt(), getLong() and getDouble() can read it through {@link com.mysql.cj.result.Row#getLong(int)} or
+     * {@link com.mysql.cj.result.Row#getDouble(int)}, without boxing.
+     */
+    private byte[] primitiveKinds;
+
     /**
      * Create a result set for an executeUpdate statement.
      * 
@@ -803,8 +813,62 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
         return getDate(findColumn(columnName), cal);
     }
 
+    /**
+     * Checks the row position and the column index, like {@link #checkRowPos()} and {@link #checkColumnBounds(int)} do, and returns whether the column value
+     * can be read as a primitive, without going through a value factory.
+     * 
+     * @param columnIndex
+     *            the first column is 1, the second is 2, ...
+     * @return one of PRIMITIVE_NONE, PRIMITIVE_LONG or PRIMITIVE_DOUBLE
+     * @throws SQLException
+     *             if the result set is not on a valid row or the index is out of bounds
+     */
+    private byte getPrimitiveKind(int columnIndex) throws SQLException {
+        checkRowPos();
+
+        Field[] fields = this.columnDefinition.getFields();
+        if (columnIndex < 1 || columnIndex > fields.length || this.useUsageAdvisor) {
+            checkColumnBounds(columnIndex);
+        }
+
+        byte[] kinds = this.primitiveKinds;
+        if (kinds == null) {
+            kinds = new byte[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                switch (fields[i].getMysqlTypeId()) {
+                    case MysqlType.FIELD_TYPE_TINY:
+                    case MysqlType.FIELD_TYPE_SHORT:
+                    case MysqlType.FIELD_TYPE_LONG:
+                    case MysqlType.FIELD_TYPE_INT24:
+                        kinds[i] = PRIMITIVE_LONG;
+                        break;
+                    case MysqlType.FIELD_TYPE_LONGLONG:
+                        // unsigned values may not fit
+                        kinds[i] = fields[i].isUnsigned() ? PRIMITIVE_NONE : PRIMITIVE_LONG;
+                        break;
+                    case MysqlType.FIELD_TYPE_FLOAT:
+                    case MysqlType.FIELD_TYPE_DOUBLE:
+                        kinds[i] = PRIMITIVE_DOUBLE;
+                        break;
+                    default:
+                        kinds[i] = PRIMITIVE_NONE;
+                }
+            }
+            this.primitiveKinds = kinds;
+        }
+        return kinds[columnIndex - 1];
+    }
+
     @Override
     public double getDouble(int columnIndex) throws SQLException {
+        switch (getPrimitiveKind(columnIndex)) {
+            case PRIMITIVE_DOUBLE:
+                double d = this.thisRow.getDouble(columnIndex - 1);
+                // let the value factory deal with out of range values
+                return Double.isInfinite(d) ? this.doubleValueFactory.createFromDouble(d) : d;
+            case PRIMITIVE_LONG:
+                return this.thisRow.getLong(columnIndex - 1);
+        }
         Double res = getObject(columnIndex, Double.TYPE);
         return res == null ? (double) 0 : res;
     }
@@ -827,6 +891,11 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public int getInt(int columnIndex) throws SQLException {
+        if (getPrimitiveKind(columnIndex) == PRIMITIVE_LONG) {
+            long l = this.thisRow.getLong(columnIndex - 1);
+            // let the value factory deal with out of range values
+            return l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE ? (int) l : this.integerValueFactory.createFromLong(l);
+        }
         Integer res = getObject(columnIndex, Integer.TYPE);
         return res == null ? 0 : res;
     }
@@ -853,6 +922,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public long getLong(int columnIndex) throws SQLException {
+        if (getPrimitiveKind(columnIndex) == PRIMITIVE_LONG) {
+            return this.thisRow.getLong(columnIndex - 1);
+        }
         Long res = getObject(columnIndex, Long.TYPE);
         return res == null ? 0L : res;
     }
@@ -36,9 +36,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import com.mysql.cj.MysqlxSession;
+import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.AssertionFailedException;
 import com.mysql.cj.protocol.x.StatementExecuteOk;
 import com.mysql.cj.protocol.x.XMessage;
@@ -81,8 +83,33 @@ public class AddStatementImpl implements AddStatement {
         return this;
     }
 
-    private List<String> serializeDocs() {
-        return this.newDocs.stream().map(DbDoc::toString).collect(Collectors.toList());
+    /**
+     * Serializes the documents as UTF-8 JSON text, all of them into the same buffer.
+     * 
+     * @return the serialized documents
+     */
+    private List<ByteString> serializeDocs() {
+        Utf8JsonWriter writer = new Utf8JsonWriter(this.newDocs.size() * 128);
+        int[] ends = new int[this.newDocs.size()];
+        for (int i = 0; i < ends.length; i++) {
+            writer.write(this.newDocs.get(i));
+            ends[i] = writer.size();
+        }
+        // the buffer is not modified after this point, so the documents can reference it instead of copying
+        byte[] buf = writer.getBuffer();
+        List<ByteString> docs = new ArrayList<>(ends.length);
+        for (int i = 0, start = 0; i < ends.length; start = ends[i++]) {
+            docs.add(UnsafeByteOperations.unsafeWrap(buf, start, ends[i] - start));
+        }
+        return docs;
+    }
+
+    private List<XMessage> buildMessages() {
+        int maxMessageSize = this.mysqlxSession.getPropertySet().getBooleanProperty(PropertyKey.xdevapiSplitLargeAdd).getValue()
+                ? this.mysqlxSession.getProtocol().getMaxAllowedPacket()
+                : 0;
+        return ((XMessageBuilder) this.mysqlxSession.<XMessage>getMessageBuilder()).buildDocInserts(this.schemaName, this.collectionName, serializeDocs(),
+                this.upsert, maxMessageSize);
     }
 
     public AddResult execute() {
@@ -90,8 +117,14 @@ public class AddStatementImpl implements AddStatement {
             StatementExecuteOk ok = new StatementExecuteOk(0, null, Collections.emptyList(), Collections.emptyList());
             return new AddResultImpl(ok);
         }
-        return this.mysqlxSession.query(((XMessageBuilder) this.mysqlxSession.<XMessage>getMessageBuilder()).buildDocInsert(this.schemaName,
-                this.collectionName, serializeDocs(), this.upsert), new AddResultBuilder());
+        List<XMessage> messages = buildMessages();
+        // a single builder accumulates the results of all messages
+        AddResultBuilder resultBuilder = new AddResultBuilder();
+        AddResult result = null;
+        for (XMessage message : messages) {
+            result = this.mysqlxSession.query(message, resultBuilder);
+        }
+        return result;
     }
 
     public CompletableFuture<AddResult> executeAsync() {
@@ -99,8 +132,13 @@ public class AddStatementImpl implements AddStatement {
             StatementExecuteOk ok = new StatementExecuteOk(0, null, Collections.emptyList(), Collections.emptyList());
             return CompletableFuture.completedFuture(new AddResultImpl(ok));
         }
-        return this.mysqlxSession.queryAsync(((XMessageBuilder) this.mysqlxSession.<XMessage>getMessageBuilder()).buildDocInsert(this.schemaName,
-                this.collectionName, serializeDocs(), this.upsert), new AddResultBuilder());
+        List<XMessage> messages = buildMessages();
+        AddResultBuilder resultBuilder = new AddResultBuilder();
+        CompletableFuture<AddResult> result = this.mysqlxSession.queryAsync(messages.get(0), resultBuilder);
+        for (XMessage message : messages.subList(1, messages.size())) {
+            result = result.thenCompose(r -> this.mysqlxSession.queryAsync(message, resultBuilder));
+        }
+        return result;
     }
 
     public boolean isUpsert() {
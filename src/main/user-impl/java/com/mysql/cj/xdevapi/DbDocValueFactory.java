@@ -31,6 +31,7 @@ package com.mysql.cj.xdevapi;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.util.Arrays;
 
 import com.mysql.cj.conf.PropertySet;
 import com.mysql.cj.exceptions.AssertionFailedException;
@@ -54,11 +55,16 @@ public class DbDocValueFactory extends DefaultValueFactory<DbDoc> {
     }
 
     /**
-     * Interpret the given byte array as a string. This value factory needs to know the encoding to interpret the string. The default (null) will interpret the
-     * byte array using the platform encoding.
+     * Interpret the given byte array as a JSON document. UTF-8 documents, which is how the server sends JSON data, are parsed directly from the bytes and their
+     * values are decoded on first access. Documents in other encodings are decoded to a string first; the default (null) encoding will interpret the byte array
+     * using the platform encoding.
      */
     @Override
     public DbDoc createFromBytes(byte[] bytes, int offset, int length, Field f) {
+        if ("UTF-8".equalsIgnoreCase(f.getEncoding())) {
+            // the document keeps a reference to its bytes, which belong to the row
+            return JsonParser.parseDoc(Arrays.copyOfRange(bytes, offset, offset + length), 0, length);
+        }
         try {
             return JsonParser.parseDoc(new StringReader(StringUtils.toString(bytes, offset, length, f.getEncoding())));
         } catch (IOException ex) {
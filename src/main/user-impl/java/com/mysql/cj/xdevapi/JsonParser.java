@@ -161,6 +161,22 @@ public class JsonParser {
         }
     }
 
+    /**
+     * Create {@link DbDoc} object from the UTF-8 encoded bytes of a JSON document. Values are parsed when they are first read from the returned document, so
+     * errors in the document may be reported only then. The byte array is referenced by the returned document and must not be modified afterwards.
+     * 
+     * @param bytes
+     *            the bytes holding the UTF-8 encoded JSON document
+     * @param offset
+     *            the offset of the document in the array
+     * @param length
+     *            the length of the document
+     * @return New {@link DbDoc} object initialized by parsed JSON document.
+     */
+    public static DbDoc parseDoc(byte[] bytes, int offset, int length) {
+        return Utf8JsonParser.parseDoc(bytes, offset, length);
+    }
+
     /**
      * Create {@link DbDoc} object from JSON string provided by reader.
      * 
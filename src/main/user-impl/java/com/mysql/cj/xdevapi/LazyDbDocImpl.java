@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.xdevapi;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * {@link DbDoc} created by {@link Utf8JsonParser}. Values are kept as ranges of the document bytes and are parsed the first time they are read, so that
+ * reading a few fields of a large document does not pay for decoding all of it.
+ * 
+ * Single key operations parse only the value of that key. Operations exposing entries or values in bulk parse the whole document first.
+ */
+class LazyDbDocImpl extends DbDocImpl {
+
+    private static final long serialVersionUID = -2587634421587214470L;
+
+    /**
+     * Placeholder for a value that was not parsed yet.
+     */
+    private static final class UnparsedValue implements JsonValue {
+        final int start;
+        final int end;
+
+        UnparsedValue(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private transient byte[] bytes;
+    private transient boolean hasUnparsed = false;
+
+    LazyDbDocImpl(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    void putUnparsed(String key, int start, int end) {
+        super.put(key, new UnparsedValue(start, end));
+        this.hasUnparsed = true;
+    }
+
+    private JsonValue materialize(Object key) {
+        JsonValue val = super.get(key);
+        if (val instanceof UnparsedValue) {
+            UnparsedValue unparsed = (UnparsedValue) val;
+            val = new Utf8JsonParser(this.bytes, unparsed.start, unparsed.end).parseValue();
+            // replacing the value of an existing key does not change the map structure, so iterations over the keys are not disturbed
+            super.put((String) key, val);
+        }
+        return val;
+    }
+
+    private void materializeAll() {
+        if (this.hasUnparsed) {
+            for (String key : keySet()) {
+                materialize(key);
+            }
+            this.hasUnparsed = false;
+            this.bytes = null;
+        }
+    }
+
+    @Override
+    public JsonValue get(Object key) {
+        return this.hasUnparsed && key instanceof String ? materialize(key) : super.get(key);
+    }
+
+    @Override
+    public JsonValue put(String key, JsonValue value) {
+        if (this.hasUnparsed) {
+            materialize(key);
+        }
+        return super.put(key, value);
+    }
+
+    @Override
+    public JsonValue remove(Object key) {
+        if (this.hasUnparsed && key instanceof String) {
+            materialize(key);
+        }
+        return super.remove(key);
+    }
+
+    @Override
+    public JsonValue replace(String key, JsonValue value) {
+        if (this.hasUnparsed) {
+            materialize(key);
+        }
+        return super.replace(key, value);
+    }
+
+    @Override
+    public boolean replace(String key, JsonValue oldValue, JsonValue newValue) {
+        if (this.hasUnparsed) {
+            materialize(key);
+        }
+        return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public JsonValue putIfAbsent(String key, JsonValue value) {
+        if (this.hasUnparsed) {
+            materialize(key);
+        }
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public JsonValue computeIfAbsent(String key, Function<? super String, ? extends JsonValue> mappingFunction) {
+        if (this.hasUnparsed) {
+            materialize(key);
+        }
+        return super.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public JsonValue computeIfPresent(String key, BiFunction<? super String, ? super JsonValue, ? extends JsonValue> remappingFunction) {
+        if (this.hasUnparsed) {
+            materialize(key);
+        }
+        return super.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public JsonValue compute(String key, BiFunction<? super String, ? super JsonValue, ? extends JsonValue> remappingFunction) {
+        if (this.hasUnparsed) {
+            materialize(key);
+        }
+        return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public JsonValue merge(String key, JsonValue value, BiFunction<? super JsonValue, ? super JsonValue, ? extends JsonValue> remappingFunction) {
+        if (this.hasUnparsed) {
+            materialize(key);
+        }
+        return super.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        materializeAll();
+        return super.containsValue(value);
+    }
+
+    @Override
+    public Set<Map.Entry<String, JsonValue>> entrySet() {
+        materializeAll();
+        return super.entrySet();
+    }
+
+    @Override
+    public Collection<JsonValue> values() {
+        materializeAll();
+        return super.values();
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super JsonValue> action) {
+        materializeAll();
+        super.forEach(action);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super JsonValue, ? extends JsonValue> function) {
+        materializeAll();
+        super.replaceAll(function);
+    }
+
+    @Override
+    public Map.Entry<String, JsonValue> firstEntry() {
+        materializeAll();
+        return super.firstEntry();
+    }
+
+    @Override
+    public Map.Entry<String, JsonValue> lastEntry() {
+        materializeAll();
+        return super.lastEntry();
+    }
+
+    @Override
+    public Map.Entry<String, JsonValue> pollFirstEntry() {
+        materializeAll();
+        return super.pollFirstEntry();
+    }
+
+    @Override
+    public Map.Entry<String, JsonValue> pollLastEntry() {
+        materializeAll();
+        return super.pollLastEntry();
+    }
+
+    @Override
+    public Map.Entry<String, JsonValue> lowerEntry(String key) {
+        materializeAll();
+        return super.lowerEntry(key);
+    }
+
+    @Override
+    public Map.Entry<String, JsonValue> floorEntry(String key) {
+        materializeAll();
+        return super.floorEntry(key);
+    }
+
+    @Override
+    public Map.Entry<String, JsonValue> ceilingEntry(String key) {
+        materializeAll();
+        return super.ceilingEntry(key);
+    }
+
+    @Override
+    public Map.Entry<String, JsonValue> higherEntry(String key) {
+        materializeAll();
+        return super.higherEntry(key);
+    }
+
+    @Override
+    public NavigableMap<String, JsonValue> descendingMap() {
+        materializeAll();
+        return super.descendingMap();
+    }
+
+    @Override
+    public NavigableMap<String, JsonValue> subMap(String fromKey, boolean fromInclusive, String toKey, boolean toInclusive) {
+        materializeAll();
+        return super.subMap(fromKey, fromInclusive, toKey, toInclusive);
+    }
+
+    @Override
+    public NavigableMap<String, JsonValue> headMap(String toKey, boolean inclusive) {
+        materializeAll();
+        return super.headMap(toKey, inclusive);
+    }
+
+    @Override
+    public NavigableMap<String, JsonValue> tailMap(String fromKey, boolean inclusive) {
+        materializeAll();
+        return super.tailMap(fromKey, inclusive);
+    }
+
+    @Override
+    public SortedMap<String, JsonValue> subMap(String fromKey, String toKey) {
+        materializeAll();
+        return super.subMap(fromKey, toKey);
+    }
+
+    @Override
+    public SortedMap<String, JsonValue> headMap(String toKey) {
+        materializeAll();
+        return super.headMap(toKey);
+    }
+
+    @Override
+    public SortedMap<String, JsonValue> tailMap(String fromKey) {
+        materializeAll();
+        return super.tailMap(fromKey);
+    }
+
+    @Override
+    public Object clone() {
+        materializeAll();
+        return super.clone();
+    }
+
+    private Object writeReplace() {
+        materializeAll();
+        DbDocImpl doc = new DbDocImpl();
+        doc.putAll(this);
+        return doc;
+    }
+}
@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.xdevapi;
+
+import java.nio.charset.StandardCharsets;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.exceptions.ExceptionFactory;
+import com.mysql.cj.exceptions.WrongArgumentException;
+
+/**
+ * JSON parser working directly on UTF-8 encoded bytes, as they are received from the server.
+ * 
+ * Documents are not parsed up front: {@link #parseDoc(byte[], int, int)} only locates the members of the top-level object and returns a {@link LazyDbDocImpl}
+ * that parses each value when it is first read. Nested objects are lazy too, arrays are parsed when they are read.
+ */
+final class Utf8JsonParser {
+    private final byte[] bytes;
+    private final int end;
+    private int pos;
+
+    Utf8JsonParser(byte[] bytes, int pos, int end) {
+        this.bytes = bytes;
+        this.pos = pos;
+        this.end = end;
+    }
+
+    /**
+     * Creates a {@link DbDoc} from the UTF-8 bytes of a JSON document. The byte array is referenced by the returned document and must not be modified
+     * afterwards.
+     * 
+     * @param bytes
+     *            the bytes holding the JSON document
+     * @param offset
+     *            the offset of the document
+     * @param length
+     *            the length of the document
+     * @return a {@link DbDoc} whose values are parsed on first access
+     */
+    static DbDoc parseDoc(byte[] bytes, int offset, int length) {
+        Utf8JsonParser parser = new Utf8JsonParser(bytes, offset, offset + length);
+        parser.skipWhitespace();
+        if (parser.pos >= parser.end || bytes[parser.pos] != '{') {
+            throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("JsonParser.2"));
+        }
+        return parser.parseObject();
+    }
+
+    /**
+     * Parses the value at the current position.
+     * 
+     * @return the value
+     */
+    JsonValue parseValue() {
+        skipWhitespace();
+        if (this.pos >= this.end) {
+            throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("JsonParser.5"));
+        }
+
+        byte b = this.bytes[this.pos];
+        switch (b) {
+            case '"':
+                return new JsonString().setValue(parseString());
+            case '{':
+                return parseObject();
+            case '[':
+                return parseArray();
+            case 't':
+                return parseLiteral(JsonLiteral.TRUE);
+            case 'f':
+                return parseLiteral(JsonLiteral.FALSE);
+            case 'n':
+                return parseLiteral(JsonLiteral.NULL);
+            default:
+                if (b == '-' || b >= '0' && b <= '9') {
+                    return parseNumber();
+                }
+                throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("JsonParser.1", new Character[] { (char) b }));
+        }
+    }
+
+    private LazyDbDocImpl parseObject() {
+        this.pos++; // '{'
+        LazyDbDocImpl doc = new LazyDbDocImpl(this.bytes);
+
+        skipWhitespace();
+        if (this.pos < this.end && this.bytes[this.pos] == '}') {
+            this.pos++;
+            return doc;
+        }
+
+        while (true) {
+            skipWhitespace();
+            if (this.pos >= this.end) {
+                throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("JsonParser.3", new Character[] { '}' }));
+            }
+            if (this.bytes[this.pos] != '"') {
+                throw ExceptionFactory.createException(WrongArgumentException.class,
+                        Messages.getString("JsonParser.1", new Character[] { (char) this.bytes[this.pos] }));
+            }
+            String key = parseString();
+
+            skipWhitespace();
+            if (this.pos >= this.end || this.bytes[this.pos] != ':') {
+                throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("JsonParser.4", new String[] { key }));
+            }
+            this.pos++;
+
+            skipWhitespace();
+            int valueStart = this.pos;
+            try {
+                skipValue();
+            } catch (WrongArgumentException ex) {
+                throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("JsonParser.0", new String[] { key }), ex);
+            }
+            doc.putUnparsed(key, valueStart, this.pos);
+
+            skipWhitespace();
+            if (this.pos >= this.end) {
+                throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("JsonParser.3", new Character[] { '}' }));
+            }
+            byte b = this.bytes[this.pos++];
+            if (b == '}') {
+                return doc;
+            } else if (b != ',') {
+                throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("JsonParser.1", new Character[] { (char) b }));
+            }
+        }
+    }
+
+    private JsonArray parseArray() {
+        this.pos++; // '['
+        JsonArray arr = new JsonArray();
+
+        skipWhitespace();
+        if (this.pos < this.end && this.bytes[this.pos] == ']') {
+            this.pos++;
+            return arr;
+        }
+
+        while (true) {
+            arr.add(parseValue());
+
+            skipWhitespace();
+            if (this.pos >= this.end) {
+                throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("JsonParser.3", new Character[] { ']' }));
+            }
+            byte b = this.bytes[this.pos++];
+            if (b == ']') {
+                return arr;
+            } else if (b != ',') {
+                throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("JsonParser.1", new Character[] { (char) b }));
+            }
+        }
+    }
+
+    private String parseString() {
+        int start = ++this.pos; // '"'
+        StringBuilder sb = null;
+        int runStart = start;
+
+        while (this.pos < this.end) {
+            byte b = this.bytes[this.pos];
+            if (b == '"') {
+                String value;
+                if (sb == null) {
+                    value = new String(this.bytes, start, this.pos - start, StandardCharsets.UTF_8);
+                } else {
+                    value = sb.append(new String(this.bytes, runStart, this.pos - runStart, StandardCharsets.UTF_8)).toString();
+                }
+                this.pos++;
+                return value;
+
+            } else if (b == '\\') {
+                // escape sequences are ASCII, so the bytes before them hold complete UTF-8 sequences
+                if (sb == null) {
+                    sb = new StringBuilder();
+                }
+                sb.append(new String(this.bytes, runStart, this.pos - runStart, StandardCharsets.UTF_8));
+                this.pos++;
+                if (this.pos >= this.end) {
+                    break;
+                }
+                char escaped = (char) this.bytes[this.pos++];
+                Character unescaped = JsonParser.escapeChars.get(escaped);
+                if (unescaped != null) {
+                    sb.append(unescaped.charValue());
+                } else if (escaped == 'u') {
+                    // \\u[4 hex digits] represents a unicode code point (ISO/IEC 10646)
+                    String hexCodePoint = new String(this.bytes, this.pos, Math.min(4, this.end - this.pos), StandardCharsets.US_ASCII);
+                    try {
+                        if (hexCodePoint.length() != 4) {
+                            throw new NumberFormatException();
+                        }
+                        sb.append((char) Integer.parseInt(hexCodePoint, 16));
+                    } catch (NumberFormatException e) {
+                        throw ExceptionFactory.createException(WrongArgumentException.class,
+                                Messages.getString("JsonParser.13", new String[] { hexCodePoint }));
+                    }
+                    this.pos += 4;
+                } else {
+                    throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("JsonParser.7", new Character[] { escaped }));
+                }
+                runStart = this.pos;
+
+            } else {
+                this.pos++;
+            }
+        }
+
+        throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("JsonParser.3", new Character[] { '"' }));
+    }
+
+    private JsonNumber parseNumber() {
+        int start = this.pos;
+        boolean hasFractionalPart = false;
+        boolean hasExponent = false;
+        byte lastByte = 0;
+
+        for (; this.pos < this.end; this.pos++) {
+            byte b = this.bytes[this.pos];
+            if (b >= '0' && b <= '9') {
+                // digits are allowed anywhere
+            } else if (b == '-' || b == '+') {
+                // '-' is allowed only on first position and after exponent character, '+' only after exponent character
+                if (!(lastByte == 'E' || lastByte == 'e' || b == '-' && this.pos == start)) {
+                    throw ExceptionFactory.createException(WrongArgumentException.class,
+                            Messages.getString("JsonParser.8", new Object[] { (char) b, asciiFrom(start) }));
+                }
+            } else if (b == 'E' || b == 'e') {
+                // exponent character is allowed only after a digit
+                if (hasExponent || !(lastByte >= '0' && lastByte <= '9')) {
+                    throw ExceptionFactory.createException(WrongArgumentException.class,
+                            Messages.getString("JsonParser.8", new Object[] { (char) b, asciiFrom(start) }));
+                }
+                hasExponent = true;
+            } else if (b == '.') {
+                // '.' is allowed only once, after a digit and not in exponent part
+                if (hasFractionalPart) {
+                    throw ExceptionFactory.createException(WrongArgumentException.class,
+                            Messages.getString("JsonParser.10", new Object[] { (char) b, asciiFrom(start) }));
+                }
+                if (hasExponent) {
+                    throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("JsonParser.11"));
+                }
+                if (!(lastByte >= '0' && lastByte <= '9')) {
+                    throw ExceptionFactory.createException(WrongArgumentException.class,
+                            Messages.getString("JsonParser.8", new Object[] { (char) b, asciiFrom(start) }));
+                }
+                hasFractionalPart = true;
+            } else if (isWhitespace(b) || b == ',' || b == '}' || b == ']') {
+                break;
+            } else {
+                // no other characters are allowed after value
+                throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("JsonParser.1", new Character[] { (char) b }));
+            }
+            lastByte = b;
+        }
+
+        return new JsonNumber().setValue(asciiFrom(start));
+    }
+
+    private JsonLiteral parseLiteral(JsonLiteral literal) {
+        int start = this.pos;
+        while (this.pos < this.end && this.bytes[this.pos] >= 'a' && this.bytes[this.pos] <= 'z') {
+            this.pos++;
+        }
+        String word = asciiFrom(start);
+        if (!word.equals(literal.value)) {
+            throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("JsonParser.12", new String[] { word }));
+        }
+        return literal;
+    }
+
+    /**
+     * Moves past the value at the current position, checking only that strings, objects and arrays are closed. The value itself is checked when it is
+     * parsed.
+     */
+    private void skipValue() {
+        if (this.pos >= this.end) {
+            throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("JsonParser.5"));
+        }
+
+        byte b = this.bytes[this.pos];
+        if (b == '"') {
+            skipString();
+
+        } else if (b == '{' || b == '[') {
+            int depth = 0;
+            while (this.pos < this.end) {
+                b = this.bytes[this.pos];
+                if (b == '"') {
+                    skipString();
+                    continue;
+                } else if (b == '{' || b == '[') {
+                    depth++;
+                } else if ((b == '}' || b == ']') && --depth == 0) {
+                    this.pos++;
+                    return;
+                }
+                this.pos++;
+            }
+            throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("JsonParser.3", new Character[] { b == '[' ? ']' : '}' }));
+
+        } else {
+            // number or literal
+            int start = this.pos;
+            while (this.pos < this.end && !isWhitespace(b = this.bytes[this.pos]) && b != ',' && b != '}' && b != ']') {
+                this.pos++;
+            }
+            if (this.pos == start) {
+                throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("JsonParser.5"));
+            }
+        }
+    }
+
+    private void skipString() {
+        this.pos++; // '"'
+        while (this.pos < this.end) {
+            byte b = this.bytes[this.pos++];
+            if (b == '"') {
+                return;
+            } else if (b == '\\') {
+                this.pos++;
+            }
+        }
+        throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("JsonParser.3", new Character[] { '"' }));
+    }
+
+    private String asciiFrom(int start) {
+        return new String(this.bytes, start, this.pos - start, StandardCharsets.US_ASCII);
+    }
+
+    private void skipWhitespace() {
+        while (this.pos < this.end && isWhitespace(this.bytes[this.pos])) {
+            this.pos++;
+        }
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+}
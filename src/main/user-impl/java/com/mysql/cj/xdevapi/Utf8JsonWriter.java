@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.xdevapi;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Writes {@link JsonValue} trees as UTF-8 encoded JSON text, the same text {@link JsonValue#toString()} returns except for document keys, which are
+ * escaped, without building intermediate strings.
+ * 
+ * Several values can be written one after the other into the same buffer and then referenced as ranges of {@link #getBuffer()}.
+ */
+final class Utf8JsonWriter {
+    private byte[] buf;
+    private int count = 0;
+
+    Utf8JsonWriter(int initialCapacity) {
+        this.buf = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    /**
+     * Returns the buffer holding the values written so far. The buffer is replaced when it grows, so it must be fetched again after writing more values.
+     * 
+     * @return the buffer
+     */
+    byte[] getBuffer() {
+        return this.buf;
+    }
+
+    /**
+     * Returns the number of bytes written so far.
+     * 
+     * @return the number of bytes written
+     */
+    int size() {
+        return this.count;
+    }
+
+    /**
+     * Writes the given value.
+     * 
+     * @param value
+     *            the value to write
+     */
+    void write(JsonValue value) {
+        Class<?> cls = value.getClass();
+        if (cls == DbDocImpl.class || cls == LazyDbDocImpl.class) {
+            writeDoc((DbDoc) value);
+        } else if (cls == JsonArray.class) {
+            writeArray((JsonArray) value);
+        } else if (cls == JsonString.class) {
+            writeString(((JsonString) value).getString());
+        } else if (cls == JsonNumber.class || value instanceof JsonLiteral) {
+            writeAscii(value.toString());
+        } else {
+            // other implementations may have their own representation
+            writeChars(value.toString());
+        }
+    }
+
+    private void writeDoc(DbDoc doc) {
+        writeByte('{');
+        boolean first = true;
+        // keys and get() instead of entrySet() so that lazily parsed documents don't need to parse all their values first
+        for (String key : doc.keySet()) {
+            if (!first) {
+                writeByte(',');
+            }
+            first = false;
+            writeString(key);
+            writeByte(':');
+            write(doc.get(key));
+        }
+        writeByte('}');
+    }
+
+    private void writeArray(JsonArray arr) {
+        writeByte('[');
+        for (int i = 0, n = arr.size(); i < n; i++) {
+            if (i > 0) {
+                writeByte(',');
+            }
+            write(arr.get(i));
+        }
+        writeByte(']');
+    }
+
+    private void writeString(String str) {
+        writeByte('"');
+        ensureCapacity(str.length());
+        for (int i = 0, n = str.length(); i < n; i++) {
+            char c = str.charAt(i);
+            switch (c) {
+                case '"':
+                case '\\':
+                    writeEscaped(c);
+                    break;
+                case '\b':
+                    writeEscaped('b');
+                    break;
+                case '\f':
+                    writeEscaped('f');
+                    break;
+                case '\n':
+                    writeEscaped('n');
+                    break;
+                case '\r':
+                    writeEscaped('r');
+                    break;
+                case '\t':
+                    writeEscaped('t');
+                    break;
+                default:
+                    if (c < 0x80) {
+                        writeByte(c);
+                    } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(str.charAt(i + 1))) {
+                        writeCodePoint(Character.toCodePoint(c, str.charAt(++i)));
+                    } else {
+                        writeCodePoint(c);
+                    }
+            }
+        }
+        writeByte('"');
+    }
+
+    private void writeEscaped(char c) {
+        ensureCapacity(2);
+        this.buf[this.count++] = '\\';
+        this.buf[this.count++] = (byte) c;
+    }
+
+    private void writeCodePoint(int cp) {
+        ensureCapacity(4);
+        if (cp < 0x800) {
+            this.buf[this.count++] = (byte) (0xc0 | cp >> 6);
+            this.buf[this.count++] = (byte) (0x80 | cp & 0x3f);
+        } else if (cp >= Character.MIN_SURROGATE && cp <= Character.MAX_SURROGATE) {
+            // unpaired surrogate, replaced as String.getBytes() does
+            this.buf[this.count++] = '?';
+        } else if (cp < 0x10000) {
+            this.buf[this.count++] = (byte) (0xe0 | cp >> 12);
+            this.buf[this.count++] = (byte) (0x80 | cp >> 6 & 0x3f);
+            this.buf[this.count++] = (byte) (0x80 | cp & 0x3f);
+        } else {
+            this.buf[this.count++] = (byte) (0xf0 | cp >> 18);
+            this.buf[this.count++] = (byte) (0x80 | cp >> 12 & 0x3f);
+            this.buf[this.count++] = (byte) (0x80 | cp >> 6 & 0x3f);
+            this.buf[this.count++] = (byte) (0x80 | cp & 0x3f);
+        }
+    }
+
+    private void writeAscii(String str) {
+        int n = str.length();
+        ensureCapacity(n);
+        for (int i = 0; i < n; i++) {
+            this.buf[this.count++] = (byte) str.charAt(i);
+        }
+    }
+
+    private void writeChars(String str) {
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, this.buf, this.count, bytes.length);
+        this.count += bytes.length;
+    }
+
+    private void writeByte(int b) {
+        ensureCapacity(1);
+        this.buf[this.count++] = (byte) b;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (this.count + additional > this.buf.length) {
+            this.buf = Arrays.copyOf(this.buf, Math.max(this.buf.length * 2, this.count + additional));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for QueryDescriptor.
+ */
+public class QueryDescriptorTest {
+    private static final String[] QUERIES = new String[] { "SELECT 1", "  select 1", "/* comment */ SELECT 1", "-- comment\nINSERT INTO t VALUES (1)",
+            "# comment\r\nUPDATE t SET c = 1", "/*+ hint */ DELETE FROM t", "/*!50000 SELECT */ 1", "/*! SHOW */ TABLES", "'quoted' SELECT",
+            "`quoted\\` SELECT` DROP", "\"quoted\\\" SELECT\" DROP", "(SELECT 1)", "CALL p()", "EXPLAIN SELECT 1", "SHOW TABLES", "SET @a = 1",
+            "CREATE TABLE t (c INT)", "WITH cte AS (SELECT 1) SELECT * FROM cte", "WITH cte AS (SELECT 1) DELETE FROM t", "XA RECOVER", "XA START 'x'",
+            "LOAD DATA LOCAL INFILE 'f' INTO TABLE t", "TRUNCATE t", "", "   ", "/* only a comment */", "--;SELECT 1", "\\'SELECT 1",
+            "#x;SELECT\nDELETE FROM t", "#;SELECT 1\nUPDATE t SET c = 1", "# ;SELECT\r\nINSERT INTO t VALUES (1)" };
+
+    /**
+     * Tests that the single pass classification matches the individual scans from {@link QueryInfo}.
+     */
+    @Test
+    public void testClassificationMatchesQueryInfo() {
+        for (boolean noBackslashEscapes : new boolean[] { false, true }) {
+            for (String sql : QUERIES) {
+                QueryDescriptor descriptor = new QueryDescriptor(sql, noBackslashEscapes);
+                String context = sql + " (noBackslashEscapes=" + noBackslashEscapes + ")";
+                assertEquals(QueryInfo.indexOfStatementKeyword(sql, noBackslashEscapes), descriptor.getStatementKeywordPos(), context);
+                assertEquals(QueryInfo.firstCharOfStatementUc(sql, noBackslashEscapes), descriptor.getFirstStmtChar(), context);
+                assertEquals(QueryInfo.getQueryReturnType(sql, noBackslashEscapes), descriptor.getQueryReturnType(), context);
+                assertEquals(QueryInfo.isReadOnlySafeQuery(sql, noBackslashEscapes), descriptor.isReadOnlySafe(), context);
+            }
+        }
+    }
+
+    @Test
+    public void testEscapesAndMultiStatements() {
+        assertFalse(QueryDescriptor.forSql("SELECT 1", false).containsEscapes());
+        assertFalse(QueryDescriptor.forSql("SELECT '{'", false).containsEscapes());
+        assertTrue(QueryDescriptor.forSql("SELECT {fn NOW()}", false).containsEscapes());
+        assertTrue(QueryDescriptor.forSql("SELECT '{d ''2022-01-01''}'", false).containsEscapes());
+
+        assertFalse(QueryDescriptor.forSql("SELECT 1", false).isMultiStatement());
+        assertFalse(QueryDescriptor.forSql("SELECT 1;", false).isMultiStatement());
+        assertFalse(QueryDescriptor.forSql("SELECT 1; -- comment", false).isMultiStatement());
+        assertFalse(QueryDescriptor.forSql("SELECT 1; /* comment */ ", false).isMultiStatement());
+        assertFalse(QueryDescriptor.forSql("SELECT ';SELECT 2'", false).isMultiStatement());
+        assertFalse(QueryDescriptor.forSql("SELECT 'a\\';SELECT 2'", false).isMultiStatement());
+        assertTrue(QueryDescriptor.forSql("SELECT 'a\\';SELECT 2'", true).isMultiStatement());
+        assertTrue(QueryDescriptor.forSql("SELECT 1; SELECT 2", false).isMultiStatement());
+        assertTrue(QueryDescriptor.forSql("SELECT 1;/*!SELECT 2*/", false).isMultiStatement());
+    }
+
+    @Test
+    public void testCache() {
+        String sql = "SELECT * FROM testCache";
+        assertSame(QueryDescriptor.forSql(sql, false), QueryDescriptor.forSql(new String(sql), false));
+        assertEquals(QueryReturnType.PRODUCES_RESULT_SET, QueryDescriptor.forSql(sql, true).getQueryReturnType());
+
+        // Backslash escapes change the classification of the same text.
+        sql = "SELECT 'a\\'; DROP TABLE t; SELECT '";
+        assertFalse(QueryDescriptor.forSql(sql, false).isMultiStatement());
+        assertTrue(QueryDescriptor.forSql(sql, true).isMultiStatement());
+
+        StringBuilder longSql = new StringBuilder("SELECT 1");
+        while (longSql.length() <= 4096) {
+            longSql.append(" + 1");
+        }
+        assertEquals('S', QueryDescriptor.forSql(longSql.toString(), false).getFirstStmtChar());
+    }
+}
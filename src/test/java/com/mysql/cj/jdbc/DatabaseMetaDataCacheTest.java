@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.QueryDescriptor;
+
+/**
+ * Tests for {@link DatabaseMetaDataCache}.
+ */
+public class DatabaseMetaDataCacheTest {
+    private static Map<String, List<byte[][]>> rowsByTable(String... tables) {
+        Map<String, List<byte[][]>> rowsByTable = new LinkedHashMap<>();
+        for (String table : tables) {
+            List<byte[][]> rows = new ArrayList<>();
+            rows.add(new byte[][] { table.getBytes() });
+            rowsByTable.put(DatabaseMetaDataCache.tableKey(table, true), rows);
+        }
+        return rowsByTable;
+    }
+
+    private static List<String> tables(List<byte[][]> rows) {
+        List<String> tables = new ArrayList<>();
+        for (byte[][] row : rows) {
+            tables.add(new String(row[0]));
+        }
+        return tables;
+    }
+
+    private static void invalidateIfDdl(String url, String sql) {
+        DatabaseMetaDataCache.invalidateIfDdl(url, sql, QueryDescriptor.forSql(sql, false).getStatementKeywordPos());
+    }
+
+    @Test
+    public void testMatches() {
+        assertTrue(DatabaseMetaDataCache.matches("col1", null, true));
+        assertTrue(DatabaseMetaDataCache.matches("COL1", "col1", true));
+        assertFalse(DatabaseMetaDataCache.matches("COL1", "col1", false));
+        assertTrue(DatabaseMetaDataCache.matches("col_1", "col%", false));
+        assertTrue(DatabaseMetaDataCache.matches("colX1", "col_1", false));
+        assertFalse(DatabaseMetaDataCache.matches("colX1", "col\\_1", false));
+        assertTrue(DatabaseMetaDataCache.matches("col_1", "col\\_1", false));
+        assertTrue(DatabaseMetaDataCache.matches("a.b(c)", "a.b(%", false));
+        assertFalse(DatabaseMetaDataCache.matches("axb(c)", "a.b(%", false));
+    }
+
+    @Test
+    public void testGetRows() {
+        Map<String, List<byte[][]>> rowsByTable = rowsByTable("t1", "T2", "other");
+
+        assertEquals(Collections.singletonList("T2"), tables(DatabaseMetaDataCache.getRows(rowsByTable, "t2", true)));
+        assertEquals(Collections.singletonList("T2"), tables(DatabaseMetaDataCache.getTableRows(rowsByTable, "T2", true)));
+        assertTrue(DatabaseMetaDataCache.getTableRows(rowsByTable, "t3", true).isEmpty());
+        List<String> expected = new ArrayList<>();
+        expected.add("t1");
+        expected.add("T2");
+        assertEquals(expected, tables(DatabaseMetaDataCache.getRows(rowsByTable, "T%", true)));
+        expected.add("other");
+        assertEquals(expected, tables(DatabaseMetaDataCache.getRows(rowsByTable, null, true)));
+    }
+
+    @Test
+    public void testExpiration() throws Exception {
+        DatabaseMetaDataCache cache = new DatabaseMetaDataCache();
+        AtomicInteger loads = new AtomicInteger();
+        DatabaseMetaDataCache.Loader loader = () -> {
+            loads.incrementAndGet();
+            return rowsByTable("t1");
+        };
+
+        Map<String, List<byte[][]>> rows = cache.get("COLUMNS/db", 0, loader);
+        assertSame(rows, cache.get("COLUMNS/db", 0, loader));
+        assertEquals(1, loads.get());
+
+        Thread.sleep(5);
+        assertNotSame(rows, cache.get("COLUMNS/db", 1, loader));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testCachedUrlsAreBounded() throws Exception {
+        String url = "jdbc:mysql://" + getClass().getName() + "/bounded";
+        DatabaseMetaDataCache cache = DatabaseMetaDataCache.getInstance(url + 0);
+        assertSame(cache, DatabaseMetaDataCache.getInstance(url + 0));
+
+        // the cache of the least recently used URL is dropped
+        for (int i = 1; i <= 16; i++) {
+            DatabaseMetaDataCache.getInstance(url + i);
+        }
+        assertNotSame(cache, DatabaseMetaDataCache.getInstance(url + 0));
+    }
+
+    @Test
+    public void testInvalidateIfDdl() throws Exception {
+        String url = "jdbc:mysql://" + getClass().getName() + "/db";
+        DatabaseMetaDataCache cache = DatabaseMetaDataCache.getInstance(url);
+        AtomicInteger loads = new AtomicInteger();
+        DatabaseMetaDataCache.Loader loader = () -> {
+            loads.incrementAndGet();
+            return rowsByTable("t1");
+        };
+
+        cache.get("COLUMNS/db", 0, loader);
+        invalidateIfDdl(url, "SELECT * FROM t1 /* ALTER TABLE */");
+        invalidateIfDdl(url, "INSERT INTO t1 VALUES ('DROP')");
+        cache.get("COLUMNS/db", 0, loader);
+        assertEquals(1, loads.get());
+
+        invalidateIfDdl(url, "/* comment */ alter table t1 add column c2 int");
+        cache.get("COLUMNS/db", 0, loader);
+        assertEquals(2, loads.get());
+
+        invalidateIfDdl(url, "  CREATE TABLE t2 (c1 INT)");
+        cache.get("COLUMNS/db", 0, loader);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void testInvalidateWhileLoading() throws Exception {
+        DatabaseMetaDataCache cache = new DatabaseMetaDataCache();
+        AtomicInteger loads = new AtomicInteger();
+
+        // rows loaded before a concurrent DDL statement must not be cached
+        cache.get("INDEXES/db", 0, () -> {
+            loads.incrementAndGet();
+            cache.invalidateAll();
+            return rowsByTable("t1");
+        });
+        cache.get("INDEXES/db", 0, () -> {
+            loads.incrementAndGet();
+            return rowsByTable("t1");
+        });
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MysqlPoolingDataSource} that don't need a server.
+ */
+public class MysqlPoolingDataSourceTest {
+    @Test
+    public void histogramBuckets() {
+        MysqlPoolingDataSource.Histogram histogram = new MysqlPoolingDataSource.Histogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(99));
+
+        histogram.record(500); // 0 us
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(1));
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(5));
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(7));
+        histogram.record(TimeUnit.SECONDS.toNanos(1));
+
+        assertEquals(5, histogram.getCount());
+        assertEquals(1, histogram.getCount(0));
+        assertEquals(1, histogram.getCount(1));
+        assertEquals(2, histogram.getCount(3));
+        assertEquals(7, histogram.getUpperBound(3));
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals((1 + 5 + 7 + 1_000_000) / 5.0, histogram.getMean(), 0.001);
+
+        assertEquals(0, histogram.getPercentile(20));
+        assertEquals(7, histogram.getPercentile(80));
+        assertEquals(1_000_000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void histogramOverflowsIntoLastBucket() {
+        MysqlPoolingDataSource.Histogram histogram = new MysqlPoolingDataSource.Histogram();
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(1, histogram.getCount(histogram.getBucketCount() - 1));
+        assertEquals(Long.MAX_VALUE, histogram.getUpperBound(histogram.getBucketCount() - 1));
+    }
+
+    @Test
+    public void poolSettings() throws Exception {
+        MysqlPoolingDataSource ds = new MysqlPoolingDataSource();
+        assertEquals(25, ds.getPoolMaxSize());
+        assertEquals(0, ds.getPoolQueueTimeout());
+
+        ds.setPoolMaxSize(3);
+        ds.setPoolMaxIdleTime(60_000);
+        ds.setPoolQueueTimeout(500);
+        ds.setPoolValidationIdleTime(0);
+        assertEquals(3, ds.getPoolMaxSize());
+        assertEquals(60_000, ds.getPoolMaxIdleTime());
+        assertEquals(500, ds.getPoolQueueTimeout());
+        assertEquals(0, ds.getPoolValidationIdleTime());
+
+        assertThrows(SQLException.class, () -> ds.setPoolMaxSize(0));
+        assertThrows(SQLException.class, () -> ds.setPoolQueueTimeout(-1));
+        assertEquals(3, ds.getPoolMaxSize());
+    }
+
+    @Test
+    public void closedPoolRefusesConnections() {
+        MysqlPoolingDataSource ds = new MysqlPoolingDataSource();
+        ds.close();
+        assertTrue(ds.isClosed());
+        assertThrows(SQLException.class, ds::getConnection);
+        assertEquals(0, ds.getTotalConnections());
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LatencyAwareBalanceStrategy} and {@link HostLatencyTracker}.
+ */
+public class LatencyAwareBalanceStrategyTest {
+    @Test
+    public void testMovingAverage() {
+        HostLatencyTracker.HostStats stats = new HostLatencyTracker.HostStats();
+        long now = System.nanoTime();
+        assertEquals(0, stats.getAverageNanos(now));
+
+        stats.record(8000, now);
+        assertEquals(8000, stats.getAverageNanos(now));
+        stats.record(16000, now);
+        assertEquals(9000, stats.getAverageNanos(now));
+        stats.record(1000, now);
+        assertEquals(8000, stats.getAverageNanos(now));
+
+        // decays when no samples are recorded
+        assertEquals(4000, stats.getAverageNanos(now + HostLatencyTracker.DECAY_PERIOD_NANOS));
+        assertEquals(2000, stats.getAverageNanos(now + 2 * HostLatencyTracker.DECAY_PERIOD_NANOS + 1));
+    }
+
+    @Test
+    public void testInFlight() {
+        HostLatencyTracker.HostStats stats = new HostLatencyTracker.HostStats();
+        long now = System.nanoTime();
+        stats.record(1000, now);
+        assertEquals(1000, stats.getCost(now));
+
+        stats.begin();
+        stats.begin();
+        assertEquals(2, stats.getInFlight());
+        assertEquals(3000, stats.getCost(now));
+
+        stats.end(-1);
+        assertEquals(1, stats.getInFlight());
+        assertEquals(1000, stats.getAverageNanos(now));
+        stats.end(9000);
+        assertEquals(0, stats.getInFlight());
+        assertEquals(2000, stats.getAverageNanos(System.nanoTime()));
+    }
+
+    @Test
+    public void testSharedByUrl() {
+        String url = "jdbc:mysql:loadbalance://" + getClass().getName() + "1,host2/db";
+        assertSame(HostLatencyTracker.getInstance(url), HostLatencyTracker.getInstance(url));
+        assertSame(HostLatencyTracker.getInstance(url).getStats("host1:3306"), HostLatencyTracker.getInstance(url).getStats("host1:3306"));
+    }
+
+    @Test
+    public void testPickHost() {
+        HostLatencyTracker tracker = new HostLatencyTracker();
+        List<String> hosts = Arrays.asList("host1:3306", "host2:3306");
+        long now = System.nanoTime();
+
+        assertEquals("host1:3306", LatencyAwareBalanceStrategy.pickHost(tracker, hosts.subList(0, 1)));
+
+        tracker.getStats("host1:3306").record(1000, now);
+        tracker.getStats("host2:3306").record(5000, now);
+        for (int i = 0; i < 20; i++) {
+            assertEquals("host1:3306", LatencyAwareBalanceStrategy.pickHost(tracker, hosts));
+        }
+
+        // the fastest host is avoided once it is loaded enough
+        for (int i = 0; i < 5; i++) {
+            tracker.getStats("host1:3306").begin();
+        }
+        for (int i = 0; i < 20; i++) {
+            assertEquals("host2:3306", LatencyAwareBalanceStrategy.pickHost(tracker, hosts));
+        }
+
+        // hosts without statistics get probed
+        tracker.reset("host2:3306");
+        tracker.getStats("host2:3306").begin();
+        assertTrue(tracker.getStats("host2:3306").getCost(now) < tracker.getStats("host1:3306").getCost(now));
+        assertEquals("host2:3306", LatencyAwareBalanceStrategy.pickHost(tracker, hosts));
+    }
+}
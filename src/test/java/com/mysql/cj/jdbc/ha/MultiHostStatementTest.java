@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.jdbc.JdbcPreparedStatement;
+import com.mysql.cj.jdbc.JdbcStatement;
+import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
+
+/**
+ * Tests for the statically typed wrappers of objects bound to multi-host connections.
+ */
+public class MultiHostStatementTest {
+    static class TestProxy extends MultiHostConnectionProxy {
+        int switches = 0;
+        int beforeExecute = 0;
+        int afterExecute = 0;
+
+        TestProxy() throws SQLException {
+            super();
+        }
+
+        @Override
+        boolean shouldExceptionTriggerConnectionSwitch(Throwable t) {
+            return t instanceof SQLNonTransientConnectionException;
+        }
+
+        @Override
+        boolean isSourceConnection() {
+            return true;
+        }
+
+        @Override
+        void pickNewConnection() throws SQLException {
+            this.switches++;
+        }
+
+        @Override
+        void beforeStatementExecute() {
+            this.beforeExecute++;
+        }
+
+        @Override
+        void afterStatementExecute() {
+            this.afterExecute++;
+        }
+
+        @Override
+        void doClose() throws SQLException {
+        }
+
+        @Override
+        void doAbortInternal() throws SQLException {
+        }
+
+        @Override
+        void doAbort(Executor executor) throws SQLException {
+        }
+
+        @Override
+        Object invokeMore(Object proxy, Method method, Object[] args) throws Throwable {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> iface, Object... nameAndResults) {
+        return (T) Proxy.newProxyInstance(iface.getClassLoader(), new Class<?>[] { iface }, (proxy, method, args) -> {
+            for (int i = 0; i < nameAndResults.length; i += 2) {
+                if (nameAndResults[i].equals(method.getName())) {
+                    if (nameAndResults[i + 1] instanceof Throwable) {
+                        throw (Throwable) nameAndResults[i + 1];
+                    }
+                    return nameAndResults[i + 1];
+                }
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    /**
+     * Tests that calls are delegated and that JDBC objects returned are wrapped.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testDelegation() throws Exception {
+        TestProxy proxy = new TestProxy();
+        ResultSetInternalMethods rs = stub(ResultSetInternalMethods.class, "getInt", 10, "getString", "ten", "next", true);
+        JdbcPreparedStatement ps = stub(JdbcPreparedStatement.class, "executeQuery", rs, "getMaxRows", 5, "setInt", null);
+
+        MultiHostPreparedStatement wrapper = new MultiHostPreparedStatement(proxy, ps);
+        assertEquals(5, wrapper.getMaxRows());
+        wrapper.setInt(1, 1);
+
+        ResultSet wrappedRs = wrapper.executeQuery();
+        assertFalse(rs == wrappedRs);
+        assertTrue(wrappedRs.next());
+        assertEquals(10, wrappedRs.getInt(1));
+        assertEquals("ten", wrappedRs.getString(2));
+        assertEquals(1, proxy.beforeExecute);
+        assertEquals(1, proxy.afterExecute);
+
+        MultiHostResultSet rsWrapper = new MultiHostResultSet(proxy, rs);
+        assertEquals(10, rsWrapper.getInt(1));
+        assertTrue(rsWrapper.equals(rsWrapper));
+        assertFalse(rsWrapper.equals(new MultiHostResultSet(proxy, rs)));
+
+        assertEquals(0, proxy.switches);
+    }
+
+    /**
+     * Tests that exceptions thrown by the wrapped objects are rethrown as is, after letting the connection proxy switch connections if needed.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testExceptions() throws Exception {
+        TestProxy proxy = new TestProxy();
+        SQLException commError = new SQLNonTransientConnectionException("Communications link failure");
+        SQLException syntaxError = new SQLException("Syntax error");
+        JdbcStatement stmt = stub(JdbcStatement.class, "executeUpdate", commError, "execute", syntaxError, "getFetchSize", commError);
+
+        MultiHostStatement wrapper = new MultiHostStatement(proxy, stmt);
+        assertSame(syntaxError, assertThrows(SQLException.class, () -> wrapper.execute("SELECT")));
+        assertEquals(0, proxy.switches);
+        assertEquals(1, proxy.beforeExecute);
+        assertEquals(0, proxy.afterExecute);
+
+        assertSame(commError, assertThrows(SQLException.class, () -> wrapper.executeUpdate("UPDATE")));
+        assertEquals(1, proxy.switches);
+        assertEquals(2, proxy.beforeExecute);
+        assertEquals(0, proxy.afterExecute);
+
+        // The same exception doesn't trigger a new switch.
+        assertSame(commError, assertThrows(SQLException.class, () -> wrapper.getFetchSize()));
+        assertEquals(1, proxy.switches);
+    }
+}
@@ -30,6 +30,7 @@
 package com.mysql.cj.protocol.a;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
@@ -38,9 +39,14 @@ import java.nio.ByteOrder;
 import org.junit.jupiter.api.Test;
 
 import com.mysql.cj.Constants;
+import com.mysql.cj.MysqlType;
 import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.exceptions.CJOperationNotSupportedException;
+import com.mysql.cj.exceptions.DataReadException;
+import com.mysql.cj.result.Field;
 import com.mysql.cj.result.StringValueFactory;
 import com.mysql.cj.result.ValueFactory;
+import com.mysql.cj.util.LazyString;
 
 /**
  * Tests for {@link MysqlBinaryValueDecoder}.
@@ -104,4 +110,40 @@ public class MysqlBinaryValueDecoderTest {
         decoded = this.valueDecoder.decodeUInt8(unsignedInt8Max, 0, 8, vf);
         assertEquals("18446744073709551615", decoded);
     }
+
+    private static Field field(int mysqlTypeId, MysqlType mysqlType) {
+        return new Field(new LazyString("db"), new LazyString("t"), new LazyString("t"), new LazyString("c"), new LazyString("c"), 20, mysqlTypeId,
+                (short) (MysqlType.isSigned(mysqlType) ? 0 : MysqlType.FIELD_FLAG_UNSIGNED), 0, 63, "ISO-8859-1", mysqlType);
+    }
+
+    @Test
+    public void testDecodeAsPrimitives() {
+        ByteBuffer buf = ByteBuffer.allocate(9).order(ByteOrder.LITTLE_ENDIAN);
+
+        byte[] int1 = new byte[] { 0x7F, (byte) 0xFE };
+        assertEquals(-2, this.valueDecoder.decodeAsLong(int1, 1, 1, field(MysqlType.FIELD_TYPE_TINY, MysqlType.TINYINT)));
+        assertEquals(254, this.valueDecoder.decodeAsLong(int1, 1, 1, field(MysqlType.FIELD_TYPE_TINY, MysqlType.TINYINT_UNSIGNED)));
+
+        byte[] int2 = new byte[] { (byte) 0xFE, (byte) 0xFF };
+        assertEquals(-2, this.valueDecoder.decodeAsLong(int2, 0, 2, field(MysqlType.FIELD_TYPE_SHORT, MysqlType.SMALLINT)));
+        assertEquals(65534, this.valueDecoder.decodeAsLong(int2, 0, 2, field(MysqlType.FIELD_TYPE_SHORT, MysqlType.SMALLINT_UNSIGNED)));
+
+        byte[] int4 = buf.clear().put((byte) 0).putInt(-2).array();
+        assertEquals(-2, this.valueDecoder.decodeAsLong(int4, 1, 4, field(MysqlType.FIELD_TYPE_LONG, MysqlType.INT)));
+        assertEquals(4294967294L, this.valueDecoder.decodeAsLong(int4, 1, 4, field(MysqlType.FIELD_TYPE_LONG, MysqlType.INT_UNSIGNED)));
+        assertEquals(-2, this.valueDecoder.decodeAsLong(int4, 1, 4, field(MysqlType.FIELD_TYPE_INT24, MysqlType.MEDIUMINT)));
+
+        byte[] int8 = buf.clear().put((byte) 0).putLong(Long.MIN_VALUE).array();
+        assertEquals(Long.MIN_VALUE, this.valueDecoder.decodeAsLong(int8, 1, 8, field(MysqlType.FIELD_TYPE_LONGLONG, MysqlType.BIGINT)));
+        assertThrows(CJOperationNotSupportedException.class,
+                () -> this.valueDecoder.decodeAsLong(int8, 1, 8, field(MysqlType.FIELD_TYPE_LONGLONG, MysqlType.BIGINT_UNSIGNED)));
+        assertThrows(DataReadException.class, () -> this.valueDecoder.decodeAsLong(int8, 1, 4, field(MysqlType.FIELD_TYPE_LONGLONG, MysqlType.BIGINT)));
+
+        byte[] float4 = buf.clear().put((byte) 0).putFloat(1.5f).array();
+        assertEquals(1.5, this.valueDecoder.decodeAsDouble(float4, 1, 4, field(MysqlType.FIELD_TYPE_FLOAT, MysqlType.FLOAT)));
+        byte[] double8 = buf.clear().put((byte) 0).putDouble(-1.0E300).array();
+        assertEquals(-1.0E300, this.valueDecoder.decodeAsDouble(double8, 1, 8, field(MysqlType.FIELD_TYPE_DOUBLE, MysqlType.DOUBLE)));
+        assertThrows(CJOperationNotSupportedException.class,
+                () -> this.valueDecoder.decodeAsDouble(double8, 1, 8, field(MysqlType.FIELD_TYPE_NEWDECIMAL, MysqlType.DECIMAL)));
+    }
 }
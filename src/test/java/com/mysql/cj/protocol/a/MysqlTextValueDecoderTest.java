@@ -37,6 +37,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
 import com.mysql.cj.Constants;
+import com.mysql.cj.MysqlType;
 import com.mysql.cj.conf.DefaultPropertySet;
 import com.mysql.cj.exceptions.NumberOutOfRange;
 import com.mysql.cj.protocol.InternalTime;
@@ -124,6 +125,19 @@ public class MysqlTextValueDecoderTest {
         assertEquals("18223372036854775807", this.valueDecoder.decodeUInt8(uint8MoreThanMaxLong2, 0, uint8MoreThanMaxLong2.length, vf));
     }
 
+    @Test
+    public void testDecodeAsPrimitives() {
+        Field f = new Field("t", "c", 63, "ISO-8859-1", MysqlType.BIGINT, 20);
+        byte[] bytes = "x-9223372036854775808".getBytes();
+        assertEquals(Long.MIN_VALUE, this.valueDecoder.decodeAsLong(bytes, 1, bytes.length - 1, f));
+        bytes = "42".getBytes();
+        assertEquals(42, this.valueDecoder.decodeAsLong(bytes, 0, 2, f));
+        assertThrows(NumberOutOfRange.class, () -> this.valueDecoder.decodeAsLong("9223372036854775808".getBytes(), 0, 19, f));
+
+        bytes = "1.5E300;".getBytes();
+        assertEquals(1.5E300, this.valueDecoder.decodeAsDouble(bytes, 0, 7, f));
+    }
+
     @Test
     public void testIsTime() {
         assertTrue(MysqlTextValueDecoder.isTime("10:00:00"));
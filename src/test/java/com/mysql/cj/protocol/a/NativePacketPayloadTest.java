@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.util.StringUtils;
+
+/**
+ * Tests for {@link NativePacketPayload}.
+ */
+public class NativePacketPayloadTest {
+
+    private void assertEscapedString(String s, boolean useAnsiQuotedIdentifiers) {
+        byte[] expected = StringUtils.escapeString(new StringBuilder(), s, useAnsiQuotedIdentifiers, null).toString().getBytes(StandardCharsets.UTF_8);
+
+        NativePacketPayload packet = new NativePacketPayload(16);
+        packet.setPosition(0);
+        packet.setPayloadLength(0);
+        packet.writeBytes(NativeConstants.StringLengthDataType.STRING_FIXED, new byte[] { 1, 2, 3 });
+        assertTrue(packet.writeEscapedString(s, useAnsiQuotedIdentifiers, false));
+
+        assertEquals(3 + expected.length, packet.getPosition());
+        assertEquals(3 + expected.length, packet.getPayloadLength());
+        assertArrayEquals(expected, Arrays.copyOfRange(packet.getByteBuffer(), 3, packet.getPosition()));
+    }
+
+    @Test
+    public void testWriteEscapedString() {
+        String[] values = new String[] { "", "abc", "it's", "a\\b", "\"quoted\"", "line\nbreak\r", "nul\0char", "ctrl-z\032", "ação", "€¥₩",
+                "😀 emoji", "unpaired \ud83d surrogate", "unpaired \ude00 surrogate" };
+        for (String value : values) {
+            assertEscapedString(value, false);
+            assertEscapedString(value, true);
+        }
+
+        // Values spanning several escape chunks, with surrogate pairs across the chunk boundaries.
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 40000) {
+            sb.append("plain ascii text, 'quoted' \"double\" \\ ç€😀");
+        }
+        for (int offset = 0; offset < 4; offset++) {
+            String value = sb.substring(offset);
+            assertEscapedString(value, false);
+            assertEscapedString(value, true);
+        }
+        StringBuilder ascii = new StringBuilder();
+        while (ascii.length() < 40000) {
+            ascii.append("only plain ascii text ");
+        }
+        assertEscapedString(ascii.toString(), false);
+        assertEscapedString(ascii.append('\'').toString(), false);
+    }
+
+    @Test
+    public void testWriteEscapedStringAsciiOnly() {
+        NativePacketPayload packet = new NativePacketPayload(4);
+        packet.setPosition(0);
+        packet.setPayloadLength(0);
+
+        assertTrue(packet.writeEscapedString("it's", false, true));
+        assertEquals("'it''s'", new String(packet.getByteBuffer(), 0, packet.getPosition(), StandardCharsets.US_ASCII));
+
+        int position = packet.getPosition();
+        assertFalse(packet.writeEscapedString("it's ç", false, true));
+        assertEquals(position, packet.getPosition());
+        assertEquals(position, packet.getPayloadLength());
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.log.NullLogger;
+
+/**
+ * Round-trip tests of {@link CompressedPacketSender} and {@link CompressedInputStream} with the available {@link PacketCompressor} implementations.
+ */
+public class PacketCompressorTest extends PacketSenderTestBase {
+
+    /**
+     * {@link ZstdPacketCompressor} is exercised with JDK deflate streams standing in for a third-party zstd library, as both work on one self-contained
+     * frame per packet.
+     */
+    private PacketCompressor[][] compressorPairs() {
+        return new PacketCompressor[][] { { new ZlibPacketCompressor(), new ZlibPacketCompressor() },
+                { new ZstdPacketCompressor(InflaterInputStream.class.getName(), DeflaterOutputStream.class.getName(), 3),
+                        new ZstdPacketCompressor(InflaterInputStream.class.getName(), DeflaterOutputStream.class.getName(), 3) } };
+    }
+
+    private byte[] roundTrip(PacketCompressor sending, PacketCompressor receiving, byte[] packet, byte packetSequence, int[] wireLength) throws IOException {
+        ByteArrayOutputStream wire = new ByteArrayOutputStream();
+        CompressedPacketSender sender = new CompressedPacketSender(new BufferedOutputStream(wire), sending);
+        sender.send(packet, packet.length, packetSequence);
+        sender.stop();
+        wireLength[0] = wire.size();
+
+        DefaultPropertySet propertySet = new DefaultPropertySet();
+        CompressedInputStream in = new CompressedInputStream(new ByteArrayInputStream(wire.toByteArray()), receiving,
+                propertySet.getBooleanProperty(PropertyKey.traceProtocol), new NullLogger(null));
+        byte[] header = new byte[NativeConstants.HEADER_LENGTH];
+        assertEquals(header.length, in.read(header));
+        assertEquals(packet.length, NativeUtils.decodeMysqlThreeByteInteger(header));
+        assertEquals(packetSequence, header[3]);
+        byte[] payload = new byte[packet.length];
+        int n = 0;
+        while (n < payload.length) {
+            n += in.read(payload, n, payload.length - n);
+        }
+        in.close();
+        return payload;
+    }
+
+    @Test
+    public void compressiblePacketRoundTrip() throws IOException {
+        byte[] packet = new byte[10000];
+        for (int i = 0; i < packet.length; i++) {
+            packet[i] = (byte) ('a' + i % 7);
+        }
+
+        for (PacketCompressor[] pair : compressorPairs()) {
+            int[] wireLength = new int[1];
+            assertArrayEquals(packet, roundTrip(pair[0], pair[1], packet, (byte) 5, wireLength));
+            assertTrue(wireLength[0] < packet.length / 10, pair[0].getClass().getSimpleName() + " sent " + wireLength[0] + " bytes");
+        }
+    }
+
+    @Test
+    public void incompressiblePacketRoundTrip() throws IOException {
+        byte[] packet = new byte[CompressedPacketSender.MIN_COMPRESS_LEN * 2];
+        fillPacketSequentially(packet);
+
+        for (PacketCompressor[] pair : compressorPairs()) {
+            int[] wireLength = new int[1];
+            assertArrayEquals(packet, roundTrip(pair[0], pair[1], packet, (byte) 7, wireLength));
+            // sent uncompressed
+            assertEquals(CompressedPacketSender.COMP_HEADER_LENGTH + NativeConstants.HEADER_LENGTH + packet.length, wireLength[0]);
+        }
+    }
+
+    @Test
+    public void splitPacketRoundTrip() throws IOException {
+        byte[] packet = new byte[NativeConstants.MAX_PACKET_SIZE + 1000];
+        packet[0] = 1;
+        packet[NativeConstants.MAX_PACKET_SIZE - 1] = 2;
+        packet[packet.length - 1] = 3;
+
+        for (PacketCompressor[] pair : compressorPairs()) {
+            ByteArrayOutputStream wire = new ByteArrayOutputStream();
+            CompressedPacketSender sender = new CompressedPacketSender(new BufferedOutputStream(wire), pair[0]);
+            sender.send(packet, packet.length, (byte) 0);
+
+            DefaultPropertySet propertySet = new DefaultPropertySet();
+            CompressedInputStream in = new CompressedInputStream(new ByteArrayInputStream(wire.toByteArray()), pair[1],
+                    propertySet.getBooleanProperty(PropertyKey.traceProtocol), new NullLogger(null));
+            // first MySQL packet is full-sized, the second one carries the remaining payload
+            byte[] received = new byte[2 * NativeConstants.HEADER_LENGTH + packet.length];
+            int n = 0;
+            while (n < received.length) {
+                n += in.read(received, n, received.length - n);
+            }
+            assertEquals(NativeConstants.MAX_PACKET_SIZE, NativeUtils.decodeMysqlThreeByteInteger(received));
+            assertEquals(1, received[NativeConstants.HEADER_LENGTH]);
+            assertEquals(2, received[NativeConstants.HEADER_LENGTH + NativeConstants.MAX_PACKET_SIZE - 1]);
+            int secondHeader = NativeConstants.HEADER_LENGTH + NativeConstants.MAX_PACKET_SIZE;
+            assertEquals(1000, NativeUtils.decodeMysqlThreeByteInteger(received, secondHeader));
+            assertEquals(1, received[secondHeader + 3]);
+            assertEquals(3, received[received.length - 1]);
+            in.close();
+        }
+    }
+
+    /**
+     * Stands in for zstd-jni's ZstdOutputStream, which can end the current frame on every flush so that it can be kept for the whole connection.
+     */
+    public static class FramingDeflaterOutputStream extends DeflaterOutputStream {
+        static final AtomicInteger instances = new AtomicInteger();
+        static final AtomicInteger open = new AtomicInteger();
+
+        private boolean closeFrameOnFlush = false;
+
+        public FramingDeflaterOutputStream(OutputStream out, int level) {
+            super(out, new Deflater(level));
+            instances.incrementAndGet();
+            open.incrementAndGet();
+        }
+
+        public FramingDeflaterOutputStream setCloseFrameOnFlush(boolean closeOnFlush) {
+            this.closeFrameOnFlush = closeOnFlush;
+            return this;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (this.closeFrameOnFlush) {
+                finish();
+                this.def.reset();
+            }
+            super.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            this.def.end();
+            open.decrementAndGet();
+        }
+    }
+
+    @Test
+    public void zstdOutputStreamKeptPerConnection() throws IOException {
+        FramingDeflaterOutputStream.instances.set(0);
+        FramingDeflaterOutputStream.open.set(0);
+        ZstdPacketCompressor sending = new ZstdPacketCompressor(InflaterInputStream.class.getName(), FramingDeflaterOutputStream.class.getName(), 3);
+        ZstdPacketCompressor receiving = new ZstdPacketCompressor(InflaterInputStream.class.getName(), DeflaterOutputStream.class.getName(), 3);
+
+        ByteArrayOutputStream wire = new ByteArrayOutputStream();
+        CompressedPacketSender sender = new CompressedPacketSender(new BufferedOutputStream(wire), sending);
+        byte[][] packets = new byte[3][];
+        for (int p = 0; p < packets.length; p++) {
+            packets[p] = new byte[5000];
+            for (int i = 0; i < packets[p].length; i++) {
+                packets[p][i] = (byte) ('a' + (i + p) % 5);
+            }
+            sender.send(packets[p], packets[p].length, (byte) p);
+        }
+        assertEquals(1, FramingDeflaterOutputStream.instances.get());
+
+        DefaultPropertySet propertySet = new DefaultPropertySet();
+        CompressedInputStream in = new CompressedInputStream(new ByteArrayInputStream(wire.toByteArray()), receiving,
+                propertySet.getBooleanProperty(PropertyKey.traceProtocol), new NullLogger(null));
+        for (byte[] packet : packets) {
+            byte[] header = new byte[NativeConstants.HEADER_LENGTH];
+            assertEquals(header.length, in.read(header));
+            assertEquals(packet.length, NativeUtils.decodeMysqlThreeByteInteger(header));
+            byte[] payload = new byte[packet.length];
+            int n = 0;
+            while (n < payload.length) {
+                n += in.read(payload, n, payload.length - n);
+            }
+            assertArrayEquals(packet, payload);
+        }
+        in.close();
+        assertTrue(wire.size() < 3 * 5000 / 10);
+
+        sender.stop();
+        assertEquals(0, FramingDeflaterOutputStream.open.get());
+    }
+}
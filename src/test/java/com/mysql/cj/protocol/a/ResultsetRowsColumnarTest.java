@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.exceptions.CJOperationNotSupportedException;
+import com.mysql.cj.protocol.a.NativeConstants.StringLengthDataType;
+import com.mysql.cj.protocol.a.NativeConstants.StringSelfDataType;
+import com.mysql.cj.protocol.a.result.ResultsetRowsColumnar;
+import com.mysql.cj.result.DefaultColumnDefinition;
+import com.mysql.cj.result.DoubleValueFactory;
+import com.mysql.cj.result.Field;
+import com.mysql.cj.result.LongValueFactory;
+import com.mysql.cj.result.Row;
+import com.mysql.cj.result.StringValueFactory;
+import com.mysql.cj.util.LazyString;
+
+/**
+ * Tests for {@link ResultsetRowsColumnar}.
+ */
+public class ResultsetRowsColumnarTest {
+    PropertySet pset = new DefaultPropertySet();
+
+    private Field field(String name, int mysqlTypeId, MysqlType mysqlType, int flags) {
+        return new Field(new LazyString("db"), new LazyString("t"), new LazyString("t"), new LazyString(name), new LazyString(name), 20, mysqlTypeId,
+                (short) flags, 0, 33, "UTF-8", mysqlType);
+    }
+
+    private DefaultColumnDefinition columns() {
+        return new DefaultColumnDefinition(new Field[] { field("i", MysqlType.FIELD_TYPE_LONG, MysqlType.INT, 0),
+                field("b", MysqlType.FIELD_TYPE_LONGLONG, MysqlType.BIGINT_UNSIGNED, MysqlType.FIELD_FLAG_UNSIGNED),
+                field("s", MysqlType.FIELD_TYPE_VAR_STRING, MysqlType.VARCHAR, 0), field("d", MysqlType.FIELD_TYPE_DOUBLE, MysqlType.DOUBLE, 0) });
+    }
+
+    @Test
+    public void testTextRows() {
+        DefaultColumnDefinition cd = columns();
+        ResultsetRowsColumnar rows = new ResultsetRowsColumnar(cd, false, null);
+        NativePacketPayload packet = new NativePacketPayload(1024);
+
+        for (int i = 0; i < 1000; i++) {
+            packet.setPosition(0);
+            packet.writeBytes(StringSelfDataType.STRING_LENENC, String.valueOf(-i).getBytes());
+            if (i % 3 == 0) {
+                packet.writeInteger(NativeConstants.IntegerDataType.INT1, 0xFB); // NULL
+            } else {
+                packet.writeBytes(StringSelfDataType.STRING_LENENC, "18446744073709551615".getBytes());
+            }
+            packet.writeBytes(StringSelfDataType.STRING_LENENC, ("row" + i).getBytes());
+            packet.writeBytes(StringSelfDataType.STRING_LENENC, "1.50".getBytes());
+            packet.setPayloadLength(packet.getPosition());
+            packet.setPosition(0);
+            rows.append(packet);
+        }
+
+        assertEquals(1000, rows.size());
+        for (int i = 0; i < 1000; i++) {
+            Row r = rows.next();
+            assertEquals(Long.valueOf(-i), r.getValue(0, new LongValueFactory(this.pset)));
+            assertArrayEquals(String.valueOf(-i).getBytes(), r.getBytes(0));
+            if (i % 3 == 0) {
+                assertNull(r.getValue(1, new StringValueFactory(this.pset)));
+                assertTrue(r.wasNull());
+                assertNull(r.getBytes(1));
+            } else {
+                assertEquals("18446744073709551615", r.getValue(1, new StringValueFactory(this.pset)));
+                assertFalse(r.wasNull());
+                assertArrayEquals("18446744073709551615".getBytes(), r.getBytes(1));
+            }
+            assertEquals("row" + i, r.getValue(2, new StringValueFactory(this.pset)));
+            assertArrayEquals("1.50".getBytes(), r.getBytes(3));
+            assertEquals(-i, r.getLong(0));
+            assertEquals(-i, r.getDouble(0));
+            assertEquals(1.5, r.getDouble(3));
+            assertEquals(Double.valueOf(1.5), r.getValue(3, new DoubleValueFactory(this.pset)));
+        }
+        assertNull(rows.next());
+        assertTrue(rows.isAfterLast());
+    }
+
+    @Test
+    public void testBinaryRows() {
+        DefaultColumnDefinition cd = columns();
+        ResultsetRowsColumnar rows = new ResultsetRowsColumnar(cd, true, null);
+        NativePacketPayload packet = new NativePacketPayload(1024);
+
+        for (int i = 0; i < 100; i++) {
+            packet.setPosition(0);
+            packet.writeInteger(NativeConstants.IntegerDataType.INT1, 0); // packet header
+            // null bitmap, (4 + 9) / 8 = 1 byte, first two bits are reserved
+            packet.writeInteger(NativeConstants.IntegerDataType.INT1, i % 2 == 0 ? 1 << (2 + 2) : 0);
+            packet.writeInteger(NativeConstants.IntegerDataType.INT4, -i);
+            packet.writeInteger(NativeConstants.IntegerDataType.INT8, -1L);
+            if (i % 2 != 0) {
+                packet.writeBytes(StringSelfDataType.STRING_LENENC, ("row" + i).getBytes());
+            }
+            packet.writeBytes(StringLengthDataType.STRING_FIXED, new byte[] { 0, 0, 0, 0, 0, 0, (byte) 0xf8, 0x3f }); // 1.5
+            packet.setPayloadLength(packet.getPosition());
+            packet.setPosition(0);
+            rows.append(packet);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            Row r = rows.get(i);
+            assertEquals(Long.valueOf(-i), r.getValue(0, new LongValueFactory(this.pset)));
+            assertEquals("18446744073709551615", r.getValue(1, new StringValueFactory(this.pset)));
+            assertArrayEquals(new byte[] { -1, -1, -1, -1, -1, -1, -1, -1 }, r.getBytes(1));
+            if (i % 2 == 0) {
+                assertNull(r.getValue(2, new StringValueFactory(this.pset)));
+                assertTrue(r.wasNull());
+            } else {
+                assertEquals("row" + i, r.getValue(2, new StringValueFactory(this.pset)));
+            }
+            assertEquals(Double.valueOf(1.5), r.getValue(3, new DoubleValueFactory(this.pset)));
+            assertArrayEquals(new byte[] { 0, 0, 0, 0, 0, 0, (byte) 0xf8, 0x3f }, r.getBytes(3));
+
+            assertEquals(-i, r.getLong(0));
+            assertEquals(-i, r.getDouble(0));
+            assertEquals(18446744073709551615.0, r.getDouble(1));
+            assertEquals(1.5, r.getDouble(3));
+            assertThrows(CJOperationNotSupportedException.class, () -> r.getLong(3));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.protocol.a.NativeConstants.StringSelfDataType;
+import com.mysql.cj.protocol.a.result.RowBufferArena;
+import com.mysql.cj.protocol.a.result.TextBufferRow;
+import com.mysql.cj.result.DefaultColumnDefinition;
+
+/**
+ * Tests for {@link RowBufferArena}.
+ */
+public class RowBufferArenaTest {
+
+    private NativePacketPayload buildTextRow(NativePacketPayload reuse, String... values) {
+        reuse.setPosition(0);
+        for (String v : values) {
+            reuse.writeBytes(StringSelfDataType.STRING_LENENC, v.getBytes());
+        }
+        reuse.setPayloadLength(reuse.getPosition());
+        reuse.setPosition(0);
+        return reuse;
+    }
+
+    /**
+     * Rows copied from the same reusable packet must keep their own values and share chunks.
+     */
+    @Test
+    public void testRowsSurviveReusablePacket() {
+        RowBufferArena arena = new RowBufferArena(4096);
+        NativePacketPayload reusable = new NativePacketPayload(1024);
+        List<TextBufferRow> rows = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            NativePacketPayload copy = arena.copyOf(buildTextRow(reusable, "a" + i, "bb" + i, "ccc" + i));
+            rows.add(new TextBufferRow(copy, new DefaultColumnDefinition(), null, new MysqlTextValueDecoder()));
+        }
+
+        for (int i = 0; i < 100; i++) {
+            TextBufferRow row = rows.get(i);
+            assertArrayEquals(("ccc" + i).getBytes(), row.getBytes(2));
+            assertArrayEquals(("a" + i).getBytes(), row.getBytes(0));
+            assertArrayEquals(("bb" + i).getBytes(), row.getBytes(1));
+        }
+
+        assertTrue(arena.getChunkCount() < 10, "Rows were not packed into shared chunks");
+    }
+
+    /**
+     * Rows are placed one after another in the current chunk; rows larger than half a chunk get their own buffer.
+     */
+    @Test
+    public void testChunkAllocation() {
+        RowBufferArena arena = new RowBufferArena(4096);
+
+        NativePacketPayload first = arena.copyOf(new NativePacketPayload(100));
+        NativePacketPayload second = arena.copyOf(new NativePacketPayload(100));
+        assertSame(first.getByteBuffer(), second.getByteBuffer());
+        assertEquals(0, first.getPosition());
+        assertEquals(100, first.getPayloadLength());
+        assertEquals(100, second.getPosition());
+        assertEquals(200, second.getPayloadLength());
+
+        NativePacketPayload large = arena.copyOf(new NativePacketPayload(3000));
+        assertNotSame(first.getByteBuffer(), large.getByteBuffer());
+        assertEquals(3000, large.getByteBuffer().length);
+        assertEquals(1, arena.getChunkCount());
+
+        NativePacketPayload next = arena.copyOf(new NativePacketPayload(2000));
+        assertSame(first.getByteBuffer(), next.getByteBuffer());
+        NativePacketPayload overflow = arena.copyOf(new NativePacketPayload(2000));
+        assertNotSame(first.getByteBuffer(), overflow.getByteBuffer());
+        assertEquals(2, arena.getChunkCount());
+        assertEquals(7200, arena.getAllocatedBytes());
+
+        arena.release();
+        assertEquals(0, arena.getChunkCount());
+    }
+}
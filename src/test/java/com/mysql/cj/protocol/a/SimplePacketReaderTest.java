@@ -30,6 +30,7 @@
 package com.mysql.cj.protocol.a;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -218,6 +219,55 @@ public class SimplePacketReaderTest {
         }
     }
 
+    // headers are read into a single instance
+    @Test
+    public void reusedHeaderRead() throws IOException {
+        RuntimeProperty<Integer> maxAllowedPacket = new JdbcPropertySetImpl().getProperty(PropertyKey.maxAllowedPacket);
+        SocketConnection connection = new FixedBufferSocketConnection(new byte[] { 1, 0, 0, 0, 7, 2, 0, 0, 1, 8, 9 });
+        MessageReader<NativePacketHeader, NativePacketPayload> reader = new SimplePacketReader(connection, maxAllowedPacket);
+        NativePacketHeader hdr = reader.readHeader();
+        assertEquals(1, hdr.getMessageSize());
+        assertEquals(7, reader.readMessage(Optional.empty(), hdr).getByteBuffer()[0]);
+        NativePacketHeader hdr2 = reader.readHeader();
+        assertSame(hdr, hdr2);
+        assertEquals(2, hdr2.getMessageSize());
+        assertEquals(1, hdr2.getMessageSequence());
+        NativePacketPayload b = reader.readMessage(Optional.empty(), hdr2);
+        assertEquals(8, b.getByteBuffer()[0]);
+        assertEquals(9, b.getByteBuffer()[1]);
+    }
+
+    // multi-packets are assembled by the reader itself when configured so
+    @Test
+    public void readMultiPacketPayload() throws IOException {
+        RuntimeProperty<Integer> maxAllowedPacket = new JdbcPropertySetImpl().getProperty(PropertyKey.maxAllowedPacket);
+        maxAllowedPacket.setValue(Integer.MAX_VALUE);
+        int maxPacketSize = NativeConstants.MAX_PACKET_SIZE;
+        byte[] buffer = new byte[4 + maxPacketSize + 4 + 3];
+        buffer[0] = (byte) 0xff;
+        buffer[1] = (byte) 0xff;
+        buffer[2] = (byte) 0xff;
+        buffer[3] = 0;
+        buffer[4] = 11;
+        buffer[4 + maxPacketSize - 1] = 12;
+        buffer[4 + maxPacketSize] = 3;
+        buffer[4 + maxPacketSize + 3] = 1;
+        buffer[4 + maxPacketSize + 4] = 13;
+        buffer[4 + maxPacketSize + 6] = 14;
+
+        SimplePacketReader reader = new SimplePacketReader(new FixedBufferSocketConnection(buffer), maxAllowedPacket);
+        reader.configure(true, true);
+        NativePacketPayload b = reader.readMessage(Optional.empty(), reader.readHeader());
+        assertEquals(maxPacketSize + 3, b.getPayloadLength());
+        assertEquals(0, b.getPosition());
+        assertEquals(11, b.getByteBuffer()[0]);
+        assertEquals(12, b.getByteBuffer()[maxPacketSize - 1]);
+        assertEquals(13, b.getByteBuffer()[maxPacketSize]);
+        assertEquals(14, b.getByteBuffer()[maxPacketSize + 2]);
+        assertEquals(1, reader.getMessageSequence());
+        assertTrue(reader.getLastPacketReceivedTime() > 0);
+    }
+
     // TODO any boundary conditions or large packet issues?
 
     public static class FixedBufferSocketConnection extends MockSocketConnection {
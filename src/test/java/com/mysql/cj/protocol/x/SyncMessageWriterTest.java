@@ -30,12 +30,25 @@
 package com.mysql.cj.protocol.x;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -46,6 +59,7 @@ import com.mysql.cj.x.protobuf.Mysqlx.ClientMessages;
 import com.mysql.cj.x.protobuf.Mysqlx.Ok;
 import com.mysql.cj.x.protobuf.MysqlxSession.AuthenticateStart;
 import com.mysql.cj.x.protobuf.MysqlxSession.Reset;
+import com.mysql.cj.x.protobuf.MysqlxSql.StmtExecute;
 
 public class SyncMessageWriterTest {
     private ByteArrayOutputStream outputStream;
@@ -104,4 +118,87 @@ public class SyncMessageWriterTest {
         long lastSent2 = this.writer.getLastPacketSentTime();
         assertTrue(lastSent2 >= lastSent1);
     }
+
+    /**
+     * Test that asynchronous sends return without waiting for the write and that messages are written in the order they were sent, synchronous sends
+     * included.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testAsyncSendOrder() throws Exception {
+        CountDownLatch writeAllowed = new CountDownLatch(1);
+        AtomicInteger flushes = new AtomicInteger();
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        SyncMessageSender sender = new SyncMessageSender(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                try {
+                    writeAllowed.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                written.write(b);
+            }
+
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+            }
+        });
+
+        List<Integer> callbacks = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            int id = i;
+            futures.add(sender.send(new XMessage(StmtExecute.newBuilder().setStmt(ByteString.copyFromUtf8("stmt" + i)).build()), new CompletableFuture<>(),
+                    () -> callbacks.add(id)));
+        }
+        // nothing could be written yet
+        assertEquals(0, written.size());
+        assertTrue(callbacks.isEmpty());
+
+        writeAllowed.countDown();
+        sender.send(new XMessage(Reset.getDefaultInstance()));
+        // the synchronous send writes the pending messages first
+        assertEquals(Arrays.asList(0, 1, 2), callbacks);
+        futures.forEach(f -> assertFalse(f.isCompletedExceptionally()));
+
+        byte[] bytes = written.toByteArray();
+        int pos = 0;
+        for (int i = 0; i < 3; i++) {
+            int size = bytes[pos] & 0xff;
+            assertEquals(ClientMessages.Type.SQL_STMT_EXECUTE_VALUE, bytes[pos + 4]);
+            assertEquals("stmt" + i, StmtExecute.parseFrom(Arrays.copyOfRange(bytes, pos + 5, pos + 4 + size)).getStmt().toStringUtf8());
+            pos += 4 + size;
+        }
+        assertEquals(ClientMessages.Type.SESS_RESET_VALUE, bytes[pos + 4]);
+        assertEquals(bytes.length, pos + 5);
+
+        // asynchronous messages are written by the writing thread when no synchronous send comes
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        sender.send(new XMessage(Reset.getDefaultInstance()), done, () -> done.complete(null));
+        done.get(5, TimeUnit.SECONDS);
+        assertEquals(bytes.length + 5, written.size());
+
+        // the same writing thread keeps serving the session while idle and stops when the sender is closed
+        Thread writingThread = sender.writingThread;
+        assertTrue(writingThread.isAlive());
+        Thread.sleep(200);
+        CompletableFuture<Void> doneAfterIdle = new CompletableFuture<>();
+        sender.send(new XMessage(Reset.getDefaultInstance()), doneAfterIdle, () -> doneAfterIdle.complete(null));
+        doneAfterIdle.get(5, TimeUnit.SECONDS);
+        assertSame(writingThread, sender.writingThread);
+        assertEquals(bytes.length + 10, written.size());
+
+        // errors are reported through the future
+        CompletableFuture<Void> failed = new CompletableFuture<>();
+        sender.send(new XMessage(Ok.getDefaultInstance()), failed, () -> failed.complete(null));
+        assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+
+        sender.close();
+        writingThread.join(5000);
+        assertFalse(writingThread.isAlive());
+        assertNull(sender.writingThread);
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.x;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.ByteString;
+import com.mysql.cj.x.protobuf.MysqlxCrud.Insert;
+
+/**
+ * Tests for {@link XMessageBuilder}.
+ */
+public class XMessageBuilderTest {
+
+    @Test
+    public void testBuildDocInsertsSplit() {
+        XMessageBuilder builder = new XMessageBuilder();
+        List<ByteString> docs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            docs.add(ByteString.copyFrom("{\"_id\":\"" + i + "\",\"v\":\"0123456789012345678901234567890123456789\"}", StandardCharsets.UTF_8));
+        }
+        docs.add(ByteString.copyFrom(new byte[5000])); // larger than the limit by itself
+
+        List<XMessage> messages = builder.buildDocInserts("db", "coll", docs, true, 0);
+        assertEquals(1, messages.size());
+        assertEquals(101, ((Insert) messages.get(0).getMessage()).getRowCount());
+
+        messages = builder.buildDocInserts("db", "coll", docs, true, 1000);
+        assertTrue(messages.size() > 5);
+        List<ByteString> sent = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            Insert insert = (Insert) messages.get(i).getMessage();
+            assertTrue(insert.getUpsert());
+            assertEquals("coll", insert.getCollection().getName());
+            if (i < messages.size() - 1) {
+                // the same size SyncMessageSender checks against mysqlx_max_allowed_packet
+                assertTrue(1 + insert.getSerializedSize() <= 1000);
+            }
+            insert.getRowList().forEach(r -> sent.add(r.getField(0).getLiteral().getVString().getValue()));
+        }
+        assertEquals(docs, sent);
+        assertEquals(1, ((Insert) messages.get(messages.size() - 1).getMessage()).getRowCount());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ConcurrentLFUCache}.
+ */
+public class ConcurrentLFUCacheTest {
+    @Test
+    public void testBasicOperations() {
+        ConcurrentLFUCache<String, Integer> cache = new ConcurrentLFUCache<>(10);
+        assertNull(cache.get("a"));
+        assertNull(cache.put("a", 1));
+        assertEquals(1, cache.get("a"));
+        assertEquals(1, cache.put("a", 2));
+        assertEquals(2, cache.get("a"));
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.remove("a"));
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+
+        cache.put("b", 1);
+        cache.put("c", 2);
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get("b"));
+    }
+
+    @Test
+    public void testBounded() {
+        for (int maxSize : new int[] { 0, 1, 2, 25, 100, 2000 }) {
+            ConcurrentLFUCache<Integer, Integer> cache = new ConcurrentLFUCache<>(maxSize);
+            for (int i = 0; i < maxSize * 10 + 10; i++) {
+                cache.put(i, i);
+                assertTrue(cache.size() <= maxSize, "Cache of size " + maxSize + " holds " + cache.size() + " entries.");
+            }
+        }
+
+        ConcurrentLFUCache<Integer, Integer> cache = new ConcurrentLFUCache<>(1);
+        cache.put(1, 1);
+        cache.put(2, 2);
+        assertEquals(2, cache.get(2));
+    }
+
+    @Test
+    public void testFrequentEntriesSurviveScans() {
+        ConcurrentLFUCache<String, Integer> cache = new ConcurrentLFUCache<>(100);
+        for (int i = 0; i < 50; i++) {
+            cache.put("hot" + i, i);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 50; i++) {
+                assertNotNull(cache.get("hot" + i));
+            }
+        }
+
+        // A scan of one-hit entries must not flush the frequently used ones.
+        for (int i = 0; i < 500; i++) {
+            cache.put("cold" + i, i);
+        }
+
+        int hits = 0;
+        for (int i = 0; i < 50; i++) {
+            if (cache.get("hot" + i) != null) {
+                hits++;
+            }
+        }
+        assertTrue(hits >= 45, "Only " + hits + " frequently used entries survived.");
+        assertTrue(cache.size() <= 100);
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        final ConcurrentLFUCache<Integer, Integer> cache = new ConcurrentLFUCache<>(256);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final int seed = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20000; i++) {
+                        int key = (i * 31 + seed) % 1000;
+                        Integer value = cache.get(key);
+                        if (value == null) {
+                            cache.put(key, key);
+                        } else {
+                            assertEquals(key, value.intValue());
+                        }
+                        if (i % 97 == 0) {
+                            cache.remove(key);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(cache.size() <= 256);
+    }
+}
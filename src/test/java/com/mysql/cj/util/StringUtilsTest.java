@@ -29,11 +29,14 @@
 
 package com.mysql.cj.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -44,6 +47,8 @@ import java.util.concurrent.Callable;
 
 import org.junit.jupiter.api.Test;
 
+import com.mysql.cj.exceptions.WrongArgumentException;
+
 import testsuite.BaseTestCase;
 
 public class StringUtilsTest extends BaseTestCase {
@@ -1455,4 +1460,24 @@ public class StringUtilsTest extends BaseTestCase {
 
         assertEquals(expected, StringUtils.stripCommentsAndHints(testString, "\"'", "\"'", true));
     }
+
+    /**
+     * Tests StringUtils.getUtf8Length() and StringUtils.encodeUtf8() against String.getBytes(UTF_8).
+     */
+    @Test
+    public void testEncodeUtf8() {
+        String[] samples = new String[] { "", "SELECT 1", "caf\u00e9 \u00fc\u00df", "\u65e5\u672c\u8a9e", "emoji \ud83d\ude00!", "lone \ud83d high",
+                "lone \ude00 low", "trailing \ud83d", "\u0000\u007f\u0080\u07ff\u0800\uffff" };
+        for (String sample : samples) {
+            byte[] expected = sample.getBytes(StandardCharsets.UTF_8);
+            assertEquals(expected.length, StringUtils.getUtf8Length(sample), sample);
+
+            byte[] actual = new byte[expected.length + 2];
+            assertEquals(expected.length + 1, StringUtils.encodeUtf8(sample, actual, 1), sample);
+            assertArrayEquals(expected, Arrays.copyOfRange(actual, 1, expected.length + 1), sample);
+        }
+
+        assertSame(StringUtils.getCharset("UTF-8"), StringUtils.getCharset("UTF-8"));
+        assertThrows(WrongArgumentException.class, () -> StringUtils.getBytes("abc", "no-such-encoding"));
+    }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.xdevapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.exceptions.WrongArgumentException;
+
+/**
+ * Tests for {@link Utf8JsonParser} and the lazily parsed documents it creates.
+ */
+public class Utf8JsonParserTest {
+
+    private static DbDoc parse(String json) {
+        byte[] bytes = ("xx" + json + "yy").getBytes(StandardCharsets.UTF_8);
+        return JsonParser.parseDoc(bytes, 2, bytes.length - 4);
+    }
+
+    @Test
+    public void testSameResultAsStringParser() {
+        String[] docs = new String[] { "{}", " { } ", "{\"a\":1}", "{\"a\" : \"b\", \"c\" : [1, 2.5, -3e2, 4.0E-5], \"d\" : true, \"e\" : false, \"f\" : null}",
+                "{\"nested\":{\"x\":{\"y\":[{\"z\":\"]}[{\\\"\"}, []]}, \"w\": {}}, \"after\": \"ok\"}",
+                "{\"esc\":\"\\\"\\\\\\/\\b\\f\\n\\r\\t\\u00e9\\u20AC\", \"key with \\\" quote\":1}",
+                "{\"unicode\":\"żółć ĘŚ 日本語 \uD83D\uDE00\", \"łódź\":\"x\\ny\"}", "{\n\t\"a\"\r\n:\n[ ]\t,\"b\":{ }\n}" };
+        for (String json : docs) {
+            DbDoc expected = JsonParser.parseDoc(json);
+            DbDoc actual = parse(json);
+            assertEquals(expected.toString(), actual.toString(), json);
+            assertEquals(expected.toFormattedString(), parse(json).toFormattedString(), json);
+            assertEquals(expected.keySet(), actual.keySet(), json);
+        }
+    }
+
+    @Test
+    public void testLazyAccess() {
+        DbDoc doc = parse("{\"a\":\"A\",\"b\":12,\"c\":{\"d\":[true,null]},\"bad\":-x}");
+        assertEquals(4, doc.size());
+        assertTrue(doc.containsKey("bad"));
+        assertEquals("[a, b, bad, c]", doc.keySet().toString());
+        assertEquals("A", ((JsonString) doc.get("a")).getString());
+        assertEquals(12, ((JsonNumber) doc.get("b")).getInteger());
+        JsonArray arr = (JsonArray) ((DbDoc) doc.get("c")).get("d");
+        assertSame(JsonLiteral.TRUE, arr.get(0));
+        assertSame(JsonLiteral.NULL, arr.get(1));
+
+        // malformed values are reported when read
+        assertThrows(WrongArgumentException.class, () -> doc.get("bad"));
+        assertThrows(WrongArgumentException.class, () -> doc.values());
+
+        DbDoc doc2 = parse("{\"a\":\"A\",\"b\":12,\"c\":{\"d\":[]}}");
+        assertEquals(12, ((JsonNumber) doc2.put("b", new JsonString().setValue("B"))).getInteger());
+        doc2.put("e", JsonLiteral.FALSE);
+        for (Map.Entry<String, JsonValue> e : doc2.entrySet()) {
+            assertTrue(e.getValue() instanceof JsonString || e.getValue() instanceof DbDoc || e.getValue() instanceof JsonLiteral, e.getKey());
+        }
+        assertEquals("{\"a\":\"A\",\"b\":\"B\",\"c\":{\"d\":[]},\"e\":false}", doc2.toString());
+        assertEquals("A", ((JsonString) doc2.remove("a")).getString());
+        assertEquals(3, doc2.size());
+
+        // default Map methods overridden by TreeMap must not expose unparsed values either
+        DbDoc doc3 = parse("{\"a\":\"A\",\"b\":12,\"c\":3,\"d\":4}");
+        assertEquals("A", ((JsonString) doc3.putIfAbsent("a", JsonLiteral.NULL)).getString());
+        assertEquals(12, ((JsonNumber) doc3.computeIfAbsent("b", k -> JsonLiteral.NULL)).getInteger());
+        assertEquals(3, ((JsonNumber) doc3.merge("c", JsonLiteral.NULL, (v1, v2) -> v1)).getInteger());
+        assertEquals(4, ((JsonNumber) doc3.compute("d", (k, v) -> v)).getInteger());
+        assertEquals(null, doc3.putIfAbsent("e", JsonLiteral.TRUE));
+        assertEquals("{\"a\":\"A\",\"b\":12,\"c\":3,\"d\":4,\"e\":true}", doc3.toString());
+    }
+
+    @Test
+    public void testMalformedDocuments() {
+        String[] docs = new String[] { "", "[]", "{", "{\"a\":1", "{\"a\" 1}", "{\"a\":}", "{\"a\":1,}", "{\"a\":{\"b\":1}", "{\"a\":\"b}", "{a:1}",
+                "{\"a\":1 \"b\":2}", "{\"a\":[1,}" };
+        for (String json : docs) {
+            assertThrows(WrongArgumentException.class, () -> parse(json).toString(), json);
+        }
+        String[] values = new String[] { "tru", "nul", "--1", "1.2.3", "1e2e3", "1e2.5", "\"\\x\"", "\"\\u12\"", "\"\\uzzzz\"", "[1 2]", "[1}", "01x" };
+        for (String value : values) {
+            DbDoc doc = parse("{\"v\":" + value + "}");
+            assertThrows(WrongArgumentException.class, () -> doc.get("v"), value);
+        }
+    }
+}
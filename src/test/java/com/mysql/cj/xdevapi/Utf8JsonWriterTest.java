@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.xdevapi;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Utf8JsonWriter}.
+ */
+public class Utf8JsonWriterTest {
+
+    private static byte[] write(JsonValue value) {
+        Utf8JsonWriter writer = new Utf8JsonWriter(0);
+        writer.write(value);
+        return Arrays.copyOf(writer.getBuffer(), writer.size());
+    }
+
+    @Test
+    public void testSameTextAsToString() {
+        DbDoc doc = new DbDocImpl().add("str", new JsonString().setValue("a \"quoted\" \\ / \b\f\n\r\t \u0001 żółć € 😀 end"))
+                .add("num", new JsonNumber().setValue("12345.44E22")).add("int", new JsonNumber().setValue("-7")).add("t", JsonLiteral.TRUE)
+                .add("f", JsonLiteral.FALSE).add("n", JsonLiteral.NULL).add("empty", new DbDocImpl()).add("arr", new JsonArray())
+                .add("nested", new DbDocImpl().add("inner", new JsonArray().addValue(new JsonString().setValue("x")).addValue(new DbDocImpl()).addValue(
+                        new JsonArray().addValue(new JsonNumber().setValue("1")).addValue(JsonLiteral.NULL))))
+                .add("ünïcödé", new JsonString().setValue(""));
+        assertArrayEquals(doc.toString().getBytes(StandardCharsets.UTF_8), write(doc));
+
+        // unpaired surrogates are replaced as String.getBytes() does
+        JsonString surrogates = new JsonString().setValue("\uD83D x \uDE00");
+        assertArrayEquals(surrogates.toString().getBytes(StandardCharsets.UTF_8), write(surrogates));
+
+        // lazily parsed documents are written without changing them
+        String json = "{\"a\":{\"b\":[1,2,{\"c\":\"d\\ne\"}]},\"f\":\"g\"}";
+        DbDoc lazy = JsonParser.parseDoc(json.getBytes(StandardCharsets.UTF_8), 0, json.length());
+        assertEquals(json, new String(write(lazy), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testKeysAreEscaped() {
+        DbDoc doc = new DbDocImpl().add("a\"b", JsonLiteral.TRUE);
+        String json = new String(write(doc), StandardCharsets.UTF_8);
+        assertEquals("{\"a\\\"b\":true}", json);
+        assertEquals(JsonLiteral.TRUE, JsonParser.parseDoc(json).get("a\"b"));
+    }
+
+    @Test
+    public void testSeveralValuesInOneBuffer() {
+        Utf8JsonWriter writer = new Utf8JsonWriter(4);
+        DbDoc doc1 = new DbDocImpl().add("_id", new JsonString().setValue("1"));
+        DbDoc doc2 = new DbDocImpl().add("_id", new JsonString().setValue("2")).add("v", new JsonString().setValue("some longer value"));
+        writer.write(doc1);
+        int end1 = writer.size();
+        writer.write(doc2);
+        assertEquals(doc1.toString(), new String(writer.getBuffer(), 0, end1, StandardCharsets.UTF_8));
+        assertEquals(doc2.toString(), new String(writer.getBuffer(), end1, writer.size() - end1, StandardCharsets.UTF_8));
+    }
+}
@@ -80,6 +80,8 @@ import java.util.concurrent.Callable;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import javax.net.ssl.SSLSocket;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -1910,8 +1912,8 @@ public class ConnectionTest extends BaseTestCase {
 
             assertEquals(SimplePacketSender.class, sender.getClass());
 
-            assertEquals(MultiPacketReader.class, reader.getClass());
-            assertEquals(SimplePacketReader.class, reader.undecorate().getClass());
+            // without tracing nor debugging, a single reader does all the work
+            assertEquals(SimplePacketReader.class, reader.getClass());
 
             // add maintainTimeStats
             p.getPropertySet().getProperty(PropertyKey.maintainTimeStats).setValue(true);
@@ -1921,12 +1923,10 @@ public class ConnectionTest extends BaseTestCase {
             assertEquals(TimeTrackingPacketSender.class, sender.getClass());
             assertEquals(SimplePacketSender.class, sender.undecorate().getClass());
 
-            assertEquals(MultiPacketReader.class, reader.getClass());
-            assertEquals(TimeTrackingPacketReader.class, reader.undecorate().getClass());
-            assertEquals(SimplePacketReader.class, reader.undecorate().undecorate().getClass());
+            assertEquals(SimplePacketReader.class, reader.getClass());
 
             assertEquals(TimeTrackingPacketSender.class, p.getPacketSentTimeHolder().getClass());
-            assertEquals(TimeTrackingPacketReader.class, p.getPacketReceivedTimeHolder().getClass());
+            assertEquals(SimplePacketReader.class, p.getPacketReceivedTimeHolder().getClass());
 
             // remove listener and try to enable traceProtocol, it should be missed in this case
             p.getPropertySet().getBooleanProperty(PropertyKey.traceProtocol).removeListener(p);
@@ -1937,9 +1937,7 @@ public class ConnectionTest extends BaseTestCase {
             assertEquals(TimeTrackingPacketSender.class, sender.getClass());
             assertEquals(SimplePacketSender.class, sender.undecorate().getClass());
 
-            assertEquals(MultiPacketReader.class, reader.getClass());
-            assertEquals(TimeTrackingPacketReader.class, reader.undecorate().getClass());
-            assertEquals(SimplePacketReader.class, reader.undecorate().undecorate().getClass());
+            assertEquals(SimplePacketReader.class, reader.getClass());
 
             // ensure that other listeners are still working
             p.getPropertySet().getProperty(PropertyKey.enablePacketDebug).setValue(true);
@@ -3004,4 +3002,90 @@ public class ConnectionTest extends BaseTestCase {
         assertNonSecureConnection(testConn);
         testConn.close();
     }
+
+    /**
+     * Tests that connections with the same TLS configuration share their SSLContext, and thus their TLS session cache, when 'cacheSslContext' is enabled.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testCacheSslContext() throws Exception {
+        assumeTrue((((MysqlConnection) this.conn).getSession().getServerSession().getCapabilities().getCapabilityFlags() & NativeServerSession.CLIENT_SSL) != 0,
+                "This test requires server with SSL support.");
+        assumeTrue(supportsTLSv1_2(((MysqlConnection) this.conn).getSession().getServerSession().getServerVersion()),
+                "This test requires server with TLSv1.2+ support.");
+        assumeTrue(supportsTestCertificates(this.stmt),
+                "This test requires the server configured with SSL certificates from ConnectorJ/src/test/config/ssl-test-certs");
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.REQUIRED.name());
+
+        for (boolean cacheSslContext : new boolean[] { false, true }) {
+            props.setProperty(PropertyKey.cacheSslContext.getKeyName(), Boolean.toString(cacheSslContext));
+            try (Connection testConn1 = getConnectionWithProps(props); Connection testConn2 = getConnectionWithProps(props)) {
+                assertSecureConnection(testConn1);
+                assertSecureConnection(testConn2);
+                SSLSocket sslSocket1 = (SSLSocket) ((NativeSession) ((MysqlConnection) testConn1).getSession()).getProtocol().getSocketConnection()
+                        .getMysqlSocket();
+                SSLSocket sslSocket2 = (SSLSocket) ((NativeSession) ((MysqlConnection) testConn2).getSession()).getProtocol().getSocketConnection()
+                        .getMysqlSocket();
+                assertEquals(cacheSslContext, sslSocket1.getSession().getSessionContext() == sslSocket2.getSession().getSessionContext());
+            }
+        }
+    }
+
+    /**
+     * Tests that resetServerState() with 'useResetConnection' resets the session without re-authenticating and keeps the client-side state in sync with it.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testResetServerStateWithResetConnection() throws Exception {
+        assumeTrue(versionMeetsMinimum(5, 7, 3), "MySQL 5.7.3+ is required to run this test.");
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.useResetConnection.getKeyName(), "true");
+        props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), "true");
+        props.setProperty(PropertyKey.cachePrepStmts.getKeyName(), "true");
+
+        for (String trackSessionState : new String[] { "false", "true" }) {
+            props.setProperty(PropertyKey.trackSessionState.getKeyName(), trackSessionState);
+            try (JdbcConnection testConn = (JdbcConnection) getConnectionWithProps(props)) {
+                Statement testStmt = testConn.createStatement();
+                int defaultIsolation = testConn.getTransactionIsolation();
+                long connectionId = testConn.getId();
+
+                PreparedStatement testPstmt = testConn.prepareStatement("SELECT ?");
+                testPstmt.setInt(1, 1);
+                this.rs = testPstmt.executeQuery();
+                assertTrue(this.rs.next());
+                testPstmt.close(); // goes back to the cache
+
+                testConn.setAutoCommit(false);
+                testConn.setTransactionIsolation(defaultIsolation == Connection.TRANSACTION_SERIALIZABLE ? Connection.TRANSACTION_READ_COMMITTED
+                        : Connection.TRANSACTION_SERIALIZABLE);
+                testConn.setReadOnly(true);
+                testStmt.execute("SET @testResetServerState = 1");
+
+                testConn.resetServerState();
+
+                assertEquals(connectionId, testConn.getId());
+                assertTrue(testConn.getAutoCommit());
+                assertEquals(defaultIsolation, testConn.getTransactionIsolation());
+                assertFalse(testConn.isReadOnly());
+                this.rs = testStmt.executeQuery("SELECT @testResetServerState, @@session.autocommit");
+                assertTrue(this.rs.next());
+                assertNull(this.rs.getObject(1));
+                assertEquals(1, this.rs.getInt(2));
+
+                // the cached server prepared statement was deallocated by the server, a new one must be prepared
+                testPstmt = testConn.prepareStatement("SELECT ?");
+                testPstmt.setInt(1, 2);
+                this.rs = testPstmt.executeQuery();
+                assertTrue(this.rs.next());
+                assertEquals(2, this.rs.getInt(1));
+                testPstmt.close();
+            }
+        }
+    }
 }
@@ -39,6 +39,8 @@ import java.io.File;
 import java.io.PrintWriter;
 import java.lang.reflect.Method;
 import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.Hashtable;
 
 import javax.naming.Context;
@@ -63,8 +65,10 @@ import com.mysql.cj.conf.PropertyDefinition;
 import com.mysql.cj.conf.PropertyDefinitions;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.conf.StringPropertyDefinition;
+import com.mysql.cj.jdbc.JdbcConnection;
 import com.mysql.cj.jdbc.MysqlConnectionPoolDataSource;
 import com.mysql.cj.jdbc.MysqlDataSource;
+import com.mysql.cj.jdbc.MysqlPoolingDataSource;
 import com.mysql.cj.jdbc.MysqlXADataSource;
 
 import testsuite.BaseTestCase;
@@ -182,6 +186,42 @@ public class DataSourceTest extends BaseTestCase {
         pooledConnection.getConnection().close();
     }
 
+    /**
+     * Tests that MysqlPoolingDataSource reuses physical connections and resets their session state only when it was changed.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testPoolingDataSource() throws Exception {
+        try (MysqlPoolingDataSource ds = new MysqlPoolingDataSource()) {
+            ds.setUrl(dbUrl);
+            ds.setPoolMaxSize(2);
+            ds.setPoolQueueTimeout(500);
+
+            long connectionId;
+            try (Connection c = ds.getConnection()) {
+                connectionId = ((JdbcConnection) c).getId();
+                c.createStatement().execute("SET @testPoolingDataSource = 1");
+            }
+            assertEquals(1, ds.getTotalConnections());
+            assertEquals(1, ds.getIdleConnections());
+
+            try (Connection c1 = ds.getConnection(); Connection c2 = ds.getConnection()) {
+                assertTrue(connectionId == ((JdbcConnection) c1).getId() || connectionId == ((JdbcConnection) c2).getId());
+                ResultSet testRs = (connectionId == ((JdbcConnection) c1).getId() ? c1 : c2).createStatement()
+                        .executeQuery("SELECT @testPoolingDataSource");
+                assertTrue(testRs.next());
+                assertNull(testRs.getObject(1));
+                assertEquals(2, ds.getTotalConnections());
+
+                assertThrows(SQLException.class, "Timed out after 500 ms waiting for a connection from the pool\\.", ds::getConnection);
+            }
+            assertEquals(2, ds.getIdleConnections());
+            assertEquals(3, ds.getUsageTimeHistogram().getCount());
+            assertEquals(3, ds.getWaitTimeHistogram().getCount()); // the timed out request isn't recorded
+        }
+    }
+
     /**
      * Tests whether XADataSources can be bound into JNDI
      * 
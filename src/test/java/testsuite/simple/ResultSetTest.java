@@ -31,9 +31,12 @@ package testsuite.simple;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.io.InputStream;
 import java.io.Reader;
@@ -44,7 +47,9 @@ import java.sql.Connection;
 import java.sql.Date;
 import java.sql.JDBCType;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLDataException;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
@@ -70,7 +75,10 @@ import com.mysql.cj.MysqlType;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.MysqlErrorNumbers;
 import com.mysql.cj.jdbc.ConnectionImpl;
+import com.mysql.cj.jdbc.JdbcConnection;
 import com.mysql.cj.jdbc.exceptions.NotUpdatable;
+import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
+import com.mysql.cj.protocol.ColumnDefinition;
 
 import testsuite.BaseTestCase;
 
@@ -1468,4 +1476,268 @@ public class ResultSetTest extends BaseTestCase {
             }
         });
     }
+
+    /**
+     * Tests that queries with cached result set metadata run without column definitions from the server when 'useOptionalResultsetMetadata=true', and that
+     * queries without cached metadata still get them.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testOptionalResultsetMetadata() throws Exception {
+        assumeTrue(versionMeetsMinimum(8, 0, 3), "MySQL 8.0.3+ is required to run this test.");
+
+        createTable("testOptionalResultsetMetadata", "(id INT PRIMARY KEY, name VARCHAR(20))");
+        this.stmt.executeUpdate("INSERT INTO testOptionalResultsetMetadata VALUES (1, 'one'), (2, 'two')");
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), "DISABLED");
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.cacheResultSetMetadata.getKeyName(), "true");
+        props.setProperty(PropertyKey.useOptionalResultsetMetadata.getKeyName(), "true");
+
+        String sql = "SELECT id, name FROM testOptionalResultsetMetadata WHERE id > ? ORDER BY id";
+        for (String useSSPS : new String[] { "false", "true" }) {
+            props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), useSSPS);
+            Connection testConn = getConnectionWithProps(props);
+
+            for (int i = 0; i < 3; i++) {
+                this.pstmt = testConn.prepareStatement(sql);
+                this.pstmt.setInt(1, 0);
+                this.rs = this.pstmt.executeQuery();
+                assertEquals("name", this.rs.getMetaData().getColumnName(2));
+                assertTrue(this.rs.next());
+                assertEquals(1, this.rs.getInt("id"));
+                assertEquals("one", this.rs.getString("name"));
+                assertTrue(this.rs.next());
+                assertEquals("two", this.rs.getString(2));
+                assertFalse(this.rs.next());
+                // Result sets sent without column definitions are given the cached metadata as is. Only client-side prepared statements run as
+                // COM_QUERY, whose column definitions are omitted once their metadata is cached.
+                ColumnDefinition cachedMetadata = ((JdbcConnection) testConn).getCachedMetaData(sql);
+                if (i > 0 && useSSPS.equals("false")) {
+                    assertSame(cachedMetadata, ((ResultSetInternalMethods) this.rs).getColumnDefinition());
+                } else {
+                    assertNotSame(cachedMetadata, ((ResultSetInternalMethods) this.rs).getColumnDefinition());
+                }
+
+                // Uncached query in between must still be given full metadata.
+                this.rs = testConn.createStatement().executeQuery("SELECT @@session.resultset_metadata AS rm, 1 + " + i);
+                assertTrue(this.rs.next());
+                assertEquals("FULL", this.rs.getString("rm"));
+            }
+
+            testConn.close();
+        }
+
+        // Cached metadata that doesn't match the results anymore fails the execution, without breaking the connection, and is discarded.
+        props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), "false");
+        Connection testConn = getConnectionWithProps(props);
+        String sqlAll = "SELECT * FROM testOptionalResultsetMetadata WHERE id > ? ORDER BY id";
+        this.pstmt = testConn.prepareStatement(sqlAll);
+        this.pstmt.setInt(1, 0);
+        this.rs = this.pstmt.executeQuery();
+        assertEquals(2, this.rs.getMetaData().getColumnCount());
+        this.stmt.executeUpdate("ALTER TABLE testOptionalResultsetMetadata ADD COLUMN extra INT DEFAULT 7");
+        final PreparedStatement staleStmt = testConn.prepareStatement(sqlAll);
+        staleStmt.setInt(1, 0);
+        assertThrows(SQLException.class, "The server omitted the result set metadata.*", staleStmt::executeQuery);
+        assertNull(((JdbcConnection) testConn).getCachedMetaData(sqlAll));
+
+        this.rs = testConn.createStatement().executeQuery("SELECT @@session.resultset_metadata AS rm");
+        assertTrue(this.rs.next());
+        assertEquals("FULL", this.rs.getString("rm"));
+        assertFalse(this.rs.next());
+
+        this.rs = staleStmt.executeQuery();
+        assertEquals(3, this.rs.getMetaData().getColumnCount());
+        assertTrue(this.rs.next());
+        assertEquals(1, this.rs.getInt("id"));
+        assertEquals(7, this.rs.getInt("extra"));
+        assertTrue(this.rs.next());
+        assertFalse(this.rs.next());
+        testConn.close();
+    }
+
+    /**
+     * Tests that getInt(), getLong() and getDouble(), which read numeric columns without boxing, return the same values as getObject(), in both text and
+     * binary result sets.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testPrimitiveGetters() throws Exception {
+        createTable("testPrimitiveGetters", "(ti TINYINT, tiu TINYINT UNSIGNED, si SMALLINT, siu SMALLINT UNSIGNED, mi MEDIUMINT, i INT, iu INT UNSIGNED, "
+                + "bi BIGINT, biu BIGINT UNSIGNED, f FLOAT, d DOUBLE, dec1 DECIMAL(10,2), v VARCHAR(20))");
+        this.stmt.executeUpdate("INSERT INTO testPrimitiveGetters VALUES (-128, 255, -32768, 65535, -8388608, -2147483648, 4294967295, "
+                + "-9223372036854775808, 18446744073709551615, 1.5, -2.5E300, 12.34, '56')");
+        this.stmt.executeUpdate("INSERT INTO testPrimitiveGetters VALUES (NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL)");
+        this.stmt.executeUpdate("INSERT INTO testPrimitiveGetters VALUES (1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, '13')");
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), "DISABLED");
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.jdbcCompliantTruncation.getKeyName(), "false");
+
+        for (String useSSPS : new String[] { "false", "true" }) {
+            props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), useSSPS);
+            Connection testConn = getConnectionWithProps(props);
+            this.pstmt = testConn.prepareStatement("SELECT * FROM testPrimitiveGetters ORDER BY ti IS NULL, ti");
+            this.rs = this.pstmt.executeQuery();
+            int rows = 0;
+            while (this.rs.next()) {
+                rows++;
+                for (int c = 1; c <= 13; c++) {
+                    Long expectedLong = this.rs.getObject(c, Long.class);
+                    Integer expectedInt = this.rs.getObject(c, Integer.class);
+                    Double expectedDouble = this.rs.getObject(c, Double.class);
+                    String message = "useServerPrepStmts=" + useSSPS + ", row " + rows + ", column " + c;
+
+                    assertEquals(expectedLong == null ? 0L : expectedLong, this.rs.getLong(c), message);
+                    assertEquals(expectedLong == null, this.rs.wasNull(), message);
+                    assertEquals(expectedInt == null ? 0 : expectedInt, this.rs.getInt(c), message);
+                    assertEquals(expectedInt == null, this.rs.wasNull(), message);
+                    assertEquals(expectedDouble == null ? 0 : expectedDouble, this.rs.getDouble(c), message);
+                    assertEquals(expectedDouble == null, this.rs.wasNull(), message);
+                }
+            }
+            assertEquals(3, rows);
+            testConn.close();
+        }
+
+        // out of range values are rejected as before
+        this.rs = this.stmt.executeQuery("SELECT bi, iu FROM testPrimitiveGetters WHERE bi < 0");
+        assertTrue(this.rs.next());
+        assertEquals(Long.MIN_VALUE, this.rs.getLong(1));
+        assertThrows(SQLDataException.class, "Value '-9223372036854775808' is outside of valid range for type java.lang.Integer", () -> this.rs.getInt(1));
+        assertThrows(SQLDataException.class, "Value '4294967295' is outside of valid range for type java.lang.Integer", () -> this.rs.getInt(2));
+    }
+
+    /**
+     * Tests that closing a streaming result set before all of its rows were read discards the remaining rows, optionally killing the query, and leaves the
+     * connection ready for the next statement.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testStreamingResultsEarlyClose() throws Exception {
+        createTable("testStreamingResultsEarlyClose", "(n INT)");
+        for (int i = 0; i < 100; i++) {
+            this.stmt.addBatch("INSERT INTO testStreamingResultsEarlyClose VALUES (" + i + ")");
+        }
+        this.stmt.executeBatch();
+        String query = "SELECT a.n, b.n, c.n, REPEAT('x', 100) FROM testStreamingResultsEarlyClose a, testStreamingResultsEarlyClose b, "
+                + "testStreamingResultsEarlyClose c";
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), "DISABLED");
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+
+        for (String useSSPS : new String[] { "false", "true" }) {
+            for (String killThreshold : new String[] { null, "streamingResultsKillThresholdRows=1000", "streamingResultsKillThresholdSize=64k" }) {
+                props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), useSSPS);
+                props.remove(PropertyKey.streamingResultsKillThresholdRows.getKeyName());
+                props.remove(PropertyKey.streamingResultsKillThresholdSize.getKeyName());
+                if (killThreshold != null) {
+                    String[] kv = killThreshold.split("=");
+                    props.setProperty(kv[0], kv[1]);
+                }
+                String message = "useServerPrepStmts=" + useSSPS + ", " + killThreshold;
+
+                Connection testConn = getConnectionWithProps(props);
+                this.pstmt = testConn.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                this.pstmt.setFetchSize(Integer.MIN_VALUE);
+                this.rs = this.pstmt.executeQuery();
+                for (int i = 0; i < 10; i++) {
+                    assertTrue(this.rs.next(), message);
+                }
+                this.rs.close();
+                this.pstmt.close();
+
+                // the connection is usable again, even if the query was killed
+                this.rs = testConn.createStatement().executeQuery("SELECT 1");
+                assertTrue(this.rs.next(), message);
+                assertEquals(1, this.rs.getInt(1), message);
+                assertFalse(this.rs.next(), message);
+
+                // closing the statement discards the remaining rows of its open streaming result set too
+                this.pstmt = testConn.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                this.pstmt.setFetchSize(Integer.MIN_VALUE);
+                this.rs = this.pstmt.executeQuery();
+                assertTrue(this.rs.next(), message);
+                this.pstmt.close();
+                this.rs = testConn.createStatement().executeQuery("SELECT 2");
+                assertTrue(this.rs.next(), message);
+                assertEquals(2, this.rs.getInt(1), message);
+
+                testConn.close();
+            }
+        }
+    }
+
+    /**
+     * Tests that result sets read through a cursor return the same rows with and without "prefetchCursorRows", also when other statements are executed or the
+     * result set is closed while the next block of rows is still being sent by the server.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testCursorPrefetch() throws Exception {
+        createTable("testCursorPrefetch", "(id INT PRIMARY KEY, name VARCHAR(20))");
+        for (int i = 0; i < 1000; i++) {
+            this.stmt.addBatch("INSERT INTO testCursorPrefetch VALUES (" + i + ", 'name-" + i + "')");
+        }
+        this.stmt.executeBatch();
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), "DISABLED");
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.useCursorFetch.getKeyName(), "true");
+
+        for (String prefetch : new String[] { "false", "true" }) {
+            props.setProperty(PropertyKey.prefetchCursorRows.getKeyName(), prefetch);
+            Connection testConn = getConnectionWithProps(props);
+
+            for (int fetchSize : new int[] { 1, 7, 100, 1000, 5000 }) {
+                String message = "prefetchCursorRows=" + prefetch + ", fetchSize=" + fetchSize;
+
+                this.pstmt = testConn.prepareStatement("SELECT id, name FROM testCursorPrefetch ORDER BY id");
+                this.pstmt.setFetchSize(fetchSize);
+                this.rs = this.pstmt.executeQuery();
+                int rows = 0;
+                while (this.rs.next()) {
+                    assertEquals(rows, this.rs.getInt(1), message);
+                    assertEquals("name-" + rows, this.rs.getString(2), message);
+                    if (rows % 300 == 5) {
+                        ResultSet otherRs = testConn.createStatement().executeQuery("SELECT COUNT(*) FROM testCursorPrefetch");
+                        assertTrue(otherRs.next(), message);
+                        assertEquals(1000, otherRs.getInt(1), message);
+                    }
+                    rows++;
+                }
+                assertEquals(1000, rows, message);
+                this.pstmt.close();
+
+                this.pstmt = testConn.prepareStatement("SELECT id FROM testCursorPrefetch WHERE id < 0");
+                this.pstmt.setFetchSize(fetchSize);
+                this.rs = this.pstmt.executeQuery();
+                assertFalse(this.rs.next(), message);
+                this.pstmt.close();
+
+                this.pstmt = testConn.prepareStatement("SELECT id FROM testCursorPrefetch ORDER BY id");
+                this.pstmt.setFetchSize(fetchSize);
+                this.rs = this.pstmt.executeQuery();
+                assertTrue(this.rs.next(), message);
+                assertTrue(this.rs.next(), message);
+                this.rs.close();
+                this.pstmt.close();
+
+                this.rs = testConn.createStatement().executeQuery("SELECT 1");
+                assertTrue(this.rs.next(), message);
+                assertEquals(1, this.rs.getInt(1), message);
+            }
+
+            testConn.close();
+        }
+    }
 }
@@ -84,6 +84,7 @@ import com.mysql.cj.CharsetMappingWrapper;
 import com.mysql.cj.MysqlConnection;
 import com.mysql.cj.MysqlType;
 import com.mysql.cj.Query;
+import com.mysql.cj.QueryCancellationService;
 import com.mysql.cj.conf.PropertyDefinitions.SslMode;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.MysqlErrorNumbers;
@@ -379,6 +380,55 @@ public class StatementsTest extends BaseTestCase {
         }
     }
 
+    /**
+     * Tests query timeouts and Statement.cancel() through the shared query cancellation service.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testQueryCancellationService() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.useQueryCancellationService.getKeyName(), "true");
+
+        QueryCancellationService service = QueryCancellationService.getInstance();
+        long cancelCount = service.getCancelCount();
+
+        Connection cancelConn = getConnectionWithProps(props);
+        try {
+            final Statement cancelStmt = cancelConn.createStatement();
+            cancelStmt.setQueryTimeout(1);
+            for (int i = 0; i < 3; i++) {
+                long begin = System.currentTimeMillis();
+                assertThrows(MySQLTimeoutException.class, () -> cancelStmt.execute("SELECT SLEEP(30)"));
+                assertTrue(System.currentTimeMillis() - begin < 30000, "Probably wasn't actually cancelled");
+            }
+
+            cancelStmt.setQueryTimeout(0);
+            new Thread(() -> {
+                try {
+                    Thread.sleep(1000);
+                    cancelStmt.cancel();
+                } catch (Exception e) {
+                    // ignore, the assertion below fails
+                }
+            }).start();
+            assertThrows(MySQLStatementCancelledException.class, () -> cancelStmt.execute("SELECT SLEEP(30)"));
+
+            // The connection is still usable.
+            this.rs = cancelStmt.executeQuery("SELECT 1");
+            assertTrue(this.rs.next());
+            assertEquals(1, this.rs.getInt(1));
+        } finally {
+            cancelConn.close();
+        }
+
+        // All four cancellations went through the service.
+        assertTrue(service.getCancelCount() - cancelCount >= 4);
+        assertTrue(service.getMaxLatencyMillis() > 0);
+    }
+
     @Test
     public void testCancelStatement() throws Exception {
 
@@ -1566,6 +1616,169 @@ public class StatementsTest extends BaseTestCase {
         }
     }
 
+    /**
+     * Tests that rewritten batches written directly into the send packet are split at max_allowed_packet and keep all values and generated keys.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testBatchRewriteDirectlyIntoPacket() throws Exception {
+        createTable("rewriteDirect", "(id INT AUTO_INCREMENT PRIMARY KEY, n INT, s VARCHAR(64))");
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), "false");
+        props.setProperty(PropertyKey.maxAllowedPacket.getKeyName(), "8192");
+        props.setProperty(PropertyKey.rewriteBatchedStatements.getKeyName(), "true");
+
+        Connection rewriteConn = getConnectionWithProps(props);
+        try {
+            PreparedStatement ps = rewriteConn.prepareStatement("INSERT INTO rewriteDirect (n, s) VALUES (?, ?)", Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < 2000; i++) {
+                ps.setInt(1, i);
+                ps.setString(2, i % 7 == 0 ? null : "value '" + i + "'");
+                ps.addBatch();
+            }
+
+            int[] counts = ps.executeBatch();
+            assertEquals(2000, counts.length);
+            for (int c : counts) {
+                assertEquals(Statement.SUCCESS_NO_INFO, c);
+            }
+
+            this.rs = ps.getGeneratedKeys();
+            long lastKey = 0;
+            int keys = 0;
+            while (this.rs.next()) {
+                assertTrue(this.rs.getLong(1) > lastKey);
+                lastKey = this.rs.getLong(1);
+                keys++;
+            }
+            assertEquals(2000, keys);
+
+            this.rs = this.stmt.executeQuery("SELECT n, s FROM rewriteDirect ORDER BY id");
+            for (int i = 0; i < 2000; i++) {
+                assertTrue(this.rs.next());
+                assertEquals(i, this.rs.getInt(1));
+                assertEquals(i % 7 == 0 ? null : "value '" + i + "'", this.rs.getString(2));
+            }
+            assertFalse(this.rs.next());
+        } finally {
+            rewriteConn.close();
+        }
+
+        createTable("rewriteDirectOdku", "(id INT AUTO_INCREMENT PRIMARY KEY, n INT, s VARCHAR(64), UNIQUE KEY (n))");
+        this.stmt.executeUpdate("INSERT INTO rewriteDirectOdku (n, s) VALUES (1, 'initial')");
+
+        props.setProperty(PropertyKey.compensateOnDuplicateKeyUpdateCounts.getKeyName(), "true");
+        rewriteConn = getConnectionWithProps(props);
+        try {
+            PreparedStatement ps = rewriteConn.prepareStatement("INSERT INTO rewriteDirectOdku (n, s) VALUES (?, ?) ON DUPLICATE KEY UPDATE s = VALUES(s)",
+                    Statement.RETURN_GENERATED_KEYS);
+
+            // A single updated row reports 2 affected rows, compensated to 1 for both the update count and the generated keys.
+            ps.setInt(1, 1);
+            ps.setString(2, "updated");
+            ps.addBatch();
+            int[] counts = ps.executeBatch();
+            assertEquals(1, counts.length);
+            assertEquals(1, counts[0]);
+
+            this.rs = ps.getGeneratedKeys();
+            assertTrue(this.rs.next());
+            assertFalse(this.rs.next());
+
+            for (int i = 0; i < 1000; i++) {
+                ps.setInt(1, i);
+                ps.setString(2, "value " + i);
+                ps.addBatch();
+            }
+            counts = ps.executeBatch();
+            assertEquals(1000, counts.length);
+            for (int c : counts) {
+                assertEquals(Statement.SUCCESS_NO_INFO, c);
+            }
+
+            this.rs = this.stmt.executeQuery("SELECT n, s FROM rewriteDirectOdku ORDER BY n");
+            for (int i = 0; i < 1000; i++) {
+                assertTrue(this.rs.next());
+                assertEquals(i, this.rs.getInt(1));
+                assertEquals("value " + i, this.rs.getString(2));
+            }
+            assertFalse(this.rs.next());
+        } finally {
+            rewriteConn.close();
+        }
+    }
+
+    /**
+     * Tests that pipelined batches of server-side prepared statements return per-statement update counts and generated keys, and report failures in the same
+     * way serially executed batches do.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testBatchPipelinedServerPrepStmts() throws Exception {
+        createTable("pipelinedBatch", "(id INT AUTO_INCREMENT PRIMARY KEY, n BIGINT, s VARCHAR(64), UNIQUE KEY (n))");
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), "true");
+        props.setProperty(PropertyKey.jdbcCompliantTruncation.getKeyName(), "false");
+        props.setProperty(PropertyKey.pipelineBatchedStatements.getKeyName(), "true");
+        props.setProperty(PropertyKey.pipelinedBatchWindowSize.getKeyName(), "3");
+
+        Connection pipelinedConn = getConnectionWithProps(props);
+        try {
+            PreparedStatement ps = pipelinedConn.prepareStatement("INSERT INTO pipelinedBatch (n, s) VALUES (?, ?)", Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < 20; i++) {
+                if (i % 2 == 0) {
+                    ps.setInt(1, i);
+                } else {
+                    ps.setLong(1, i == 11 ? 10 : i); // duplicate key
+                }
+                ps.setString(2, i % 3 == 0 ? null : "value " + i);
+                ps.addBatch();
+            }
+
+            BatchUpdateException bue = assertThrows(BatchUpdateException.class, ps::executeBatch);
+            int[] counts = bue.getUpdateCounts();
+            assertEquals(20, counts.length);
+            for (int i = 0; i < 20; i++) {
+                assertEquals(i == 11 ? Statement.EXECUTE_FAILED : 1, counts[i]);
+            }
+
+            this.rs = ps.getGeneratedKeys();
+            int keys = 0;
+            while (this.rs.next()) {
+                keys++;
+            }
+            assertEquals(19, keys);
+
+            // the connection is usable after the batch
+            ps.setLong(1, 100);
+            ps.setString(2, "single");
+            assertEquals(1, ps.executeUpdate());
+
+            this.rs = pipelinedConn.createStatement().executeQuery("SELECT n, s FROM pipelinedBatch ORDER BY id");
+            for (int i = 0; i < 20; i++) {
+                if (i == 11) {
+                    continue;
+                }
+                assertTrue(this.rs.next());
+                assertEquals(i, this.rs.getLong(1));
+                assertEquals(i % 3 == 0 ? null : "value " + i, this.rs.getString(2));
+            }
+            assertTrue(this.rs.next());
+            assertEquals(100, this.rs.getLong(1));
+            assertFalse(this.rs.next());
+        } finally {
+            pipelinedConn.close();
+        }
+    }
+
     @Test
     public void testStreamChange() throws Exception {
         createTable("testStreamChange", "(field1 varchar(32), field2 int, field3 TEXT, field4 BLOB)");
@@ -35,6 +35,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -45,9 +46,12 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 import com.mysql.cj.ServerVersion;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.exceptions.CJPacketTooBigException;
 import com.mysql.cj.exceptions.WrongArgumentException;
 import com.mysql.cj.protocol.x.XProtocolError;
 import com.mysql.cj.xdevapi.AddResult;
+import com.mysql.cj.xdevapi.Collection;
 import com.mysql.cj.xdevapi.DbDoc;
 import com.mysql.cj.xdevapi.DbDocImpl;
 import com.mysql.cj.xdevapi.DocResult;
@@ -56,6 +60,7 @@ import com.mysql.cj.xdevapi.JsonLiteral;
 import com.mysql.cj.xdevapi.JsonNumber;
 import com.mysql.cj.xdevapi.JsonString;
 import com.mysql.cj.xdevapi.Result;
+import com.mysql.cj.xdevapi.Session;
 import com.mysql.cj.xdevapi.XDevAPIError;
 
 public class CollectionAddTest extends BaseCollectionTestCase {
@@ -218,6 +223,45 @@ public class CollectionAddTest extends BaseCollectionTestCase {
         assertEquals(docSize, ((JsonString) d.get("large_field")).getString().length());
     }
 
+    /**
+     * Tests splitting a Collection.add() that doesn't fit in a single message of mysqlx_max_allowed_packet bytes.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testAddSplitLargeAdd() throws Exception {
+        System.gc(); // to free the memory from previous tests artifacts
+        long maxAllowedPacket = this.session.sql("select @@mysqlx_max_allowed_packet").execute().next().getLong(0);
+        int docCount = 9;
+        char[] filler = new char[(int) (maxAllowedPacket / 4)];
+        Arrays.fill(filler, '.');
+        String fillerString = new String(filler);
+        DbDoc[] docs = new DbDoc[docCount];
+        for (int i = 0; i < docCount; i++) {
+            docs[i] = new DbDocImpl().add("_id", new JsonString().setValue("doc" + i)).add("filler", new JsonString().setValue(fillerString));
+        }
+
+        assertThrows(CJPacketTooBigException.class, () -> this.collection.add(docs).execute());
+        assertEquals(0, this.collection.count());
+
+        Session splitSession = this.fact.getSession(this.baseUrl + makeParam(PropertyKey.xdevapiSplitLargeAdd, "true"));
+        try {
+            Collection coll = splitSession.getDefaultSchema().getCollection(this.collectionName);
+            AddResult res = coll.add(docs).execute();
+            assertEquals(docCount, res.getAffectedItemsCount());
+            assertEquals(docCount, this.collection.count());
+
+            this.collection.remove("true").execute();
+            docs[0].remove("_id"); // server generated
+            res = coll.add(docs).executeAsync().get();
+            assertEquals(docCount, res.getAffectedItemsCount());
+            assertEquals(1, res.getGeneratedIds().size());
+            assertEquals(docCount, this.collection.count());
+        } finally {
+            splitSession.close();
+        }
+    }
+
     @Test
     public void testAddNoDocs() throws Exception {
         Result res = this.collection.add(new DbDoc[] {}).execute();